@@ -0,0 +1,47 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.aggregate;
+
+/**
+ * Computes the value of an AggregateFunction one input value at a time, so that it can be fed straight from the
+ * data in a column without first copying that data into an array.
+ * <p>
+ * Missing values are passed in as NaN along with the others; each accumulator ignores or counts them as its function
+ * requires. Two accumulators for the same function can be merged, so partial results over separate parts of the data
+ * can be combined.
+ */
+public interface Accumulator {
+
+    /**
+     * Discards all the values accepted so far, so this accumulator can be reused
+     */
+    void reset();
+
+    /**
+     * Adds the given value
+     */
+    void accept(double value);
+
+    /**
+     * Adds the values accepted by the given accumulator, which must have been created by the same function. The other
+     * accumulator's values are treated as following those of this one
+     */
+    void merge(Accumulator other);
+
+    /**
+     * Returns the value of the function over the values accepted so far
+     */
+    double result();
+}
@@ -0,0 +1,225 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.aggregate;
+
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+import it.unimi.dsi.fastutil.ints.IntIterable;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.columns.Column;
+
+/**
+ * Utilities for feeding the values in a column to an Accumulator. Numeric columns are read directly from their
+ * backing arrays, with their missing values passed on as NaN; other columns are read through asDoubleArray()
+ */
+public class Accumulators {
+
+    private Accumulators() {
+    }
+
+    /**
+     * Returns the result of applying the given function to all the values in the given column
+     */
+    public static double reduce(AggregateFunction function, Column column) {
+        return reduce(function, column, 0, column.size());
+    }
+
+    /**
+     * Returns the result of applying the given function to the values in rows from (inclusive) through to
+     * (exclusive) of the given column
+     */
+    public static double reduce(AggregateFunction function, Column column, int from, int to) {
+        Accumulator accumulator = function.accumulator();
+        accept(accumulator, column, from, to);
+        return accumulator.result();
+    }
+
+    /**
+     * Returns the result of applying the given function to the values in the given rows of the given column
+     */
+    public static double reduce(AggregateFunction function, Column column, IntIterable rows) {
+        Accumulator accumulator = function.accumulator();
+        accept(accumulator, column, rows);
+        return accumulator.result();
+    }
+
+    /**
+     * Passes the values in rows from (inclusive) through to (exclusive) of the given column to the given accumulator
+     */
+    public static void accept(Accumulator accumulator, Column column, int from, int to) {
+        switch (column.type()) {
+            case SHORT_INT:
+                short[] shorts = ((ShortColumn) column).data().elements();
+                for (int row = from; row < to; row++) {
+                    short value = shorts[row];
+                    accumulator.accept(value == ShortColumn.MISSING_VALUE ? Double.NaN : value);
+                }
+                break;
+            case INTEGER:
+                int[] ints = ((IntColumn) column).data().elements();
+                for (int row = from; row < to; row++) {
+                    int value = ints[row];
+                    accumulator.accept(value == IntColumn.MISSING_VALUE ? Double.NaN : value);
+                }
+                break;
+            case LONG_INT:
+                long[] longs = ((LongColumn) column).data().elements();
+                for (int row = from; row < to; row++) {
+                    long value = longs[row];
+                    accumulator.accept(value == LongColumn.MISSING_VALUE ? Double.NaN : value);
+                }
+                break;
+            case FLOAT:
+                float[] floats = ((FloatColumn) column).data().elements();
+                for (int row = from; row < to; row++) {
+                    accumulator.accept(floats[row]);
+                }
+                break;
+            case DOUBLE:
+                double[] doubles = ((DoubleColumn) column).data().elements();
+                for (int row = from; row < to; row++) {
+                    accumulator.accept(doubles[row]);
+                }
+                break;
+            default:
+                double[] values = column.asDoubleArray();
+                for (int row = from; row < to; row++) {
+                    accumulator.accept(values[row]);
+                }
+        }
+    }
+
+    /**
+     * Passes the value in each of rows from (inclusive) through to (exclusive), as given by {@link #values(Column)},
+     * to the accumulators for the row's group: with groups[row] == g, the value is passed to accumulators[f][g] for every f.
+     * This computes several functions for every group in one pass over the column. Accumulators are created from the
+     * corresponding function the first time their group is seen, so groups with no rows in the range are left null
+     */
+    public static void accept(Accumulator[][] accumulators, List<AggregateFunction> functions, int[] groups,
+                              IntToDoubleFunction values, int from, int to) {
+        for (int row = from; row < to; row++) {
+            double value = values.applyAsDouble(row);
+            int group = groups[row];
+            for (int f = 0; f < accumulators.length; f++) {
+                Accumulator accumulator = accumulators[f][group];
+                if (accumulator == null) {
+                    accumulator = functions.get(f).accumulator();
+                    accumulators[f][group] = accumulator;
+                }
+                accumulator.accept(value);
+            }
+        }
+    }
+
+    /**
+     * Merges each of the partial accumulators into the accumulator at the same position in target, or moves it there
+     * if target has none. Null partial accumulators are skipped
+     */
+    public static void merge(Accumulator[][] target, Accumulator[][] partial) {
+        for (int f = 0; f < target.length; f++) {
+            for (int group = 0; group < target[f].length; group++) {
+                Accumulator accumulator = partial[f][group];
+                if (accumulator != null) {
+                    if (target[f][group] == null) {
+                        target[f][group] = accumulator;
+                    } else {
+                        target[f][group].merge(accumulator);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Passes the values in the given rows of the given column to the given accumulator
+     */
+    public static void accept(Accumulator accumulator, Column column, IntIterable rows) {
+        IntIterator iterator = rows.iterator();
+        switch (column.type()) {
+            case SHORT_INT:
+                short[] shorts = ((ShortColumn) column).data().elements();
+                while (iterator.hasNext()) {
+                    short value = shorts[iterator.nextInt()];
+                    accumulator.accept(value == ShortColumn.MISSING_VALUE ? Double.NaN : value);
+                }
+                break;
+            case INTEGER:
+                int[] ints = ((IntColumn) column).data().elements();
+                while (iterator.hasNext()) {
+                    int value = ints[iterator.nextInt()];
+                    accumulator.accept(value == IntColumn.MISSING_VALUE ? Double.NaN : value);
+                }
+                break;
+            case LONG_INT:
+                long[] longs = ((LongColumn) column).data().elements();
+                while (iterator.hasNext()) {
+                    long value = longs[iterator.nextInt()];
+                    accumulator.accept(value == LongColumn.MISSING_VALUE ? Double.NaN : value);
+                }
+                break;
+            case FLOAT:
+                float[] floats = ((FloatColumn) column).data().elements();
+                while (iterator.hasNext()) {
+                    accumulator.accept(floats[iterator.nextInt()]);
+                }
+                break;
+            case DOUBLE:
+                double[] doubles = ((DoubleColumn) column).data().elements();
+                while (iterator.hasNext()) {
+                    accumulator.accept(doubles[iterator.nextInt()]);
+                }
+                break;
+            default:
+                double[] values = column.asDoubleArray();
+                while (iterator.hasNext()) {
+                    accumulator.accept(values[iterator.nextInt()]);
+                }
+        }
+    }
+
+    /**
+     * Returns a function giving the value in each row of the given column as a double, or NaN where it is missing.
+     * Numeric columns are read in place, but other columns are first converted in full, so a column processed in
+     * several ranges should be converted once for all of them
+     */
+    public static IntToDoubleFunction values(Column column) {
+        switch (column.type()) {
+            case SHORT_INT:
+                short[] shorts = ((ShortColumn) column).data().elements();
+                return row -> shorts[row] == ShortColumn.MISSING_VALUE ? Double.NaN : shorts[row];
+            case INTEGER:
+                int[] ints = ((IntColumn) column).data().elements();
+                return row -> ints[row] == IntColumn.MISSING_VALUE ? Double.NaN : ints[row];
+            case LONG_INT:
+                long[] longs = ((LongColumn) column).data().elements();
+                return row -> longs[row] == LongColumn.MISSING_VALUE ? Double.NaN : longs[row];
+            case FLOAT:
+                float[] floats = ((FloatColumn) column).data().elements();
+                return row -> floats[row];
+            case DOUBLE:
+                double[] doubles = ((DoubleColumn) column).data().elements();
+                return row -> doubles[row];
+            default:
+                double[] values = column.asDoubleArray();
+                return row -> values[row];
+        }
+    }
+}
@@ -30,23 +30,32 @@ public interface AggregateFunction {
 
     double agg(double[] data);
 
+    /**
+     * Returns a new accumulator that computes this function one value at a time. By default the values are collected
+     * and passed to agg(double[]); functions that can be computed in a single pass override this to avoid holding
+     * the values
+     */
+    default Accumulator accumulator() {
+        return new CollectingAccumulator(this);
+    }
+
     default double agg(FloatColumn data) {
-        return this.agg(data.asDoubleArray());
+        return Accumulators.reduce(this, data);
     }
 
     default double agg(DoubleColumn doubles) {
-        return this.agg(doubles.asDoubleArray());
+        return Accumulators.reduce(this, doubles);
     }
 
     default double agg(IntColumn data) {
-        return this.agg(data.asDoubleArray());
+        return Accumulators.reduce(this, data);
     }
 
     default double agg(ShortColumn data) {
-        return this.agg(data.asDoubleArray());
+        return Accumulators.reduce(this, data);
     }
 
     default double agg(LongColumn data) {
-        return this.agg(data.asDoubleArray());
+        return Accumulators.reduce(this, data);
     }
 }
@@ -14,6 +14,10 @@
 
 package tech.tablesaw.aggregate;
 
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+
 import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
 import it.unimi.dsi.fastutil.doubles.DoubleList;
 import org.apache.commons.math3.stat.StatUtils;
@@ -21,7 +25,6 @@ import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.apache.commons.math3.stat.descriptive.moment.Kurtosis;
 import org.apache.commons.math3.stat.descriptive.moment.Skewness;
 
-import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.FloatColumn;
 
 /**
@@ -29,8 +32,6 @@ import tech.tablesaw.api.FloatColumn;
  */
 public class AggregateFunctions {
 
-    // TODO(lwhite): Re-implement these methods to work natively with float[], instead of converting to double[]
-
     /**
      * A function that returns the first item
      */
@@ -45,6 +46,11 @@ public class AggregateFunctions {
         public double agg(double[] data) {
             return data.length == 0 ? Float.NaN : data[0];
         }
+
+        @Override
+        public Accumulator accumulator() {
+            return new FirstAccumulator();
+        }
     };  
 
     /**
@@ -61,6 +67,11 @@ public class AggregateFunctions {
         public double agg(double[] data) {
             return data.length == 0 ? Float.NaN : data[data.length-1];
         }
+
+        @Override
+        public Accumulator accumulator() {
+            return new LastAccumulator();
+        }
     };
 
     /**
@@ -77,6 +88,11 @@ public class AggregateFunctions {
         public double agg(double[] data) {
             return data.length;
         }
+
+        @Override
+        public Accumulator accumulator() {
+            return new CountAccumulator();
+        }
     };  
 
     /**
@@ -93,6 +109,11 @@ public class AggregateFunctions {
         public double agg(double[] data) {
             return StatUtils.mean(removeMissing(data));
         }
+
+        @Override
+        public Accumulator accumulator() {
+            return new MomentAccumulator(MomentAccumulator::mean);
+        }
     };
 
     /**
@@ -111,27 +132,8 @@ public class AggregateFunctions {
         }
 
         @Override
-        public double agg(FloatColumn floatColumn) {
-            float sum;
-            sum = 0.0f;
-            for (float value : floatColumn) {
-                if (value != Float.NaN) {
-                    sum += value;
-                }
-            }
-            return sum;
-        }
-
-        @Override
-        public double agg(DoubleColumn floatColumn) {
-            float sum;
-            sum = 0.0f;
-            for (double value : floatColumn) {
-                if (value != Float.NaN) {
-                    sum += value;
-                }
-            }
-            return sum;
+        public Accumulator accumulator() {
+            return new SumAccumulator(value -> value, (sum, n) -> sum);
         }
     };
 
@@ -160,6 +162,11 @@ public class AggregateFunctions {
         public double agg(double[] data) {
             return data.length;
         }
+
+        @Override
+        public Accumulator accumulator() {
+            return new CountAccumulator();
+        }
     };
 
     public static AggregateFunction quartile1 = new AggregateFunction() {
@@ -227,6 +234,69 @@ public class AggregateFunctions {
         }
     };
 
+    /**
+     * A function that estimates the number of distinct non-missing values using a {@link HyperLogLog} sketch, in a
+     * fixed 16KB per group, to within about 1%
+     */
+    public static AggregateFunction approxCountDistinct = new AggregateFunction() {
+
+        @Override
+        public String functionName() {
+            return "Approx Count Distinct";
+        }
+
+        @Override
+        public double agg(double[] data) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (double value : data) {
+                sketch.accept(value);
+            }
+            return sketch.result();
+        }
+
+        @Override
+        public Accumulator accumulator() {
+            return new HyperLogLog();
+        }
+    };
+
+    /**
+     * A function that estimates the median of the non-missing values using a {@link QuantileSketch}
+     */
+    public static AggregateFunction approxMedian = approxPercentile(50.0);
+
+    /**
+     * Returns a function that estimates the given percentile (from 0 through 100) of the non-missing values using a
+     * {@link QuantileSketch}, whose size grows only with the logarithm of the number of values. The rank of the value
+     * returned is typically within about 1.5% of the rank requested
+     */
+    public static AggregateFunction approxPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be from 0 through 100, but was " + percentile);
+        }
+        return new AggregateFunction() {
+
+            @Override
+            public String functionName() {
+                return "Approx " + percentile + " Percentile";
+            }
+
+            @Override
+            public double agg(double[] data) {
+                Accumulator accumulator = accumulator();
+                for (double value : data) {
+                    accumulator.accept(value);
+                }
+                return accumulator.result();
+            }
+
+            @Override
+            public Accumulator accumulator() {
+                return new PercentileSketch(percentile);
+            }
+        };
+    }
+
     public static AggregateFunction range = new AggregateFunction() {
 
         @Override
@@ -239,6 +309,11 @@ public class AggregateFunctions {
             data = removeMissing(data);
             return StatUtils.max(data) - StatUtils.min(data);
         }
+
+        @Override
+        public Accumulator accumulator() {
+            return new ExtremaAccumulator((min, max) -> max - min);
+        }
     };
 
     public static AggregateFunction min = new AggregateFunction() {
@@ -254,17 +329,8 @@ public class AggregateFunctions {
         }
 
         @Override
-        public double agg(FloatColumn data) {
-            if (data.size() == 0) {
-                return Float.NaN;
-            }
-            float min = data.firstElement();
-            for (float value : data) {
-                if (!Float.isNaN(value)) {
-                    min = (min < value) ? min : value;
-                }
-            }
-            return min;
+        public Accumulator accumulator() {
+            return new ExtremaAccumulator((min, max) -> min);
         }
     };
 
@@ -279,6 +345,11 @@ public class AggregateFunctions {
         public double agg(double[] data) {
             return StatUtils.max(removeMissing(data));
         }
+
+        @Override
+        public Accumulator accumulator() {
+            return new ExtremaAccumulator((min, max) -> max);
+        }
     };
 
     public static AggregateFunction product = new AggregateFunction() {
@@ -294,19 +365,8 @@ public class AggregateFunctions {
         }
 
         @Override
-        public double agg(FloatColumn data) {
-            float product = 1.0f;
-            boolean empty = true;
-            for (float value : data) {
-                if (value != Float.NaN) {
-                    empty = false;
-                    product *= value;
-                }
-            }
-            if (empty) {
-                return Float.NaN;
-            }
-            return product;
+        public Accumulator accumulator() {
+            return new ProductAccumulator();
         }
     };
 
@@ -321,6 +381,11 @@ public class AggregateFunctions {
         public double agg(double[] data) {
             return StatUtils.geometricMean(removeMissing(data));
         }
+
+        @Override
+        public Accumulator accumulator() {
+            return new SumAccumulator(Math::log, (sumOfLogs, n) -> Math.exp(sumOfLogs / n));
+        }
     };
 
     public static AggregateFunction populationVariance = new AggregateFunction() {
@@ -334,6 +399,11 @@ public class AggregateFunctions {
         public double agg(double[] data) {
             return StatUtils.populationVariance(removeMissing(data));
         }
+
+        @Override
+        public Accumulator accumulator() {
+            return new MomentAccumulator(MomentAccumulator::populationVariance);
+        }
     };
 
     /**
@@ -350,6 +420,11 @@ public class AggregateFunctions {
         public double agg(double[] data) {
             return new DescriptiveStatistics(removeMissing(data)).getQuadraticMean();
         }
+
+        @Override
+        public Accumulator accumulator() {
+            return new SumAccumulator(value -> value * value, (sumOfSquares, n) -> Math.sqrt(sumOfSquares / n));
+        }
     };
 
     public static AggregateFunction kurtosis = new AggregateFunction() {
@@ -361,7 +436,8 @@ public class AggregateFunctions {
 
         @Override
         public double agg(double[] data) {
-            return new Kurtosis().evaluate(removeMissing(data), 0, data.length);
+            data = removeMissing(data);
+            return new Kurtosis().evaluate(data, 0, data.length);
         }
     };
 
@@ -374,7 +450,8 @@ public class AggregateFunctions {
 
         @Override
         public double agg(double[] data) {
-            return new Skewness().evaluate(removeMissing(data), 0, data.length);
+            data = removeMissing(data);
+            return new Skewness().evaluate(data, 0, data.length);
         }
     };
 
@@ -389,6 +466,11 @@ public class AggregateFunctions {
         public double agg(double[] data) {
             return StatUtils.sumSq(removeMissing(data));
         }
+
+        @Override
+        public Accumulator accumulator() {
+            return new SumAccumulator(value -> value * value, (sumOfSquares, n) -> sumOfSquares);
+        }
     };
 
     public static AggregateFunction sumOfLogs = new AggregateFunction() {
@@ -402,6 +484,11 @@ public class AggregateFunctions {
         public double agg(double[] data) {
             return StatUtils.sumLog(removeMissing(data));
         }
+
+        @Override
+        public Accumulator accumulator() {
+            return new SumAccumulator(Math::log, (sumOfLogs, n) -> sumOfLogs);
+        }
     };
 
     public static AggregateFunction variance = new AggregateFunction() {
@@ -411,11 +498,6 @@ public class AggregateFunctions {
             return "Variance";
         }
 
-        @Override
-        public double agg(double[] data) {
-            return StatUtils.variance(removeMissing(data));
-        }
-
         /**
          * Returns the (sample) variance of the available values.
          * <p>
@@ -426,15 +508,13 @@ public class AggregateFunctions {
          * or 0.0 for a single value set.
          */
         @Override
-        public double agg(FloatColumn column) {
-            double avg = mean.agg(column);
-            double sumSquaredDiffs = 0.0f;
-            for (float value : column) {
-                double diff = value - avg;
-                double sqrdDiff = diff * diff;
-                sumSquaredDiffs += sqrdDiff;
-            }
-            return sumSquaredDiffs / (column.size() - 1);
+        public double agg(double[] data) {
+            return StatUtils.variance(removeMissing(data));
+        }
+
+        @Override
+        public Accumulator accumulator() {
+            return new MomentAccumulator(MomentAccumulator::variance);
         }
     };
 
@@ -450,6 +530,10 @@ public class AggregateFunctions {
             return Math.sqrt(StatUtils.variance(removeMissing(data)));
         }
 
+        @Override
+        public Accumulator accumulator() {
+            return new MomentAccumulator(moments -> Math.sqrt(moments.variance()));
+        }
     };
 
     public static double percentile(double[] data, double percentile) {
@@ -479,4 +563,314 @@ public class AggregateFunctions {
     public static double sumDifference(FloatColumn column1, FloatColumn column2) {
         return StatUtils.sumDifference(column1.asDoubleArray(), column2.asDoubleArray());
     }
+
+    /**
+     * Keeps the first value, whether or not it is missing
+     */
+    private static class FirstAccumulator implements Accumulator {
+
+        private boolean empty = true;
+        private double first = Double.NaN;
+
+        @Override
+        public void reset() {
+            empty = true;
+            first = Double.NaN;
+        }
+
+        @Override
+        public void accept(double value) {
+            if (empty) {
+                first = value;
+                empty = false;
+            }
+        }
+
+        @Override
+        public void merge(Accumulator other) {
+            FirstAccumulator that = (FirstAccumulator) other;
+            if (empty && !that.empty) {
+                first = that.first;
+                empty = false;
+            }
+        }
+
+        @Override
+        public double result() {
+            return first;
+        }
+    }
+
+    /**
+     * Keeps the last value, whether or not it is missing
+     */
+    private static class LastAccumulator implements Accumulator {
+
+        private boolean empty = true;
+        private double last = Double.NaN;
+
+        @Override
+        public void reset() {
+            empty = true;
+            last = Double.NaN;
+        }
+
+        @Override
+        public void accept(double value) {
+            last = value;
+            empty = false;
+        }
+
+        @Override
+        public void merge(Accumulator other) {
+            LastAccumulator that = (LastAccumulator) other;
+            if (!that.empty) {
+                last = that.last;
+                empty = false;
+            }
+        }
+
+        @Override
+        public double result() {
+            return last;
+        }
+    }
+
+    /**
+     * Counts all the values, including missing ones
+     */
+    private static class CountAccumulator implements Accumulator {
+
+        private long count;
+
+        @Override
+        public void reset() {
+            count = 0;
+        }
+
+        @Override
+        public void accept(double value) {
+            count++;
+        }
+
+        @Override
+        public void merge(Accumulator other) {
+            count += ((CountAccumulator) other).count;
+        }
+
+        @Override
+        public double result() {
+            return count;
+        }
+    }
+
+    /**
+     * Sums a term computed from each non-missing value, and finishes with a function of that sum and the number of
+     * values summed
+     */
+    private static class SumAccumulator implements Accumulator {
+
+        private final DoubleUnaryOperator term;
+        private final DoubleBinaryOperator finish;
+        private double sum;
+        private long count;
+
+        SumAccumulator(DoubleUnaryOperator term, DoubleBinaryOperator finish) {
+            this.term = term;
+            this.finish = finish;
+        }
+
+        @Override
+        public void reset() {
+            sum = 0.0;
+            count = 0;
+        }
+
+        @Override
+        public void accept(double value) {
+            if (isNotMissing(value)) {
+                sum += term.applyAsDouble(value);
+                count++;
+            }
+        }
+
+        @Override
+        public void merge(Accumulator other) {
+            SumAccumulator that = (SumAccumulator) other;
+            sum += that.sum;
+            count += that.count;
+        }
+
+        @Override
+        public double result() {
+            return finish.applyAsDouble(sum, count);
+        }
+    }
+
+    /**
+     * A QuantileSketch whose result is the estimate of a given percentile
+     */
+    private static class PercentileSketch extends QuantileSketch {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double percentile;
+
+        PercentileSketch(double percentile) {
+            this.percentile = percentile;
+        }
+
+        @Override
+        public double result() {
+            return percentile(percentile);
+        }
+    }
+
+    /**
+     * Multiplies the non-missing values. The product of no values is 1
+     */
+    private static class ProductAccumulator implements Accumulator {
+
+        private double product = 1.0;
+
+        @Override
+        public void reset() {
+            product = 1.0;
+        }
+
+        @Override
+        public void accept(double value) {
+            if (isNotMissing(value)) {
+                product *= value;
+            }
+        }
+
+        @Override
+        public void merge(Accumulator other) {
+            product *= ((ProductAccumulator) other).product;
+        }
+
+        @Override
+        public double result() {
+            return product;
+        }
+    }
+
+    /**
+     * Tracks the smallest and largest non-missing values, and finishes with a function of the two. The result is NaN
+     * if there are no such values
+     */
+    private static class ExtremaAccumulator implements Accumulator {
+
+        private final DoubleBinaryOperator finish;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+        private boolean empty = true;
+
+        ExtremaAccumulator(DoubleBinaryOperator finish) {
+            this.finish = finish;
+        }
+
+        @Override
+        public void reset() {
+            min = Double.POSITIVE_INFINITY;
+            max = Double.NEGATIVE_INFINITY;
+            empty = true;
+        }
+
+        @Override
+        public void accept(double value) {
+            if (isNotMissing(value)) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+                empty = false;
+            }
+        }
+
+        @Override
+        public void merge(Accumulator other) {
+            ExtremaAccumulator that = (ExtremaAccumulator) other;
+            if (!that.empty) {
+                min = Math.min(min, that.min);
+                max = Math.max(max, that.max);
+                empty = false;
+            }
+        }
+
+        @Override
+        public double result() {
+            return empty ? Double.NaN : finish.applyAsDouble(min, max);
+        }
+    }
+
+    /**
+     * Tracks the count, sum, and sum of squared differences from the mean of the non-missing values. The squared
+     * differences are updated with Welford's method, which avoids the loss of precision of summing squares directly,
+     * and partial results are merged with the pairwise update of Chan et al.
+     */
+    private static class MomentAccumulator implements Accumulator {
+
+        private final ToDoubleFunction<MomentAccumulator> finish;
+        private long count;
+        private double sum;
+        private double mean;
+        private double m2;
+
+        MomentAccumulator(ToDoubleFunction<MomentAccumulator> finish) {
+            this.finish = finish;
+        }
+
+        @Override
+        public void reset() {
+            count = 0;
+            sum = 0.0;
+            mean = 0.0;
+            m2 = 0.0;
+        }
+
+        @Override
+        public void accept(double value) {
+            if (isNotMissing(value)) {
+                count++;
+                sum += value;
+                double delta = value - mean;
+                mean += delta / count;
+                m2 += delta * (value - mean);
+            }
+        }
+
+        @Override
+        public void merge(Accumulator other) {
+            MomentAccumulator that = (MomentAccumulator) other;
+            if (that.count == 0) {
+                return;
+            }
+            long total = count + that.count;
+            double delta = that.mean - mean;
+            mean += delta * that.count / total;
+            m2 += that.m2 + delta * delta * ((double) count * that.count / total);
+            sum += that.sum;
+            count = total;
+        }
+
+        @Override
+        public double result() {
+            return finish.applyAsDouble(this);
+        }
+
+        double mean() {
+            return count == 0 ? Double.NaN : sum / count;
+        }
+
+        double variance() {
+            if (count == 0) {
+                return Double.NaN;
+            }
+            return count == 1 ? 0.0 : m2 / (count - 1);
+        }
+
+        double populationVariance() {
+            return count == 0 ? Double.NaN : m2 / count;
+        }
+    }
 }
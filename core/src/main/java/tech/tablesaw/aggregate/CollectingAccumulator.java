@@ -0,0 +1,51 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.aggregate;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+
+/**
+ * An accumulator for functions that need all their values at once, such as percentiles. It keeps the values it is
+ * given, and applies the function to them when the result is requested
+ */
+class CollectingAccumulator implements Accumulator {
+
+    private final AggregateFunction function;
+    private final DoubleArrayList values = new DoubleArrayList();
+
+    CollectingAccumulator(AggregateFunction function) {
+        this.function = function;
+    }
+
+    @Override
+    public void reset() {
+        values.clear();
+    }
+
+    @Override
+    public void accept(double value) {
+        values.add(value);
+    }
+
+    @Override
+    public void merge(Accumulator other) {
+        values.addAll(((CollectingAccumulator) other).values);
+    }
+
+    @Override
+    public double result() {
+        return function.agg(values.toDoubleArray());
+    }
+}
@@ -14,17 +14,24 @@
 
 package tech.tablesaw.aggregate;
 
-import com.google.common.collect.TreeBasedTable;
-
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.CategoryColumn;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.DateColumn;
 import tech.tablesaw.api.FloatColumn;
 import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.ShortColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
-
-import java.time.LocalDate;
+import tech.tablesaw.util.DictionaryMap;
 
 /**
  * Utilities for creating frequency and proportion cross tabs
@@ -44,6 +51,11 @@ public final class CrossTab {
      * Returns a table containing two-dimensional cross-tabulated counts for each combination of values in
      * {@code column1} and {@code column2}
      * <p>
+     * The values of each column are first reduced to a code per row: the dictionary code for category columns, the
+     * value itself for boolean columns and int columns with a small range, and a code assigned to each distinct string
+     * otherwise. Dictionary codes and int values are then renumbered over the values that occur, so the matrix of
+     * counts, indexed by the two codes, is no larger than the cross tab itself. The labels are sorted once at the
+     * end.
      *
      * @param table   The table we're deriving the counts from
      * @param column1 A column in {@code table}
@@ -51,128 +63,205 @@ public final class CrossTab {
      * @return A table containing the cross-tabs
      */
     public static Table xTabCount(Table table, Column column1, Column column2) {
+        Coding rows = Coding.of(column1);
+        Coding columns = Coding.of(column2);
+
+        int[][] counts = new int[rows.size][columns.size];
+        int[] rowCodes = rows.codes;
+        int[] columnCodes = columns.codes;
+        for (int row = 0; row < table.rowCount(); row++) {
+            counts[rowCodes[row]][columnCodes[row]]++;
+        }
 
-        Table t = Table.create("Crosstab Counts: " + column1.name() + " x " + column2.name());
-        t.addColumn(new CategoryColumn(LABEL_COLUMN_NAME));
-
-        Table temp = table.sortOn(column1.name(), column2.name());
-
-        int colIndex1 = table.columnIndex(column1.name());
-        int colIndex2 = table.columnIndex(column2.name());
-
-        com.google.common.collect.Table<String, String, Integer> gTable = TreeBasedTable.create();
-        String a;
-        String b;
-
-        for (int row : temp) {
-            a = temp.column(colIndex1).getString(row);
-            b = temp.column(colIndex2).getString(row);
-            Integer cellValue = gTable.get(a, b);
-            Integer value = 0;
-            if (cellValue != null) {
-                value = cellValue + 1;
-            } else {
-                value = 1;
+        int[] rowTotals = new int[rows.size];
+        int[] columnTotals = new int[columns.size];
+        for (int r = 0; r < rows.size; r++) {
+            for (int c = 0; c < columns.size; c++) {
+                rowTotals[r] += counts[r][c];
+                columnTotals[c] += counts[r][c];
             }
-            gTable.put(a, b, value);
         }
+        int[] rowOrder = rows.sortedCodes(rowTotals);
+        int[] columnOrder = columns.sortedCodes(columnTotals);
 
-        for (String colName : gTable.columnKeySet()) {
-            t.addColumn(new IntColumn(colName));
+        Table t = Table.create("Crosstab Counts: " + column1.name() + " x " + column2.name());
+        CategoryColumn labels = new CategoryColumn(LABEL_COLUMN_NAME, rowOrder.length + 1);
+        for (int r : rowOrder) {
+            labels.append(rows.label(r));
         }
+        labels.append("Total");
+        t.addColumn(labels);
 
-        t.addColumn(new IntColumn("total"));
-
-        int[] columnTotals = new int[t.columnCount()];
-
-        for (String rowKey : gTable.rowKeySet()) {
-            t.column(0).appendCell(rowKey);
-
-            int rowSum = 0;
-
-            for (String colKey : gTable.columnKeySet()) {
-                Integer cellValue = gTable.get(rowKey, colKey);
-                if (cellValue != null) {
-                    int colIdx = t.columnIndex(colKey);
-                    t.intColumn(colIdx).append(cellValue);
-                    rowSum += cellValue;
-                    columnTotals[colIdx] = columnTotals[colIdx] + cellValue;
-
-                } else {
-                    t.intColumn(colKey).append(0);
-                }
+        int grandTotal = 0;
+        for (int c : columnOrder) {
+            int[] cells = new int[rowOrder.length + 1];
+            for (int i = 0; i < rowOrder.length; i++) {
+                cells[i] = counts[rowOrder[i]][c];
             }
-            t.intColumn(t.columnCount() - 1).append(rowSum);
+            cells[rowOrder.length] = columnTotals[c];
+            grandTotal += columnTotals[c];
+            t.addColumn(new IntColumn(columns.label(c), cells));
         }
-        t.column(0).appendCell("Total");
-        int grandTotal = 0;
-        for (int i = 1; i < t.columnCount() - 1; i++) {
-            t.intColumn(i).append(columnTotals[i]);
-            grandTotal = grandTotal + columnTotals[i];
+        int[] totals = new int[rowOrder.length + 1];
+        for (int i = 0; i < rowOrder.length; i++) {
+            totals[i] = rowTotals[rowOrder[i]];
         }
-        t.intColumn(t.columnCount() - 1).append(grandTotal);
+        totals[rowOrder.length] = grandTotal;
+        t.addColumn(new IntColumn("total", totals));
         return t;
     }
 
     public static Table xTabCount(Table table, DateColumn column1, Column column2) {
+        return xTabCount(table, (Column) column1, column2);
+    }
 
-        Table t = Table.create("CrossTab Counts");
-        t.addColumn(new CategoryColumn(LABEL_COLUMN_NAME));
-        Table temp = table.sortOn(column1.name(), column2.name());
-
-        int colIndex2 = table.columnIndex(column2.name());
+    /**
+     * A column's values reduced to a code for each row, from 0 to size - 1, along with a way to get the label for
+     * each code
+     */
+    private static final class Coding {
 
-        com.google.common.collect.Table<LocalDate, String, Integer> gTable = TreeBasedTable.create();
+        // int columns whose values span no more than this (or the number of rows, if larger) are coded by value
+        private static final int SMALL_RANGE = 1 << 12;
 
-        LocalDate a;
-        String b;
+        final int[] codes;
+        final int size;
+        final IntFunction<String> labels;
 
-        for (int row : temp) {
-            a = temp.dateColumn(column1.name()).get(row);
-            b = temp.column(colIndex2).getString(row);
-            Integer cellValue = gTable.get(a, b);
-            Integer value = 0;
-            if (cellValue != null) {
-                value = cellValue + 1;
-            }
-            gTable.put(a, b, value);
+        private Coding(int[] codes, int size, IntFunction<String> labels) {
+            this.codes = codes;
+            this.size = size;
+            this.labels = labels;
         }
 
-        for (String colName : gTable.columnKeySet()) {
-            t.addColumn(new FloatColumn(colName));
+        String label(int code) {
+            String label = labels.apply(code);
+            return label == null ? "" : label;
         }
 
-        t.addColumn(new FloatColumn("total"));
+        /**
+         * Returns the codes that have a non-zero total, in the order of their labels
+         */
+        int[] sortedCodes(int[] totals) {
+            IntArrayList used = new IntArrayList();
+            for (int code = 0; code < size; code++) {
+                if (totals[code] > 0) {
+                    used.add(code);
+                }
+            }
+            String[] usedLabels = new String[size];
+            for (int code : used) {
+                usedLabels[code] = label(code);
+            }
+            int[] sorted = used.toIntArray();
+            IntArrays.quickSort(sorted, (a, b) -> usedLabels[a].compareTo(usedLabels[b]));
+            return sorted;
+        }
 
-        int[] columnTotals = new int[t.columnCount()];
+        /**
+         * Returns the coding of the first rowCount rows with the codes renumbered in order, so that the codes that
+         * occur in those rows are 0 to size - 1
+         */
+        Coding compacted(int rowCount) {
+            int[] newCodes = new int[size];
+            for (int row = 0; row < rowCount; row++) {
+                newCodes[codes[row]] = 1;
+            }
+            int used = 0;
+            int[] oldCodes = new int[size];
+            for (int code = 0; code < size; code++) {
+                if (newCodes[code] != 0) {
+                    oldCodes[used] = code;
+                    newCodes[code] = used++;
+                }
+            }
+            int[] compactCodes = new int[rowCount];
+            for (int row = 0; row < rowCount; row++) {
+                compactCodes[row] = newCodes[codes[row]];
+            }
+            return new Coding(compactCodes, used, code -> labels.apply(oldCodes[code]));
+        }
 
-        for (LocalDate rowKey : gTable.rowKeySet()) {
-            t.dateColumn(0).append(rowKey);
+        static Coding of(Column column) {
+            switch (column.type()) {
+                case CATEGORY:
+                    return ofCategories((CategoryColumn) column);
+                case BOOLEAN:
+                    return ofBooleans((BooleanColumn) column);
+                case SHORT_INT:
+                    short[] shorts = ((ShortColumn) column).data().elements();
+                    return ofInts(column, row -> shorts[row], ShortColumn.MISSING_VALUE);
+                case INTEGER:
+                    int[] ints = ((IntColumn) column).data().elements();
+                    return ofInts(column, row -> ints[row], IntColumn.MISSING_VALUE);
+                default:
+                    return ofStrings(column);
+            }
+        }
 
-            int rowSum = 0;
+        private static Coding ofCategories(CategoryColumn column) {
+            DictionaryMap dictionary = column.dictionaryMap();
+            int maxKey = -1;
+            for (int key : dictionary.keyToValueMap().keySet()) {
+                maxKey = Math.max(maxKey, key);
+            }
+            return new Coding(column.data().elements(), maxKey + 1, dictionary::get).compacted(column.size());
+        }
 
-            for (String colKey : gTable.columnKeySet()) {
-                Integer cellValue = gTable.get(rowKey, colKey);
-                if (cellValue != null) {
-                    int colIdx = t.columnIndex(colKey);
-                    t.intColumn(colIdx).append(cellValue);
-                    rowSum += cellValue;
-                    columnTotals[colIdx] = columnTotals[colIdx] + cellValue;
+        private static Coding ofBooleans(BooleanColumn column) {
+            byte[] values = column.data().elements();
+            int[] codes = new int[column.size()];
+            for (int row = 0; row < codes.length; row++) {
+                byte value = values[row];
+                codes[row] = value == 0 || value == 1 ? value : 2;
+            }
+            return new Coding(codes, 3, code -> String.valueOf(code == 2 ? null : code == 1));
+        }
 
-                } else {
-                    t.intColumn(colKey).append(0);
+        private static Coding ofInts(Column column, IntUnaryOperator values, int missingValue) {
+            int rowCount = column.size();
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int row = 0; row < rowCount; row++) {
+                int value = values.applyAsInt(row);
+                if (value != missingValue) {
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
                 }
             }
-            t.intColumn(t.columnCount() - 1).append(rowSum);
+            long range = (long) max - min + 1;
+            if (range > Math.max(SMALL_RANGE, rowCount)) {
+                return ofStrings(column);
+            }
+            // missing values, if there are any, get the code after the last value
+            int missingCode = min > max ? 0 : (int) range;
+            int[] codes = new int[rowCount];
+            for (int row = 0; row < rowCount; row++) {
+                int value = values.applyAsInt(row);
+                codes[row] = value == missingValue ? missingCode : value - min;
+            }
+            int offset = min;
+            return new Coding(codes, missingCode + 1, code -> code == missingCode ? null : String.valueOf(code + offset))
+                    .compacted(rowCount);
         }
-        t.column(0).appendCell("Total");
-        int grandTotal = 0;
-        for (int i = 1; i < t.columnCount() - 1; i++) {
-            t.intColumn(i).append(columnTotals[i]);
-            grandTotal = grandTotal + columnTotals[i];
+
+        private static Coding ofStrings(Column column) {
+            Object2IntOpenHashMap<String> codeMap = new Object2IntOpenHashMap<>();
+            codeMap.defaultReturnValue(-1);
+            List<String> labels = new ArrayList<>();
+            int[] codes = new int[column.size()];
+            for (int row = 0; row < codes.length; row++) {
+                String value = column.getString(row);
+                int code = codeMap.getInt(value);
+                if (code < 0) {
+                    code = labels.size();
+                    codeMap.put(value, code);
+                    labels.add(value);
+                }
+                codes[row] = code;
+            }
+            return new Coding(codes, labels.size(), labels::get);
         }
-        t.intColumn(t.columnCount() - 1).append(grandTotal);
-        return t;
     }
 
 /*
@@ -224,100 +313,75 @@ public final class CrossTab {
 */
 
     public static Table rowPercents(Table xTabCounts) {
-
-        Table pctTable = Table.create("Crosstab Row Proportions: ");
-        CategoryColumn labels = new CategoryColumn(LABEL_COLUMN_NAME);
-
-        pctTable.addColumn(labels);
-
-        for (int i = 0; i < xTabCounts.rowCount(); i++) {
-            labels.append(xTabCounts.column(0).getString(i));
-        }
-
-        for (int i = 1; i < xTabCounts.columnCount(); i++) {
-            Column column = xTabCounts.column(i);
-            pctTable.addColumn(new FloatColumn(column.name()));
-        }
-
-        for (int i = 0; i < xTabCounts.rowCount(); i++) {
-            float rowTotal = (float) xTabCounts.intColumn(xTabCounts.columnCount() - 1).get(i);
-
-            for (int c = 1; c < xTabCounts.columnCount(); c++) {
-                if (rowTotal == 0) {
-                    pctTable.floatColumn(c).append(Float.NaN);
-                } else {
-                    pctTable.floatColumn(c).append((float) xTabCounts.intColumn(c).get(i) / rowTotal);
-                }
+        int[][] counts = counts(xTabCounts);
+        int[] rowTotals = counts[counts.length - 1];
+        float[][] percents = new float[counts.length][];
+        for (int c = 0; c < counts.length; c++) {
+            percents[c] = new float[rowTotals.length];
+            for (int i = 0; i < rowTotals.length; i++) {
+                percents[c][i] = proportion(counts[c][i], rowTotals[i]);
             }
         }
-        return pctTable;
+        return percentTable("Crosstab Row Proportions: ", xTabCounts, percents);
     }
 
     public static Table tablePercents(Table xTabCounts) {
-
-        Table pctTable = Table.create("Crosstab Table Proportions: ");
-        CategoryColumn labels = new CategoryColumn(LABEL_COLUMN_NAME);
-
-        pctTable.addColumn(labels);
-
-        int grandTotal = xTabCounts.intColumn(xTabCounts.columnCount() - 1).get(xTabCounts.rowCount() - 1);
-
-        for (int i = 0; i < xTabCounts.rowCount(); i++) {
-            labels.append(xTabCounts.column(0).getString(i));
-        }
-
-        for (int i = 1; i < xTabCounts.columnCount(); i++) {
-            Column column = xTabCounts.column(i);
-            pctTable.addColumn(new FloatColumn(column.name()));
-        }
-
-        for (int i = 0; i < xTabCounts.rowCount(); i++) {
-            for (int c = 1; c < xTabCounts.columnCount(); c++) {
-                if (grandTotal == 0) {
-                    pctTable.floatColumn(c).append(Float.NaN);
-                } else {
-                    pctTable.floatColumn(c).append((float) xTabCounts.intColumn(c).get(i) / grandTotal);
-                }
+        int[][] counts = counts(xTabCounts);
+        int[] rowTotals = counts[counts.length - 1];
+        int grandTotal = rowTotals[rowTotals.length - 1];
+        float[][] percents = new float[counts.length][];
+        for (int c = 0; c < counts.length; c++) {
+            percents[c] = new float[rowTotals.length];
+            for (int i = 0; i < rowTotals.length; i++) {
+                percents[c][i] = proportion(counts[c][i], grandTotal);
             }
         }
-        return pctTable;
+        return percentTable("Crosstab Table Proportions: ", xTabCounts, percents);
     }
 
     public static Table columnPercents(Table xTabCounts) {
-
-        Table pctTable = Table.create("Crosstab Column Proportions: ");
-        CategoryColumn labels = new CategoryColumn(LABEL_COLUMN_NAME);
-
-        pctTable.addColumn(labels);
-
-        // setup the labels
-        for (int i = 0; i < xTabCounts.rowCount(); i++) {
-            labels.append(xTabCounts.column(0).getString(i));
+        int[][] counts = counts(xTabCounts);
+        float[][] percents = new float[counts.length][];
+        for (int c = 0; c < counts.length; c++) {
+            int[] cells = counts[c];
+            int columnTotal = cells[cells.length - 1];
+            percents[c] = new float[cells.length];
+            for (int i = 0; i < cells.length; i++) {
+                percents[c][i] = proportion(cells[i], columnTotal);
+            }
         }
+        return percentTable("Crosstab Column Proportions: ", xTabCounts, percents);
+    }
 
-        // create the new cols
-        for (int i = 1; i < xTabCounts.columnCount(); i++) {
-            Column column = xTabCounts.column(i);
-            pctTable.addColumn(new FloatColumn(column.name()));
+    /**
+     * Returns the counts in a table produced by xTabCount, as an array for each column (including the totals), each
+     * holding the count for every row (including the totals)
+     */
+    private static int[][] counts(Table xTabCounts) {
+        int[][] counts = new int[xTabCounts.columnCount() - 1][];
+        for (int c = 1; c < xTabCounts.columnCount(); c++) {
+            counts[c - 1] = xTabCounts.intColumn(c).data().toIntArray();
         }
+        return counts;
+    }
 
-        // get the column totals
-        int[] columnTotals = new int[xTabCounts.columnCount() - 1];
-        int totalRow = xTabCounts.rowCount() - 1;
-        for (int i = 1; i < xTabCounts.columnCount(); i++) {
-            columnTotals[i - 1] = xTabCounts.intColumn(i).get(totalRow);
-        }
+    private static float proportion(int count, int total) {
+        return total == 0 ? Float.NaN : (float) count / total;
+    }
 
-        // calculate the column pcts and update the new table
+    /**
+     * Returns a table with the labels and column names of the given cross tab, and the given proportions
+     */
+    private static Table percentTable(String name, Table xTabCounts, float[][] percents) {
+        Table pctTable = Table.create(name);
+        CategoryColumn labels = new CategoryColumn(LABEL_COLUMN_NAME, xTabCounts.rowCount());
         for (int i = 0; i < xTabCounts.rowCount(); i++) {
-            for (int c = 1; c < xTabCounts.columnCount(); c++) {
-                if (columnTotals[c - 1] == 0) {
-                    pctTable.floatColumn(c).append(Float.NaN);
-                } else {
-                    pctTable.floatColumn(c).append((float) xTabCounts.intColumn(c).get(i) / columnTotals[c - 1]);
-                }
-            }
+            labels.append(xTabCounts.column(0).getString(i));
+        }
+        pctTable.addColumn(labels);
+        for (int c = 0; c < percents.length; c++) {
+            pctTable.addColumn(new FloatColumn(xTabCounts.column(c + 1).name(), percents[c]));
         }
         return pctTable;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,208 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.aggregate;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A HyperLogLog sketch, which estimates the number of distinct values it has been given in a fixed amount of memory.
+ * <p>
+ * A sketch of precision p uses 2^p one-byte registers, and has a relative standard error of about 1.04 / sqrt(2^p):
+ * about 0.8% for the default precision of 14, which takes 16KB. Sketches of the same precision can be merged, giving
+ * the sketch of the union of their values, so distinct counts can be computed over separate partitions of the data
+ * (or separate days) and combined later. {@link #toBytes()} and {@link #fromBytes(byte[])} convert a sketch to and
+ * from a compact form for storage.
+ * <p>
+ * As an Accumulator, missing values (NaN) are ignored, and the result is the estimated number of distinct values.
+ */
+public class HyperLogLog implements Accumulator, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int DEFAULT_PRECISION = 14;
+    private static final int MIN_PRECISION = 4;
+    private static final int MAX_PRECISION = 18;
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final int precision;
+    private final byte[] registers;
+
+    /**
+     * Returns a new, empty sketch with the default precision
+     */
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    /**
+     * Returns a new, empty sketch with the given precision, from 4 through 18
+     */
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("HyperLogLog precision must be from " + MIN_PRECISION + " through "
+                    + MAX_PRECISION + ", but was " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public int precision() {
+        return precision;
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(registers, (byte) 0);
+    }
+
+    /**
+     * Adds the given value, unless it is missing. Positive and negative zero are treated as the same value
+     */
+    @Override
+    public void accept(double value) {
+        if (!Double.isNaN(value)) {
+            add(Double.doubleToLongBits(value + 0.0));
+        }
+    }
+
+    /**
+     * Adds the given value
+     */
+    public void add(long value) {
+        addHash(mix(value));
+    }
+
+    /**
+     * Adds the given string
+     */
+    public void add(CharSequence value) {
+        // 64-bit FNV-1a over the characters
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        addHash(mix(hash));
+    }
+
+    private void addHash(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        // a one bit below the bits that are left stops the count of leading zeros at 64 - precision
+        long remaining = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    /**
+     * Merges the given sketch, which must be a HyperLogLog of the same precision, into this one
+     */
+    @Override
+    public void merge(Accumulator other) {
+        HyperLogLog that = (HyperLogLog) other;
+        if (that.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge a HyperLogLog of precision " + that.precision
+                    + " into one of precision " + precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (that.registers[i] > registers[i]) {
+                registers[i] = that.registers[i];
+            }
+        }
+    }
+
+    @Override
+    public double result() {
+        return cardinality();
+    }
+
+    /**
+     * Returns the estimated number of distinct values added to this sketch
+     */
+    public long cardinality() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha;
+        switch (m) {
+            case 16:
+                alpha = 0.673;
+                break;
+            case 32:
+                alpha = 0.697;
+                break;
+            case 64:
+                alpha = 0.709;
+                break;
+            default:
+                alpha = 0.7213 / (1 + 1.079 / m);
+        }
+        double estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            // linear counting is more accurate while many registers are still empty
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * Returns this sketch as an array of bytes, from which it can be rebuilt with {@link #fromBytes(byte[])}
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[registers.length + 2];
+        bytes[0] = FORMAT_VERSION;
+        bytes[1] = (byte) precision;
+        System.arraycopy(registers, 0, bytes, 2, registers.length);
+        return bytes;
+    }
+
+    /**
+     * Returns the sketch represented by the given bytes, as produced by {@link #toBytes()}
+     *
+     * @throws IllegalArgumentException if the bytes do not represent a HyperLogLog sketch
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes.length < 2 || bytes[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("The bytes given do not hold a HyperLogLog sketch");
+        }
+        HyperLogLog sketch = new HyperLogLog(bytes[1]);
+        if (bytes.length != sketch.registers.length + 2) {
+            throw new IllegalArgumentException("The bytes given do not hold a HyperLogLog sketch");
+        }
+        System.arraycopy(bytes, 2, sketch.registers, 0, sketch.registers.length);
+        return sketch;
+    }
+
+    /**
+     * Returns a well distributed 64-bit hash of the given value (the finalizer of MurmurHash3)
+     */
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
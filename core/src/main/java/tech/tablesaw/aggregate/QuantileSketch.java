@@ -0,0 +1,328 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.aggregate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+
+/**
+ * A KLL quantile sketch (Karnin, Lang and Liberty, 2016), which estimates percentiles of the values it has been given
+ * in memory that grows only with the logarithm of their number.
+ * <p>
+ * The sketch keeps a stack of buffers; an item in buffer h stands for 2^h of the values added. When the sketch is
+ * full, a buffer is sorted and every other item in it (starting at a random offset) is promoted to the next buffer,
+ * halving its size. With the default k of 200, the rank of a returned percentile is typically within about 1.5% of
+ * the rank requested. The smallest and largest values are tracked exactly.
+ * <p>
+ * Sketches can be merged, giving a sketch of all the values given to either, so percentiles can be computed over
+ * separate partitions of the data (or separate days) and combined later. {@link #toBytes()} and
+ * {@link #fromBytes(byte[])} convert a sketch to and from a compact form for storage.
+ * <p>
+ * As an Accumulator, missing values (NaN) are ignored, and the result is the estimated median.
+ */
+public class QuantileSketch implements Accumulator, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int DEFAULT_K = 200;
+    private static final int MIN_K = 8;
+
+    // the ratio of the capacity of each buffer to that of the one above it
+    private static final double CAPACITY_RATIO = 2.0 / 3.0;
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final int k;
+    private final List<DoubleArrayList> buffers = new ArrayList<>();
+
+    // the number of items held in all buffers, and the number at which the sketch must be compacted
+    private int size;
+    private int maxSize;
+
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    // the state of the generator for the offsets of compactions
+    private long random = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Returns a new, empty sketch with the default accuracy parameter
+     */
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * Returns a new, empty sketch with the given accuracy parameter. The size and accuracy of the sketch grow with k
+     */
+    public QuantileSketch(int k) {
+        if (k < MIN_K) {
+            throw new IllegalArgumentException("QuantileSketch k must be at least " + MIN_K + ", but was " + k);
+        }
+        this.k = k;
+        addBuffer();
+    }
+
+    public int k() {
+        return k;
+    }
+
+    /**
+     * Returns the number of (non-missing) values added to this sketch
+     */
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void reset() {
+        buffers.clear();
+        size = 0;
+        count = 0;
+        min = Double.NaN;
+        max = Double.NaN;
+        addBuffer();
+    }
+
+    /**
+     * Adds the given value, unless it is missing
+     */
+    @Override
+    public void accept(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (count == 0) {
+            min = value;
+            max = value;
+        } else {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        count++;
+        buffers.get(0).add(value);
+        size++;
+        if (size >= maxSize) {
+            compress();
+        }
+    }
+
+    /**
+     * Merges the given sketch, which must be a QuantileSketch with the same k, into this one
+     */
+    @Override
+    public void merge(Accumulator other) {
+        QuantileSketch that = (QuantileSketch) other;
+        if (that.k != k) {
+            throw new IllegalArgumentException("Cannot merge a QuantileSketch with k " + that.k
+                    + " into one with k " + k);
+        }
+        if (that.count == 0) {
+            return;
+        }
+        while (buffers.size() < that.buffers.size()) {
+            addBuffer();
+        }
+        for (int h = 0; h < that.buffers.size(); h++) {
+            buffers.get(h).addAll(that.buffers.get(h));
+        }
+        size += that.size;
+        min = count == 0 ? that.min : Math.min(min, that.min);
+        max = count == 0 ? that.max : Math.max(max, that.max);
+        count += that.count;
+        while (size >= maxSize) {
+            compress();
+        }
+    }
+
+    /**
+     * Returns the estimated median
+     */
+    @Override
+    public double result() {
+        return percentile(50.0);
+    }
+
+    /**
+     * Returns an estimate of the given percentile, from 0 through 100, of the values added, or NaN if there are none
+     */
+    public double percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be from 0 through 100, but was " + percentile);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (percentile == 0) {
+            return min;
+        }
+        if (percentile == 100) {
+            return max;
+        }
+        double[] items = new double[size];
+        long[] weights = new long[size];
+        int n = 0;
+        for (int h = 0; h < buffers.size(); h++) {
+            DoubleArrayList buffer = buffers.get(h);
+            for (int i = 0; i < buffer.size(); i++) {
+                items[n] = buffer.getDouble(i);
+                weights[n] = 1L << h;
+                n++;
+            }
+        }
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(items[a], items[b]));
+        long totalWeight = 0;
+        for (long weight : weights) {
+            totalWeight += weight;
+        }
+        double target = percentile / 100 * totalWeight;
+        long cumulative = 0;
+        for (int i : order) {
+            cumulative += weights[i];
+            if (cumulative >= target) {
+                return items[i];
+            }
+        }
+        return max;
+    }
+
+    private void addBuffer() {
+        buffers.add(new DoubleArrayList());
+        int total = 0;
+        for (int h = 0; h < buffers.size(); h++) {
+            total += capacity(h);
+        }
+        maxSize = total;
+    }
+
+    private int capacity(int height) {
+        int depth = buffers.size() - height - 1;
+        return (int) Math.ceil(Math.pow(CAPACITY_RATIO, depth) * k) + 1;
+    }
+
+    /**
+     * Compacts the lowest buffer that is over its capacity into the one above it, continuing upward until the sketch
+     * is no longer full
+     */
+    private void compress() {
+        for (int h = 0; h < buffers.size(); h++) {
+            DoubleArrayList buffer = buffers.get(h);
+            if (buffer.size() >= capacity(h)) {
+                if (h + 1 == buffers.size()) {
+                    addBuffer();
+                }
+                DoubleArrayList next = buffers.get(h + 1);
+                double[] items = buffer.toDoubleArray();
+                Arrays.sort(items);
+                // with an odd number of items, the largest stays where it is
+                int pairs = items.length / 2;
+                int offset = nextOffset();
+                for (int i = 0; i < pairs; i++) {
+                    next.add(items[2 * i + offset]);
+                }
+                buffer.clear();
+                if (items.length % 2 == 1) {
+                    buffer.add(items[items.length - 1]);
+                }
+                size -= pairs;
+                if (size < maxSize) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns 0 or 1 at random, from a xorshift generator whose state is part of the sketch, so that a sketch's
+     * contents depend only on the values given to it
+     */
+    private int nextOffset() {
+        random ^= random << 13;
+        random ^= random >>> 7;
+        random ^= random << 17;
+        return (int) (random >>> 63);
+    }
+
+    /**
+     * Returns this sketch as an array of bytes, from which it can be rebuilt with {@link #fromBytes(byte[])}
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(k);
+            out.writeLong(count);
+            out.writeDouble(min);
+            out.writeDouble(max);
+            out.writeLong(random);
+            out.writeInt(buffers.size());
+            for (DoubleArrayList buffer : buffers) {
+                out.writeInt(buffer.size());
+                for (int i = 0; i < buffer.size(); i++) {
+                    out.writeDouble(buffer.getDouble(i));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Returns the sketch represented by the given bytes, as produced by {@link #toBytes()}
+     *
+     * @throws IllegalArgumentException if the bytes do not represent a QuantileSketch
+     */
+    public static QuantileSketch fromBytes(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readByte() != FORMAT_VERSION) {
+                throw new IllegalArgumentException("The bytes given do not hold a QuantileSketch");
+            }
+            QuantileSketch sketch = new QuantileSketch(in.readInt());
+            sketch.count = in.readLong();
+            sketch.min = in.readDouble();
+            sketch.max = in.readDouble();
+            sketch.random = in.readLong();
+            int bufferCount = in.readInt();
+            while (sketch.buffers.size() < bufferCount) {
+                sketch.addBuffer();
+            }
+            for (DoubleArrayList buffer : sketch.buffers) {
+                int bufferSize = in.readInt();
+                for (int i = 0; i < bufferSize; i++) {
+                    buffer.add(in.readDouble());
+                }
+                sketch.size += bufferSize;
+            }
+            return sketch;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("The bytes given do not hold a QuantileSketch", e);
+        }
+    }
+}
@@ -34,6 +34,7 @@ import tech.tablesaw.io.TypeUtils;
 import tech.tablesaw.mapping.BooleanMapUtils;
 import tech.tablesaw.store.ColumnMetadata;
 import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.ParallelScan;
 import tech.tablesaw.util.Selection;
 
 import java.util.Iterator;
@@ -245,6 +246,7 @@ public class BooleanColumn extends AbstractColumn implements BooleanMapUtils, In
 
     @Override
     public void clear() {
+        modified();
         data.clear();
     }
 
@@ -257,11 +259,13 @@ public class BooleanColumn extends AbstractColumn implements BooleanMapUtils, In
 
     @Override
     public void sortAscending() {
+        modified();
         ByteArrays.mergeSort(data.elements());
     }
 
     @Override
     public void sortDescending() {
+        modified();
         ByteArrays.mergeSort(data.elements(), reverseByteComparator);
     }
 
@@ -365,6 +369,7 @@ public class BooleanColumn extends AbstractColumn implements BooleanMapUtils, In
     }
 
     public void set(int i, boolean b) {
+        modified();
         data.set(i, b ? (byte) 1 : (byte) 0);
     }
 
@@ -419,12 +424,12 @@ public class BooleanColumn extends AbstractColumn implements BooleanMapUtils, In
 
     @Override
     public Selection isMissing() {  //TODO
-        return select(isMissing);
+        return selectInParallel(isMissing);
     }
 
     @Override
     public Selection isNotMissing() { //TODO
-        return select(isNotMissing);
+        return selectInParallel(isNotMissing);
     }
 
     public Iterator<Boolean> iterator() {
@@ -465,15 +470,33 @@ public class BooleanColumn extends AbstractColumn implements BooleanMapUtils, In
         return result;
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate. The values are tested in order on the calling thread,
+     * so the predicate need not be thread-safe
+     */
     public Selection select(BooleanPredicate predicate) {
-        Selection selection = new BitmapBackedSelection();
-        for (int idx = 0; idx < data.size(); idx++) {
-            byte next = data.getByte(idx);
-            if (predicate.test(next)) {
-                selection.add(idx);
+        return ParallelScan.selectSequentially(data.size(), scanner(predicate));
+    }
+
+    /**
+     * Like {@link #select(BooleanPredicate)}, but tests the values of large columns in parallel on the common
+     * ForkJoinPool, so the predicate must be stateless and thread-safe
+     */
+    public Selection selectInParallel(BooleanPredicate predicate) {
+        return ParallelScan.select(data.size(), scanner(predicate));
+    }
+
+    private ParallelScan.ChunkScanner scanner(BooleanPredicate predicate) {
+        byte[] values = data.elements();
+        return (from, to, rows) -> {
+            int count = 0;
+            for (int idx = from; idx < to; idx++) {
+                if (predicate.test(values[idx])) {
+                    rows[count++] = idx;
+                }
             }
-        }
-        return selection;
+            return count;
+        };
     }
 
     @Override
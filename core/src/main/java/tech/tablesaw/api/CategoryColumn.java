@@ -35,6 +35,7 @@ import tech.tablesaw.io.TypeUtils;
 import tech.tablesaw.store.ColumnMetadata;
 import tech.tablesaw.util.BitmapBackedSelection;
 import tech.tablesaw.util.DictionaryMap;
+import tech.tablesaw.util.ParallelScan;
 import tech.tablesaw.util.Selection;
 
 import java.nio.ByteBuffer;
@@ -62,6 +63,9 @@ public class CategoryColumn extends AbstractColumn
     private static final int BYTE_SIZE = 4;
     private static int DEFAULT_ARRAY_SIZE = 128;
 
+    // appends of fewer rows than the source's codes divided by this translate the codes through a hash map
+    private static final int DENSE_TRANSLATION_RATIO = 4;
+
     private int id = 0;
 
     // holds a key for each row in the table. the key can be used to lookup the backing string value
@@ -169,11 +173,13 @@ public class CategoryColumn extends AbstractColumn
 
     @Override
     public void sortAscending() {
+        modified();
         IntArrays.parallelQuickSort(values.elements(), dictionarySortComparator);
     }
 
     @Override
     public void sortDescending() {
+        modified();
         IntArrays.parallelQuickSort(values.elements(), reverseDictionarySortComparator);
     }
 
@@ -248,6 +254,7 @@ public class CategoryColumn extends AbstractColumn
 
     @Override
     public void clear() {
+        modified();
         values.clear();
         lookupTable.clear();
     }
@@ -293,6 +300,7 @@ public class CategoryColumn extends AbstractColumn
         } else {
             valueId = lookupTable.get(stringValue);
         }
+        modified();
         values.set(rowIndex, valueId);
     }
 
@@ -343,12 +351,7 @@ public class CategoryColumn extends AbstractColumn
     }
     
     private void addValue(String value) {
-        int key = lookupTable.get(value);
-        if (key < 0) {
-            key = id++;
-            lookupTable.put(key, value);
-        }
-        values.add(key);
+        values.add(keyFor(value));
     }
 
     /**
@@ -360,6 +363,90 @@ public class CategoryColumn extends AbstractColumn
         }
     }
 
+    /**
+     * Returns a new column holding the values in the given rows of this column, in order. The dictionary codes are
+     * copied rather than looked up string by string, and only the dictionary entries in use are carried over.
+     * A row of -1 produces a missing value
+     * @param rows the indexes of the rows to copy
+     * @return the new column
+     */
+    public CategoryColumn gather(int[] rows) {
+        CategoryColumn result = emptyCopy(rows.length);
+        result.appendRows(this, rows, rows.length);
+        return result;
+    }
+
+    /**
+     * Appends the values in the first {@code count} of the given rows of the source column, with a row of -1
+     * appending a missing value. Each distinct source code is translated to a code in this column only once, rather
+     * than each row's string being looked up. If this column's dictionary is empty it adopts the source's codes,
+     * taking only the dictionary entries in use
+     * @param source the column to copy from
+     * @param rows   the indexes of the rows to copy
+     * @param count  the number of rows to copy
+     */
+    public void appendRows(CategoryColumn source, int[] rows, int count) {
+        DictionaryMap sourceTable = source.lookupTable;
+        boolean adoptCodes = lookupTable.size() == 0;
+        if (adoptCodes) {
+            id = Math.max(id, source.id);
+        }
+        // the source codes translated so far, in an array indexed by code when many rows are copied, and otherwise,
+        // or for codes beyond the source's id (as in a dictionary filled directly), in a map, so that copying a few
+        // rows does not cost as much as the source's dictionary
+        int[] translation = (long) count * DENSE_TRANSLATION_RATIO >= source.id ? new int[source.id] : new int[0];
+        Arrays.fill(translation, -1);
+        Int2IntOpenHashMap sparseTranslation = new Int2IntOpenHashMap();
+        sparseTranslation.defaultReturnValue(-1);
+        int sourceMissingKey = sourceTable.get(MISSING_VALUE);
+        int missingKey = -1;
+
+        values.ensureCapacity(values.size() + count);
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            int sourceKey = row < 0 ? sourceMissingKey : source.values.getInt(row);
+            int key;
+            if (sourceKey < 0) {
+                // a missing value that the source dictionary does not hold
+                if (missingKey < 0) {
+                    missingKey = keyFor(MISSING_VALUE);
+                }
+                key = missingKey;
+            } else {
+                boolean dense = sourceKey < translation.length;
+                key = dense ? translation[sourceKey] : sparseTranslation.get(sourceKey);
+                if (key < 0) {
+                    String value = sourceTable.get(sourceKey);
+                    if (adoptCodes) {
+                        lookupTable.put(sourceKey, value);
+                        id = Math.max(id, sourceKey + 1);
+                        key = sourceKey;
+                    } else {
+                        key = keyFor(value);
+                    }
+                    if (dense) {
+                        translation[sourceKey] = key;
+                    } else {
+                        sparseTranslation.put(sourceKey, key);
+                    }
+                }
+            }
+            values.add(key);
+        }
+    }
+
+    /**
+     * Returns the key for the given value, adding it to the dictionary if needed
+     */
+    private int keyFor(String value) {
+        int key = lookupTable.get(value);
+        if (key < 0) {
+            key = id++;
+            lookupTable.put(key, value);
+        }
+        return key;
+    }
+
     /**
      * Returns true if this column contains a cell with the given string, and false otherwise
      * @param aString the value to look for
@@ -408,18 +495,20 @@ public class CategoryColumn extends AbstractColumn
     }
 
     public Selection isEqualTo(String string) {
-        Selection results = new BitmapBackedSelection();
         int key = lookupTable.get(string);
-        if (key >= 0) {
-            int i = 0;
-            for (int next : values) {
-                if (key == next) {
-                    results.add(i);
+        if (key < 0) {
+            return new BitmapBackedSelection();
+        }
+        int[] codes = values.elements();
+        return ParallelScan.select(values.size(), (from, to, rows) -> {
+            int count = 0;
+            for (int row = from; row < to; row++) {
+                if (codes[row] == key) {
+                    rows[count++] = row;
                 }
-                i++;
             }
-        }
-        return results;
+            return count;
+        });
     }
 
     public Selection isNotEqualTo(String string) {
@@ -637,30 +726,77 @@ public class CategoryColumn extends AbstractColumn
         return select(isNotMissing);
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate. The predicate is tested once for each distinct value
+     * in the dictionary, rather than once for each row, and the rows are then selected by their codes
+     */
+    @Override
     public Selection select(StringPredicate predicate) {
-        Selection selection = new BitmapBackedSelection();
-        for (int idx = 0; idx < data().size(); idx++) {
-            if (predicate.test(get(idx))) {
-                selection.add(idx);
+        boolean[] matchingKeys = new boolean[keyLimit()];
+        boolean any = false;
+        for (Int2ObjectMap.Entry<String> entry : lookupTable.keyToValueMap().int2ObjectEntrySet()) {
+            if (predicate.test(entry.getValue())) {
+                matchingKeys[entry.getIntKey()] = true;
+                any = true;
             }
         }
-        return selection;
+        return any ? selectKeys(matchingKeys) : new BitmapBackedSelection();
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate when compared with the given value. See
+     * {@link #select(StringPredicate)}
+     */
     public Selection select(StringBiPredicate predicate, String value) {
-        Selection selection = new BitmapBackedSelection();
-        for (int idx = 0; idx < data().size(); idx++) {
-            if (predicate.test(get(idx), value)) {
-                selection.add(idx);
+        return select(next -> predicate.test(next, value));
+    }
+
+    /**
+     * Returns one more than the largest key in the dictionary
+     */
+    private int keyLimit() {
+        int limit = 0;
+        for (int key : lookupTable.keyToValueMap().keySet()) {
+            limit = Math.max(limit, key + 1);
+        }
+        return limit;
+    }
+
+    /**
+     * Returns the rows whose codes are marked in the given array, in a single pass over the codes
+     */
+    private Selection selectKeys(boolean[] matchingKeys) {
+        int[] codes = values.elements();
+        return ParallelScan.select(values.size(), (from, to, rows) -> {
+            int count = 0;
+            for (int row = from; row < to; row++) {
+                if (matchingKeys[codes[row]]) {
+                    rows[count++] = row;
+                }
+            }
+            return count;
+        });
+    }
+
+    /**
+     * Returns an array marking the keys of those of the given strings that are in the dictionary
+     */
+    private boolean[] keysOf(String... strings) {
+        boolean[] keys = new boolean[keyLimit()];
+        for (String string : strings) {
+            int key = lookupTable.get(string);
+            if (key >= 0) {
+                keys[key] = true;
             }
         }
-        return selection;
+        return keys;
     }
 
     @Override
     public CategoryColumn copy() {
         CategoryColumn newCol = new CategoryColumn(name(), size());
         newCol.lookupTable = new DictionaryMap(lookupTable);
+        newCol.id = id;
         newCol.values.addAll(values);
         newCol.setComment(comment());
         return newCol;
@@ -745,21 +881,7 @@ public class CategoryColumn extends AbstractColumn
     }
 
     public Selection isIn(String... strings) {
-      Selection results = new BitmapBackedSelection();
-      for (String string : strings) {
-        int key = lookupTable.get(string);
-        if (key >= 0) {
-          int i = 0;
-          for (int next : values) {
-            if (key == next) {
-              results.add(i);
-            }
-            i++;
-          }
-        }
-      }
-
-      return results;
+      return selectKeys(keysOf(strings));
     }
 
     public Selection isIn(Collection<String> strings) {
@@ -774,21 +896,11 @@ public class CategoryColumn extends AbstractColumn
     }
 
     public Selection isNotIn(String... strings) {
-      Selection results = new BitmapBackedSelection();
-      for (String string : strings) {
-        int key = lookupTable.get(string);
-        if (key >= 0) {
-          int i = 0;
-          for (int next : values) {
-            if (key != next) {
-              results.add(i);
-            }
-            i++;
-          }
-        }
+      boolean[] keys = keysOf(strings);
+      for (int key = 0; key < keys.length; key++) {
+        keys[key] = !keys[key];
       }
-
-      return results;
+      return selectKeys(keys);
     }
 
     public Selection isNotIn(Collection<String> strings) {
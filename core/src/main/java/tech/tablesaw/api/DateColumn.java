@@ -30,10 +30,12 @@ import tech.tablesaw.columns.packeddata.PackedLocalDateTime;
 import tech.tablesaw.filtering.IntBiPredicate;
 import tech.tablesaw.filtering.IntPredicate;
 import tech.tablesaw.filtering.LocalDatePredicate;
+import tech.tablesaw.index.ZoneMap;
 import tech.tablesaw.io.TypeUtils;
 import tech.tablesaw.mapping.DateMapUtils;
 import tech.tablesaw.store.ColumnMetadata;
 import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.ParallelScan;
 import tech.tablesaw.util.ReverseIntComparator;
 import tech.tablesaw.util.Selection;
 
@@ -75,6 +77,9 @@ public class DateColumn extends AbstractColumn implements DateMapUtils {
 
     private IntArrayList data;
 
+    // the smallest and largest value in each block of rows, built when first needed and discarded when values change
+    private ZoneMap zoneMap;
+
     IntComparator comparator = new IntComparator() {
 
         @Override
@@ -156,11 +161,29 @@ public class DateColumn extends AbstractColumn implements DateMapUtils {
         return data;
     }
 
+    /**
+     * Returns the zone map of this column, building it if it has not been built since the values of the column were
+     * last changed in place. Rows appended since it was built are added to it. Changes made through {@link #data()}
+     * are not detected
+     */
+    public ZoneMap zoneMap() {
+        ZoneMap zones = zoneMap;
+        if (zones == null || zones.size() != size()) {
+            zones = ZoneMap.of(data.elements(), size(), zones);
+            zoneMap = zones;
+        }
+        return zones;
+    }
+
     public void set(int index, int value) {
+        zoneMap = null;
+        modified();
         data.set(index, value);
     }
 
     public void set(int index, LocalDate value) {
+        zoneMap = null;
+        modified();
         data.set(index, PackedLocalDate.pack(value));
     }
 
@@ -189,6 +212,8 @@ public class DateColumn extends AbstractColumn implements DateMapUtils {
 
     @Override
     public void clear() {
+        zoneMap = null;
+        modified();
         data.clear();
     }
 
@@ -201,11 +226,15 @@ public class DateColumn extends AbstractColumn implements DateMapUtils {
 
     @Override
     public void sortAscending() {
+        zoneMap = null;
+        modified();
         Arrays.parallelSort(data.elements());
     }
 
     @Override
     public void sortDescending() {
+        zoneMap = null;
+        modified();
         IntArrays.parallelQuickSort(data.elements(), reverseIntComparator);
     }
 
@@ -458,7 +487,7 @@ public class DateColumn extends AbstractColumn implements DateMapUtils {
 
     public Selection isEqualTo(LocalDate value) {
         int packed = PackedLocalDate.pack(value);
-        return select(IntColumnUtils.isEqualTo, packed);
+        return selectInParallel(IntColumnUtils.isEqualTo, packed);
     }
 
     /**
@@ -509,143 +538,143 @@ public class DateColumn extends AbstractColumn implements DateMapUtils {
     }
 
     public Selection isAfter(int value) {
-        return select(PackedLocalDate::isAfter, value);
+        return selectInParallel(PackedLocalDate::isAfter, value);
     }
 
     public Selection isAfter(LocalDate value) {
         int packed = PackedLocalDate.pack(value);
-        return select(PackedLocalDate::isAfter, packed);
+        return selectInParallel(PackedLocalDate::isAfter, packed);
     }
 
     public Selection isBefore(int value) {
-        return select(PackedLocalDate::isBefore, value);
+        return selectInParallel(PackedLocalDate::isBefore, value);
     }
 
     public Selection isBefore(LocalDate value) {
         int packed = PackedLocalDate.pack(value);
-        return select(PackedLocalDate::isBefore, packed);
+        return selectInParallel(PackedLocalDate::isBefore, packed);
     }
 
     public Selection isOnOrBefore(LocalDate value) {
         int packed = PackedLocalDate.pack(value);
-        return select(PackedLocalDate::isOnOrBefore, packed);
+        return selectInParallel(PackedLocalDate::isOnOrBefore, packed);
     }
 
     public Selection isOnOrBefore(int value) {
-        return select(PackedLocalDate::isOnOrBefore, value);
+        return selectInParallel(PackedLocalDate::isOnOrBefore, value);
     }
 
     public Selection isOnOrAfter(LocalDate value) {
         int packed = PackedLocalDate.pack(value);
-        return select(PackedLocalDate::isOnOrAfter, packed);
+        return selectInParallel(PackedLocalDate::isOnOrAfter, packed);
     }
 
     public Selection isOnOrAfter(int value) {
-        return select(PackedLocalDate::isOnOrAfter, value);
+        return selectInParallel(PackedLocalDate::isOnOrAfter, value);
     }
 
     public Selection isMonday() {
-        return select(PackedLocalDate::isMonday);
+        return selectInParallel(PackedLocalDate::isMonday);
     }
 
     public Selection isTuesday() {
-        return select(PackedLocalDate::isTuesday);
+        return selectInParallel(PackedLocalDate::isTuesday);
     }
 
     public Selection isWednesday() {
-        return select(PackedLocalDate::isWednesday);
+        return selectInParallel(PackedLocalDate::isWednesday);
     }
 
     public Selection isThursday() {
-        return select(PackedLocalDate::isThursday);
+        return selectInParallel(PackedLocalDate::isThursday);
     }
 
     public Selection isFriday() {
-        return select(PackedLocalDate::isFriday);
+        return selectInParallel(PackedLocalDate::isFriday);
     }
 
     public Selection isSaturday() {
-        return select(PackedLocalDate::isSaturday);
+        return selectInParallel(PackedLocalDate::isSaturday);
     }
 
     public Selection isSunday() {
-        return select(PackedLocalDate::isSunday);
+        return selectInParallel(PackedLocalDate::isSunday);
     }
 
     public Selection isInJanuary() {
-        return select(PackedLocalDate::isInJanuary);
+        return selectInParallel(PackedLocalDate::isInJanuary);
     }
 
     public Selection isInFebruary() {
-        return select(PackedLocalDate::isInFebruary);
+        return selectInParallel(PackedLocalDate::isInFebruary);
     }
 
     public Selection isInMarch() {
-        return select(PackedLocalDate::isInMarch);
+        return selectInParallel(PackedLocalDate::isInMarch);
     }
 
     public Selection isInApril() {
-        return select(PackedLocalDate::isInApril);
+        return selectInParallel(PackedLocalDate::isInApril);
     }
 
     public Selection isInMay() {
-        return select(PackedLocalDate::isInMay);
+        return selectInParallel(PackedLocalDate::isInMay);
     }
 
     public Selection isInJune() {
-        return select(PackedLocalDate::isInJune);
+        return selectInParallel(PackedLocalDate::isInJune);
     }
 
     public Selection isInJuly() {
-        return select(PackedLocalDate::isInJuly);
+        return selectInParallel(PackedLocalDate::isInJuly);
     }
 
     public Selection isInAugust() {
-        return select(PackedLocalDate::isInAugust);
+        return selectInParallel(PackedLocalDate::isInAugust);
     }
 
     public Selection isInSeptember() {
-        return select(PackedLocalDate::isInSeptember);
+        return selectInParallel(PackedLocalDate::isInSeptember);
     }
 
     public Selection isInOctober() {
-        return select(PackedLocalDate::isInOctober);
+        return selectInParallel(PackedLocalDate::isInOctober);
     }
 
     public Selection isInNovember() {
-        return select(PackedLocalDate::isInNovember);
+        return selectInParallel(PackedLocalDate::isInNovember);
     }
 
     public Selection isInDecember() {
-        return select(PackedLocalDate::isInDecember);
+        return selectInParallel(PackedLocalDate::isInDecember);
     }
 
     public Selection isFirstDayOfMonth() {
-        return select(PackedLocalDate::isFirstDayOfMonth);
+        return selectInParallel(PackedLocalDate::isFirstDayOfMonth);
     }
 
     public Selection isLastDayOfMonth() {
-        return select(PackedLocalDate::isLastDayOfMonth);
+        return selectInParallel(PackedLocalDate::isLastDayOfMonth);
     }
 
     public Selection isInQ1() {
-        return select(PackedLocalDate::isInQ1);
+        return selectInParallel(PackedLocalDate::isInQ1);
     }
 
     public Selection isInQ2() {
-        return select(PackedLocalDate::isInQ2);
+        return selectInParallel(PackedLocalDate::isInQ2);
     }
 
     public Selection isInQ3() {
-        return select(PackedLocalDate::isInQ3);
+        return selectInParallel(PackedLocalDate::isInQ3);
     }
 
     public Selection isInQ4() {
-        return select(PackedLocalDate::isInQ4);
+        return selectInParallel(PackedLocalDate::isInQ4);
     }
 
     public Selection isInYear(int year) {
-        return select(PackedLocalDate::isInYear, year);
+        return selectInParallel(PackedLocalDate::isInYear, year);
     }
 
     @Override
@@ -661,7 +690,7 @@ public class DateColumn extends AbstractColumn implements DateMapUtils {
 
     @Override
     public Selection isMissing() {
-        return select(isMissing);
+        return selectInParallel(isMissing);
     }
 
     /**
@@ -680,7 +709,7 @@ public class DateColumn extends AbstractColumn implements DateMapUtils {
 
     @Override
     public Selection isNotMissing() {
-        return select(isNotMissing);
+        return selectInParallel(isNotMissing);
     }
 
     @Override
@@ -764,26 +793,62 @@ public class DateColumn extends AbstractColumn implements DateMapUtils {
         return data.iterator();
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate. The values are tested in order on the calling thread,
+     * so the predicate need not be thread-safe
+     */
     public Selection select(IntPredicate predicate) {
-        Selection selection = new BitmapBackedSelection();
-        for (int idx = 0; idx < data.size(); idx++) {
-            int next = data.getInt(idx);
-            if (predicate.test(next)) {
-                selection.add(idx);
+        return ParallelScan.selectSequentially(data.size(), scanner(predicate));
+    }
+
+    /**
+     * Like {@link #select(IntPredicate)}, but tests the values of large columns in parallel on the common ForkJoinPool,
+     * so the predicate must be stateless and thread-safe
+     */
+    public Selection selectInParallel(IntPredicate predicate) {
+        return ParallelScan.select(data.size(), scanner(predicate));
+    }
+
+    private ParallelScan.ChunkScanner scanner(IntPredicate predicate) {
+        int[] values = data.elements();
+        return (from, to, rows) -> {
+            int count = 0;
+            for (int idx = from; idx < to; idx++) {
+                if (predicate.test(values[idx])) {
+                    rows[count++] = idx;
+                }
             }
-        }
-        return selection;
+            return count;
+        };
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate when compared with the given value. The values are
+     * tested in order on the calling thread, so the predicate need not be thread-safe
+     */
     public Selection select(IntBiPredicate predicate, int value) {
-        Selection selection = new BitmapBackedSelection();
-        for (int idx = 0; idx < data.size(); idx++) {
-            int next = data.getInt(idx);
-            if (predicate.test(next, value)) {
-                selection.add(idx);
+        return ParallelScan.selectSequentially(data.size(), scanner(predicate, value));
+    }
+
+    /**
+     * Like {@link #select(IntBiPredicate, int)}, but tests the values of large columns in parallel on the common
+     * ForkJoinPool, so the predicate must be stateless and thread-safe
+     */
+    public Selection selectInParallel(IntBiPredicate predicate, int value) {
+        return ParallelScan.select(data.size(), scanner(predicate, value));
+    }
+
+    private ParallelScan.ChunkScanner scanner(IntBiPredicate predicate, int value) {
+        int[] values = data.elements();
+        return (from, to, rows) -> {
+            int count = 0;
+            for (int idx = from; idx < to; idx++) {
+                if (predicate.test(values[idx], value)) {
+                    rows[count++] = idx;
+                }
             }
-        }
-        return selection;
+            return count;
+        };
     }
 
     public List<LocalDate> asList() {
@@ -31,11 +31,13 @@ import tech.tablesaw.columns.packeddata.PackedLocalDateTime;
 import tech.tablesaw.filtering.LocalDateTimePredicate;
 import tech.tablesaw.filtering.LongBiPredicate;
 import tech.tablesaw.filtering.LongPredicate;
+import tech.tablesaw.index.ZoneMap;
 import tech.tablesaw.io.TypeUtils;
 import tech.tablesaw.io.TypeUtils.DateTimeConverter;
 import tech.tablesaw.mapping.DateTimeMapUtils;
 import tech.tablesaw.store.ColumnMetadata;
 import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.ParallelScan;
 import tech.tablesaw.util.ReverseLongComparator;
 import tech.tablesaw.util.Selection;
 
@@ -77,6 +79,9 @@ public class DateTimeColumn extends AbstractColumn implements DateTimeMapUtils,
 
     private LongArrayList data;
 
+    // the smallest and largest value in each block of rows, built when first needed and discarded when values change
+    private ZoneMap zoneMap;
+
     IntComparator comparator = new IntComparator() {
 
         @Override
@@ -171,6 +176,20 @@ public class DateTimeColumn extends AbstractColumn implements DateTimeMapUtils,
         return data;
     }
 
+    /**
+     * Returns the zone map of this column, building it if it has not been built since the values of the column were
+     * last changed in place. Rows appended since it was built are added to it. Changes made through {@link #data()}
+     * are not detected
+     */
+    public ZoneMap zoneMap() {
+        ZoneMap zones = zoneMap;
+        if (zones == null || zones.size() != size()) {
+            zones = ZoneMap.of(data.elements(), size(), zones);
+            zoneMap = zones;
+        }
+        return zones;
+    }
+
     @Override
     public ColumnType type() {
         return ColumnType.LOCAL_DATE_TIME;
@@ -205,6 +224,8 @@ public class DateTimeColumn extends AbstractColumn implements DateTimeMapUtils,
 
     @Override
     public void clear() {
+        zoneMap = null;
+        modified();
         data.clear();
     }
 
@@ -217,11 +238,15 @@ public class DateTimeColumn extends AbstractColumn implements DateTimeMapUtils,
 
     @Override
     public void sortAscending() {
+        zoneMap = null;
+        modified();
         Arrays.parallelSort(data.elements());
     }
 
     @Override
     public void sortDescending() {
+        zoneMap = null;
+        modified();
         LongArrays.parallelQuickSort(data.elements(), reverseLongComparator);
     }
 
@@ -495,7 +520,7 @@ public class DateTimeColumn extends AbstractColumn implements DateTimeMapUtils,
 
     public Selection isEqualTo(LocalDateTime value) {
         long packed = PackedLocalDateTime.pack(value);
-        return select(LongColumnUtils.isEqualTo, packed);
+        return selectInParallel(LongColumnUtils.isEqualTo, packed);
     }
 
     public Selection isEqualTo(DateTimeColumn column) {
@@ -512,35 +537,35 @@ public class DateTimeColumn extends AbstractColumn implements DateTimeMapUtils,
     }
 
     public Selection isAfter(LocalDateTime value) {
-        return select(LongColumnUtils.isGreaterThan, PackedLocalDateTime.pack(value));
+        return selectInParallel(LongColumnUtils.isGreaterThan, PackedLocalDateTime.pack(value));
     }
 
     public Selection isAfter(Long packedDateTime) {
-        return select(LongColumnUtils.isGreaterThan, packedDateTime);
+        return selectInParallel(LongColumnUtils.isGreaterThan, packedDateTime);
     }
 
     public Selection isOnOrAfter(long value) {
-        return select(LongColumnUtils.isGreaterThanOrEqualTo, value);
+        return selectInParallel(LongColumnUtils.isGreaterThanOrEqualTo, value);
     }
 
     public Selection isOnOrAfter(LocalDateTime value) {
-        return select(LongColumnUtils.isGreaterThanOrEqualTo, PackedLocalDateTime.pack(value));
+        return selectInParallel(LongColumnUtils.isGreaterThanOrEqualTo, PackedLocalDateTime.pack(value));
     }
 
     public Selection isBefore(LocalDateTime value) {
-        return select(LongColumnUtils.isLessThan, PackedLocalDateTime.pack(value));
+        return selectInParallel(LongColumnUtils.isLessThan, PackedLocalDateTime.pack(value));
     }
 
     public Selection isBefore(Long packedDateTime) {
-        return select(LongColumnUtils.isLessThan, packedDateTime);
+        return selectInParallel(LongColumnUtils.isLessThan, packedDateTime);
     }
 
     public Selection isOnOrBefore(long value) {
-        return select(LongColumnUtils.isLessThanOrEqualTo, value);
+        return selectInParallel(LongColumnUtils.isLessThanOrEqualTo, value);
     }
 
     public Selection isOnOrBefore(LocalDateTime value) {
-        return select(LongColumnUtils.isLessThanOrEqualTo, PackedLocalDateTime.pack(value));
+        return selectInParallel(LongColumnUtils.isLessThanOrEqualTo, PackedLocalDateTime.pack(value));
     }
 
     public Selection isAfter(DateTimeColumn column) {
@@ -627,12 +652,12 @@ public class DateTimeColumn extends AbstractColumn implements DateTimeMapUtils,
 
     @Override
     public Selection isMissing() {
-        return select(isMissing);
+        return selectInParallel(isMissing);
     }
 
     @Override
     public Selection isNotMissing() {
-        return select(isNotMissing);
+        return selectInParallel(isNotMissing);
     }
 
     @Override
@@ -725,149 +750,189 @@ public class DateTimeColumn extends AbstractColumn implements DateTimeMapUtils,
     }
 
     public Selection isMonday() {
-        return select(PackedLocalDateTime::isMonday);
+        return selectInParallel(PackedLocalDateTime::isMonday);
     }
 
     public Selection isTuesday() {
-        return select(PackedLocalDateTime::isTuesday);
+        return selectInParallel(PackedLocalDateTime::isTuesday);
     }
 
     public Selection isWednesday() {
-        return select(PackedLocalDateTime::isWednesday);
+        return selectInParallel(PackedLocalDateTime::isWednesday);
     }
 
     public Selection isThursday() {
-        return select(PackedLocalDateTime::isThursday);
+        return selectInParallel(PackedLocalDateTime::isThursday);
     }
 
     public Selection isFriday() {
-        return select(PackedLocalDateTime::isFriday);
+        return selectInParallel(PackedLocalDateTime::isFriday);
     }
 
     public Selection isSaturday() {
-        return select(PackedLocalDateTime::isSaturday);
+        return selectInParallel(PackedLocalDateTime::isSaturday);
     }
 
     public Selection isSunday() {
-        return select(PackedLocalDateTime::isSunday);
+        return selectInParallel(PackedLocalDateTime::isSunday);
     }
 
     public Selection isInJanuary() {
-        return select(PackedLocalDateTime::isInJanuary);
+        return selectInParallel(PackedLocalDateTime::isInJanuary);
     }
 
     public Selection isInFebruary() {
-        return select(PackedLocalDateTime::isInFebruary);
+        return selectInParallel(PackedLocalDateTime::isInFebruary);
     }
 
     public Selection isInMarch() {
-        return select(PackedLocalDateTime::isInMarch);
+        return selectInParallel(PackedLocalDateTime::isInMarch);
     }
 
     public Selection isInApril() {
-        return select(PackedLocalDateTime::isInApril);
+        return selectInParallel(PackedLocalDateTime::isInApril);
     }
 
     public Selection isInMay() {
-        return select(PackedLocalDateTime::isInMay);
+        return selectInParallel(PackedLocalDateTime::isInMay);
     }
 
     public Selection isInJune() {
-        return select(PackedLocalDateTime::isInJune);
+        return selectInParallel(PackedLocalDateTime::isInJune);
     }
 
     public Selection isInJuly() {
-        return select(PackedLocalDateTime::isInJuly);
+        return selectInParallel(PackedLocalDateTime::isInJuly);
     }
 
     public Selection isInAugust() {
-        return select(PackedLocalDateTime::isInAugust);
+        return selectInParallel(PackedLocalDateTime::isInAugust);
     }
 
     public Selection isInSeptember() {
-        return select(PackedLocalDateTime::isInSeptember);
+        return selectInParallel(PackedLocalDateTime::isInSeptember);
     }
 
     public Selection isInOctober() {
-        return select(PackedLocalDateTime::isInOctober);
+        return selectInParallel(PackedLocalDateTime::isInOctober);
     }
 
     public Selection isInNovember() {
-        return select(PackedLocalDateTime::isInNovember);
+        return selectInParallel(PackedLocalDateTime::isInNovember);
     }
 
     public Selection isInDecember() {
-        return select(PackedLocalDateTime::isInDecember);
+        return selectInParallel(PackedLocalDateTime::isInDecember);
     }
 
     public Selection isFirstDayOfMonth() {
-        return select(PackedLocalDateTime::isFirstDayOfMonth);
+        return selectInParallel(PackedLocalDateTime::isFirstDayOfMonth);
     }
 
     public Selection isLastDayOfMonth() {
-        return select(PackedLocalDateTime::isLastDayOfMonth);
+        return selectInParallel(PackedLocalDateTime::isLastDayOfMonth);
     }
 
     public Selection isInQ1() {
-        return select(PackedLocalDateTime::isInQ1);
+        return selectInParallel(PackedLocalDateTime::isInQ1);
     }
 
     public Selection isInQ2() {
-        return select(PackedLocalDateTime::isInQ2);
+        return selectInParallel(PackedLocalDateTime::isInQ2);
     }
 
     public Selection isInQ3() {
-        return select(PackedLocalDateTime::isInQ3);
+        return selectInParallel(PackedLocalDateTime::isInQ3);
     }
 
     public Selection isInQ4() {
-        return select(PackedLocalDateTime::isInQ4);
+        return selectInParallel(PackedLocalDateTime::isInQ4);
     }
 
     public Selection isNoon() {
-        return select(PackedLocalDateTime::isNoon);
+        return selectInParallel(PackedLocalDateTime::isNoon);
     }
 
     public Selection isMidnight() {
-        return select(PackedLocalDateTime::isMidnight);
+        return selectInParallel(PackedLocalDateTime::isMidnight);
     }
 
     public Selection isBeforeNoon() {
-        return select(PackedLocalDateTime::AM);
+        return selectInParallel(PackedLocalDateTime::AM);
     }
 
     public Selection isAfterNoon() {
-        return select(PackedLocalDateTime::PM);
+        return selectInParallel(PackedLocalDateTime::PM);
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate. The values are tested in order on the calling thread,
+     * so the predicate need not be thread-safe
+     */
     public Selection select(LongPredicate predicate) {
-        Selection bitmap = new BitmapBackedSelection();
-        for (int idx = 0; idx < data.size(); idx++) {
-            long next = data.getLong(idx);
-            if (predicate.test(next)) {
-                bitmap.add(idx);
+        return ParallelScan.selectSequentially(data.size(), scanner(predicate));
+    }
+
+    /**
+     * Like {@link #select(LongPredicate)}, but tests the values of large columns in parallel on the common
+     * ForkJoinPool, so the predicate must be stateless and thread-safe
+     */
+    public Selection selectInParallel(LongPredicate predicate) {
+        return ParallelScan.select(data.size(), scanner(predicate));
+    }
+
+    private ParallelScan.ChunkScanner scanner(LongPredicate predicate) {
+        long[] values = data.elements();
+        return (from, to, rows) -> {
+            int count = 0;
+            for (int idx = from; idx < to; idx++) {
+                if (predicate.test(values[idx])) {
+                    rows[count++] = idx;
+                }
             }
-        }
-        return bitmap;
+            return count;
+        };
     }
 
     public void set(int index, long value) {
+        zoneMap = null;
+        modified();
         data.set(index, value);
     }
 
     public void set(int index, LocalDateTime value) {
+        zoneMap = null;
+        modified();
         data.set(index, PackedLocalDateTime.pack(value));
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate when compared with the given value. The values are
+     * tested in order on the calling thread, so the predicate need not be thread-safe
+     */
     public Selection select(LongBiPredicate predicate, long value) {
-        Selection bitmap = new BitmapBackedSelection();
-        for (int idx = 0; idx < data.size(); idx++) {
-            long next = data.getLong(idx);
-            if (predicate.test(next, value)) {
-                bitmap.add(idx);
+        return ParallelScan.selectSequentially(data.size(), scanner(predicate, value));
+    }
+
+    /**
+     * Like {@link #select(LongBiPredicate, long)}, but tests the values of large columns in parallel on the common
+     * ForkJoinPool, so the predicate must be stateless and thread-safe
+     */
+    public Selection selectInParallel(LongBiPredicate predicate, long value) {
+        return ParallelScan.select(data.size(), scanner(predicate, value));
+    }
+
+    private ParallelScan.ChunkScanner scanner(LongBiPredicate predicate, long value) {
+        long[] values = data.elements();
+        return (from, to, rows) -> {
+            int count = 0;
+            for (int idx = from; idx < to; idx++) {
+                if (predicate.test(values[idx], value)) {
+                    rows[count++] = idx;
+                }
             }
-        }
-        return bitmap;
+            return count;
+        };
     }
 
     /**
@@ -918,7 +983,7 @@ public class DateTimeColumn extends AbstractColumn implements DateTimeMapUtils,
     }
 
     public Selection isInYear(int year) {
-        return select(i -> PackedLocalDateTime.isInYear(i, year));
+        return selectInParallel(i -> PackedLocalDateTime.isInYear(i, year));
     }
 
     public boolean contains(LocalDateTime dateTime) {
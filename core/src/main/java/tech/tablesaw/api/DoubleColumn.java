@@ -29,9 +29,11 @@ import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.filtering.DoubleBiPredicate;
 import tech.tablesaw.filtering.DoublePredicate;
+import tech.tablesaw.index.ZoneMap;
 import tech.tablesaw.io.TypeUtils;
 import tech.tablesaw.store.ColumnMetadata;
 import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.ParallelScan;
 import tech.tablesaw.util.Selection;
 import tech.tablesaw.util.Stats;
 
@@ -69,6 +71,9 @@ public class DoubleColumn extends AbstractColumn implements DoubleIterable, Nume
     };
 
     private DoubleArrayList data;
+
+    // the smallest and largest value in each block of rows, built when first needed and discarded when values change
+    private ZoneMap zoneMap;
     private final IntComparator comparator = new IntComparator() {
 
         @Override
@@ -195,6 +200,20 @@ public class DoubleColumn extends AbstractColumn implements DoubleIterable, Nume
         return data;
     }
 
+    /**
+     * Returns the zone map of this column, building it if it has not been built since the values of the column were
+     * last changed in place. Rows appended since it was built are added to it. Changes made through {@link #data()}
+     * are not detected
+     */
+    public ZoneMap zoneMap() {
+        ZoneMap zones = zoneMap;
+        if (zones == null || zones.size() != size()) {
+            zones = ZoneMap.of(data.elements(), size(), zones);
+            zoneMap = zones;
+        }
+        return zones;
+    }
+
     @Override
     public ColumnType type() {
         return ColumnType.DOUBLE;
@@ -304,35 +323,35 @@ public class DoubleColumn extends AbstractColumn implements DoubleIterable, Nume
     }
 
     public Selection isLessThan(double f) {
-        return select(isLessThan, f);
+        return selectInParallel(isLessThan, f);
     }
 
     public Selection isMissing() {
-        return select(isMissing);
+        return selectInParallel(isMissing);
     }
 
     public Selection isNotMissing() {
-        return select(isNotMissing);
+        return selectInParallel(isNotMissing);
     }
 
     public Selection isGreaterThan(double f) {
-        return select(isGreaterThan, f);
+        return selectInParallel(isGreaterThan, f);
     }
 
     public Selection isGreaterThanOrEqualTo(double f) {
-        return select(isGreaterThanOrEqualTo, f);
+        return selectInParallel(isGreaterThanOrEqualTo, f);
     }
 
     public Selection isLessThanOrEqualTo(double f) {
-        return select(isLessThanOrEqualTo, f);
+        return selectInParallel(isLessThanOrEqualTo, f);
     }
 
     public Selection isNotEqualTo(double d) {
-      return select(isNotEqualTo, d);
+      return selectInParallel(isNotEqualTo, d);
     }
 
     public Selection isEqualTo(double d) {
-        return select(isEqualTo, d);
+        return selectInParallel(isEqualTo, d);
     }
 
     public Selection isEqualTo(DoubleColumn d) {
@@ -399,6 +418,8 @@ public class DoubleColumn extends AbstractColumn implements DoubleIterable, Nume
 
     @Override
     public void clear() {
+        zoneMap = null;
+        modified();
         data = new DoubleArrayList(DEFAULT_ARRAY_SIZE);
     }
 
@@ -411,11 +432,15 @@ public class DoubleColumn extends AbstractColumn implements DoubleIterable, Nume
 
     @Override
     public void sortAscending() {
+        zoneMap = null;
+        modified();
         Arrays.parallelSort(data.elements());
     }
 
     @Override
     public void sortDescending() {
+        zoneMap = null;
+        modified();
         DoubleArrays.parallelQuickSort(data.elements(), reverseDoubleComparator);
     }
 
@@ -614,6 +639,8 @@ public class DoubleColumn extends AbstractColumn implements DoubleIterable, Nume
 */
 
     public void set(int r, double value) {
+        zoneMap = null;
+        modified();
         data.set(r, value);
     }
 
@@ -657,19 +684,19 @@ public class DoubleColumn extends AbstractColumn implements DoubleIterable, Nume
     }
 
     public Selection isPositive() {
-        return select(isPositive);
+        return selectInParallel(isPositive);
     }
 
     public Selection isZero() {
-        return select(isZero);
+        return selectInParallel(isZero);
     }
 
     public Selection isNegative() {
-        return select(isNegative);
+        return selectInParallel(isNegative);
     }
 
     public Selection isNonNegative() {
-        return select(isNonNegative);
+        return selectInParallel(isNonNegative);
     }
 
     public double[] asDoubleArray() {
@@ -709,26 +736,62 @@ public class DoubleColumn extends AbstractColumn implements DoubleIterable, Nume
         return data.iterator();
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate. The values are tested in order on the calling thread,
+     * so the predicate need not be thread-safe
+     */
     public Selection select(DoublePredicate predicate) {
-        Selection bitmap = new BitmapBackedSelection();
-        for (int idx = 0; idx < data.size(); idx++) {
-            double next = data.getDouble(idx);
-            if (predicate.test(next)) {
-                bitmap.add(idx);
+        return ParallelScan.selectSequentially(data.size(), scanner(predicate));
+    }
+
+    /**
+     * Like {@link #select(DoublePredicate)}, but tests the values of large columns in parallel on the common
+     * ForkJoinPool, so the predicate must be stateless and thread-safe
+     */
+    public Selection selectInParallel(DoublePredicate predicate) {
+        return ParallelScan.select(data.size(), scanner(predicate));
+    }
+
+    private ParallelScan.ChunkScanner scanner(DoublePredicate predicate) {
+        double[] values = data.elements();
+        return (from, to, rows) -> {
+            int count = 0;
+            for (int idx = from; idx < to; idx++) {
+                if (predicate.test(values[idx])) {
+                    rows[count++] = idx;
+                }
             }
-        }
-        return bitmap;
+            return count;
+        };
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate when compared with the given value. The values are
+     * tested in order on the calling thread, so the predicate need not be thread-safe
+     */
     public Selection select(DoubleBiPredicate predicate, double value) {
-        Selection bitmap = new BitmapBackedSelection();
-        for (int idx = 0; idx < data.size(); idx++) {
-            double next = data.getDouble(idx);
-            if (predicate.test(next, value)) {
-                bitmap.add(idx);
+        return ParallelScan.selectSequentially(data.size(), scanner(predicate, value));
+    }
+
+    /**
+     * Like {@link #select(DoubleBiPredicate, double)}, but tests the values of large columns in parallel on the common
+     * ForkJoinPool, so the predicate must be stateless and thread-safe
+     */
+    public Selection selectInParallel(DoubleBiPredicate predicate, double value) {
+        return ParallelScan.select(data.size(), scanner(predicate, value));
+    }
+
+    private ParallelScan.ChunkScanner scanner(DoubleBiPredicate predicate, double value) {
+        double[] values = data.elements();
+        return (from, to, rows) -> {
+            int count = 0;
+            for (int idx = from; idx < to; idx++) {
+                if (predicate.test(values[idx], value)) {
+                    rows[count++] = idx;
+                }
             }
-        }
-        return bitmap;
+            return count;
+        };
     }
 
     DoubleSet asSet() {
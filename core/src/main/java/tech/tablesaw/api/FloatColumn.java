@@ -29,9 +29,11 @@ import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.filtering.FloatBiPredicate;
 import tech.tablesaw.filtering.FloatPredicate;
+import tech.tablesaw.index.ZoneMap;
 import tech.tablesaw.io.TypeUtils;
 import tech.tablesaw.store.ColumnMetadata;
 import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.ParallelScan;
 import tech.tablesaw.util.Selection;
 import tech.tablesaw.util.Stats;
 
@@ -71,6 +73,9 @@ public class FloatColumn extends AbstractColumn implements FloatIterable, Numeri
 
     private FloatArrayList data;
 
+    // the smallest and largest value in each block of rows, built when first needed and discarded when values change
+    private ZoneMap zoneMap;
+
     private final IntComparator comparator = new IntComparator() {
 
         @Override
@@ -197,6 +202,20 @@ public class FloatColumn extends AbstractColumn implements FloatIterable, Numeri
         return data;
     }
 
+    /**
+     * Returns the zone map of this column, building it if it has not been built since the values of the column were
+     * last changed in place. Rows appended since it was built are added to it. Changes made through {@link #data()}
+     * are not detected
+     */
+    public ZoneMap zoneMap() {
+        ZoneMap zones = zoneMap;
+        if (zones == null || zones.size() != size()) {
+            zones = ZoneMap.of(data.elements(), size(), zones);
+            zoneMap = zones;
+        }
+        return zones;
+    }
+
     @Override
     public ColumnType type() {
         return ColumnType.FLOAT;
@@ -306,49 +325,49 @@ public class FloatColumn extends AbstractColumn implements FloatIterable, Numeri
     }
 
     public Selection isLessThan(float f) {
-        return select(isLessThan, f);
+        return selectInParallel(isLessThan, f);
     }
 
     public Selection isZero() {
-        return select(isZero);
+        return selectInParallel(isZero);
     }
 
     public Selection isNegative() {
-        return select(isNegative);
+        return selectInParallel(isNegative);
     }
     public Selection isPositive() {
-        return select(isPositive);
+        return selectInParallel(isPositive);
     }
     public Selection isNonNegative() {
-        return select(isNonNegative);
+        return selectInParallel(isNonNegative);
     }
 
     public Selection isMissing() {
-        return select(isMissing);
+        return selectInParallel(isMissing);
     }
 
     public Selection isNotMissing() {
-        return select(isNotMissing);
+        return selectInParallel(isNotMissing);
     }
 
     public Selection isGreaterThan(float f) {
-        return select(isGreaterThan, f);
+        return selectInParallel(isGreaterThan, f);
     }
 
     public Selection isGreaterThanOrEqualTo(float f) {
-        return select(isGreaterThanOrEqualTo, f);
+        return selectInParallel(isGreaterThanOrEqualTo, f);
     }
 
     public Selection isLessThanOrEqualTo(float f) {
-        return select(isLessThanOrEqualTo, f);
+        return selectInParallel(isLessThanOrEqualTo, f);
     }
 
     public Selection isNotEqualTo(float f) {
-      return select(isNotEqualTo, f);
+      return selectInParallel(isNotEqualTo, f);
     }    
 
     public Selection isEqualTo(float f) {
-        return select(isEqualTo, f);
+        return selectInParallel(isEqualTo, f);
     }
 
     public Selection isEqualTo(FloatColumn f) {
@@ -415,6 +434,8 @@ public class FloatColumn extends AbstractColumn implements FloatIterable, Numeri
 
     @Override
     public void clear() {
+        zoneMap = null;
+        modified();
         data = new FloatArrayList(DEFAULT_ARRAY_SIZE);
     }
 
@@ -427,11 +448,15 @@ public class FloatColumn extends AbstractColumn implements FloatIterable, Numeri
 
     @Override
     public void sortAscending() {
+        zoneMap = null;
+        modified();
         Arrays.parallelSort(data.elements());
     }
 
     @Override
     public void sortDescending() {
+        zoneMap = null;
+        modified();
         FloatArrays.parallelQuickSort(data.elements(), reverseFloatComparator);
     }
 
@@ -603,6 +628,8 @@ public class FloatColumn extends AbstractColumn implements FloatIterable, Numeri
     }
 
     public void set(int r, float value) {
+        zoneMap = null;
+        modified();
         data.set(r, value);
     }
 
@@ -687,26 +714,62 @@ public class FloatColumn extends AbstractColumn implements FloatIterable, Numeri
         return data.iterator();
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate. The values are tested in order on the calling thread,
+     * so the predicate need not be thread-safe
+     */
     public Selection select(FloatPredicate predicate) {
-        Selection bitmap = new BitmapBackedSelection();
-        for (int idx = 0; idx < data.size(); idx++) {
-            float next = data.getFloat(idx);
-            if (predicate.test(next)) {
-                bitmap.add(idx);
+        return ParallelScan.selectSequentially(data.size(), scanner(predicate));
+    }
+
+    /**
+     * Like {@link #select(FloatPredicate)}, but tests the values of large columns in parallel on the common
+     * ForkJoinPool, so the predicate must be stateless and thread-safe
+     */
+    public Selection selectInParallel(FloatPredicate predicate) {
+        return ParallelScan.select(data.size(), scanner(predicate));
+    }
+
+    private ParallelScan.ChunkScanner scanner(FloatPredicate predicate) {
+        float[] values = data.elements();
+        return (from, to, rows) -> {
+            int count = 0;
+            for (int idx = from; idx < to; idx++) {
+                if (predicate.test(values[idx])) {
+                    rows[count++] = idx;
+                }
             }
-        }
-        return bitmap;
+            return count;
+        };
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate when compared with the given value. The values are
+     * tested in order on the calling thread, so the predicate need not be thread-safe
+     */
     public Selection select(FloatBiPredicate predicate, float value) {
-        Selection bitmap = new BitmapBackedSelection();
-        for (int idx = 0; idx < data.size(); idx++) {
-            float next = data.getFloat(idx);
-            if (predicate.test(next, value)) {
-                bitmap.add(idx);
+        return ParallelScan.selectSequentially(data.size(), scanner(predicate, value));
+    }
+
+    /**
+     * Like {@link #select(FloatBiPredicate, float)}, but tests the values of large columns in parallel on the common
+     * ForkJoinPool, so the predicate must be stateless and thread-safe
+     */
+    public Selection selectInParallel(FloatBiPredicate predicate, float value) {
+        return ParallelScan.select(data.size(), scanner(predicate, value));
+    }
+
+    private ParallelScan.ChunkScanner scanner(FloatBiPredicate predicate, float value) {
+        float[] values = data.elements();
+        return (from, to, rows) -> {
+            int count = 0;
+            for (int idx = from; idx < to; idx++) {
+                if (predicate.test(values[idx], value)) {
+                    rows[count++] = idx;
+                }
             }
-        }
-        return bitmap;
+            return count;
+        };
     }
 
     FloatSet asSet() {
@@ -27,11 +27,13 @@ import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.filtering.IntBiPredicate;
 import tech.tablesaw.filtering.IntPredicate;
+import tech.tablesaw.index.ZoneMap;
 import tech.tablesaw.io.TypeUtils;
 import tech.tablesaw.mapping.IntMapUtils;
 import tech.tablesaw.sorting.IntComparisonUtil;
 import tech.tablesaw.store.ColumnMetadata;
 import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.ParallelScan;
 import tech.tablesaw.util.ReverseIntComparator;
 import tech.tablesaw.util.Selection;
 import tech.tablesaw.util.Stats;
@@ -53,6 +55,9 @@ public class IntColumn extends AbstractColumn implements IntMapUtils, NumericCol
     private static final int BYTE_SIZE = 4;
     private static final Pattern COMMA_PATTERN = Pattern.compile(",");
     private IntArrayList data;
+
+    // the smallest and largest value in each block of rows, built when first needed and discarded when values change
+    private ZoneMap zoneMap;
     final it.unimi.dsi.fastutil.ints.IntComparator comparator = new it.unimi.dsi.fastutil.ints.IntComparator() {
 
         @Override
@@ -110,6 +115,20 @@ public class IntColumn extends AbstractColumn implements IntMapUtils, NumericCol
         return data;
     }
 
+    /**
+     * Returns the zone map of this column, building it if it has not been built since the values of the column were
+     * last changed in place. Rows appended since it was built are added to it. Changes made through {@link #data()}
+     * are not detected
+     */
+    public ZoneMap zoneMap() {
+        ZoneMap zones = zoneMap;
+        if (zones == null || zones.size() != size()) {
+            zones = ZoneMap.of(data.elements(), size(), zones);
+            zoneMap = zones;
+        }
+        return zones;
+    }
+
     public int size() {
         return data.size();
     }
@@ -124,6 +143,8 @@ public class IntColumn extends AbstractColumn implements IntMapUtils, NumericCol
     }
 
     public void set(int index, int value) {
+        zoneMap = null;
+        modified();
         data.set(index, value);
     }
 
@@ -141,35 +162,35 @@ public class IntColumn extends AbstractColumn implements IntMapUtils, NumericCol
     }
 
     public Selection isLessThan(int i) {
-        return select(isLessThan, i);
+        return selectInParallel(isLessThan, i);
     }
 
     public Selection isGreaterThan(int i) {
-        return select(isGreaterThan, i);
+        return selectInParallel(isGreaterThan, i);
     }
 
     public Selection isGreaterThanOrEqualTo(int i) {
-        return select(isGreaterThanOrEqualTo, i);
+        return selectInParallel(isGreaterThanOrEqualTo, i);
     }
 
     public Selection isLessThanOrEqualTo(int i) {
-        return select(isLessThanOrEqualTo, i);
+        return selectInParallel(isLessThanOrEqualTo, i);
     }
 
     public Selection isNotEqualTo(int i) {
-      return select(isNotEqualTo, i);
+      return selectInParallel(isNotEqualTo, i);
     }
 
     public Selection isEqualTo(int i) {
-        return select(isEqualTo, i);
+        return selectInParallel(isEqualTo, i);
     }
 
     public Selection isMissing() {
-        return select(isMissing);
+        return selectInParallel(isMissing);
     }
 
     public Selection isNotMissing() {
-        return select(isNotMissing);
+        return selectInParallel(isNotMissing);
     }
 
     public Selection isIn(int ... values) {
@@ -290,16 +311,22 @@ public class IntColumn extends AbstractColumn implements IntMapUtils, NumericCol
 
     @Override
     public void clear() {
+        zoneMap = null;
+        modified();
         data.clear();
     }
 
     @Override
     public void sortAscending() {
+        zoneMap = null;
+        modified();
         Arrays.parallelSort(data.elements());
     }
 
     @Override
     public void sortDescending() {
+        zoneMap = null;
+        modified();
         IntArrays.parallelQuickSort(data.elements(), ReverseIntComparator.instance());
     }
 
@@ -442,27 +469,27 @@ public class IntColumn extends AbstractColumn implements IntMapUtils, NumericCol
     // boolean functions
 
     public Selection isPositive() {
-        return select(isPositive);
+        return selectInParallel(isPositive);
     }
 
     public Selection isNegative() {
-        return select(isNegative);
+        return selectInParallel(isNegative);
     }
 
     public Selection isNonNegative() {
-        return select(isNonNegative);
+        return selectInParallel(isNonNegative);
     }
 
     public Selection isZero() {
-        return select(isZero);
+        return selectInParallel(isZero);
     }
 
     public Selection isEven() {
-        return select(isEven);
+        return selectInParallel(isEven);
     }
 
     public Selection isOdd() {
-        return select(isOdd);
+        return selectInParallel(isOdd);
     }
 
     public FloatArrayList asFloatArray() {
@@ -539,26 +566,62 @@ public class IntColumn extends AbstractColumn implements IntMapUtils, NumericCol
         return column;
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate. The values are tested in order on the calling thread,
+     * so the predicate need not be thread-safe
+     */
     public Selection select(IntPredicate predicate) {
-        Selection bitmap = new BitmapBackedSelection();
-        for (int idx = 0; idx < data.size(); idx++) {
-            int next = data.getInt(idx);
-            if (predicate.test(next)) {
-                bitmap.add(idx);
+        return ParallelScan.selectSequentially(data.size(), scanner(predicate));
+    }
+
+    /**
+     * Like {@link #select(IntPredicate)}, but tests the values of large columns in parallel on the common ForkJoinPool,
+     * so the predicate must be stateless and thread-safe
+     */
+    public Selection selectInParallel(IntPredicate predicate) {
+        return ParallelScan.select(data.size(), scanner(predicate));
+    }
+
+    private ParallelScan.ChunkScanner scanner(IntPredicate predicate) {
+        int[] values = data.elements();
+        return (from, to, rows) -> {
+            int count = 0;
+            for (int idx = from; idx < to; idx++) {
+                if (predicate.test(values[idx])) {
+                    rows[count++] = idx;
+                }
             }
-        }
-        return bitmap;
+            return count;
+        };
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate when compared with the given value. The values are
+     * tested in order on the calling thread, so the predicate need not be thread-safe
+     */
     public Selection select(IntBiPredicate predicate, int value) {
-        Selection bitmap = new BitmapBackedSelection();
-        for (int idx = 0; idx < data.size(); idx++) {
-            int next = data.getInt(idx);
-            if (predicate.test(next, value)) {
-                bitmap.add(idx);
+        return ParallelScan.selectSequentially(data.size(), scanner(predicate, value));
+    }
+
+    /**
+     * Like {@link #select(IntBiPredicate, int)}, but tests the values of large columns in parallel on the common
+     * ForkJoinPool, so the predicate must be stateless and thread-safe
+     */
+    public Selection selectInParallel(IntBiPredicate predicate, int value) {
+        return ParallelScan.select(data.size(), scanner(predicate, value));
+    }
+
+    private ParallelScan.ChunkScanner scanner(IntBiPredicate predicate, int value) {
+        int[] values = data.elements();
+        return (from, to, rows) -> {
+            int count = 0;
+            for (int idx = from; idx < to; idx++) {
+                if (predicate.test(values[idx], value)) {
+                    rows[count++] = idx;
+                }
             }
-        }
-        return bitmap;
+            return count;
+        };
     }
 
     public long sumIf(IntPredicate predicate) {
@@ -29,11 +29,13 @@ import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.filtering.LongBiPredicate;
 import tech.tablesaw.filtering.LongPredicate;
+import tech.tablesaw.index.ZoneMap;
 import tech.tablesaw.io.TypeUtils;
 import tech.tablesaw.mapping.LongMapUtils;
 import tech.tablesaw.sorting.LongComparisonUtil;
 import tech.tablesaw.store.ColumnMetadata;
 import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.ParallelScan;
 import tech.tablesaw.util.ReverseLongComparator;
 import tech.tablesaw.util.Selection;
 import tech.tablesaw.util.Stats;
@@ -56,6 +58,9 @@ public class LongColumn extends AbstractColumn implements LongMapUtils, NumericC
     private static final int BYTE_SIZE = 8;
     private static final Pattern COMMA_PATTERN = Pattern.compile(",");
     private LongArrayList data;
+
+    // the smallest and largest value in each block of rows, built when first needed and discarded when values change
+    private ZoneMap zoneMap;
     private final IntComparator comparator = new IntComparator() {
 
         @Override
@@ -117,6 +122,20 @@ public class LongColumn extends AbstractColumn implements LongMapUtils, NumericC
         return data;
     }
 
+    /**
+     * Returns the zone map of this column, building it if it has not been built since the values of the column were
+     * last changed in place. Rows appended since it was built are added to it. Changes made through {@link #data()}
+     * are not detected
+     */
+    public ZoneMap zoneMap() {
+        ZoneMap zones = zoneMap;
+        if (zones == null || zones.size() != size()) {
+            zones = ZoneMap.of(data.elements(), size(), zones);
+            zoneMap = zones;
+        }
+        return zones;
+    }
+
     @Override
     public ColumnType type() {
         return ColumnType.LONG_INT;
@@ -127,6 +146,8 @@ public class LongColumn extends AbstractColumn implements LongMapUtils, NumericC
     }
 
     public void set(int index, long value) {
+        zoneMap = null;
+        modified();
         data.set(index, value);
     }
 
@@ -144,27 +165,27 @@ public class LongColumn extends AbstractColumn implements LongMapUtils, NumericC
     }
 
     public Selection isLessThan(long i) {
-        return select(isLessThan, i);
+        return selectInParallel(isLessThan, i);
     }
 
     public Selection isGreaterThan(long i) {
-        return select(isGreaterThan, i);
+        return selectInParallel(isGreaterThan, i);
     }
 
     public Selection isGreaterThanOrEqualTo(long i) {
-        return select(isGreaterThanOrEqualTo, i);
+        return selectInParallel(isGreaterThanOrEqualTo, i);
     }
 
     public Selection isLessThanOrEqualTo(long f) {
-        return select(isLessThanOrEqualTo, f);
+        return selectInParallel(isLessThanOrEqualTo, f);
     }
 
     public Selection isEqualTo(long i) {
-        return select(isEqualTo, i);
+        return selectInParallel(isEqualTo, i);
     }
 
     public Selection isNotEqualTo(long i) {
-      return select(isNotEqualTo, i);
+      return selectInParallel(isNotEqualTo, i);
     }
 
     public Selection isEqualTo(LongColumn f) {
@@ -273,16 +294,22 @@ public class LongColumn extends AbstractColumn implements LongMapUtils, NumericC
 
     @Override
     public void clear() {
+        zoneMap = null;
+        modified();
         data.clear();
     }
 
     @Override
     public void sortAscending() {
+        zoneMap = null;
+        modified();
         Arrays.parallelSort(data.elements());
     }
 
     @Override
     public void sortDescending() {
+        zoneMap = null;
+        modified();
         LongArrays.parallelQuickSort(data.elements(), ReverseLongComparator.instance());
     }
 
@@ -436,27 +463,27 @@ public class LongColumn extends AbstractColumn implements LongMapUtils, NumericC
     }
 
     public Selection isPositive() {
-        return select(isPositive);
+        return selectInParallel(isPositive);
     }
 
     public Selection isNegative() {
-        return select(isNegative);
+        return selectInParallel(isNegative);
     }
 
     public Selection isNonNegative() {
-        return select(isNonNegative);
+        return selectInParallel(isNonNegative);
     }
 
     public Selection isZero() {
-        return select(isZero);
+        return selectInParallel(isZero);
     }
 
     public Selection isEven() {
-        return select(isEven);
+        return selectInParallel(isEven);
     }
 
     public Selection isOdd() {
-        return select(isOdd);
+        return selectInParallel(isOdd);
     }
 
     public FloatArrayList asFloatArray() {
@@ -550,26 +577,62 @@ public class LongColumn extends AbstractColumn implements LongMapUtils, NumericC
         return data.iterator();
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate. The values are tested in order on the calling thread,
+     * so the predicate need not be thread-safe
+     */
     public Selection select(LongPredicate predicate) {
-        Selection bitmap = new BitmapBackedSelection();
-        for (int idx = 0; idx < data.size(); idx++) {
-            long next = data.getLong(idx);
-            if (predicate.test(next)) {
-                bitmap.add(idx);
+        return ParallelScan.selectSequentially(data.size(), scanner(predicate));
+    }
+
+    /**
+     * Like {@link #select(LongPredicate)}, but tests the values of large columns in parallel on the common
+     * ForkJoinPool, so the predicate must be stateless and thread-safe
+     */
+    public Selection selectInParallel(LongPredicate predicate) {
+        return ParallelScan.select(data.size(), scanner(predicate));
+    }
+
+    private ParallelScan.ChunkScanner scanner(LongPredicate predicate) {
+        long[] values = data.elements();
+        return (from, to, rows) -> {
+            int count = 0;
+            for (int idx = from; idx < to; idx++) {
+                if (predicate.test(values[idx])) {
+                    rows[count++] = idx;
+                }
             }
-        }
-        return bitmap;
+            return count;
+        };
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate when compared with the given value. The values are
+     * tested in order on the calling thread, so the predicate need not be thread-safe
+     */
     public Selection select(LongBiPredicate predicate, long valueToCompareAgainst) {
-        Selection bitmap = new BitmapBackedSelection();
-        for (int idx = 0; idx < data.size(); idx++) {
-            long next = data.getLong(idx);
-            if (predicate.test(next, valueToCompareAgainst)) {
-                bitmap.add(idx);
+        return ParallelScan.selectSequentially(data.size(), scanner(predicate, valueToCompareAgainst));
+    }
+
+    /**
+     * Like {@link #select(LongBiPredicate, long)}, but tests the values of large columns in parallel on the common
+     * ForkJoinPool, so the predicate must be stateless and thread-safe
+     */
+    public Selection selectInParallel(LongBiPredicate predicate, long valueToCompareAgainst) {
+        return ParallelScan.select(data.size(), scanner(predicate, valueToCompareAgainst));
+    }
+
+    private ParallelScan.ChunkScanner scanner(LongBiPredicate predicate, long valueToCompareAgainst) {
+        long[] values = data.elements();
+        return (from, to, rows) -> {
+            int count = 0;
+            for (int idx = from; idx < to; idx++) {
+                if (predicate.test(values[idx], valueToCompareAgainst)) {
+                    rows[count++] = idx;
+                }
             }
-        }
-        return bitmap;
+            return count;
+        };
     }
 
     @Override
@@ -596,12 +659,12 @@ public class LongColumn extends AbstractColumn implements LongMapUtils, NumericC
 
     @Override
     public Selection isMissing() {
-        return select(isMissing);
+        return selectInParallel(isMissing);
     }
 
     @Override
     public Selection isNotMissing() {
-        return select(isNotMissing);
+        return selectInParallel(isNotMissing);
     }
 
     @Override
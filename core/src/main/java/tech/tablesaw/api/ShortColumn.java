@@ -29,11 +29,13 @@ import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.ShortColumnUtils;
 import tech.tablesaw.filtering.ShortBiPredicate;
 import tech.tablesaw.filtering.ShortPredicate;
+import tech.tablesaw.index.ZoneMap;
 import tech.tablesaw.io.TypeUtils;
 import tech.tablesaw.mapping.ShortMapUtils;
 import tech.tablesaw.sorting.IntComparisonUtil;
 import tech.tablesaw.store.ColumnMetadata;
 import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.ParallelScan;
 import tech.tablesaw.util.ReverseShortComparator;
 import tech.tablesaw.util.Selection;
 import tech.tablesaw.util.Stats;
@@ -74,6 +76,9 @@ public class ShortColumn extends AbstractColumn implements ShortMapUtils, Numeri
     private static final Pattern COMMA_PATTERN = Pattern.compile(",");
     private ShortArrayList data;
 
+    // the smallest and largest value in each block of rows, built when first needed and discarded when values change
+    private ZoneMap zoneMap;
+
     final IntComparator comparator = new IntComparator() {
 
         @Override
@@ -141,6 +146,8 @@ public class ShortColumn extends AbstractColumn implements ShortMapUtils, Numeri
     }
 
     public void set(int index, short value) {
+        zoneMap = null;
+        modified();
         data.set(index, value);
     }
 
@@ -158,11 +165,11 @@ public class ShortColumn extends AbstractColumn implements ShortMapUtils, Numeri
     }
 
     public Selection isLessThan(int i) {
-        return select(ShortColumnUtils.isLessThan, i);
+        return selectInParallel(ShortColumnUtils.isLessThan, i);
     }
 
     public Selection isGreaterThan(int i) {
-        return select(ShortColumnUtils.isGreaterThan, i);
+        return selectInParallel(ShortColumnUtils.isGreaterThan, i);
     }
 
     public Selection isGreaterThan(ShortColumn other) {
@@ -192,19 +199,19 @@ public class ShortColumn extends AbstractColumn implements ShortMapUtils, Numeri
     }
 
     public Selection isGreaterThanOrEqualTo(int i) {
-        return select(ShortColumnUtils.isGreaterThanOrEqualTo, i);
+        return selectInParallel(ShortColumnUtils.isGreaterThanOrEqualTo, i);
     }
 
     public Selection isLessThanOrEqualTo(int i) {
-        return select(ShortColumnUtils.isLessThanOrEqualTo, i);
+        return selectInParallel(ShortColumnUtils.isLessThanOrEqualTo, i);
     }
 
     public Selection isNotEqualTo(int i) {
-        return select(ShortColumnUtils.isNotEqualTo, i);
+        return selectInParallel(ShortColumnUtils.isNotEqualTo, i);
     }
 
     public Selection isEqualTo(int i) {
-        return select(ShortColumnUtils.isEqualTo, i);
+        return selectInParallel(ShortColumnUtils.isEqualTo, i);
     }
 
     public Selection isEqualTo(ShortColumn f) {
@@ -295,16 +302,22 @@ public class ShortColumn extends AbstractColumn implements ShortMapUtils, Numeri
 
     @Override
     public void clear() {
+        zoneMap = null;
+        modified();
         data.clear();
     }
 
     @Override
     public void sortAscending() {
+        zoneMap = null;
+        modified();
         Arrays.parallelSort(data.elements());
     }
 
     @Override
     public void sortDescending() {
+        zoneMap = null;
+        modified();
         ShortArrays.parallelQuickSort(data.elements(), ReverseShortComparator.instance());
     }
 
@@ -451,27 +464,27 @@ public class ShortColumn extends AbstractColumn implements ShortMapUtils, Numeri
     }
 
     public Selection isPositive() {
-        return select(ShortColumnUtils.isPositive);
+        return selectInParallel(ShortColumnUtils.isPositive);
     }
 
     public Selection isNegative() {
-        return select(ShortColumnUtils.isNegative);
+        return selectInParallel(ShortColumnUtils.isNegative);
     }
 
     public Selection isNonNegative() {
-        return select(ShortColumnUtils.isNonNegative);
+        return selectInParallel(ShortColumnUtils.isNonNegative);
     }
 
     public Selection isZero() {
-        return select(ShortColumnUtils.isZero);
+        return selectInParallel(ShortColumnUtils.isZero);
     }
 
     public Selection isEven() {
-        return select(ShortColumnUtils.isEven);
+        return selectInParallel(ShortColumnUtils.isEven);
     }
 
     public Selection isOdd() {
-        return select(ShortColumnUtils.isOdd);
+        return selectInParallel(ShortColumnUtils.isOdd);
     }
 
     public FloatArrayList asFloatArray() {
@@ -573,26 +586,62 @@ public class ShortColumn extends AbstractColumn implements ShortMapUtils, Numeri
         return data.iterator();
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate. The values are tested in order on the calling thread,
+     * so the predicate need not be thread-safe
+     */
     public Selection select(ShortPredicate predicate) {
-        Selection bitmap = new BitmapBackedSelection();
-        for (int idx = 0; idx < data.size(); idx++) {
-            short next = data.getShort(idx);
-            if (predicate.test(next)) {
-                bitmap.add(idx);
+        return ParallelScan.selectSequentially(data.size(), scanner(predicate));
+    }
+
+    /**
+     * Like {@link #select(ShortPredicate)}, but tests the values of large columns in parallel on the common
+     * ForkJoinPool, so the predicate must be stateless and thread-safe
+     */
+    public Selection selectInParallel(ShortPredicate predicate) {
+        return ParallelScan.select(data.size(), scanner(predicate));
+    }
+
+    private ParallelScan.ChunkScanner scanner(ShortPredicate predicate) {
+        short[] values = data.elements();
+        return (from, to, rows) -> {
+            int count = 0;
+            for (int idx = from; idx < to; idx++) {
+                if (predicate.test(values[idx])) {
+                    rows[count++] = idx;
+                }
             }
-        }
-        return bitmap;
+            return count;
+        };
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate when compared with the given value. The values are
+     * tested in order on the calling thread, so the predicate need not be thread-safe
+     */
     public Selection select(ShortBiPredicate predicate, int valueToCompareAgainst) {
-        Selection bitmap = new BitmapBackedSelection();
-        for (int idx = 0; idx < data.size(); idx++) {
-            short next = data.getShort(idx);
-            if (predicate.test(next, valueToCompareAgainst)) {
-                bitmap.add(idx);
+        return ParallelScan.selectSequentially(data.size(), scanner(predicate, valueToCompareAgainst));
+    }
+
+    /**
+     * Like {@link #select(ShortBiPredicate, int)}, but tests the values of large columns in parallel on the common
+     * ForkJoinPool, so the predicate must be stateless and thread-safe
+     */
+    public Selection selectInParallel(ShortBiPredicate predicate, int valueToCompareAgainst) {
+        return ParallelScan.select(data.size(), scanner(predicate, valueToCompareAgainst));
+    }
+
+    private ParallelScan.ChunkScanner scanner(ShortBiPredicate predicate, int valueToCompareAgainst) {
+        short[] values = data.elements();
+        return (from, to, rows) -> {
+            int count = 0;
+            for (int idx = from; idx < to; idx++) {
+                if (predicate.test(values[idx], valueToCompareAgainst)) {
+                    rows[count++] = idx;
+                }
             }
-        }
-        return bitmap;
+            return count;
+        };
     }
 
     public double[] asDoubleArray() {
@@ -625,14 +674,28 @@ public class ShortColumn extends AbstractColumn implements ShortMapUtils, Numeri
         return data;
     }
 
+    /**
+     * Returns the zone map of this column, building it if it has not been built since the values of the column were
+     * last changed in place. Rows appended since it was built are added to it. Changes made through {@link #data()}
+     * are not detected
+     */
+    public ZoneMap zoneMap() {
+        ZoneMap zones = zoneMap;
+        if (zones == null || zones.size() != size()) {
+            zones = ZoneMap.of(data.elements(), size(), zones);
+            zoneMap = zones;
+        }
+        return zones;
+    }
+
     @Override
     public Selection isMissing() {
-        return select(isMissing);
+        return selectInParallel(isMissing);
     }
 
     @Override
     public Selection isNotMissing() {
-        return select(isNotMissing);
+        return selectInParallel(isNotMissing);
     }
 
     @Override
@@ -24,10 +24,13 @@ import static tech.tablesaw.aggregate.AggregateFunctions.sum;
 import static tech.tablesaw.aggregate.AggregateFunctions.variance;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Period;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -43,22 +46,30 @@ import it.unimi.dsi.fastutil.ints.IntArrays;
 import it.unimi.dsi.fastutil.ints.IntComparator;
 import it.unimi.dsi.fastutil.ints.IntIterable;
 import it.unimi.dsi.fastutil.ints.IntIterator;
+import tech.tablesaw.aggregate.Accumulators;
 import tech.tablesaw.aggregate.AggregateFunction;
 import tech.tablesaw.aggregate.SummaryFunction;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.filtering.Filter;
+import tech.tablesaw.index.CompositeIndex;
+import tech.tablesaw.index.TableIndexes;
 import tech.tablesaw.io.DataFrameReader;
 import tech.tablesaw.io.DataFrameWriter;
 import tech.tablesaw.io.html.HtmlTableWriter;
 import tech.tablesaw.join.DataFrameJoiner;
+import tech.tablesaw.join.PreparedJoin;
 import tech.tablesaw.sorting.Sort;
 import tech.tablesaw.sorting.Sort.Order;
 import tech.tablesaw.store.StorageManager;
 import tech.tablesaw.store.TableMetadata;
+import tech.tablesaw.table.HashGrouping;
+import tech.tablesaw.table.Pivot;
 import tech.tablesaw.table.Projection;
 import tech.tablesaw.table.Relation;
+import tech.tablesaw.table.Resample;
 import tech.tablesaw.table.Rows;
 import tech.tablesaw.table.ViewGroup;
+import tech.tablesaw.table.Window;
 import tech.tablesaw.util.BitmapBackedSelection;
 import tech.tablesaw.util.IntComparatorChain;
 import tech.tablesaw.util.ReversingIntComparator;
@@ -82,6 +93,11 @@ public class Table extends Relation implements IntIterable {
      */
     private String name;
 
+    /**
+     * The indexes created on columns of this table
+     */
+    private final TableIndexes indexes = new TableIndexes();
+
     /**
      * Returns a new table initialized with the given name
      */
@@ -506,6 +522,7 @@ public class Table extends Relation implements IntIterable {
     @Override
     public void clear() {
         columnList.forEach(Column::clear);
+        indexes.clear();
     }
 
     /**
@@ -680,6 +697,11 @@ public class Table extends Relation implements IntIterable {
         return new BooleanColumn(newColumnName, selection, rowCount());
     }
 
+    /**
+     * Returns a table holding the rows of this table that satisfy the given filter. Filters on a single column that
+     * test for equality with a value, or for a range of values, are answered from the column's index if it has one.
+     * See {@link #createIndex(String)}
+     */
     public Table selectWhere(Filter filter) {
         Selection map = filter.apply(this);
         Table newTable = this.emptyCopy(map.size());
@@ -825,20 +847,63 @@ public class Table extends Relation implements IntIterable {
     }
 
     /**
-     * Returns the unique records in this table
-     * Note: Uses a lot of memory for a sort
+     * Returns the unique records in this table, in the order in which they first appear
      */
     public Table uniqueRecords() {
+        return distinct(columnNames().toArray(new String[columnCount()]));
+    }
+
+    /**
+     * Returns a table containing the first row for each distinct combination of values in the given columns, in the
+     * order in which those rows appear in this table. Rows are hashed on their values rather than sorted, and the
+     * rows kept are copied to the result in a single pass over each column
+     */
+    public Table distinct(String... columnNames) {
+        HashGrouping grouping = new HashGrouping(this, columnNames);
+        Table newTable = emptyCopy(grouping.size());
+        Rows.copyRowsToTable(IntArrayList.wrap(grouping.firstRows()), this, newTable);
+        return newTable;
+    }
 
-        Table sorted = this.sortOn(columnNames().toArray(new String[columns().size()]));
-        Table temp = emptyCopy();
+    /**
+     * Returns a pivot table with a row for each distinct combination of values in the row key columns, and a column
+     * for each distinct value in the column key column (and each function), holding the given aggregates of the value
+     * column. See {@link Pivot}
+     */
+    public Table pivot(List<String> rowKeys, String columnKey, String valueColumn, AggregateFunction... functions) {
+        return Pivot.pivot(this, rowKeys, columnKey, valueColumn, functions);
+    }
 
-        for (int row = 0; row < rowCount(); row++) {
-            if (temp.isEmpty() || !Rows.compareRows(row, sorted, temp)) {
-                Rows.appendRowToTable(row, sorted, temp);
-            }
-        }
-        return temp;
+    /**
+     * Returns a pivot table with a row for each distinct value in the row key column. See
+     * {@link #pivot(List, String, String, AggregateFunction...)}
+     */
+    public Table pivot(String rowKey, String columnKey, String valueColumn, AggregateFunction... functions) {
+        return pivot(Arrays.asList(rowKey), columnKey, valueColumn, functions);
+    }
+
+    /**
+     * Splits the rows of this table into bins of the given duration on the named DateTimeColumn or DateColumn, for
+     * aggregation. See {@link Resample}
+     */
+    public Resample resample(String timeColumnName, Duration duration) {
+        return new Resample(this, timeColumnName, duration);
+    }
+
+    /**
+     * Splits the rows of this table into bins of the given period (of days or of months) on the named DateTimeColumn
+     * or DateColumn, for aggregation. See {@link Resample}
+     */
+    public Resample resample(String timeColumnName, Period period) {
+        return new Resample(this, timeColumnName, period);
+    }
+
+    /**
+     * Returns the rows of this table ordered by the given sort key within each partition on the named columns, for
+     * computing window functions such as ranks, lags and cumulative sums. See {@link Window}
+     */
+    public Window window(Sort orderBy, String... partitionColumns) {
+        return new Window(this, orderBy, Arrays.asList(partitionColumns));
     }
 
     public Projection select(String... columnName) {
@@ -851,6 +916,9 @@ public class Table extends Relation implements IntIterable {
     @Override
     public Table removeColumns(Column... columns) {
         columnList.removeAll(Arrays.asList(columns));
+        for (Column column : columns) {
+            indexes.drop(column);
+        }
         return this;
     }
 
@@ -882,10 +950,12 @@ public class Table extends Relation implements IntIterable {
     public void retainColumns(Column... columns) {
         List<Column> retained = Arrays.asList(columns);
         columnList.retainAll(retained);
+        indexes.retain(columnList);
     }
 
     public void retainColumns(String... columnNames) {
         columnList.retainAll(columns(columnNames));
+        indexes.retain(columnList);
     }
 
     public SummaryFunction sum(String numericColumnName) {
@@ -943,8 +1013,7 @@ public class Table extends Relation implements IntIterable {
      * @throws IllegalArgumentException if numericColumnName doesn't name a numeric column in this table
      */
     public double agg(String numericColumnName, AggregateFunction function) {
-        Column column = column(numericColumnName);
-        return function.agg(column.asDoubleArray());
+        return Accumulators.reduce(function, column(numericColumnName));
     }
 
     public SummaryFunction summarize(String numericColumnName, AggregateFunction function) {
@@ -971,10 +1040,103 @@ public class Table extends Relation implements IntIterable {
         return row;
     }
 
+    /**
+     * Builds an index on the named column and keeps it with this table, replacing any index the column already has.
+     * Equality and range filters on the column are then answered from the index, rather than by scanning the column.
+     * <p>
+     * An index is discarded when its column is removed from the table, and is no longer used once rows are added to
+     * the table, or the column's values are set, sorted or cleared. Values changed directly in the column's backing
+     * array are not detected, so the index must be created again after such changes
+     *
+     * @throws IllegalArgumentException if columns of the named column's type cannot be indexed
+     */
+    public void createIndex(String columnName) {
+        indexes.create(column(columnName));
+    }
+
+    /**
+     * Builds a compact index on the named numeric or temporal column and keeps it with this table, replacing any
+     * index the column already has. The index holds one int per row, so it suits columns with many distinct values,
+     * such as ids and timestamps; it is used by filters and kept up to date as described in
+     * {@link #createIndex(String)}
+     *
+     * @throws IllegalArgumentException if the named column is not numeric or temporal
+     */
+    public void createSortedIndex(String columnName) {
+        indexes.createSorted(column(columnName));
+    }
+
+    /**
+     * Builds an index on the named columns taken together and keeps it with this table, replacing any such index on
+     * the same columns in the same order. Filters that require the leading columns to equal some values, and
+     * optionally the next column to be in some range, are then answered from the index in a single lookup when they
+     * are combined with {@link tech.tablesaw.filtering.AllOf}, and inner joins on the columns use it. It is discarded
+     * and kept up to date as described in {@link #createIndex(String)}. See {@link CompositeIndex}
+     *
+     * @throws IllegalArgumentException if the named columns are not all int, long, category, date, time or date-time
+     *                                  columns
+     */
+    public void createIndex(String... columnNames) {
+        indexes.createComposite(columns(columnNames));
+    }
+
+    /**
+     * Removes the index on the named column, if it has one
+     */
+    public void dropIndex(String columnName) {
+        indexes.drop(column(columnName));
+    }
+
+    /**
+     * Returns the index on the named column if it has an up-to-date index of the given type, such as
+     * {@link tech.tablesaw.index.IntRangeIndex}, or null otherwise
+     */
+    public <T> T index(String columnName, Class<T> indexType) {
+        if (indexes.isEmpty()) {
+            return null;
+        }
+        return indexes.get(column(columnName), indexType);
+    }
+
+    /**
+     * Returns the up-to-date composite index on the named columns, in the given order, or null if there is none
+     */
+    public CompositeIndex compositeIndex(String... columnNames) {
+        if (indexes.isEmpty()) {
+            return null;
+        }
+        return indexes.getComposite(columns(columnNames));
+    }
+
+    /**
+     * Returns the up-to-date composite indexes on the columns of this table
+     */
+    public List<CompositeIndex> compositeIndexes() {
+        if (indexes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return indexes.composites();
+    }
+
     public DataFrameJoiner join(String columnName) {
       return new DataFrameJoiner(this, columnName);
     }
 
+    /**
+     * Returns a joiner that matches rows on the values of the given columns of this table together
+     */
+    public DataFrameJoiner join(String... columnNames) {
+      return new DataFrameJoiner(this, columnNames);
+    }
+
+    /**
+     * Returns a join that indexes the given column of this table once, so other tables can be joined to this one
+     * repeatedly without rebuilding the index
+     */
+    public PreparedJoin prepareJoin(String columnName) {
+      return new PreparedJoin(this, columnName);
+    }
+
     @Override
     public IntIterator iterator() {
 
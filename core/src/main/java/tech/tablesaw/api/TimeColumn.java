@@ -28,10 +28,12 @@ import tech.tablesaw.columns.packeddata.PackedLocalTime;
 import tech.tablesaw.filtering.IntBiPredicate;
 import tech.tablesaw.filtering.IntPredicate;
 import tech.tablesaw.filtering.LocalTimePredicate;
+import tech.tablesaw.index.ZoneMap;
 import tech.tablesaw.io.TypeUtils;
 import tech.tablesaw.mapping.TimeMapUtils;
 import tech.tablesaw.store.ColumnMetadata;
 import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.ParallelScan;
 import tech.tablesaw.util.ReverseIntComparator;
 import tech.tablesaw.util.Selection;
 
@@ -74,6 +76,9 @@ public class TimeColumn extends AbstractColumn implements Iterable<LocalTime>, T
 
     private IntArrayList data;
 
+    // the smallest and largest value in each block of rows, built when first needed and discarded when values change
+    private ZoneMap zoneMap;
+
     IntComparator comparator = new IntComparator() {
 
         @Override
@@ -154,6 +159,8 @@ public class TimeColumn extends AbstractColumn implements Iterable<LocalTime>, T
 
     @Override
     public void clear() {
+        zoneMap = null;
+        modified();
         data.clear();
     }
 
@@ -166,11 +173,15 @@ public class TimeColumn extends AbstractColumn implements Iterable<LocalTime>, T
 
     @Override
     public void sortAscending() {
+        zoneMap = null;
+        modified();
         Arrays.parallelSort(data.elements());
     }
 
     @Override
     public void sortDescending() {
+        zoneMap = null;
+        modified();
         IntArrays.parallelQuickSort(data.elements(), reverseIntComparator);
     }
 
@@ -353,6 +364,20 @@ public class TimeColumn extends AbstractColumn implements Iterable<LocalTime>, T
         return data;
     }
 
+    /**
+     * Returns the zone map of this column, building it if it has not been built since the values of the column were
+     * last changed in place. Rows appended since it was built are added to it. Changes made through {@link #data()}
+     * are not detected
+     */
+    public ZoneMap zoneMap() {
+        ZoneMap zones = zoneMap;
+        if (zones == null || zones.size() != size()) {
+            zones = ZoneMap.of(data.elements(), size(), zones);
+            zoneMap = zones;
+        }
+        return zones;
+    }
+
     @Override
     public String toString() {
         return "LocalTime column: " + name();
@@ -397,45 +422,45 @@ public class TimeColumn extends AbstractColumn implements Iterable<LocalTime>, T
     }
 
     public Selection isMidnight() {
-        return select(PackedLocalTime::isMidnight);
+        return selectInParallel(PackedLocalTime::isMidnight);
     }
 
     public Selection isNoon() {
-        return select(PackedLocalTime::isNoon);
+        return selectInParallel(PackedLocalTime::isNoon);
     }
 
     public Selection isBefore(LocalTime time) {
-        return select(PackedLocalTime::isBefore, PackedLocalTime.pack(time));
+        return selectInParallel(PackedLocalTime::isBefore, PackedLocalTime.pack(time));
     }
 
     public Selection isBefore(int packedTime) {
-        return select(PackedLocalTime::isBefore, packedTime);
+        return selectInParallel(PackedLocalTime::isBefore, packedTime);
     }
 
     public Selection isAfter(LocalTime time) {
-        return select(PackedLocalTime::isAfter, PackedLocalTime.pack(time));
+        return selectInParallel(PackedLocalTime::isAfter, PackedLocalTime.pack(time));
     }
 
     public Selection isAfter(int packedTime) {
-        return select(PackedLocalTime::isAfter, packedTime);
+        return selectInParallel(PackedLocalTime::isAfter, packedTime);
     }
 
     public Selection isOnOrAfter(LocalTime time) {
         int packed = PackedLocalTime.pack(time);
-        return select(PackedLocalTime::isOnOrBefore, packed);
+        return selectInParallel(PackedLocalTime::isOnOrBefore, packed);
     }
 
     public Selection isOnOrAfter(int packed) {
-        return select(PackedLocalTime::isOnOrBefore, packed);
+        return selectInParallel(PackedLocalTime::isOnOrBefore, packed);
     }
 
     public Selection isOnOrBefore(LocalTime value) {
         int packed = PackedLocalTime.pack(value);
-        return select(PackedLocalTime::isOnOrBefore, packed);
+        return selectInParallel(PackedLocalTime::isOnOrBefore, packed);
     }
 
     public Selection isOnOrBefore(int packed) {
-        return select(PackedLocalTime::isOnOrBefore, packed);
+        return selectInParallel(PackedLocalTime::isOnOrBefore, packed);
     }
 
     /**
@@ -443,7 +468,7 @@ public class TimeColumn extends AbstractColumn implements Iterable<LocalTime>, T
      * Note: we follow the convention that 12:00 NOON is PM and 12 MIDNIGHT is AM
      */
     public Selection isBeforeNoon() {
-        return select(PackedLocalTime::AM);
+        return selectInParallel(PackedLocalTime::AM);
     }
 
     /**
@@ -451,7 +476,7 @@ public class TimeColumn extends AbstractColumn implements Iterable<LocalTime>, T
      * Note: we follow the convention that 12:00 NOON is PM and 12 MIDNIGHT is AM
      */
     public Selection isAfterNoon() {
-        return select(PackedLocalTime::PM);
+        return selectInParallel(PackedLocalTime::PM);
     }
 
     /**
@@ -489,6 +514,8 @@ public class TimeColumn extends AbstractColumn implements Iterable<LocalTime>, T
     }
 
     public void set(int index, int value) {
+        zoneMap = null;
+        modified();
         data.set(index, value);
     }
 
@@ -527,26 +554,62 @@ public class TimeColumn extends AbstractColumn implements Iterable<LocalTime>, T
         return data.iterator();
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate. The values are tested in order on the calling thread,
+     * so the predicate need not be thread-safe
+     */
     public Selection select(IntPredicate predicate) {
-        Selection selection = new BitmapBackedSelection();
-        for (int idx = 0; idx < data.size(); idx++) {
-            int next = data.getInt(idx);
-            if (predicate.test(next)) {
-                selection.add(idx);
+        return ParallelScan.selectSequentially(data.size(), scanner(predicate));
+    }
+
+    /**
+     * Like {@link #select(IntPredicate)}, but tests the values of large columns in parallel on the common ForkJoinPool,
+     * so the predicate must be stateless and thread-safe
+     */
+    public Selection selectInParallel(IntPredicate predicate) {
+        return ParallelScan.select(data.size(), scanner(predicate));
+    }
+
+    private ParallelScan.ChunkScanner scanner(IntPredicate predicate) {
+        int[] values = data.elements();
+        return (from, to, rows) -> {
+            int count = 0;
+            for (int idx = from; idx < to; idx++) {
+                if (predicate.test(values[idx])) {
+                    rows[count++] = idx;
+                }
             }
-        }
-        return selection;
+            return count;
+        };
     }
 
+    /**
+     * Returns the rows whose values satisfy the given predicate when compared with the given value. The values are
+     * tested in order on the calling thread, so the predicate need not be thread-safe
+     */
     public Selection select(IntBiPredicate predicate, int value) {
-        Selection selection = new BitmapBackedSelection();
-        for (int idx = 0; idx < data.size(); idx++) {
-            int next = data.getInt(idx);
-            if (predicate.test(next, value)) {
-                selection.add(idx);
+        return ParallelScan.selectSequentially(data.size(), scanner(predicate, value));
+    }
+
+    /**
+     * Like {@link #select(IntBiPredicate, int)}, but tests the values of large columns in parallel on the common
+     * ForkJoinPool, so the predicate must be stateless and thread-safe
+     */
+    public Selection selectInParallel(IntBiPredicate predicate, int value) {
+        return ParallelScan.select(data.size(), scanner(predicate, value));
+    }
+
+    private ParallelScan.ChunkScanner scanner(IntBiPredicate predicate, int value) {
+        int[] values = data.elements();
+        return (from, to, rows) -> {
+            int count = 0;
+            for (int idx = from; idx < to; idx++) {
+                if (predicate.test(values[idx], value)) {
+                    rows[count++] = idx;
+                }
             }
-        }
-        return selection;
+            return count;
+        };
     }
 
     Set<LocalTime> asSet() {
@@ -565,12 +628,12 @@ public class TimeColumn extends AbstractColumn implements Iterable<LocalTime>, T
 
     @Override
     public Selection isMissing() {
-        return select(isMissing);
+        return selectInParallel(isMissing);
     }
 
     @Override
     public Selection isNotMissing() {
-        return select(isNotMissing);
+        return selectInParallel(isNotMissing);
     }
 
     @Override
@@ -31,6 +31,9 @@ public abstract class AbstractColumn implements Column {
 
     private String comment;
 
+    // the number of times the values have been changed in place
+    private int modCount;
+
     public AbstractColumn(String name) {
         setName(name);
         this.comment = "";
@@ -51,6 +54,19 @@ public abstract class AbstractColumn implements Column {
         return id;
     }
 
+    @Override
+    public int modCount() {
+        return modCount;
+    }
+
+    /**
+     * Records that the column's values have been changed in place. Subclasses call this from every method that sets,
+     * sorts or clears their values
+     */
+    protected void modified() {
+        modCount++;
+    }
+
     @Override
     public String metadata() {
         return columnMetadata().toJson();
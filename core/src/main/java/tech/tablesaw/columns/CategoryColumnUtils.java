@@ -20,6 +20,7 @@ import tech.tablesaw.api.CategoryColumn;
 import tech.tablesaw.filtering.StringPredicate;
 import tech.tablesaw.mapping.StringMapUtils;
 import tech.tablesaw.util.DictionaryMap;
+import tech.tablesaw.util.Selection;
 
 public interface CategoryColumnUtils extends Column, StringMapUtils, CategoryReduceUtils, Iterable<String> {
 
@@ -29,4 +30,6 @@ public interface CategoryColumnUtils extends Column, StringMapUtils, CategoryRed
     DictionaryMap dictionaryMap();
 
     IntArrayList values();
+
+    Selection select(StringPredicate predicate);
 }
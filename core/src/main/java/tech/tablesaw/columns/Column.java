@@ -14,6 +14,8 @@
 
 package tech.tablesaw.columns;
 
+import java.time.Duration;
+
 import it.unimi.dsi.fastutil.ints.IntComparator;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.Table;
@@ -125,6 +127,13 @@ public interface Column {
      */
     String id();
 
+    /**
+     * Returns the number of times this column's values have been changed in place, by setting, sorting or clearing
+     * them, so that structures built from the values can tell whether they are still current. Appending values does
+     * not change it, as appends change the size of the column instead
+     */
+    int modCount();
+
     /**
      * Returns a String containing the column's metadata in json format.
      * @return metadata as String
@@ -209,4 +218,12 @@ public interface Column {
       return new RollingColumn(this, windowSize);
   }
 
+    /**
+     * Returns a rolling calculation over windows of the given duration, ending at the time in each row of the given
+     * DateTimeColumn or DateColumn, which must be in ascending order
+     */
+    default RollingColumn rolling(Column timeColumn, Duration window) {
+      return new RollingColumn(this, timeColumn, window);
+    }
+
 }
@@ -386,9 +386,18 @@ public class PackedLocalDateTime {
     }
 
     public static long toEpochMilli(long packedLocalDateTime, ZoneOffset offset) {
-        LocalDateTime dateTime = asLocalDateTime(packedLocalDateTime);
-        Instant instant = dateTime.toInstant(offset);
-        return instant.toEpochMilli();
+        return toEpochMilli(packedLocalDateTime) - offset.getTotalSeconds() * 1000L;
+    }
+
+    /**
+     * Returns the number of milliseconds from midnight, January 1, 1970 to the given date-time, taken as UTC. This is
+     * computed from the packed fields, without creating a LocalDateTime
+     */
+    public static long toEpochMilli(long packedDateTime) {
+        int time = time(packedDateTime);
+        return PackedLocalDate.toEpochDay(date(packedDateTime)) * 86_400_000L
+                + PackedLocalTime.getMinuteOfDay(time) * 60_000L
+                + PackedLocalTime.getMillisecondOfMinute(time);
     }
 
     public static long ofEpochMilli(long millisecondsSinceEpoch, ZoneId zoneId) {
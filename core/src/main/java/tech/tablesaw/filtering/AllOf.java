@@ -17,9 +17,13 @@ package tech.tablesaw.filtering;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import tech.tablesaw.api.Table;
+import tech.tablesaw.index.CompositeIndex;
+import tech.tablesaw.index.KeyRange;
 import tech.tablesaw.util.Selection;
 
 /**
@@ -44,14 +48,95 @@ public class AllOf extends CompositeFilter {
     }
 
     public Selection apply(Table relation) {
-        Selection selection = null;
-        for (Filter filter : filterList) {
-            if (selection == null) {
-                selection = filter.apply(relation);
-            } else {
-                selection.and(filter.apply(relation));
+        return apply(relation, allRows(relation));
+    }
+
+    /**
+     * Applies the filters one at a time, each to the rows that passed those before it. Given enough candidates, the
+     * filters are first ordered so that those that reject the most rows for their cost come first.
+     * <p>
+     * If the table has a composite index that suits some of the filters, those filters are answered together by a
+     * single lookup in the index first, and the others are applied to the rows it returns.
+     * <p>
+     * When every filter selects a range of a numeric or temporal column, the filters are instead tested together, row
+     * by row, in a single pass. See {@link FusedFilter}
+     */
+    @Override
+    public Selection apply(Table relation, Selection candidates) {
+        List<Filter> remaining = new ArrayList<>(filterList);
+        Selection selection = candidates;
+        Selection indexed = applyComposite(relation, remaining);
+        if (indexed != null) {
+            if (candidates.size() < relation.rowCount()) {
+                indexed.and(candidates);
+            }
+            selection = indexed;
+            if (remaining.isEmpty() || selection.isEmpty()) {
+                return selection;
+            }
+        }
+        List<Filter> filters = ordered(remaining, relation, selection,
+                (cost, selectivity) -> cost / Math.max(1.0 - selectivity, Double.MIN_NORMAL));
+        if (filters.size() > 1) {
+            FusedFilter fused = FusedFilter.allOf(filters, relation);
+            if (fused != null) {
+                return fused.apply(relation, selection);
+            }
+        }
+        for (Filter filter : filters) {
+            selection = filter.apply(relation, selection);
+            if (selection.isEmpty()) {
+                break;
+            }
+        }
+        return selection == candidates ? copyOf(candidates) : selection;
+    }
+
+    /**
+     * Answers the filters on the leading columns of one of the table's composite indexes with a single lookup in it,
+     * choosing the index that answers the most filters, and removes them from the given list. Returns the rows that
+     * satisfy those filters, or null if no composite index suits any of the filters
+     */
+    private static Selection applyComposite(Table relation, List<Filter> filters) {
+        List<CompositeIndex> indexes = relation.compositeIndexes();
+        if (indexes.isEmpty()) {
+            return null;
+        }
+        List<KeyRange> ranges = new ArrayList<>();
+        Map<KeyRange, Filter> sources = new IdentityHashMap<>();
+        for (Filter filter : filters) {
+            if (filter instanceof ColumnFilter) {
+                KeyRange range = ((ColumnFilter) filter).keyRange(relation);
+                if (range != null) {
+                    ranges.add(range);
+                    sources.put(range, filter);
+                }
             }
         }
-        return selection;
+        CompositeIndex best = null;
+        List<KeyRange> bestRanges = Collections.emptyList();
+        for (CompositeIndex index : indexes) {
+            List<KeyRange> usable = index.usableRanges(ranges);
+            if (usable.size() > bestRanges.size()) {
+                best = index;
+                bestRanges = usable;
+            }
+        }
+        if (best == null) {
+            return null;
+        }
+        for (KeyRange range : bestRanges) {
+            filters.remove(sources.get(range));
+        }
+        return best.select(bestRanges);
+    }
+
+    List<Filter> filters() {
+        return filterList;
+    }
+
+    @Override
+    public double cost() {
+        return cost(filterList);
     }
 }
@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.List;
 
 import tech.tablesaw.api.Table;
+import tech.tablesaw.util.BitmapBackedSelection;
 import tech.tablesaw.util.Selection;
 
 /**
@@ -45,14 +46,46 @@ public class AnyOf extends CompositeFilter {
     }
 
     public Selection apply(Table relation) {
-        Selection selection = null;
-        for (Filter filter : filterList) {
-            if (selection == null) {
-                selection = filter.apply(relation);
-            } else {
-                selection.or(filter.apply(relation));
+        return apply(relation, allRows(relation));
+    }
+
+    /**
+     * Applies the filters one at a time, each to the rows that no filter before it selected, and takes the union of
+     * their matches in a single aggregation. Given enough candidates, the filters are first ordered so that those
+     * that select the most rows for their cost come first.
+     * <p>
+     * When every filter selects a range of a numeric or temporal column, the filters are instead tested together, row
+     * by row, in a single pass. See {@link FusedFilter}
+     */
+    @Override
+    public Selection apply(Table relation, Selection candidates) {
+        List<Filter> filters = ordered(filterList, relation, candidates,
+                (cost, selectivity) -> cost / Math.max(selectivity, Double.MIN_NORMAL));
+        if (filters.size() > 1) {
+            FusedFilter fused = FusedFilter.anyOf(filters, relation);
+            if (fused != null) {
+                return fused.apply(relation, candidates);
+            }
+        }
+        List<Selection> matches = new ArrayList<>(filters.size());
+        Selection remaining = copyOf(candidates);
+        for (Filter filter : filters) {
+            Selection filterMatches = filter.apply(relation, remaining);
+            matches.add(filterMatches);
+            remaining.andNot(filterMatches);
+            if (remaining.isEmpty()) {
+                break;
             }
         }
-        return selection;
+        return BitmapBackedSelection.union(matches);
+    }
+
+    List<Filter> filters() {
+        return filterList;
+    }
+
+    @Override
+    public double cost() {
+        return cost(filterList);
     }
 }
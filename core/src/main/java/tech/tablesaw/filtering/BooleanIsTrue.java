@@ -25,7 +25,8 @@ public class BooleanIsTrue extends ColumnFilter {
         super(reference);
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection scan(Table relation) {
         BooleanColumn booleanColumn = (BooleanColumn) relation.column(columnReference.getColumnName());
         return booleanColumn.isTrue();
     }
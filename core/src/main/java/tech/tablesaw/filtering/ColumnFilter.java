@@ -14,10 +14,34 @@
 
 package tech.tablesaw.filtering;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.index.KeyRange;
+import tech.tablesaw.index.ZoneMap;
+import tech.tablesaw.table.Rows;
+import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.Selection;
 
+/**
+ * A filter on the values of a column.
+ * <p>
+ * Given a set of candidate rows that is small compared to the table, a filter on a range of keys tests those rows
+ * in place, and any other filter is applied to a table holding only the candidate rows of the columns it reads, so
+ * that it tests those rows and no others. This lets the later parts of an {@link AllOf} work on the rows that
+ * survived the earlier ones, rather than on the whole table
+ */
 public abstract class ColumnFilter extends Filter {
 
+    // candidate sets smaller than the table divided by this are copied out and filtered on their own
+    private static final int GATHER_RATIO = 4;
+
     final ColumnReference columnReference;
 
     public ColumnFilter(ColumnReference columnReference) {
@@ -32,4 +56,155 @@ public abstract class ColumnFilter extends Filter {
         return columnReference;
     }
 
+    /**
+     * Returns the names of the columns this filter reads. Filters that read columns other than their column
+     * reference must override this
+     */
+    protected List<String> columnNames() {
+        return Collections.singletonList(columnReference.getColumnName());
+    }
+
+    /**
+     * Returns the index the given table holds on this filter's column, if it has an up-to-date index of the given
+     * type, or null otherwise
+     */
+    protected <T> T index(Table relation, Class<T> indexType) {
+        return relation.index(columnReference.getColumnName(), indexType);
+    }
+
+    /**
+     * Returns the rows that satisfy this filter, answered from an index the given table holds on this filter's
+     * column, or null if there is no such index. Filters that can be answered from an index override this, and
+     * {@link #apply(Table)} tries it first
+     */
+    protected Selection applyIndexed(Table relation) {
+        return null;
+    }
+
+    /**
+     * Returns the keys this filter selects in its column of the given table, as a range that can be looked up in a
+     * composite index on the column, or null if it does not select a single range of keys. Filters that can be
+     * answered by a composite index override this
+     */
+    protected KeyRange keyRange(Table relation) {
+        return null;
+    }
+
+    /**
+     * Returns true if this filter's column in the given table holds integers, whose keys are their values
+     */
+    protected boolean hasIntegerKeys(Table relation) {
+        switch (relation.column(columnReference.getColumnName()).type()) {
+            case SHORT_INT:
+            case INTEGER:
+            case LONG_INT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns true if this filter's column in the given table holds floats or doubles, whose keys are given by
+     * {@link ZoneMap#key(double)}
+     */
+    protected boolean hasFloatingPointKeys(Table relation) {
+        ColumnType type = relation.column(columnReference.getColumnName()).type();
+        return type == ColumnType.FLOAT || type == ColumnType.DOUBLE;
+    }
+
+    /**
+     * Returns the rows that satisfy this filter, found with the zone map of its column, which lets blocks of rows that
+     * cannot hold any of this filter's keys be skipped, and blocks that hold only such keys be selected without
+     * testing their rows. Returns null if this filter does not select a range of keys, or its column has no zone map.
+     * See {@link ZoneMap}
+     */
+    private Selection applyZoned(Table relation) {
+        KeyRange range = keyRange(relation);
+        if (range == null) {
+            return null;
+        }
+        return ZoneMap.select(relation.column(columnReference.getColumnName()), range.low(), range.high());
+    }
+
+    /**
+     * Returns a test of whether a row of the given table satisfies this filter, which reads its column's values in
+     * place, or null if this filter does not select a range of keys of a numeric or temporal column
+     */
+    private IntPredicate rowTest(Table relation) {
+        KeyRange range = keyRange(relation);
+        if (range == null) {
+            return null;
+        }
+        return ZoneMap.rowTest(relation.column(columnReference.getColumnName()), range.low(), range.high());
+    }
+
+    /**
+     * Returns true if the given table holds an up-to-date index on this filter's column, so that the filter may be
+     * answered from it at a cost that does not depend on the number of candidate rows
+     */
+    boolean hasIndex(Table relation) {
+        return index(relation, Object.class) != null;
+    }
+
+    /**
+     * Returns the rows of the given table that satisfy this filter. They are answered from an index on this filter's
+     * column if the table holds one, else from the column's zone map if this filter selects a range of keys, and are
+     * otherwise found by {@link #scan(Table)}. Subclasses that override this rather than {@link #scan(Table)} bypass
+     * the index and the zone map, unless they call it
+     */
+    @Override
+    public Selection apply(Table relation) {
+        Selection indexed = applyIndexed(relation);
+        if (indexed != null) {
+            return indexed;
+        }
+        Selection zoned = applyZoned(relation);
+        if (zoned != null) {
+            return zoned;
+        }
+        return scan(relation);
+    }
+
+    /**
+     * Returns the rows of the given table that satisfy this filter, found by testing the values of every row. Filters
+     * that override {@link #apply(Table)} instead need not override this
+     *
+     * @throws UnsupportedOperationException if the filter overrides neither this nor {@link #apply(Table)}
+     */
+    protected Selection scan(Table relation) {
+        throw new UnsupportedOperationException(getClass().getName()
+                + " overrides neither scan(Table) nor apply(Table)");
+    }
+
+    @Override
+    public Selection apply(Table relation, Selection candidates) {
+        Selection indexed = applyIndexed(relation);
+        if (indexed != null) {
+            indexed.and(candidates);
+            return indexed;
+        }
+        if ((long) candidates.size() * GATHER_RATIO >= relation.rowCount()) {
+            return super.apply(relation, candidates);
+        }
+        IntPredicate rowTest = rowTest(relation);
+        if (rowTest != null) {
+            return FusedFilter.select(candidates, rowTest);
+        }
+        int[] rows = candidates.toArray();
+        Table columns = Table.create(relation.name());
+        for (String name : columnNames()) {
+            columns.addColumn(relation.column(name));
+        }
+        Table candidateRows = columns.emptyCopy(rows.length);
+        Rows.copyRowsToTable(IntArrayList.wrap(rows), columns, candidateRows);
+
+        Selection matches = apply(candidateRows);
+        int[] matchingRows = new int[matches.size()];
+        int i = 0;
+        for (IntIterator it = matches.iterator(); it.hasNext(); ) {
+            matchingRows[i++] = rows[it.nextInt()];
+        }
+        return BitmapBackedSelection.fromSortedRows(matchingRows, matchingRows.length);
+    }
 }
@@ -14,9 +14,86 @@
 
 package tech.tablesaw.filtering;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleBiFunction;
+
+import tech.tablesaw.api.Table;
+import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.Selection;
+
 /**
  * A superclass for filters that operate on other filters, rather than directly on columns
  */
 abstract class CompositeFilter extends Filter {
 
+    // the number of candidate rows on which each filter is tried, to estimate its selectivity
+    static final int SAMPLE_SIZE = 1024;
+
+    // the selectivity assumed for filters that cannot be tried on a sample without filtering the whole table
+    private static final double UNKNOWN_SELECTIVITY = 0.5;
+
+    /**
+     * Returns a selection of all the rows of the given table
+     */
+    static Selection allRows(Table relation) {
+        Selection selection = new BitmapBackedSelection();
+        selection.addRange(0, relation.rowCount());
+        return selection;
+    }
+
+    /**
+     * Returns a copy of the given selection, which may be modified without changing the original
+     */
+    static Selection copyOf(Selection selection) {
+        return new BitmapBackedSelection(selection.toBitmap());
+    }
+
+    /**
+     * Returns the given filters in ascending order of the given rank, a function of each filter's cost and its
+     * selectivity: the fraction of an evenly spaced sample of the candidate rows that it selects. Filters other than
+     * column and composite filters would scan the whole table to test the sample, so their selectivity is assumed.
+     * Column filters answered from an index cost nothing per row, so they come first without trying the sample. When
+     * there are too few candidates for the sample to be worth taking, the filters are returned in the order given
+     */
+    static List<Filter> ordered(List<Filter> filters, Table relation, Selection candidates,
+                                ToDoubleBiFunction<Double, Double> rank) {
+        int candidateCount = candidates.size();
+        if (filters.size() < 2 || candidateCount < (long) SAMPLE_SIZE * filters.size()) {
+            return filters;
+        }
+        Selection sample = new BitmapBackedSelection();
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            sample.add(candidates.get((int) ((long) i * candidateCount / SAMPLE_SIZE)));
+        }
+        Map<Filter, Double> ranks = new IdentityHashMap<>();
+        for (Filter filter : filters) {
+            if (filter instanceof ColumnFilter && ((ColumnFilter) filter).hasIndex(relation)) {
+                // answered from the index at no cost per row, so it goes first, untried
+                ranks.put(filter, 0.0);
+                continue;
+            }
+            double selectivity = filter instanceof ColumnFilter || filter instanceof CompositeFilter
+                    ? filter.apply(relation, sample).size() / (double) SAMPLE_SIZE
+                    : UNKNOWN_SELECTIVITY;
+            ranks.put(filter, rank.applyAsDouble(filter.cost(), selectivity));
+        }
+        List<Filter> ordered = new ArrayList<>(filters);
+        ordered.sort(Comparator.comparingDouble(ranks::get));
+        return ordered;
+    }
+
+    /**
+     * Returns the summed cost of the given filters
+     */
+    static double cost(List<Filter> filters) {
+        double cost = 0;
+        for (Filter filter : filters) {
+            cost += filter.cost();
+        }
+        return cost;
+    }
 }
@@ -19,6 +19,9 @@ import java.time.LocalDate;
 import tech.tablesaw.api.DateColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.columns.packeddata.PackedLocalDate;
+import tech.tablesaw.index.DateIndex;
+import tech.tablesaw.index.KeyRange;
 import tech.tablesaw.util.Selection;
 
 public class DateEqualTo extends ColumnFilter {
@@ -30,7 +33,19 @@ public class DateEqualTo extends ColumnFilter {
         this.value = value;
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection applyIndexed(Table relation) {
+        DateIndex index = index(relation, DateIndex.class);
+        return index == null ? null : index.get(value);
+    }
+
+    @Override
+    protected KeyRange keyRange(Table relation) {
+        return KeyRange.equalTo(columnReference.getColumnName(), PackedLocalDate.pack(value));
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         DateColumn dateColumn = (DateColumn) relation.column(columnReference.getColumnName());
         return dateColumn.isEqualTo(value);
     }
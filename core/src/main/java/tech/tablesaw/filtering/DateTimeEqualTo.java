@@ -19,6 +19,9 @@ import java.time.LocalDateTime;
 import tech.tablesaw.api.DateTimeColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.columns.packeddata.PackedLocalDateTime;
+import tech.tablesaw.index.DateTimeIndex;
+import tech.tablesaw.index.KeyRange;
 import tech.tablesaw.util.Selection;
 
 public class DateTimeEqualTo extends ColumnFilter {
@@ -30,7 +33,19 @@ public class DateTimeEqualTo extends ColumnFilter {
         this.value = value;
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection applyIndexed(Table relation) {
+        DateTimeIndex index = index(relation, DateTimeIndex.class);
+        return index == null ? null : index.get(value);
+    }
+
+    @Override
+    protected KeyRange keyRange(Table relation) {
+        return KeyRange.equalTo(columnReference.getColumnName(), PackedLocalDateTime.pack(value));
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         DateTimeColumn dateColumn = (DateTimeColumn) relation.column(columnReference.getColumnName());
         return dateColumn.isEqualTo(value);
     }
@@ -17,6 +17,9 @@ package tech.tablesaw.filtering;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.index.DoubleRangeIndex;
+import tech.tablesaw.index.KeyRange;
+import tech.tablesaw.index.ZoneMap;
 import tech.tablesaw.util.Selection;
 
 public class DoubleEqualTo extends ColumnFilter {
@@ -28,7 +31,26 @@ public class DoubleEqualTo extends ColumnFilter {
         this.value = value;
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection applyIndexed(Table relation) {
+        // NaN equals no value, although the index finds the rows holding it
+        if (Double.isNaN(value)) {
+            return null;
+        }
+        DoubleRangeIndex doubles = index(relation, DoubleRangeIndex.class);
+        return doubles == null ? null : doubles.get(value);
+    }
+
+    @Override
+    protected KeyRange keyRange(Table relation) {
+        if (Double.isNaN(value) || !hasFloatingPointKeys(relation)) {
+            return null;
+        }
+        return KeyRange.equalTo(columnReference.getColumnName(), ZoneMap.key(value));
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         DoubleColumn doubleColumn = (DoubleColumn) relation.column(columnReference.getColumnName());
         return doubleColumn.isEqualTo(value);
     }
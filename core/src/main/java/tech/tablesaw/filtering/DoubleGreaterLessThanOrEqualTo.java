@@ -28,7 +28,8 @@ public class DoubleGreaterLessThanOrEqualTo extends ColumnFilter {
         this.value = value;
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection scan(Table relation) {
         DoubleColumn doubleColumn = (DoubleColumn) relation.column(columnReference.getColumnName());
         return doubleColumn.isLessThanOrEqualTo(value);
     }
@@ -17,6 +17,9 @@ package tech.tablesaw.filtering;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.index.DoubleRangeIndex;
+import tech.tablesaw.index.KeyRange;
+import tech.tablesaw.index.ZoneMap;
 import tech.tablesaw.util.Selection;
 
 public class DoubleGreaterThan extends ColumnFilter {
@@ -28,7 +31,22 @@ public class DoubleGreaterThan extends ColumnFilter {
         this.value = value;
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection applyIndexed(Table relation) {
+        DoubleRangeIndex doubles = index(relation, DoubleRangeIndex.class);
+        return doubles == null ? null : doubles.greaterThan(value);
+    }
+
+    @Override
+    protected KeyRange keyRange(Table relation) {
+        if (Double.isNaN(value) || !hasFloatingPointKeys(relation)) {
+            return null;
+        }
+        return KeyRange.greaterThan(columnReference.getColumnName(), ZoneMap.key(value));
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         DoubleColumn doubleColumn = (DoubleColumn) relation.column(columnReference.getColumnName());
         return doubleColumn.isGreaterThan(value);
     }
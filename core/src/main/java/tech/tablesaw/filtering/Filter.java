@@ -23,4 +23,25 @@ import tech.tablesaw.util.Selection;
 public abstract class Filter {
 
     public abstract Selection apply(Table relation);
+
+    /**
+     * Returns the rows among the given candidates that satisfy this filter, as a new selection that the caller may
+     * modify. Filters that can test the candidates without scanning the whole table override this; by default the
+     * whole table is filtered and the result intersected with the candidates
+     */
+    public Selection apply(Table relation, Selection candidates) {
+        Selection selection = apply(relation);
+        if (candidates.size() < relation.rowCount()) {
+            selection.and(candidates);
+        }
+        return selection;
+    }
+
+    /**
+     * Returns the relative cost of testing a row against this filter, for ordering the parts of a composite filter.
+     * A filter on a single column costs 1
+     */
+    public double cost() {
+        return 1.0;
+    }
 }
@@ -19,6 +19,9 @@ import static tech.tablesaw.columns.FloatColumnUtils.isGreaterThan;
 import tech.tablesaw.api.FloatColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.index.FloatRangeIndex;
+import tech.tablesaw.index.KeyRange;
+import tech.tablesaw.index.ZoneMap;
 import tech.tablesaw.util.Selection;
 
 public class FloatGreaterThan extends ColumnFilter {
@@ -30,8 +33,23 @@ public class FloatGreaterThan extends ColumnFilter {
         this.value = value;
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection applyIndexed(Table relation) {
+        FloatRangeIndex floats = index(relation, FloatRangeIndex.class);
+        return floats == null ? null : floats.greaterThan(value);
+    }
+
+    @Override
+    protected KeyRange keyRange(Table relation) {
+        if (Float.isNaN(value) || !hasFloatingPointKeys(relation)) {
+            return null;
+        }
+        return KeyRange.greaterThan(columnReference.getColumnName(), ZoneMap.key(value));
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         FloatColumn floatColumn = (FloatColumn) relation.column(columnReference.getColumnName());
-        return floatColumn.select(isGreaterThan, value);
+        return floatColumn.selectInParallel(isGreaterThan, value);
     }
 }
@@ -17,6 +17,9 @@ package tech.tablesaw.filtering;
 import tech.tablesaw.api.FloatColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.index.FloatRangeIndex;
+import tech.tablesaw.index.KeyRange;
+import tech.tablesaw.index.ZoneMap;
 import tech.tablesaw.util.Selection;
 
 public class FloatLessThanOrEqualTo extends ColumnFilter {
@@ -28,7 +31,22 @@ public class FloatLessThanOrEqualTo extends ColumnFilter {
         this.value = value;
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection applyIndexed(Table relation) {
+        FloatRangeIndex floats = index(relation, FloatRangeIndex.class);
+        return floats == null ? null : floats.atMost(value);
+    }
+
+    @Override
+    protected KeyRange keyRange(Table relation) {
+        if (Float.isNaN(value) || !hasFloatingPointKeys(relation)) {
+            return null;
+        }
+        return KeyRange.atMost(columnReference.getColumnName(), ZoneMap.key(value));
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         FloatColumn floatColumn = (FloatColumn) relation.column(columnReference.getColumnName());
         return floatColumn.isLessThanOrEqualTo(value);
     }
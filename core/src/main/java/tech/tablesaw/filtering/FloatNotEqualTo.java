@@ -28,7 +28,8 @@ public class FloatNotEqualTo extends ColumnFilter {
         this.value = value;
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection scan(Table relation) {
         FloatColumn floatColumn = (FloatColumn) relation.column(columnReference.getColumnName());
         return floatColumn.isNotEqualTo(value);
     }
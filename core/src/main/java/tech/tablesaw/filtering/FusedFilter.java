@@ -0,0 +1,258 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.filtering;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.index.KeyRange;
+import tech.tablesaw.index.ZoneMap;
+import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.ParallelScan;
+import tech.tablesaw.util.ParallelScan.Coverage;
+import tech.tablesaw.util.Selection;
+
+/**
+ * A tree of {@link AllOf} and {@link AnyOf} filters over ranges of numeric and temporal columns, compiled into a single
+ * test of each row, so that the whole tree is applied in one pass over the table that tests each row only until its
+ * outcome is known, and builds a single selection. Applying the filters one by one would instead scan a column and
+ * build a selection for each of them.
+ * <p>
+ * Each chunk of the pass is first checked against the zone maps of the columns, so chunks that the tree must reject,
+ * or must select, as a whole are not tested row by row
+ */
+final class FusedFilter {
+
+    // tests whether a row satisfies the filter
+    private final IntPredicate rowTest;
+
+    // finds the chunks of a scan that the filter selects none or all of, or null if every chunk must be tested
+    private final ParallelScan.ChunkTest chunkTest;
+
+    private FusedFilter(IntPredicate rowTest, ParallelScan.ChunkTest chunkTest) {
+        this.rowTest = rowTest;
+        this.chunkTest = chunkTest;
+    }
+
+    /**
+     * Returns the given filter compiled for the given table, or null if it cannot be compiled: if it is not an AllOf
+     * or AnyOf of column filters that each select a range of keys, or a filter's column has an index, which would
+     * answer that filter without a scan
+     */
+    static FusedFilter compile(Filter filter, Table relation) {
+        if (filter instanceof AllOf) {
+            return allOf(((AllOf) filter).filters(), relation);
+        }
+        if (filter instanceof AnyOf) {
+            return anyOf(((AnyOf) filter).filters(), relation);
+        }
+        if (!(filter instanceof ColumnFilter)) {
+            return null;
+        }
+        ColumnFilter columnFilter = (ColumnFilter) filter;
+        String name = columnFilter.columnReference().getColumnName();
+        if (relation.index(name, Object.class) != null) {
+            return null;
+        }
+        KeyRange range = columnFilter.keyRange(relation);
+        if (range == null) {
+            return null;
+        }
+        Column column = relation.column(name);
+        IntPredicate rowTest = ZoneMap.rowTest(column, range.low(), range.high());
+        if (rowTest == null) {
+            return null;
+        }
+        return new FusedFilter(rowTest, ZoneMap.chunkTest(column, range.low(), range.high()));
+    }
+
+    /**
+     * Returns the conjunction of the given filters, tested in the order given, compiled for the given table, or null
+     * if any of them cannot be compiled
+     */
+    static FusedFilter allOf(List<Filter> filters, Table relation) {
+        List<FusedFilter> parts = compileAll(filters, relation);
+        if (parts == null) {
+            return null;
+        }
+        return new FusedFilter(allOf(rowTests(parts)), combine(parts, Coverage.NONE, Coverage.ALL));
+    }
+
+    /**
+     * Returns the disjunction of the given filters, tested in the order given, compiled for the given table, or null
+     * if any of them cannot be compiled
+     */
+    static FusedFilter anyOf(List<Filter> filters, Table relation) {
+        List<FusedFilter> parts = compileAll(filters, relation);
+        if (parts == null) {
+            return null;
+        }
+        return new FusedFilter(anyOf(rowTests(parts)), combine(parts, Coverage.ALL, Coverage.NONE));
+    }
+
+    /**
+     * Returns the rows among the given candidates that satisfy this filter, as a new selection
+     */
+    Selection apply(Table relation, Selection candidates) {
+        int rowCount = relation.rowCount();
+        IntPredicate test = rowTest;
+        if (candidates.size() == rowCount) {
+            ParallelScan.ChunkScanner scanner = (from, to, rows) -> {
+                int count = 0;
+                for (int row = from; row < to; row++) {
+                    if (test.test(row)) {
+                        rows[count++] = row;
+                    }
+                }
+                return count;
+            };
+            return chunkTest == null
+                    ? ParallelScan.select(rowCount, scanner)
+                    : ParallelScan.select(rowCount, scanner, chunkTest);
+        }
+        return select(candidates, test);
+    }
+
+    /**
+     * Returns the given candidates that pass the given test of a row, as a new selection
+     */
+    static Selection select(Selection candidates, IntPredicate test) {
+        int[] rows = new int[candidates.size()];
+        int count = 0;
+        for (IntIterator it = candidates.iterator(); it.hasNext(); ) {
+            int row = it.nextInt();
+            if (test.test(row)) {
+                rows[count++] = row;
+            }
+        }
+        return BitmapBackedSelection.fromSortedRows(rows, count);
+    }
+
+    private static List<FusedFilter> compileAll(List<Filter> filters, Table relation) {
+        if (filters.isEmpty()) {
+            return null;
+        }
+        List<FusedFilter> parts = new ArrayList<>(filters.size());
+        for (Filter filter : filters) {
+            FusedFilter part = compile(filter, relation);
+            if (part == null) {
+                return null;
+            }
+            parts.add(part);
+        }
+        return parts;
+    }
+
+    private static IntPredicate[] rowTests(List<FusedFilter> parts) {
+        IntPredicate[] tests = new IntPredicate[parts.size()];
+        for (int i = 0; i < tests.length; i++) {
+            tests[i] = parts.get(i).rowTest;
+        }
+        return tests;
+    }
+
+    // conjunctions and disjunctions of two or three tests are spelled out, so that the JIT compiler can inline them
+
+    private static IntPredicate allOf(IntPredicate[] tests) {
+        switch (tests.length) {
+            case 1:
+                return tests[0];
+            case 2: {
+                IntPredicate a = tests[0];
+                IntPredicate b = tests[1];
+                return row -> a.test(row) && b.test(row);
+            }
+            case 3: {
+                IntPredicate a = tests[0];
+                IntPredicate b = tests[1];
+                IntPredicate c = tests[2];
+                return row -> a.test(row) && b.test(row) && c.test(row);
+            }
+            default:
+                return row -> {
+                    for (IntPredicate test : tests) {
+                        if (!test.test(row)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+        }
+    }
+
+    private static IntPredicate anyOf(IntPredicate[] tests) {
+        switch (tests.length) {
+            case 1:
+                return tests[0];
+            case 2: {
+                IntPredicate a = tests[0];
+                IntPredicate b = tests[1];
+                return row -> a.test(row) || b.test(row);
+            }
+            case 3: {
+                IntPredicate a = tests[0];
+                IntPredicate b = tests[1];
+                IntPredicate c = tests[2];
+                return row -> a.test(row) || b.test(row) || c.test(row);
+            }
+            default:
+                return row -> {
+                    for (IntPredicate test : tests) {
+                        if (test.test(row)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                };
+        }
+    }
+
+    /**
+     * Returns the coverage of each chunk by a combination of the given parts, or null if no part has a chunk test. A
+     * chunk is decided by any one part whose coverage of it is the decisive one, and by all the parts together when
+     * each of their coverages is the unanimous one. For a conjunction NONE is decisive and ALL unanimous, and for a
+     * disjunction the reverse
+     */
+    private static ParallelScan.ChunkTest combine(List<FusedFilter> parts, Coverage decisive, Coverage unanimous) {
+        List<ParallelScan.ChunkTest> tests = new ArrayList<>(parts.size());
+        for (FusedFilter part : parts) {
+            if (part.chunkTest != null) {
+                tests.add(part.chunkTest);
+            }
+        }
+        if (tests.isEmpty()) {
+            return null;
+        }
+        // parts without a chunk test may hold rows either way
+        boolean complete = tests.size() == parts.size();
+        return (from, to) -> {
+            int agreeing = 0;
+            for (ParallelScan.ChunkTest test : tests) {
+                Coverage coverage = test.coverage(from, to);
+                if (coverage == decisive) {
+                    return decisive;
+                }
+                if (coverage == unanimous) {
+                    agreeing++;
+                }
+            }
+            return complete && agreeing == tests.size() ? unanimous : Coverage.SOME;
+        };
+    }
+}
@@ -17,6 +17,9 @@ package tech.tablesaw.filtering;
 import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.index.IntRangeIndex;
+import tech.tablesaw.index.KeyRange;
+import tech.tablesaw.util.BitmapBackedSelection;
 import tech.tablesaw.util.Selection;
 
 public class IntBetweenExclusive extends ColumnFilter {
@@ -30,10 +33,26 @@ public class IntBetweenExclusive extends ColumnFilter {
         this.high = highValue;
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection applyIndexed(Table relation) {
+        IntRangeIndex index = index(relation, IntRangeIndex.class);
+        if (index == null) {
+            return null;
+        }
+        if (low == Integer.MAX_VALUE || high == Integer.MIN_VALUE) {
+            return new BitmapBackedSelection();
+        }
+        return index.between(low + 1, high - 1);
+    }
+
+    @Override
+    protected KeyRange keyRange(Table relation) {
+        return hasIntegerKeys(relation) ? KeyRange.between(columnReference.getColumnName(), low + 1L, high - 1L) : null;
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         IntColumn intColumn = (IntColumn) relation.column(columnReference.getColumnName());
-        Selection matches = intColumn.isGreaterThan(low);
-        matches.toBitmap().and(intColumn.isLessThan(high).toBitmap());
-        return matches;
+        return intColumn.selectInParallel(value -> value > low && value < high);
     }
 }
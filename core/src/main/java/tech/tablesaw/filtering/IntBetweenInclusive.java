@@ -17,6 +17,8 @@ package tech.tablesaw.filtering;
 import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.index.IntRangeIndex;
+import tech.tablesaw.index.KeyRange;
 import tech.tablesaw.util.Selection;
 
 public class IntBetweenInclusive extends ColumnFilter {
@@ -30,10 +32,20 @@ public class IntBetweenInclusive extends ColumnFilter {
         this.high = highValue;
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection applyIndexed(Table relation) {
+        IntRangeIndex index = index(relation, IntRangeIndex.class);
+        return index == null ? null : index.between(low, high);
+    }
+
+    @Override
+    protected KeyRange keyRange(Table relation) {
+        return hasIntegerKeys(relation) ? KeyRange.between(columnReference.getColumnName(), low, high) : null;
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         IntColumn intColumn = (IntColumn) relation.column(columnReference.getColumnName());
-        Selection matches = intColumn.isGreaterThanOrEqualTo(low);
-        matches.toBitmap().and(intColumn.isLessThanOrEqualTo(high).toBitmap());
-        return matches;
+        return intColumn.selectInParallel(value -> value >= low && value <= high);
     }
 }
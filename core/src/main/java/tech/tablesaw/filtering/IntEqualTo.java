@@ -22,6 +22,9 @@ import tech.tablesaw.api.ShortColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.index.IntRangeIndex;
+import tech.tablesaw.index.KeyRange;
+import tech.tablesaw.index.LongRangeIndex;
 import tech.tablesaw.util.Selection;
 
 public class IntEqualTo extends ColumnFilter {
@@ -33,7 +36,23 @@ public class IntEqualTo extends ColumnFilter {
         this.value = value;
     }
 
-    public Selection apply(Table table) {
+    @Override
+    protected Selection applyIndexed(Table table) {
+        IntRangeIndex ints = index(table, IntRangeIndex.class);
+        if (ints != null) {
+            return ints.get(value);
+        }
+        LongRangeIndex longs = index(table, LongRangeIndex.class);
+        return longs == null ? null : longs.get(value);
+    }
+
+    @Override
+    protected KeyRange keyRange(Table relation) {
+        return hasIntegerKeys(relation) ? KeyRange.equalTo(columnReference.getColumnName(), value) : null;
+    }
+
+    @Override
+    protected Selection scan(Table table) {
         Column column = table.column(columnReference.getColumnName());
         ColumnType type = column.type();
         switch (type) {
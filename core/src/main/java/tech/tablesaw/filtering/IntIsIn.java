@@ -14,11 +14,16 @@
 
 package tech.tablesaw.filtering;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.index.IntRangeIndex;
+import tech.tablesaw.util.BitmapBackedSelection;
 import tech.tablesaw.util.Selection;
 
 public class IntIsIn extends ColumnFilter {
@@ -35,10 +40,24 @@ public class IntIsIn extends ColumnFilter {
         this.filterColumn = new IntColumn("temp", new IntArrayList(ints));
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection applyIndexed(Table relation) {
+        IntRangeIndex index = index(relation, IntRangeIndex.class);
+        if (index == null) {
+            return null;
+        }
+        List<Selection> matches = new ArrayList<>();
+        for (int value : filterColumn.asSet()) {
+            matches.add(index.get(value));
+        }
+        return BitmapBackedSelection.union(matches);
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         IntColumn intColumn = (IntColumn) relation.column(columnReference.getColumnName());
         IntSet firstSet = intColumn.asSet();
         firstSet.retainAll(filterColumn.data());
-        return intColumn.select(firstSet::contains);
+        return intColumn.selectInParallel(firstSet::contains);
     }
 }
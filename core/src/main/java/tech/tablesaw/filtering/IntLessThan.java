@@ -21,6 +21,9 @@ import tech.tablesaw.api.ShortColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.index.IntRangeIndex;
+import tech.tablesaw.index.KeyRange;
+import tech.tablesaw.index.LongRangeIndex;
 import tech.tablesaw.util.Selection;
 
 public class IntLessThan extends ColumnFilter {
@@ -32,7 +35,23 @@ public class IntLessThan extends ColumnFilter {
         this.value = value;
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection applyIndexed(Table relation) {
+        IntRangeIndex ints = index(relation, IntRangeIndex.class);
+        if (ints != null) {
+            return ints.lessThan(value);
+        }
+        LongRangeIndex longs = index(relation, LongRangeIndex.class);
+        return longs == null ? null : longs.lessThan(value);
+    }
+
+    @Override
+    protected KeyRange keyRange(Table relation) {
+        return hasIntegerKeys(relation) ? KeyRange.lessThan(columnReference.getColumnName(), value) : null;
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         String name = columnReference.getColumnName();
         Column column = relation.column(name);
         ColumnType type = column.type();
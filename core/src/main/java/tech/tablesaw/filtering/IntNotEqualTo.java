@@ -33,7 +33,8 @@ public class IntNotEqualTo extends ColumnFilter {
         this.value = value;
     }
 
-    public Selection apply(Table table) {
+    @Override
+    protected Selection scan(Table table) {
         Column column = table.column(columnReference.getColumnName());
         ColumnType type = column.type();
         switch (type) {
@@ -46,4 +46,16 @@ public class IsFalse extends CompositeFilter {
         selection.andNot(filter.apply(relation));
         return selection;
     }
+
+    @Override
+    public Selection apply(Table relation, Selection candidates) {
+        Selection selection = copyOf(candidates);
+        selection.andNot(filter.apply(relation, candidates));
+        return selection;
+    }
+
+    @Override
+    public double cost() {
+        return filter.cost();
+    }
 }
@@ -29,7 +29,7 @@ public class IsMissing extends ColumnFilter {
     }
 
     @Override
-    public Selection apply(Table relation) {
+    protected Selection scan(Table relation) {
         Column column = relation.column(columnReference.getColumnName());
         return column.isMissing();
     }
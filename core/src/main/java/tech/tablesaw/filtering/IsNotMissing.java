@@ -28,7 +28,8 @@ public class IsNotMissing extends ColumnFilter {
         super(reference);
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection scan(Table relation) {
         Column column = relation.column(columnReference.getColumnName());
         return column.isNotMissing();
     }
@@ -44,4 +44,14 @@ public class IsTrue extends CompositeFilter {
     public Selection apply(Table relation) {
         return filter.apply(relation);
     }
+
+    @Override
+    public Selection apply(Table relation, Selection candidates) {
+        return filter.apply(relation, candidates);
+    }
+
+    @Override
+    public double cost() {
+        return filter.cost();
+    }
 }
@@ -19,6 +19,9 @@ import java.time.LocalDate;
 import tech.tablesaw.api.DateColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.columns.packeddata.PackedLocalDate;
+import tech.tablesaw.index.DateIndex;
+import tech.tablesaw.index.KeyRange;
 import tech.tablesaw.util.Selection;
 
 public class LocalDateBetweenExclusive extends ColumnFilter {
@@ -31,7 +34,20 @@ public class LocalDateBetweenExclusive extends ColumnFilter {
         this.high = highValue;
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection applyIndexed(Table relation) {
+        DateIndex index = index(relation, DateIndex.class);
+        return index == null ? null : index.between(low.plusDays(1), high.minusDays(1));
+    }
+
+    @Override
+    protected KeyRange keyRange(Table relation) {
+        return KeyRange.between(columnReference.getColumnName(), PackedLocalDate.pack(low.plusDays(1)),
+                PackedLocalDate.pack(high.minusDays(1)));
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         DateColumn column = (DateColumn) relation.column(columnReference.getColumnName());
         Selection matches = column.isAfter(low);
         matches.and(column.isBefore(high));
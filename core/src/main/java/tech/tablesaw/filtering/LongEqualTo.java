@@ -17,6 +17,8 @@ package tech.tablesaw.filtering;
 import tech.tablesaw.api.LongColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.index.KeyRange;
+import tech.tablesaw.index.LongRangeIndex;
 import tech.tablesaw.util.Selection;
 
 public class LongEqualTo extends ColumnFilter {
@@ -28,7 +30,19 @@ public class LongEqualTo extends ColumnFilter {
         this.value = value;
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection applyIndexed(Table relation) {
+        LongRangeIndex index = index(relation, LongRangeIndex.class);
+        return index == null ? null : index.get(value);
+    }
+
+    @Override
+    protected KeyRange keyRange(Table relation) {
+        return hasIntegerKeys(relation) ? KeyRange.equalTo(columnReference.getColumnName(), value) : null;
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         LongColumn longColumn = (LongColumn) relation.column(columnReference.getColumnName());
         return longColumn.isEqualTo(value);
     }
@@ -19,6 +19,8 @@ import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.index.CategoryIndex;
+import tech.tablesaw.index.KeyRange;
 import tech.tablesaw.util.Selection;
 
 /**
@@ -33,7 +35,25 @@ public class StringEqualTo extends ColumnFilter {
         this.value = value;
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection applyIndexed(Table relation) {
+        CategoryIndex index = index(relation, CategoryIndex.class);
+        return index == null ? null : index.get(value);
+    }
+
+    @Override
+    protected KeyRange keyRange(Table relation) {
+        Column column = relation.column(columnReference.getColumnName());
+        if (!(column instanceof CategoryColumn)) {
+            return null;
+        }
+        // a string the column does not hold has no code, and its key of -1 matches no rows
+        int code = ((CategoryColumn) column).dictionaryMap().get(value);
+        return KeyRange.equalTo(columnReference.getColumnName(), code);
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         Column column = relation.column(columnReference.getColumnName());
         ColumnType type = column.type();
         switch (type) {
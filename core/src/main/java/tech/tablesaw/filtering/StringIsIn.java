@@ -14,7 +14,9 @@
 
 package tech.tablesaw.filtering;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 import com.google.common.collect.Lists;
@@ -22,6 +24,8 @@ import com.google.common.collect.Lists;
 import tech.tablesaw.api.CategoryColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.index.CategoryIndex;
+import tech.tablesaw.util.BitmapBackedSelection;
 import tech.tablesaw.util.Selection;
 
 /**
@@ -46,7 +50,21 @@ public class StringIsIn extends ColumnFilter {
         this.filterColumn = new CategoryColumn("temp", Lists.newArrayList(strings));
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection applyIndexed(Table relation) {
+        CategoryIndex index = index(relation, CategoryIndex.class);
+        if (index == null) {
+            return null;
+        }
+        List<Selection> matches = new ArrayList<>();
+        for (String value : filterColumn.asSet()) {
+            matches.add(index.get(value));
+        }
+        return BitmapBackedSelection.union(matches);
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         CategoryColumn categoryColumn = (CategoryColumn) relation.column(columnReference.getColumnName());
         Set<String> firstSet = categoryColumn.asSet();
         firstSet.retainAll(filterColumn.data());
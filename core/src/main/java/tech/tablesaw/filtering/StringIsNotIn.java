@@ -46,7 +46,8 @@ public class StringIsNotIn extends ColumnFilter {
         this.filterColumn = new CategoryColumn("temp", Lists.newArrayList(strings));
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection scan(Table relation) {
         CategoryColumn categoryColumn = (CategoryColumn) relation.column(columnReference.getColumnName());
         Set<String> firstSet = categoryColumn.asSet();
         firstSet.removeAll(filterColumn.data());
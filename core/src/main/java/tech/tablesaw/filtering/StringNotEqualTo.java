@@ -33,7 +33,8 @@ public class StringNotEqualTo extends ColumnFilter {
         this.value = value;
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection scan(Table relation) {
         Column column = relation.column(columnReference.getColumnName());
         ColumnType type = column.type();
         switch (type) {
@@ -19,6 +19,9 @@ import java.time.LocalTime;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.api.TimeColumn;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.columns.packeddata.PackedLocalTime;
+import tech.tablesaw.index.KeyRange;
+import tech.tablesaw.index.TimeIndex;
 import tech.tablesaw.util.Selection;
 
 public class TimeEqualTo extends ColumnFilter {
@@ -30,7 +33,19 @@ public class TimeEqualTo extends ColumnFilter {
         this.value = value;
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection applyIndexed(Table relation) {
+        TimeIndex index = index(relation, TimeIndex.class);
+        return index == null ? null : index.get(value);
+    }
+
+    @Override
+    protected KeyRange keyRange(Table relation) {
+        return KeyRange.equalTo(columnReference.getColumnName(), PackedLocalTime.pack(value));
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         TimeColumn dateColumn = (TimeColumn) relation.column(columnReference.getColumnName());
         return dateColumn.isEqualTo(value);
     }
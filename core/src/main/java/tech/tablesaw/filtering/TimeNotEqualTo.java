@@ -30,7 +30,8 @@ public class TimeNotEqualTo extends ColumnFilter {
         this.value = value;
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection scan(Table relation) {
         TimeColumn dateColumn = (TimeColumn) relation.column(columnReference.getColumnName());
         return dateColumn.isNotEqualTo(value);
     }
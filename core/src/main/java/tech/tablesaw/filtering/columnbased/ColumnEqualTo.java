@@ -14,7 +14,10 @@
 
 package tech.tablesaw.filtering.columnbased;
 
+import java.util.List;
+
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
 
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.CategoryColumn;
@@ -42,6 +45,11 @@ public class ColumnEqualTo extends ColumnFilter {
         otherColumn = b;
     }
 
+    @Override
+    protected List<String> columnNames() {
+        return ImmutableSet.of(columnReference().getColumnName(), otherColumn.getColumnName()).asList();
+    }
+
     private static Selection apply(IntColumn column1, IntColumn column2) {
         return column1.isEqualTo(column2);
     }
@@ -82,7 +90,8 @@ public class ColumnEqualTo extends ColumnFilter {
         return column1.isEqualTo(column2);
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection scan(Table relation) {
 
         Column column = relation.column(columnReference().getColumnName());
         Column other = relation.column(otherColumn.getColumnName());
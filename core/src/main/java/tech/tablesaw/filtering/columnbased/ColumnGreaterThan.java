@@ -14,7 +14,10 @@
 
 package tech.tablesaw.filtering.columnbased;
 
+import java.util.List;
+
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.FloatColumn;
@@ -36,6 +39,11 @@ public class ColumnGreaterThan extends ColumnFilter {
         otherColumn = b;
     }
 
+    @Override
+    protected List<String> columnNames() {
+        return ImmutableSet.of(columnReference().getColumnName(), otherColumn.getColumnName()).asList();
+    }
+
     private static Selection apply(IntColumn column1, IntColumn column2) {
         return column1.isGreaterThan(column2);
     }
@@ -56,7 +64,8 @@ public class ColumnGreaterThan extends ColumnFilter {
         return column1.isGreaterThan(column2);
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection scan(Table relation) {
 
         Column column = relation.column(columnReference().getColumnName());
         Column other = relation.column(otherColumn.getColumnName());
@@ -17,7 +17,10 @@ package tech.tablesaw.filtering.dates;
 import tech.tablesaw.api.DateColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.columns.packeddata.PackedLocalDate;
 import tech.tablesaw.filtering.ColumnFilter;
+import tech.tablesaw.index.DateIndex;
+import tech.tablesaw.index.KeyRange;
 import tech.tablesaw.util.Selection;
 
 public class LocalDateIsBefore extends ColumnFilter {
@@ -30,8 +33,24 @@ public class LocalDateIsBefore extends ColumnFilter {
     }
 
     @Override
-    public Selection apply(Table relation) {
+    protected Selection applyIndexed(Table relation) {
+        DateIndex index = index(relation, DateIndex.class);
+        if (index == null || value == DateColumn.MISSING_VALUE) {
+            return null;
+        }
+        return index.lessThan(PackedLocalDate.asLocalDate(value));
+    }
 
+    @Override
+    protected KeyRange keyRange(Table relation) {
+        if (value == DateColumn.MISSING_VALUE) {
+            return null;
+        }
+        return KeyRange.lessThan(columnReference().getColumnName(), value);
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         DateColumn dateColumn = (DateColumn) relation.column(columnReference().getColumnName());
         return dateColumn.isBefore(value);
     }
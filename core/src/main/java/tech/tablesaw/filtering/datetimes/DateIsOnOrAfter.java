@@ -34,7 +34,7 @@ public class DateIsOnOrAfter extends ColumnFilter {
     }
 
     @Override
-    public Selection apply(Table relation) {
+    protected Selection scan(Table relation) {
 
         DateTimeColumn dateColumn = (DateTimeColumn) relation.column(columnReference().getColumnName());
         return dateColumn.isOnOrAfter(value);
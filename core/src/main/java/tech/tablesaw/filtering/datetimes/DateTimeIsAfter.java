@@ -19,7 +19,10 @@ import javax.annotation.concurrent.Immutable;
 import tech.tablesaw.api.DateTimeColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.columns.packeddata.PackedLocalDateTime;
 import tech.tablesaw.filtering.ColumnFilter;
+import tech.tablesaw.index.DateTimeIndex;
+import tech.tablesaw.index.KeyRange;
 import tech.tablesaw.util.Selection;
 
 import java.time.LocalDateTime;
@@ -36,8 +39,18 @@ public class DateTimeIsAfter extends ColumnFilter {
     }
 
     @Override
-    public Selection apply(Table relation) {
+    protected Selection applyIndexed(Table relation) {
+        DateTimeIndex index = index(relation, DateTimeIndex.class);
+        return index == null ? null : index.greaterThan(value);
+    }
 
+    @Override
+    protected KeyRange keyRange(Table relation) {
+        return KeyRange.greaterThan(columnReference().getColumnName(), PackedLocalDateTime.pack(value));
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         DateTimeColumn dateColumn = relation.dateTimeColumn(columnReference().getColumnName());
         return dateColumn.isAfter(value);
     }
@@ -19,7 +19,10 @@ import java.time.LocalDateTime;
 import tech.tablesaw.api.DateTimeColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.columns.packeddata.PackedLocalDateTime;
 import tech.tablesaw.filtering.ColumnFilter;
+import tech.tablesaw.index.DateTimeIndex;
+import tech.tablesaw.index.KeyRange;
 import tech.tablesaw.util.Selection;
 
 
@@ -33,8 +36,18 @@ public class DateTimeIsBefore extends ColumnFilter {
     }
 
     @Override
-    public Selection apply(Table relation) {
+    protected Selection applyIndexed(Table relation) {
+        DateTimeIndex index = index(relation, DateTimeIndex.class);
+        return index == null ? null : index.lessThan(value);
+    }
 
+    @Override
+    protected KeyRange keyRange(Table relation) {
+        return KeyRange.lessThan(columnReference().getColumnName(), PackedLocalDateTime.pack(value));
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         DateTimeColumn dateColumn = (DateTimeColumn) relation.column(columnReference().getColumnName());
         return dateColumn.isBefore(value);
     }
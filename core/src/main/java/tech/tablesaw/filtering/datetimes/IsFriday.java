@@ -30,7 +30,7 @@ public class IsFriday extends ColumnFilter {
     }
 
     @Override
-    public Selection apply(Table relation) {
+    protected Selection scan(Table relation) {
 
         String name = columnReference().getColumnName();
         Column column = relation.column(name);
@@ -30,7 +30,7 @@ public class IsInApril extends ColumnFilter {
     }
 
     @Override
-    public Selection apply(Table relation) {
+    protected Selection scan(Table relation) {
         String name = columnReference().getColumnName();
         Column column = relation.column(name);
         ColumnType type = column.type();
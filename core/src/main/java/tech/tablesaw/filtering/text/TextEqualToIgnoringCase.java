@@ -37,7 +37,7 @@ public class TextEqualToIgnoringCase extends ColumnFilter {
     }
 
     @Override
-    public Selection apply(Table relation) {
+    protected Selection scan(Table relation) {
         Column column = relation.column(columnReference().getColumnName());
         CategoryColumn textColumn = (CategoryColumn) column;
         return textColumn.equalToIgnoringCase(string);
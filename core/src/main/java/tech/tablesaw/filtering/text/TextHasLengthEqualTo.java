@@ -38,7 +38,7 @@ public class TextHasLengthEqualTo extends ColumnFilter {
     }
 
     @Override
-    public Selection apply(Table relation) {
+    protected Selection scan(Table relation) {
         Column column = relation.column(columnReference().getColumnName());
         CategoryColumn textColumn = (CategoryColumn) column;
         return textColumn.hasLengthEqualTo(length);
@@ -34,7 +34,7 @@ public class TextIsAlpha extends ColumnFilter {
     }
 
     @Override
-    public Selection apply(Table relation) {
+    protected Selection scan(Table relation) {
         Column column = relation.column(columnReference().getColumnName());
         CategoryColumn textColumn = (CategoryColumn) column;
         return textColumn.isAlpha();
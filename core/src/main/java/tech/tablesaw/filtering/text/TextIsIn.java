@@ -14,6 +14,9 @@
 
 package tech.tablesaw.filtering.text;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.annotation.concurrent.Immutable;
 
 import tech.tablesaw.api.CategoryColumn;
@@ -21,6 +24,8 @@ import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.ColumnReference;
 import tech.tablesaw.filtering.ColumnFilter;
+import tech.tablesaw.index.CategoryIndex;
+import tech.tablesaw.util.BitmapBackedSelection;
 import tech.tablesaw.util.Selection;
 
 /**
@@ -37,7 +42,20 @@ public class TextIsIn extends ColumnFilter {
     }
 
     @Override
-    public Selection apply(Table relation) {
+    protected Selection applyIndexed(Table relation) {
+        CategoryIndex index = index(relation, CategoryIndex.class);
+        if (index == null) {
+            return null;
+        }
+        List<Selection> matches = new ArrayList<>(strings.length);
+        for (String string : strings) {
+            matches.add(index.get(string));
+        }
+        return BitmapBackedSelection.union(matches);
+    }
+
+    @Override
+    protected Selection scan(Table relation) {
         Column column = relation.column(columnReference().getColumnName());
         CategoryColumn textColumn = (CategoryColumn) column;
         return textColumn.isIn(strings);
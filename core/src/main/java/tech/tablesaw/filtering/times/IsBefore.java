@@ -31,7 +31,8 @@ public class IsBefore extends ColumnFilter {
         this.value = value;
     }
 
-    public Selection apply(Table relation) {
+    @Override
+    protected Selection scan(Table relation) {
         TimeColumn timeColumn = (TimeColumn) relation.column(columnReference().getColumnName());
         return timeColumn.isBefore(value);
     }
@@ -14,56 +14,49 @@
 
 package tech.tablesaw.index;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import tech.tablesaw.api.CategoryColumn;
-import tech.tablesaw.util.BitmapBackedSelection;
 import tech.tablesaw.util.Selection;
 
 /**
- * An index for four-byte integer and Date columns
+ * An index for category columns, holding the rows of each category. The rows are counted and added to the posting
+ * lists in passes over the column's integer codes, without looking up their strings
  */
 public class CategoryIndex {
 
-  private final Map<String,IntArrayList> index;
-
-  public CategoryIndex(CategoryColumn column) {
-    int sizeEstimate = Integer.min(1_000_000, column.size() / 100);
-    Map<String,IntArrayList> tempMap = new HashMap<>(sizeEstimate);
-    for (int i = 0; i < column.size(); i++) {
-      String value = column.get(i);
-      IntArrayList recordIds = tempMap.get(value);
-      if (recordIds == null) {
-        recordIds = new IntArrayList();
-        recordIds.add(i);
-        tempMap.put(value, recordIds);
-      } else {
-        recordIds.add(i);
-      }
+    // the code of each category, copied from the column's dictionary when the index was built
+    private final Object2IntOpenHashMap<String> codes;
+
+    // the rows holding each code
+    private final Postings postings;
+
+    public CategoryIndex(CategoryColumn column) {
+        Int2ObjectMap<String> dictionary = column.dictionaryMap().keyToValueMap();
+        codes = new Object2IntOpenHashMap<>(dictionary.size());
+        codes.defaultReturnValue(-1);
+        int codeLimit = 0;
+        for (Int2ObjectMap.Entry<String> entry : dictionary.int2ObjectEntrySet()) {
+            codes.put(entry.getValue(), entry.getIntKey());
+            codeLimit = Math.max(codeLimit, entry.getIntKey() + 1);
+        }
+        int[] values = column.data().elements();
+        int[] counts = new int[codeLimit];
+        for (int row = 0; row < column.size(); row++) {
+            counts[values[row]]++;
+        }
+        postings = new Postings(counts, column.size());
+        for (int row = 0; row < column.size(); row++) {
+            postings.add(values[row], row);
+        }
     }
-    index = new HashMap<>(tempMap);
-  }
 
-  private static void addAllToSelection(IntArrayList tableKeys, Selection selection) {
-    for (int i : tableKeys) {
-      selection.add(i);
+    /**
+     * Returns a bitmap containing row numbers of all cells matching the given string
+     *
+     * @param value This is a 'key' from the index perspective, meaning it is a value from the standpoint of the column
+     */
+    public Selection get(String value) {
+        return postings.get(codes.getInt(value));
     }
-  }
-
-  /**
-   * Returns a bitmap containing row numbers of all cells matching the given int
-   *
-   * @param value This is a 'key' from the index perspective, meaning it is a value from the standpoint of the column
-   */
-  public Selection get(String value) {
-    Selection selection = new BitmapBackedSelection();
-    IntArrayList list = index.get(value);
-    if (list != null) {
-      addAllToSelection(list, selection);
-    }
-    return selection;
-  }
-
 }
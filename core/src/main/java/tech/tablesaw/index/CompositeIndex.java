@@ -0,0 +1,429 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntToLongFunction;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import tech.tablesaw.api.CategoryColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.packeddata.PackedLocalDate;
+import tech.tablesaw.columns.packeddata.PackedLocalDateTime;
+import tech.tablesaw.columns.packeddata.PackedLocalTime;
+import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.Selection;
+
+/**
+ * An index on several columns of a table taken together, such as (tenant, day) or (symbol, timestamp). It answers
+ * queries that fix the values of some leading columns and give a range of values for the column after them: the
+ * rows of one tenant between two days, say, or of one symbol at a single time.
+ * <p>
+ * The index holds the rows of the table sorted on the columns in order, one int per row, and reads the values from
+ * the columns themselves as long keys: the values of int and long columns, the packed values of date, time and
+ * date-time columns, and the dictionary codes of category columns. The rows matching a query are a contiguous slice
+ * of the sorted rows, found with two binary searches, so a query costs the same however many rows each of its columns
+ * matches on its own. Ranges on category columns are ranges of dictionary codes, so only equality is meaningful on
+ * them.
+ * <p>
+ * An index keeps references to its columns and is only valid while they are unchanged. It is not modified after
+ * construction, so it may be queried from several threads at once
+ */
+public class CompositeIndex {
+
+    private final List<Column> columns;
+    private final int size;
+
+    // the modification count of each column when the index was built
+    private final int[] modCounts;
+
+    // the key of each column in each row
+    private final IntToLongFunction[] keys;
+
+    // the rows, sorted on the keys of the first column, then of the second, and so on, and in row order among rows
+    // with equal keys in all the columns
+    private final int[] rows;
+
+    /**
+     * Indexes the given columns, which must be int, long, category, date, time or date-time columns of the same size
+     *
+     * @throws IllegalArgumentException if there are no columns, or any is of another type or a different size
+     */
+    public CompositeIndex(List<Column> columns) {
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("An index must be on at least one column");
+        }
+        this.columns = Collections.unmodifiableList(new ArrayList<>(columns));
+        this.size = columns.get(0).size();
+        this.keys = new IntToLongFunction[columns.size()];
+        this.modCounts = new int[columns.size()];
+        for (int c = 0; c < keys.length; c++) {
+            Column column = columns.get(c);
+            modCounts[c] = column.modCount();
+            if (column.size() != size) {
+                throw new IllegalArgumentException("Column " + column.name() + " has " + column.size()
+                        + " rows, but column " + columns.get(0).name() + " has " + size);
+            }
+            keys[c] = keyFunction(column);
+        }
+        this.rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            rows[row] = row;
+        }
+        // stable sorts from the last column to the first leave the rows in order on all the columns together
+        for (int c = columns.size() - 1; c >= 0; c--) {
+            sort(rows, columns.get(c));
+        }
+    }
+
+    private static IntToLongFunction keyFunction(Column column) {
+        switch (column.type()) {
+            case INTEGER:
+                int[] ints = ((IntColumn) column).data().elements();
+                return row -> ints[row];
+            case CATEGORY:
+                int[] codes = ((CategoryColumn) column).data().elements();
+                return row -> codes[row];
+            case LOCAL_DATE:
+                int[] dates = ((DateColumn) column).data().elements();
+                return row -> dates[row];
+            case LOCAL_TIME:
+                int[] times = ((TimeColumn) column).data().elements();
+                return row -> times[row];
+            case LONG_INT:
+                long[] longs = ((LongColumn) column).data().elements();
+                return row -> longs[row];
+            case LOCAL_DATE_TIME:
+                long[] dateTimes = ((DateTimeColumn) column).data().elements();
+                return row -> dateTimes[row];
+            default:
+                throw new IllegalArgumentException("Columns of type " + column.type()
+                        + " cannot be part of a composite index");
+        }
+    }
+
+    /**
+     * Sorts the given rows on their values in the given column with a stable radix sort, so rows with equal values
+     * stay in the order they were in
+     */
+    private static void sort(int[] rows, Column column) {
+        switch (column.type()) {
+            case INTEGER:
+                IntArrays.radixSortIndirect(rows, ((IntColumn) column).data().elements(), true);
+                break;
+            case CATEGORY:
+                IntArrays.radixSortIndirect(rows, ((CategoryColumn) column).data().elements(), true);
+                break;
+            case LOCAL_DATE:
+                IntArrays.radixSortIndirect(rows, ((DateColumn) column).data().elements(), true);
+                break;
+            case LOCAL_TIME:
+                IntArrays.radixSortIndirect(rows, ((TimeColumn) column).data().elements(), true);
+                break;
+            case LONG_INT:
+                LongArrays.radixSortIndirect(rows, ((LongColumn) column).data().elements(), true);
+                break;
+            case LOCAL_DATE_TIME:
+                LongArrays.radixSortIndirect(rows, ((DateTimeColumn) column).data().elements(), true);
+                break;
+            default:
+                throw new IllegalStateException("Unhandled column type in case statement");
+        }
+    }
+
+    /**
+     * Returns the indexed columns, in order
+     */
+    public List<Column> columns() {
+        return columns;
+    }
+
+    /**
+     * Returns false if any of the indexed columns has changed size, or had its values changed in place, since the
+     * index was built
+     */
+    boolean isCurrent() {
+        for (int c = 0; c < modCounts.length; c++) {
+            Column column = columns.get(c);
+            if (column.size() != size || column.modCount() != modCounts[c]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the rows whose values in the leading columns of the index equal the given values, in order. Values are
+     * given as Numbers for int and long columns, Strings for category columns, and LocalDates, LocalTimes and
+     * LocalDateTimes for the temporal columns
+     *
+     * @throws IllegalArgumentException if more values are given than there are columns, or a value is of the wrong
+     *                                  type for its column
+     */
+    public Selection get(Object... values) {
+        List<KeyRange> ranges = new ArrayList<>(values.length);
+        for (int c = 0; c < values.length; c++) {
+            checkColumn(c);
+            ranges.add(KeyRange.equalTo(columns.get(c).name(), key(c, values[c])));
+        }
+        return select(ranges);
+    }
+
+    /**
+     * Returns the rows whose values in the leading columns of the index equal the given prefix values, and whose value
+     * in the next column is from low to high, inclusive. Values are given as for {@link #get(Object...)}
+     *
+     * @throws IllegalArgumentException if the prefix leaves no column for the range, or a value is of the wrong type
+     *                                  for its column
+     */
+    public Selection between(List<?> prefix, Object low, Object high) {
+        int last = prefix.size();
+        checkColumn(last);
+        if (columns.get(last) instanceof CategoryColumn) {
+            throw new IllegalArgumentException("Category column " + columns.get(last).name()
+                    + " is indexed on its dictionary codes, and does not support ranges");
+        }
+        List<KeyRange> ranges = new ArrayList<>(last + 1);
+        for (int c = 0; c < last; c++) {
+            ranges.add(KeyRange.equalTo(columns.get(c).name(), key(c, prefix.get(c))));
+        }
+        ranges.add(KeyRange.between(columns.get(last).name(), key(last, low), key(last, high)));
+        return select(ranges);
+    }
+
+    private void checkColumn(int c) {
+        if (c >= columns.size()) {
+            throw new IllegalArgumentException("The index has only " + columns.size() + " columns");
+        }
+    }
+
+    /**
+     * Returns the key of the given value in the column at the given position. A string that is not in the dictionary
+     * of a category column has a key that matches no row
+     */
+    private long key(int c, Object value) {
+        Column column = columns.get(c);
+        switch (column.type()) {
+            case INTEGER:
+            case LONG_INT:
+                if (value instanceof Number) {
+                    return ((Number) value).longValue();
+                }
+                break;
+            case CATEGORY:
+                if (value instanceof String) {
+                    return ((CategoryColumn) column).dictionaryMap().get((String) value);
+                }
+                break;
+            case LOCAL_DATE:
+                if (value instanceof LocalDate) {
+                    return PackedLocalDate.pack((LocalDate) value);
+                }
+                break;
+            case LOCAL_TIME:
+                if (value instanceof LocalTime) {
+                    return PackedLocalTime.pack((LocalTime) value);
+                }
+                break;
+            case LOCAL_DATE_TIME:
+                if (value instanceof LocalDateTime) {
+                    return PackedLocalDateTime.pack((LocalDateTime) value);
+                }
+                break;
+            default:
+                break;
+        }
+        throw new IllegalArgumentException("Cannot look up " + value + " in column " + column.name()
+                + " of type " + column.type());
+    }
+
+    /**
+     * Returns those of the given ranges that this index can be used for, in the order of its columns: the range on
+     * each leading column in turn while the ranges are single keys, followed by the range on the next column, if
+     * there is one. Ranges are matched to columns by name, ignoring case
+     */
+    public List<KeyRange> usableRanges(List<KeyRange> ranges) {
+        List<KeyRange> usable = new ArrayList<>();
+        for (Column column : columns) {
+            KeyRange range = null;
+            for (KeyRange candidate : ranges) {
+                if (candidate.columnName().equalsIgnoreCase(column.name())) {
+                    range = candidate;
+                    break;
+                }
+            }
+            if (range == null) {
+                break;
+            }
+            usable.add(range);
+            if (!range.isEquality()) {
+                break;
+            }
+        }
+        return usable;
+    }
+
+    /**
+     * Returns the rows whose keys in the leading columns of the index are in the given ranges, which are for the
+     * columns in order: all but the last must hold a single key
+     *
+     * @throws IllegalArgumentException if there are more ranges than columns, or a range other than the last is not
+     *                                  a single key
+     */
+    public Selection select(List<KeyRange> ranges) {
+        int length = ranges.size();
+        if (length > columns.size()) {
+            throw new IllegalArgumentException("The index has only " + columns.size() + " columns, but "
+                    + length + " ranges were given");
+        }
+        long[] lowKeys = new long[length];
+        long[] highKeys = new long[length];
+        for (int c = 0; c < length; c++) {
+            KeyRange range = ranges.get(c);
+            if (c < length - 1 && !range.isEquality()) {
+                throw new IllegalArgumentException("Only the last range may hold more than one key, but " + range
+                        + " does");
+            }
+            lowKeys[c] = range.low();
+            highKeys[c] = range.high();
+        }
+        int from = first(lowKeys, false);
+        int to = first(highKeys, true);
+        if (from >= to) {
+            return new BitmapBackedSelection();
+        }
+        int[] selected = Arrays.copyOfRange(rows, from, to);
+        // rows that are equal on every column are already in row order
+        if (length < columns.size() || !ranges.get(length - 1).isEquality()) {
+            Arrays.sort(selected);
+        }
+        return BitmapBackedSelection.fromSortedRows(selected, selected.length);
+    }
+
+    /**
+     * Returns the position in rows of the first row whose keys in the leading columns are greater than the given keys
+     * (if after is true) or at least the given keys (if it is false), or the number of rows if there is none
+     */
+    private int first(long[] probe, boolean after) {
+        int low = 0;
+        int high = rows.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compare(rows[middle], probe);
+            if (comparison < 0 || (after && comparison == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compares the keys of the given row in the leading columns to the given keys
+     */
+    private int compare(int row, long[] probe) {
+        for (int c = 0; c < probe.length; c++) {
+            int comparison = Long.compare(keys[c].applyAsLong(row), probe[c]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Finds the rows of this index that match each row of the given probe columns on all the indexed columns, and
+     * adds each pair to the given lists: the probe row to probeRows and the indexed row to indexRows. Pairs are added
+     * in probe row order, and in row order for a probe row with several matches. The probe columns are matched to
+     * the indexed columns in order, and category columns are matched on their strings
+     *
+     * @throws IllegalArgumentException if the probe columns are not of the same number and types as the indexed
+     *                                  columns
+     */
+    public void join(List<Column> probeColumns, IntArrayList probeRows, IntArrayList indexRows) {
+        if (probeColumns.size() != columns.size()) {
+            throw new IllegalArgumentException("Cannot join " + probeColumns.size() + " columns to an index on "
+                    + columns.size());
+        }
+        IntToLongFunction[] probeKeys = new IntToLongFunction[columns.size()];
+        for (int c = 0; c < probeKeys.length; c++) {
+            Column probeColumn = probeColumns.get(c);
+            Column column = columns.get(c);
+            if (probeColumn.type() != column.type()) {
+                throw new IllegalArgumentException("Cannot join column " + probeColumn.name() + " of type "
+                        + probeColumn.type() + " to column " + column.name() + " of type " + column.type());
+            }
+            probeKeys[c] = probeColumn instanceof CategoryColumn
+                    ? translatedCodes((CategoryColumn) probeColumn, (CategoryColumn) column)
+                    : keyFunction(probeColumn);
+        }
+        int probeSize = probeColumns.get(0).size();
+        long[] probe = new long[columns.size()];
+        int from = 0;
+        int to = 0;
+        for (int row = 0; row < probeSize; row++) {
+            boolean same = row > 0;
+            for (int c = 0; c < probe.length; c++) {
+                long key = probeKeys[c].applyAsLong(row);
+                same &= key == probe[c];
+                probe[c] = key;
+            }
+            // consecutive probe rows often share their keys, and then share their matches
+            if (!same) {
+                from = first(probe, false);
+                to = first(probe, true);
+            }
+            for (int i = from; i < to; i++) {
+                probeRows.add(row);
+                indexRows.add(rows[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the keys of the rows of a probe column in the given indexed column: the codes in the indexed column's
+     * dictionary of the strings in the probe column, or -1 for strings the indexed column does not hold
+     */
+    private static IntToLongFunction translatedCodes(CategoryColumn probeColumn, CategoryColumn column) {
+        int[] translation = new int[0];
+        for (Int2ObjectMap.Entry<String> entry : probeColumn.dictionaryMap().keyToValueMap().int2ObjectEntrySet()) {
+            int probeCode = entry.getIntKey();
+            if (probeCode >= translation.length) {
+                int oldLength = translation.length;
+                translation = Arrays.copyOf(translation, Math.max(probeCode + 1, oldLength * 2));
+                Arrays.fill(translation, oldLength, translation.length, -1);
+            }
+            translation[probeCode] = column.dictionaryMap().get(entry.getValue());
+        }
+        int[] codes = probeColumn.data().elements();
+        int[] translated = translation;
+        return row -> codes[row] < translated.length ? translated[codes[row]] : -1;
+    }
+}
@@ -25,10 +25,21 @@ import tech.tablesaw.util.Selection;
  */
 public class DateIndex {
 
-    private final IntIndex index;
+    private final IntRangeIndex index;
 
     public DateIndex(DateColumn column) {
-        index = new IntIndex(column);
+        this(new IntIndex(column));
+    }
+
+    private DateIndex(IntRangeIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * Returns a compact index on the given column, for columns with many distinct values. See {@link IntSortedIndex}
+     */
+    public static DateIndex sorted(DateColumn column) {
+        return new DateIndex(new IntSortedIndex(column));
     }
 
     /**
@@ -55,4 +66,11 @@ public class DateIndex {
     public Selection lessThan(LocalDate value) {
         return index.lessThan(PackedLocalDate.pack(value));
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the rows holding dates from low to high, inclusive
+     */
+    public Selection between(LocalDate low, LocalDate high) {
+        return index.between(PackedLocalDate.pack(low), PackedLocalDate.pack(high));
+    }
+}
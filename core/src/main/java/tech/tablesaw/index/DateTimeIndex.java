@@ -25,10 +25,21 @@ import tech.tablesaw.util.Selection;
  */
 public class DateTimeIndex {
 
-    private final LongIndex index;
+    private final LongRangeIndex index;
 
     public DateTimeIndex(DateTimeColumn column) {
-        index = new LongIndex(column);
+        this(new LongIndex(column));
+    }
+
+    private DateTimeIndex(LongRangeIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * Returns a compact index on the given column, for columns with many distinct values. See {@link LongSortedIndex}
+     */
+    public static DateTimeIndex sorted(DateTimeColumn column) {
+        return new DateTimeIndex(new LongSortedIndex(column));
     }
 
     /**
@@ -55,4 +66,11 @@ public class DateTimeIndex {
     public Selection lessThan(LocalDateTime value) {
         return index.lessThan(PackedLocalDateTime.pack(value));
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the rows holding date-times from low to high, inclusive
+     */
+    public Selection between(LocalDateTime low, LocalDateTime high) {
+        return index.between(PackedLocalDateTime.pack(low), PackedLocalDateTime.pack(high));
+    }
+}
@@ -14,93 +14,132 @@
 
 package tech.tablesaw.index;
 
-import it.unimi.dsi.fastutil.doubles.Double2ObjectAVLTreeMap;
-import it.unimi.dsi.fastutil.doubles.Double2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.doubles.Double2ObjectSortedMap;
-import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.Arrays;
+
+import it.unimi.dsi.fastutil.doubles.Double2IntOpenHashMap;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.util.BitmapBackedSelection;
 import tech.tablesaw.util.Selection;
 
 /**
- * An index for double-precision 64-bit IEEE 754 floating point columns.
+ * An index for eight-byte floating point columns. See {@link IntIndex}. Missing values (NaN) can be found with
+ * {@link #get(double)}, but are in no range of values
  */
-public class DoubleIndex {
+public class DoubleIndex implements DoubleRangeIndex {
+
+    // the distinct values in the column, in ascending order
+    private final double[] keys;
 
-    private final Double2ObjectAVLTreeMap<IntArrayList> index;
+    // the number of keys that are not NaN, which sorts after every other key
+    private final int end;
 
+    // the rows holding each key, in the same order as the keys
+    private final Postings postings;
+
+    /**
+     * Indexes the values of the given column
+     */
     public DoubleIndex(DoubleColumn column) {
-        int sizeEstimate = Integer.min(1_000_000, column.size() / 100);
-        Double2ObjectOpenHashMap<IntArrayList> tempMap = new Double2ObjectOpenHashMap<>(sizeEstimate);
-        for (int i = 0; i < column.size(); i++) {
-            double value = column.get(i);
-            IntArrayList recordIds = tempMap.get(value);
-            if (recordIds == null) {
-                recordIds = new IntArrayList();
-                recordIds.add(i);
-                tempMap.trim();
-                tempMap.put(value, recordIds);
-            } else {
-                recordIds.add(i);
-            }
-        }
-        index = new Double2ObjectAVLTreeMap<>(tempMap);
+        this(column.data().elements(), column.size());
     }
 
-    private static void addAllToSelection(IntArrayList tableKeys, Selection selection) {
-        for (int i : tableKeys) {
-            selection.add(i);
+    /**
+     * Indexes the first size values of the given array. The distinct values are found by hashing, and sorted; the
+     * rows of each value are then counted, and added to the posting lists in a single pass, in ascending order.
+     * Values are indexed and looked up plus zero, which turns -0.0 into 0.0, so that the two zeros share a key as
+     * they compare equal
+     */
+    private DoubleIndex(double[] values, int size) {
+        Double2IntOpenHashMap positions = new Double2IntOpenHashMap();
+        for (int row = 0; row < size; row++) {
+            positions.put(values[row] + 0.0, 0);
+        }
+        keys = positions.keySet().toDoubleArray();
+        Arrays.sort(keys);
+        int end = keys.length;
+        while (end > 0 && Double.isNaN(keys[end - 1])) {
+            end--;
+        }
+        this.end = end;
+        for (int i = 0; i < keys.length; i++) {
+            positions.put(keys[i], i);
         }
+        int[] counts = new int[keys.length];
+        for (int row = 0; row < size; row++) {
+            counts[positions.get(values[row] + 0.0)]++;
+        }
+        postings = new Postings(counts, size);
+        for (int row = 0; row < size; row++) {
+            postings.add(positions.get(values[row] + 0.0), row);
+        }
+    }
+
+    /**
+     * Returns the position of the first key at least the given value, or the number of keys if there is none
+     */
+    private int firstAtLeast(double value) {
+        int position = Arrays.binarySearch(keys, value + 0.0);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    /**
+     * Returns the position of the first key greater than the given value, or the number of keys if there is none
+     */
+    private int firstGreaterThan(double value) {
+        int position = Arrays.binarySearch(keys, value + 0.0);
+        return position >= 0 ? position + 1 : -position - 1;
     }
 
     /**
-     * Returns a bitmap containing row numbers of all cells matching the given int
+     * Returns a bitmap containing row numbers of all cells matching the given double
      *
      * @param value This is a 'key' from the index perspective, meaning it is a value from the standpoint of the column
      */
+    @Override
     public Selection get(double value) {
-        Selection selection = new BitmapBackedSelection();
-        IntArrayList list = index.get(value);
-        if (list != null) {
-          addAllToSelection(list, selection);
-        }
-        return selection;
+        return postings.get(Arrays.binarySearch(keys, value + 0.0));
     }
 
+    @Override
     public Selection atLeast(double value) {
-        Selection selection = new BitmapBackedSelection();
-        Double2ObjectSortedMap<IntArrayList> tail = index.tailMap(value);
-        for (IntArrayList keys : tail.values()) {
-            addAllToSelection(keys, selection);
+        if (Double.isNaN(value)) {
+            return new BitmapBackedSelection();
         }
-        return selection;
+        return postings.union(firstAtLeast(value), end);
     }
 
+    @Override
     public Selection greaterThan(double value) {
-        Selection selection = new BitmapBackedSelection();
-        Double2ObjectSortedMap<IntArrayList> tail = index.tailMap(value + 0.000001);
-        for (IntArrayList keys : tail.values()) {
-            addAllToSelection(keys, selection);
+        if (Double.isNaN(value)) {
+            return new BitmapBackedSelection();
         }
-        return selection;
+        return postings.union(firstGreaterThan(value), end);
     }
 
+    @Override
     public Selection atMost(double value) {
-        Selection selection = new BitmapBackedSelection();
-        Double2ObjectSortedMap<IntArrayList> head = index.headMap(value + 0.000001);  // we add 1 to get values equal
-        // to the arg
-        for (IntArrayList keys : head.values()) {
-            addAllToSelection(keys, selection);
+        if (Double.isNaN(value)) {
+            return new BitmapBackedSelection();
         }
-        return selection;
+        return postings.union(0, Math.min(firstGreaterThan(value), end));
     }
 
+    @Override
     public Selection lessThan(double value) {
-        Selection selection = new BitmapBackedSelection();
-        Double2ObjectSortedMap<IntArrayList> head = index.headMap(value);
-        for (IntArrayList keys : head.values()) {
-            addAllToSelection(keys, selection);
+        if (Double.isNaN(value)) {
+            return new BitmapBackedSelection();
+        }
+        return postings.union(0, Math.min(firstAtLeast(value), end));
+    }
+
+    /**
+     * Returns the rows holding values from low to high, inclusive
+     */
+    @Override
+    public Selection between(double low, double high) {
+        if (Double.isNaN(low) || Double.isNaN(high)) {
+            return new BitmapBackedSelection();
         }
-        return selection;
+        return postings.union(firstAtLeast(low), Math.min(firstGreaterThan(high), end));
     }
-}
\ No newline at end of file
+}
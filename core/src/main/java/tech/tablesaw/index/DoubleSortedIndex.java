@@ -0,0 +1,166 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import java.util.Arrays;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrays;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.Selection;
+
+/**
+ * A compact index for eight-byte floating point columns with many distinct values. See {@link IntSortedIndex}.
+ * Missing values (NaN) can be found with {@link #get(double)}, but are in no range of values
+ */
+public class DoubleSortedIndex implements DoubleRangeIndex {
+
+    // the values of the column, shared with it rather than copied
+    private final double[] values;
+
+    // the rows of the column in ascending order of their values, and in row order among rows with equal values
+    private final int[] rows;
+
+    // the number of rows whose values are not NaN, which sorts after every other value
+    private final int end;
+
+    /**
+     * Indexes the values of the given column
+     */
+    public DoubleSortedIndex(DoubleColumn column) {
+        this(column.data().elements(), column.size());
+    }
+
+    /**
+     * Indexes the first size values of the given array, ordering the rows with a stable radix sort
+     */
+    private DoubleSortedIndex(double[] values, int size) {
+        this.values = values;
+        this.rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            rows[row] = row;
+        }
+        DoubleArrays.radixSortIndirect(rows, values, true);
+        // the sort puts -0.0 before 0.0, which compare equal, so the rows holding either are put back in row order
+        Arrays.sort(rows, firstAtLeast(0.0), firstGreaterThan(0.0));
+        this.end = firstAtLeast(Double.NaN);
+    }
+
+    /**
+     * Returns the position in rows of the first row whose value is at least the given value, or the number of rows
+     * if there is none
+     */
+    private int firstAtLeast(double value) {
+        // compared plus zero, which turns -0.0 into 0.0
+        double key = value + 0.0;
+        int low = 0;
+        int high = rows.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (Double.compare(values[rows[middle]] + 0.0, key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position in rows of the first row whose value is greater than the given value, or the number of
+     * rows if there is none
+     */
+    private int firstGreaterThan(double value) {
+        double key = value + 0.0;
+        int low = 0;
+        int high = rows.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (Double.compare(values[rows[middle]] + 0.0, key) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the rows from position from (inclusive) to to (exclusive), which are in ascending order of their
+     * values, as a selection
+     */
+    private Selection select(int from, int to) {
+        if (from >= to) {
+            return new BitmapBackedSelection();
+        }
+        int[] selected = Arrays.copyOfRange(rows, from, to);
+        Arrays.sort(selected);
+        return BitmapBackedSelection.fromSortedRows(selected, selected.length);
+    }
+
+    /**
+     * Returns the rows holding the given value
+     */
+    @Override
+    public Selection get(double value) {
+        // the rows with equal values are already in row order
+        int from = firstAtLeast(value);
+        int to = firstGreaterThan(value);
+        return BitmapBackedSelection.fromSortedRows(Arrays.copyOfRange(rows, from, to), to - from);
+    }
+
+    @Override
+    public Selection atLeast(double value) {
+        if (Double.isNaN(value)) {
+            return new BitmapBackedSelection();
+        }
+        return select(firstAtLeast(value), end);
+    }
+
+    @Override
+    public Selection greaterThan(double value) {
+        if (Double.isNaN(value)) {
+            return new BitmapBackedSelection();
+        }
+        return select(firstGreaterThan(value), end);
+    }
+
+    @Override
+    public Selection atMost(double value) {
+        if (Double.isNaN(value)) {
+            return new BitmapBackedSelection();
+        }
+        return select(0, Math.min(firstGreaterThan(value), end));
+    }
+
+    @Override
+    public Selection lessThan(double value) {
+        if (Double.isNaN(value)) {
+            return new BitmapBackedSelection();
+        }
+        return select(0, Math.min(firstAtLeast(value), end));
+    }
+
+    /**
+     * Returns the rows holding values from low to high, inclusive
+     */
+    @Override
+    public Selection between(double low, double high) {
+        if (Double.isNaN(low) || Double.isNaN(high)) {
+            return new BitmapBackedSelection();
+        }
+        return select(firstAtLeast(low), Math.min(firstGreaterThan(high), end));
+    }
+}
@@ -14,93 +14,132 @@
 
 package tech.tablesaw.index;
 
-import it.unimi.dsi.fastutil.floats.Float2ObjectAVLTreeMap;
-import it.unimi.dsi.fastutil.floats.Float2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.floats.Float2ObjectSortedMap;
-import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.Arrays;
+
+import it.unimi.dsi.fastutil.floats.Float2IntOpenHashMap;
 import tech.tablesaw.api.FloatColumn;
 import tech.tablesaw.util.BitmapBackedSelection;
 import tech.tablesaw.util.Selection;
 
 /**
- * An index for four-byte floating point columns
+ * An index for four-byte floating point columns. See {@link IntIndex}. Missing values (NaN) can be found with
+ * {@link #get(float)}, but are in no range of values
  */
-public class FloatIndex {
+public class FloatIndex implements FloatRangeIndex {
+
+    // the distinct values in the column, in ascending order
+    private final float[] keys;
 
-    private final Float2ObjectAVLTreeMap<IntArrayList> index;
+    // the number of keys that are not NaN, which sorts after every other key
+    private final int end;
 
+    // the rows holding each key, in the same order as the keys
+    private final Postings postings;
+
+    /**
+     * Indexes the values of the given column
+     */
     public FloatIndex(FloatColumn column) {
-        int sizeEstimate = Integer.min(1_000_000, column.size() / 100);
-        Float2ObjectOpenHashMap<IntArrayList> tempMap = new Float2ObjectOpenHashMap<>(sizeEstimate);
-        for (int i = 0; i < column.size(); i++) {
-            float value = column.get(i);
-            IntArrayList recordIds = tempMap.get(value);
-            if (recordIds == null) {
-                recordIds = new IntArrayList();
-                recordIds.add(i);
-                tempMap.trim();
-                tempMap.put(value, recordIds);
-            } else {
-                recordIds.add(i);
-            }
-        }
-        index = new Float2ObjectAVLTreeMap<>(tempMap);
+        this(column.data().elements(), column.size());
     }
 
-    private static void addAllToSelection(IntArrayList tableKeys, Selection selection) {
-        for (int i : tableKeys) {
-            selection.add(i);
+    /**
+     * Indexes the first size values of the given array. The distinct values are found by hashing, and sorted; the
+     * rows of each value are then counted, and added to the posting lists in a single pass, in ascending order.
+     * Values are indexed and looked up plus zero, which turns -0.0 into 0.0, so that the two zeros share a key as
+     * they compare equal
+     */
+    private FloatIndex(float[] values, int size) {
+        Float2IntOpenHashMap positions = new Float2IntOpenHashMap();
+        for (int row = 0; row < size; row++) {
+            positions.put(values[row] + 0.0f, 0);
+        }
+        keys = positions.keySet().toFloatArray();
+        Arrays.sort(keys);
+        int end = keys.length;
+        while (end > 0 && Float.isNaN(keys[end - 1])) {
+            end--;
+        }
+        this.end = end;
+        for (int i = 0; i < keys.length; i++) {
+            positions.put(keys[i], i);
         }
+        int[] counts = new int[keys.length];
+        for (int row = 0; row < size; row++) {
+            counts[positions.get(values[row] + 0.0f)]++;
+        }
+        postings = new Postings(counts, size);
+        for (int row = 0; row < size; row++) {
+            postings.add(positions.get(values[row] + 0.0f), row);
+        }
+    }
+
+    /**
+     * Returns the position of the first key at least the given value, or the number of keys if there is none
+     */
+    private int firstAtLeast(float value) {
+        int position = Arrays.binarySearch(keys, value + 0.0f);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    /**
+     * Returns the position of the first key greater than the given value, or the number of keys if there is none
+     */
+    private int firstGreaterThan(float value) {
+        int position = Arrays.binarySearch(keys, value + 0.0f);
+        return position >= 0 ? position + 1 : -position - 1;
     }
 
     /**
-     * Returns a bitmap containing row numbers of all cells matching the given int
+     * Returns a bitmap containing row numbers of all cells matching the given float
      *
      * @param value This is a 'key' from the index perspective, meaning it is a value from the standpoint of the column
      */
+    @Override
     public Selection get(float value) {
-        Selection selection = new BitmapBackedSelection();
-        IntArrayList list = index.get(value);
-        if (list != null) {
-          addAllToSelection(list, selection);
-        }
-        return selection;
+        return postings.get(Arrays.binarySearch(keys, value + 0.0f));
     }
 
+    @Override
     public Selection atLeast(float value) {
-        Selection selection = new BitmapBackedSelection();
-        Float2ObjectSortedMap<IntArrayList> tail = index.tailMap(value);
-        for (IntArrayList keys : tail.values()) {
-            addAllToSelection(keys, selection);
+        if (Float.isNaN(value)) {
+            return new BitmapBackedSelection();
         }
-        return selection;
+        return postings.union(firstAtLeast(value), end);
     }
 
+    @Override
     public Selection greaterThan(float value) {
-        Selection selection = new BitmapBackedSelection();
-        Float2ObjectSortedMap<IntArrayList> tail = index.tailMap(value + 0.000001f);
-        for (IntArrayList keys : tail.values()) {
-            addAllToSelection(keys, selection);
+        if (Float.isNaN(value)) {
+            return new BitmapBackedSelection();
         }
-        return selection;
+        return postings.union(firstGreaterThan(value), end);
     }
 
+    @Override
     public Selection atMost(float value) {
-        Selection selection = new BitmapBackedSelection();
-        Float2ObjectSortedMap<IntArrayList> head = index.headMap(value + 0.000001f);  // we add 1 to get values equal
-        // to the arg
-        for (IntArrayList keys : head.values()) {
-            addAllToSelection(keys, selection);
+        if (Float.isNaN(value)) {
+            return new BitmapBackedSelection();
         }
-        return selection;
+        return postings.union(0, Math.min(firstGreaterThan(value), end));
     }
 
+    @Override
     public Selection lessThan(float value) {
-        Selection selection = new BitmapBackedSelection();
-        Float2ObjectSortedMap<IntArrayList> head = index.headMap(value);  // we add 1 to get values equal to the arg
-        for (IntArrayList keys : head.values()) {
-            addAllToSelection(keys, selection);
+        if (Float.isNaN(value)) {
+            return new BitmapBackedSelection();
+        }
+        return postings.union(0, Math.min(firstAtLeast(value), end));
+    }
+
+    /**
+     * Returns the rows holding values from low to high, inclusive
+     */
+    @Override
+    public Selection between(float low, float high) {
+        if (Float.isNaN(low) || Float.isNaN(high)) {
+            return new BitmapBackedSelection();
         }
-        return selection;
+        return postings.union(firstAtLeast(low), Math.min(firstGreaterThan(high), end));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import tech.tablesaw.util.Selection;
+
+/**
+ * An index that finds the rows of a four-byte floating point column holding a value, or a range of values. Values are
+ * compared as they are by the column's filters, so -0.0 equals 0.0, and missing values (NaN) are in no range. The
+ * selections returned may be modified by their callers
+ */
+public interface FloatRangeIndex {
+
+    /**
+     * Returns the rows holding the given value
+     */
+    Selection get(float value);
+
+    /**
+     * Returns the rows holding values greater than or equal to the given value
+     */
+    Selection atLeast(float value);
+
+    /**
+     * Returns the rows holding values greater than the given value
+     */
+    Selection greaterThan(float value);
+
+    /**
+     * Returns the rows holding values less than or equal to the given value
+     */
+    Selection atMost(float value);
+
+    /**
+     * Returns the rows holding values less than the given value
+     */
+    Selection lessThan(float value);
+
+    /**
+     * Returns the rows holding values from low to high, inclusive
+     */
+    Selection between(float low, float high);
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import java.util.Arrays;
+
+import it.unimi.dsi.fastutil.floats.FloatArrays;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.Selection;
+
+/**
+ * A compact index for four-byte floating point columns with many distinct values. See {@link IntSortedIndex}. Missing
+ * values (NaN) can be found with {@link #get(float)}, but are in no range of values
+ */
+public class FloatSortedIndex implements FloatRangeIndex {
+
+    // the values of the column, shared with it rather than copied
+    private final float[] values;
+
+    // the rows of the column in ascending order of their values, and in row order among rows with equal values
+    private final int[] rows;
+
+    // the number of rows whose values are not NaN, which sorts after every other value
+    private final int end;
+
+    /**
+     * Indexes the values of the given column
+     */
+    public FloatSortedIndex(FloatColumn column) {
+        this(column.data().elements(), column.size());
+    }
+
+    /**
+     * Indexes the first size values of the given array, ordering the rows with a stable radix sort
+     */
+    private FloatSortedIndex(float[] values, int size) {
+        this.values = values;
+        this.rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            rows[row] = row;
+        }
+        FloatArrays.radixSortIndirect(rows, values, true);
+        // the sort puts -0.0 before 0.0, which compare equal, so the rows holding either are put back in row order
+        Arrays.sort(rows, firstAtLeast(0.0f), firstGreaterThan(0.0f));
+        this.end = firstAtLeast(Float.NaN);
+    }
+
+    /**
+     * Returns the position in rows of the first row whose value is at least the given value, or the number of rows
+     * if there is none
+     */
+    private int firstAtLeast(float value) {
+        // compared plus zero, which turns -0.0 into 0.0
+        float key = value + 0.0f;
+        int low = 0;
+        int high = rows.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (Float.compare(values[rows[middle]] + 0.0f, key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position in rows of the first row whose value is greater than the given value, or the number of
+     * rows if there is none
+     */
+    private int firstGreaterThan(float value) {
+        float key = value + 0.0f;
+        int low = 0;
+        int high = rows.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (Float.compare(values[rows[middle]] + 0.0f, key) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the rows from position from (inclusive) to to (exclusive), which are in ascending order of their
+     * values, as a selection
+     */
+    private Selection select(int from, int to) {
+        if (from >= to) {
+            return new BitmapBackedSelection();
+        }
+        int[] selected = Arrays.copyOfRange(rows, from, to);
+        Arrays.sort(selected);
+        return BitmapBackedSelection.fromSortedRows(selected, selected.length);
+    }
+
+    /**
+     * Returns the rows holding the given value
+     */
+    @Override
+    public Selection get(float value) {
+        // the rows with equal values are already in row order
+        int from = firstAtLeast(value);
+        int to = firstGreaterThan(value);
+        return BitmapBackedSelection.fromSortedRows(Arrays.copyOfRange(rows, from, to), to - from);
+    }
+
+    @Override
+    public Selection atLeast(float value) {
+        if (Float.isNaN(value)) {
+            return new BitmapBackedSelection();
+        }
+        return select(firstAtLeast(value), end);
+    }
+
+    @Override
+    public Selection greaterThan(float value) {
+        if (Float.isNaN(value)) {
+            return new BitmapBackedSelection();
+        }
+        return select(firstGreaterThan(value), end);
+    }
+
+    @Override
+    public Selection atMost(float value) {
+        if (Float.isNaN(value)) {
+            return new BitmapBackedSelection();
+        }
+        return select(0, Math.min(firstGreaterThan(value), end));
+    }
+
+    @Override
+    public Selection lessThan(float value) {
+        if (Float.isNaN(value)) {
+            return new BitmapBackedSelection();
+        }
+        return select(0, Math.min(firstAtLeast(value), end));
+    }
+
+    /**
+     * Returns the rows holding values from low to high, inclusive
+     */
+    @Override
+    public Selection between(float low, float high) {
+        if (Float.isNaN(low) || Float.isNaN(high)) {
+            return new BitmapBackedSelection();
+        }
+        return select(firstAtLeast(low), Math.min(firstGreaterThan(high), end));
+    }
+}
@@ -14,131 +14,123 @@
 
 package tech.tablesaw.index;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectAVLTreeMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectSortedMap;
-import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.Arrays;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import tech.tablesaw.api.DateColumn;
 import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.TimeColumn;
-import tech.tablesaw.util.BitmapBackedSelection;
 import tech.tablesaw.util.Selection;
 
-
 /**
- * An index for four-byte integer and integer backed columns (date, category, time)
+ * An index for four-byte integer and integer backed columns (date, time), holding the distinct values in a sorted
+ * array and the rows of each in a posting list. Values are found by binary search, and the rows for a range of
+ * values are the union of the posting lists of a contiguous run of keys
  */
-public class IntIndex {
+public class IntIndex implements IntRangeIndex {
+
+    // the distinct values in the column, in ascending order
+    private final int[] keys;
 
-    private final Int2ObjectAVLTreeMap<IntArrayList> index;
+    // the rows holding each key, in the same order as the keys
+    private final Postings postings;
 
+    /**
+     * Indexes the values of the given column
+     */
     public IntIndex(IntColumn column) {
-        int sizeEstimate = Integer.min(1_000_000, column.size() / 100);
-        Int2ObjectOpenHashMap<IntArrayList> tempMap = new Int2ObjectOpenHashMap<>(sizeEstimate);
-        for (int i = 0; i < column.size(); i++) {
-            int value = column.get(i);
-            IntArrayList recordIds = tempMap.get(value);
-            if (recordIds == null) {
-                recordIds = new IntArrayList();
-                recordIds.add(i);
-                tempMap.trim();
-                tempMap.put(value, recordIds);
-            } else {
-                recordIds.add(i);
-            }
-        }
-        index = new Int2ObjectAVLTreeMap<>(tempMap);
+        this(column.data().elements(), column.size());
     }
 
+    /**
+     * Indexes the packed dates of the given column
+     */
     public IntIndex(DateColumn column) {
-        int sizeEstimate = Integer.min(1_000_000, column.size() / 100);
-        Int2ObjectOpenHashMap<IntArrayList> tempMap = new Int2ObjectOpenHashMap<>(sizeEstimate);
-        for (int i = 0; i < column.size(); i++) {
-            int value = column.getIntInternal(i);
-            IntArrayList recordIds = tempMap.get(value);
-            if (recordIds == null) {
-                recordIds = new IntArrayList();
-                recordIds.add(i);
-                tempMap.trim();
-                tempMap.put(value, recordIds);
-            } else {
-                recordIds.add(i);
-            }
-        }
-        index = new Int2ObjectAVLTreeMap<>(tempMap);
+        this(column.data().elements(), column.size());
     }
 
+    /**
+     * Indexes the packed times of the given column
+     */
     public IntIndex(TimeColumn column) {
-        int sizeEstimate = Integer.min(1_000_000, column.size() / 100);
-        Int2ObjectOpenHashMap<IntArrayList> tempMap = new Int2ObjectOpenHashMap<>(sizeEstimate);
-        for (int i = 0; i < column.size(); i++) {
-            int value = column.getIntInternal(i);
-            IntArrayList recordIds = tempMap.get(value);
-            if (recordIds == null) {
-                recordIds = new IntArrayList();
-                recordIds.add(i);
-                tempMap.trim();
-                tempMap.put(value, recordIds);
-            } else {
-                recordIds.add(i);
-            }
-        }
-        index = new Int2ObjectAVLTreeMap<>(tempMap);
+        this(column.data().elements(), column.size());
     }
 
-    private static void addAllToSelection(IntArrayList tableKeys, Selection selection) {
-        for (int i : tableKeys) {
-            selection.add(i);
+    /**
+     * Indexes the first size values of the given array. The distinct values are found by hashing, and sorted; the
+     * rows of each value are then counted, and added to the posting lists in a single pass, in ascending order
+     */
+    private IntIndex(int[] values, int size) {
+        Int2IntOpenHashMap positions = new Int2IntOpenHashMap();
+        for (int row = 0; row < size; row++) {
+            positions.put(values[row], 0);
+        }
+        keys = positions.keySet().toIntArray();
+        Arrays.sort(keys);
+        for (int i = 0; i < keys.length; i++) {
+            positions.put(keys[i], i);
+        }
+        int[] counts = new int[keys.length];
+        for (int row = 0; row < size; row++) {
+            counts[positions.get(values[row])]++;
+        }
+        postings = new Postings(counts, size);
+        for (int row = 0; row < size; row++) {
+            postings.add(positions.get(values[row]), row);
         }
     }
 
+    /**
+     * Returns the position of the first key at least the given value, or the number of keys if there is none
+     */
+    private int firstAtLeast(int value) {
+        int position = Arrays.binarySearch(keys, value);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    /**
+     * Returns the position of the first key greater than the given value, or the number of keys if there is none
+     */
+    private int firstGreaterThan(int value) {
+        int position = Arrays.binarySearch(keys, value);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
     /**
      * Returns a bitmap containing row numbers of all cells matching the given int
      *
      * @param value This is a 'key' from the index perspective, meaning it is a value from the standpoint of the column
      */
+    @Override
     public Selection get(int value) {
-        Selection selection = new BitmapBackedSelection();
-        IntArrayList list = index.get(value);
-        if (list != null) {
-          addAllToSelection(list, selection);
-        }
-        return selection;
+        return postings.get(Arrays.binarySearch(keys, value));
     }
 
+    @Override
     public Selection atLeast(int value) {
-        Selection selection = new BitmapBackedSelection();
-        Int2ObjectSortedMap<IntArrayList> tail = index.tailMap(value);
-        for (IntArrayList keys : tail.values()) {
-            addAllToSelection(keys, selection);
-        }
-        return selection;
+        return postings.union(firstAtLeast(value), keys.length);
     }
 
+    @Override
     public Selection greaterThan(int value) {
-        Selection selection = new BitmapBackedSelection();
-        Int2ObjectSortedMap<IntArrayList> tail = index.tailMap(value + 1);
-        for (IntArrayList keys : tail.values()) {
-            addAllToSelection(keys, selection);
-        }
-        return selection;
+        return postings.union(firstGreaterThan(value), keys.length);
     }
 
+    @Override
     public Selection atMost(int value) {
-        Selection selection = new BitmapBackedSelection();
-        Int2ObjectSortedMap<IntArrayList> head = index.headMap(value + 1);  // we add 1 to get values equal to the arg
-        for (IntArrayList keys : head.values()) {
-            addAllToSelection(keys, selection);
-        }
-        return selection;
+        return postings.union(0, firstGreaterThan(value));
     }
 
+    @Override
     public Selection lessThan(int value) {
-        Selection selection = new BitmapBackedSelection();
-        Int2ObjectSortedMap<IntArrayList> head = index.headMap(value);  // we add 1 to get values equal to the arg
-        for (IntArrayList keys : head.values()) {
-            addAllToSelection(keys, selection);
-        }
-        return selection;
+        return postings.union(0, firstAtLeast(value));
+    }
+
+    /**
+     * Returns the rows holding values from low to high, inclusive
+     */
+    @Override
+    public Selection between(int low, int high) {
+        return postings.union(firstAtLeast(low), firstGreaterThan(high));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import tech.tablesaw.util.Selection;
+
+/**
+ * An index that finds the rows of a four-byte integer or integer backed column (date, time) holding a value, or a range of values.
+ * Values are compared as ints, so dates and times are given in their packed form. The selections returned may be modified
+ * by their callers
+ */
+public interface IntRangeIndex {
+
+    /**
+     * Returns the rows holding the given value
+     */
+    Selection get(int value);
+
+    /**
+     * Returns the rows holding values greater than or equal to the given value
+     */
+    Selection atLeast(int value);
+
+    /**
+     * Returns the rows holding values greater than the given value
+     */
+    Selection greaterThan(int value);
+
+    /**
+     * Returns the rows holding values less than or equal to the given value
+     */
+    Selection atMost(int value);
+
+    /**
+     * Returns the rows holding values less than the given value
+     */
+    Selection lessThan(int value);
+
+    /**
+     * Returns the rows holding values from low to high, inclusive
+     */
+    Selection between(int low, int high);
+}
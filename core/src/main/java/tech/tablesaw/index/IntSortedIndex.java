@@ -0,0 +1,156 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import java.util.Arrays;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.Selection;
+
+/**
+ * A compact index for four-byte integer and integer backed columns (date, time) with many distinct values, such as
+ * ids. It holds only the rows of the column sorted by value, one int per row, and reads the values from the column
+ * itself. A value or range of values is found with two binary searches, and its rows are a contiguous slice of the
+ * sorted rows.
+ * <p>
+ * Where values repeat often, an {@link IntIndex} answers queries with less work
+ */
+public class IntSortedIndex implements IntRangeIndex {
+
+    // the values of the column, shared with it rather than copied
+    private final int[] values;
+
+    // the rows of the column in ascending order of their values, and in row order among rows with equal values
+    private final int[] rows;
+
+    /**
+     * Indexes the values of the given column
+     */
+    public IntSortedIndex(IntColumn column) {
+        this(column.data().elements(), column.size());
+    }
+
+    /**
+     * Indexes the packed dates of the given column
+     */
+    public IntSortedIndex(DateColumn column) {
+        this(column.data().elements(), column.size());
+    }
+
+    /**
+     * Indexes the packed times of the given column
+     */
+    public IntSortedIndex(TimeColumn column) {
+        this(column.data().elements(), column.size());
+    }
+
+    /**
+     * Indexes the first size values of the given array, ordering the rows with a stable radix sort
+     */
+    private IntSortedIndex(int[] values, int size) {
+        this.values = values;
+        this.rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            rows[row] = row;
+        }
+        IntArrays.radixSortIndirect(rows, values, true);
+    }
+
+    /**
+     * Returns the position in rows of the first row whose value is at least the given value, or the number of rows
+     * if there is none
+     */
+    private int firstAtLeast(int value) {
+        int low = 0;
+        int high = rows.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[rows[middle]] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position in rows of the first row whose value is greater than the given value, or the number of
+     * rows if there is none
+     */
+    private int firstGreaterThan(int value) {
+        int low = 0;
+        int high = rows.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[rows[middle]] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the rows from position from (inclusive) to to (exclusive), which are in ascending order of their
+     * values, as a selection
+     */
+    private Selection select(int from, int to) {
+        if (from >= to) {
+            return new BitmapBackedSelection();
+        }
+        int[] selected = Arrays.copyOfRange(rows, from, to);
+        Arrays.sort(selected);
+        return BitmapBackedSelection.fromSortedRows(selected, selected.length);
+    }
+
+    @Override
+    public Selection get(int value) {
+        // the rows with equal values are already in row order
+        int from = firstAtLeast(value);
+        int to = firstGreaterThan(value);
+        return BitmapBackedSelection.fromSortedRows(Arrays.copyOfRange(rows, from, to), to - from);
+    }
+
+    @Override
+    public Selection atLeast(int value) {
+        return select(firstAtLeast(value), rows.length);
+    }
+
+    @Override
+    public Selection greaterThan(int value) {
+        return select(firstGreaterThan(value), rows.length);
+    }
+
+    @Override
+    public Selection atMost(int value) {
+        return select(0, firstGreaterThan(value));
+    }
+
+    @Override
+    public Selection lessThan(int value) {
+        return select(0, firstAtLeast(value));
+    }
+
+    @Override
+    public Selection between(int low, int high) {
+        return select(firstAtLeast(low), firstGreaterThan(high));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+/**
+ * An inclusive range of keys in a column, as used by a {@link CompositeIndex} or a {@link ZoneMap}. The key of a value
+ * is the value itself for integer columns, its packed form for date, time and date-time columns, its dictionary code
+ * for category columns, and {@link ZoneMap#key(double)} for float and double columns. A range whose low bound is
+ * greater than its high bound is empty
+ */
+public final class KeyRange {
+
+    private final String columnName;
+    private final long low;
+    private final long high;
+
+    private KeyRange(String columnName, long low, long high) {
+        this.columnName = columnName;
+        this.low = low;
+        this.high = high;
+    }
+
+    /**
+     * Returns the range holding only the given key
+     */
+    public static KeyRange equalTo(String columnName, long key) {
+        return new KeyRange(columnName, key, key);
+    }
+
+    /**
+     * Returns the keys from low to high, inclusive
+     */
+    public static KeyRange between(String columnName, long low, long high) {
+        return new KeyRange(columnName, low, high);
+    }
+
+    /**
+     * Returns the keys greater than or equal to the given key
+     */
+    public static KeyRange atLeast(String columnName, long key) {
+        return new KeyRange(columnName, key, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the keys greater than the given key
+     */
+    public static KeyRange greaterThan(String columnName, long key) {
+        return key == Long.MAX_VALUE ? empty(columnName) : atLeast(columnName, key + 1);
+    }
+
+    /**
+     * Returns the keys less than or equal to the given key
+     */
+    public static KeyRange atMost(String columnName, long key) {
+        return new KeyRange(columnName, Long.MIN_VALUE, key);
+    }
+
+    /**
+     * Returns the keys less than the given key
+     */
+    public static KeyRange lessThan(String columnName, long key) {
+        return key == Long.MIN_VALUE ? empty(columnName) : atMost(columnName, key - 1);
+    }
+
+    private static KeyRange empty(String columnName) {
+        return new KeyRange(columnName, 1, 0);
+    }
+
+    public String columnName() {
+        return columnName;
+    }
+
+    public long low() {
+        return low;
+    }
+
+    public long high() {
+        return high;
+    }
+
+    /**
+     * Returns true if this range holds a single key
+     */
+    public boolean isEquality() {
+        return low == high;
+    }
+
+    @Override
+    public String toString() {
+        return columnName + " [" + low + ", " + high + "]";
+    }
+}
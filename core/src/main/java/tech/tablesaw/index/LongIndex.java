@@ -14,62 +14,77 @@
 
 package tech.tablesaw.index;
 
-import it.unimi.dsi.fastutil.ints.IntArrayList;
-import it.unimi.dsi.fastutil.longs.Long2ObjectAVLTreeMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectSortedMap;
+import java.util.Arrays;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import tech.tablesaw.api.DateTimeColumn;
 import tech.tablesaw.api.LongColumn;
-import tech.tablesaw.util.BitmapBackedSelection;
 import tech.tablesaw.util.Selection;
 
 /**
- * An index for eight-byte long and long backed columns (datetime)
+ * An index for eight-byte long and long backed columns (datetime), holding the distinct values in a sorted array and
+ * the rows of each in a posting list. See {@link IntIndex}
  */
-public class LongIndex {
+public class LongIndex implements LongRangeIndex {
+
+    // the distinct values in the column, in ascending order
+    private final long[] keys;
 
-    private final Long2ObjectAVLTreeMap<IntArrayList> index;
+    // the rows holding each key, in the same order as the keys
+    private final Postings postings;
 
+    /**
+     * Indexes the values of the given column
+     */
     public LongIndex(LongColumn column) {
-        int sizeEstimate = Integer.min(1_000_000, column.size() / 100);
-        Long2ObjectOpenHashMap<IntArrayList> tempMap = new Long2ObjectOpenHashMap<>(sizeEstimate);
-        for (int i = 0; i < column.size(); i++) {
-            long value = column.get(i);
-            IntArrayList recordIds = tempMap.get(value);
-            if (recordIds == null) {
-                recordIds = new IntArrayList();
-                recordIds.add(i);
-                tempMap.trim();
-                tempMap.put(value, recordIds);
-            } else {
-                recordIds.add(i);
-            }
-        }
-        index = new Long2ObjectAVLTreeMap<>(tempMap);
+        this(column.data().elements(), column.size());
     }
 
+    /**
+     * Indexes the packed date-times of the given column
+     */
     public LongIndex(DateTimeColumn column) {
-        int sizeEstimate = Integer.min(1_000_000, column.size() / 100);
-        Long2ObjectOpenHashMap<IntArrayList> tempMap = new Long2ObjectOpenHashMap<>(sizeEstimate);
-        for (int i = 0; i < column.size(); i++) {
-            long value = column.getLongInternal(i);
-            IntArrayList recordIds = tempMap.get(value);
-            if (recordIds == null) {
-                recordIds = new IntArrayList();
-                recordIds.add(i);
-                tempMap.trim();
-                tempMap.put(value, recordIds);
-            } else {
-                recordIds.add(i);
-            }
-        }
-        index = new Long2ObjectAVLTreeMap<>(tempMap);
+        this(column.data().elements(), column.size());
     }
 
-    private static void addAllToSelection(IntArrayList tableKeys, Selection selection) {
-        for (int i : tableKeys) {
-            selection.add(i);
+    /**
+     * Indexes the first size values of the given array. The distinct values are found by hashing, and sorted; the
+     * rows of each value are then counted, and added to the posting lists in a single pass, in ascending order
+     */
+    private LongIndex(long[] values, int size) {
+        Long2IntOpenHashMap positions = new Long2IntOpenHashMap();
+        for (int row = 0; row < size; row++) {
+            positions.put(values[row], 0);
+        }
+        keys = positions.keySet().toLongArray();
+        Arrays.sort(keys);
+        for (int i = 0; i < keys.length; i++) {
+            positions.put(keys[i], i);
+        }
+        int[] counts = new int[keys.length];
+        for (int row = 0; row < size; row++) {
+            counts[positions.get(values[row])]++;
         }
+        postings = new Postings(counts, size);
+        for (int row = 0; row < size; row++) {
+            postings.add(positions.get(values[row]), row);
+        }
+    }
+
+    /**
+     * Returns the position of the first key at least the given value, or the number of keys if there is none
+     */
+    private int firstAtLeast(long value) {
+        int position = Arrays.binarySearch(keys, value);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    /**
+     * Returns the position of the first key greater than the given value, or the number of keys if there is none
+     */
+    private int firstGreaterThan(long value) {
+        int position = Arrays.binarySearch(keys, value);
+        return position >= 0 ? position + 1 : -position - 1;
     }
 
     /**
@@ -77,48 +92,36 @@ public class LongIndex {
      *
      * @param value This is a 'key' from the index perspective, meaning it is a value from the standpoint of the column
      */
+    @Override
     public Selection get(long value) {
-        Selection selection = new BitmapBackedSelection();
-        IntArrayList list = index.get(value);
-        if (list != null) {
-          addAllToSelection(list, selection);
-        }
-        return selection;
+        return postings.get(Arrays.binarySearch(keys, value));
     }
 
+    @Override
     public Selection atLeast(long value) {
-        Selection selection = new BitmapBackedSelection();
-        Long2ObjectSortedMap<IntArrayList> tail = index.tailMap(value);
-        for (IntArrayList keys : tail.values()) {
-            addAllToSelection(keys, selection);
-        }
-        return selection;
+        return postings.union(firstAtLeast(value), keys.length);
     }
 
+    @Override
     public Selection greaterThan(long value) {
-        Selection selection = new BitmapBackedSelection();
-        Long2ObjectSortedMap<IntArrayList> tail = index.tailMap(value + 1);
-        for (IntArrayList keys : tail.values()) {
-            addAllToSelection(keys, selection);
-        }
-        return selection;
+        return postings.union(firstGreaterThan(value), keys.length);
     }
 
+    @Override
     public Selection atMost(long value) {
-        Selection selection = new BitmapBackedSelection();
-        Long2ObjectSortedMap<IntArrayList> head = index.headMap(value + 1);  // we add 1 to get values equal to the arg
-        for (IntArrayList keys : head.values()) {
-            addAllToSelection(keys, selection);
-        }
-        return selection;
+        return postings.union(0, firstGreaterThan(value));
     }
 
+    @Override
     public Selection lessThan(long value) {
-        Selection selection = new BitmapBackedSelection();
-        Long2ObjectSortedMap<IntArrayList> head = index.headMap(value);  // we add 1 to get values equal to the arg
-        for (IntArrayList keys : head.values()) {
-            addAllToSelection(keys, selection);
-        }
-        return selection;
+        return postings.union(0, firstAtLeast(value));
+    }
+
+    /**
+     * Returns the rows holding values from low to high, inclusive
+     */
+    @Override
+    public Selection between(long low, long high) {
+        return postings.union(firstAtLeast(low), firstGreaterThan(high));
     }
-}
\ No newline at end of file
+}
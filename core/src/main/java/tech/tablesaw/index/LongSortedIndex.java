@@ -0,0 +1,144 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import java.util.Arrays;
+
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.Selection;
+
+/**
+ * A compact index for eight-byte long and long backed columns (datetime) with many distinct values, such as
+ * timestamps. It holds only the rows of the column sorted by value, one int per row. See {@link IntSortedIndex}
+ */
+public class LongSortedIndex implements LongRangeIndex {
+
+    // the values of the column, shared with it rather than copied
+    private final long[] values;
+
+    // the rows of the column in ascending order of their values, and in row order among rows with equal values
+    private final int[] rows;
+
+    /**
+     * Indexes the values of the given column
+     */
+    public LongSortedIndex(LongColumn column) {
+        this(column.data().elements(), column.size());
+    }
+
+    /**
+     * Indexes the packed date-times of the given column
+     */
+    public LongSortedIndex(DateTimeColumn column) {
+        this(column.data().elements(), column.size());
+    }
+
+    /**
+     * Indexes the first size values of the given array, ordering the rows with a stable radix sort
+     */
+    private LongSortedIndex(long[] values, int size) {
+        this.values = values;
+        this.rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            rows[row] = row;
+        }
+        LongArrays.radixSortIndirect(rows, values, true);
+    }
+
+    /**
+     * Returns the position in rows of the first row whose value is at least the given value, or the number of rows
+     * if there is none
+     */
+    private int firstAtLeast(long value) {
+        int low = 0;
+        int high = rows.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[rows[middle]] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position in rows of the first row whose value is greater than the given value, or the number of
+     * rows if there is none
+     */
+    private int firstGreaterThan(long value) {
+        int low = 0;
+        int high = rows.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[rows[middle]] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the rows from position from (inclusive) to to (exclusive), which are in ascending order of their
+     * values, as a selection
+     */
+    private Selection select(int from, int to) {
+        if (from >= to) {
+            return new BitmapBackedSelection();
+        }
+        int[] selected = Arrays.copyOfRange(rows, from, to);
+        Arrays.sort(selected);
+        return BitmapBackedSelection.fromSortedRows(selected, selected.length);
+    }
+
+    @Override
+    public Selection get(long value) {
+        // the rows with equal values are already in row order
+        int from = firstAtLeast(value);
+        int to = firstGreaterThan(value);
+        return BitmapBackedSelection.fromSortedRows(Arrays.copyOfRange(rows, from, to), to - from);
+    }
+
+    @Override
+    public Selection atLeast(long value) {
+        return select(firstAtLeast(value), rows.length);
+    }
+
+    @Override
+    public Selection greaterThan(long value) {
+        return select(firstGreaterThan(value), rows.length);
+    }
+
+    @Override
+    public Selection atMost(long value) {
+        return select(0, firstGreaterThan(value));
+    }
+
+    @Override
+    public Selection lessThan(long value) {
+        return select(0, firstAtLeast(value));
+    }
+
+    @Override
+    public Selection between(long low, long high) {
+        return select(firstAtLeast(low), firstGreaterThan(high));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.Selection;
+
+/**
+ * The posting lists of an index: for each distinct key, in key order, the rows that hold it.
+ * <p>
+ * Keys held by many rows have their rows in a RoaringBitmap. The rows of all the other keys are kept in a single
+ * array, in key order and ascending within each key, so that a column with millions of distinct values does not
+ * need millions of small bitmaps, which are slow to build and to collect. The rows of a range of keys are the
+ * union, in a single aggregation, of the bitmaps in the range and of a bitmap of the array rows in the range.
+ * <p>
+ * The stored rows are never handed out, so the selections returned may be modified by their callers
+ */
+final class Postings {
+
+    // keys held by at least one in this many rows have a bitmap: about 16 rows in each 65,536, which a bitmap holds
+    // more compactly than an array
+    private static final int BITMAP_SHARE = 4096;
+
+    // ... as long as they are held by at least this many rows
+    private static final int MIN_BITMAP_ROWS = 64;
+
+    // the rows of key i without a bitmap are rows[starts[i]] through rows[starts[i + 1] - 1]; keys with a bitmap
+    // have no rows in the array
+    private final int[] starts;
+    private final int[] rows;
+
+    // the bitmap of each key, or null for keys whose rows are in the array
+    private final RoaringBitmap[] bitmaps;
+
+    // the positions of the keys that have a bitmap, in ascending order
+    private final int[] bitmapPositions;
+
+    /**
+     * Returns empty posting lists for keys held by the given numbers of rows, to be filled by
+     * {@link #add(int, int)}
+     */
+    Postings(int[] counts, int rowCount) {
+        int minBitmapRows = Math.max(MIN_BITMAP_ROWS, rowCount / BITMAP_SHARE);
+        bitmaps = new RoaringBitmap[counts.length];
+        IntArrayList withBitmaps = new IntArrayList();
+        // starts[i + 1] is where the next row of key i goes, and is the start of key i + 1 once all are added
+        starts = new int[counts.length + 1];
+        int arrayRows = 0;
+        for (int i = 0; i < counts.length; i++) {
+            starts[i + 1] = arrayRows;
+            if (counts[i] >= minBitmapRows) {
+                bitmaps[i] = new RoaringBitmap();
+                withBitmaps.add(i);
+            } else {
+                arrayRows += counts[i];
+            }
+        }
+        rows = new int[arrayRows];
+        bitmapPositions = withBitmaps.toIntArray();
+    }
+
+    /**
+     * Adds the given row to the posting list of the key at the given position. Rows must be added in ascending
+     * order, and each key must get exactly as many rows as it was counted with
+     */
+    void add(int position, int row) {
+        RoaringBitmap bitmap = bitmaps[position];
+        if (bitmap == null) {
+            rows[starts[position + 1]++] = row;
+        } else {
+            bitmap.add(row);
+        }
+    }
+
+    /**
+     * Returns the rows holding the key at the given position, or no rows if the position is negative, as it is when
+     * a binary search does not find a key
+     */
+    Selection get(int position) {
+        if (position < 0) {
+            return new BitmapBackedSelection();
+        }
+        if (bitmaps[position] != null) {
+            return new BitmapBackedSelection(bitmaps[position].clone());
+        }
+        return new BitmapBackedSelection(RoaringBitmap.bitmapOf(
+                Arrays.copyOfRange(rows, starts[position], starts[position + 1])));
+    }
+
+    /**
+     * Returns the rows holding any of the keys from position {@code from} (inclusive) to {@code to} (exclusive)
+     */
+    Selection union(int from, int to) {
+        if (from >= to) {
+            return new BitmapBackedSelection();
+        }
+        if (to - from == 1) {
+            return get(from);
+        }
+        // the array rows of several keys are sorted together, so their bitmap is built in order
+        int[] arrayRows = Arrays.copyOfRange(rows, starts[from], starts[to]);
+        Arrays.sort(arrayRows);
+        List<RoaringBitmap> parts = new ArrayList<>();
+        parts.add(RoaringBitmap.bitmapOf(arrayRows));
+        for (int i = firstBitmapAtLeast(from); i < bitmapPositions.length && bitmapPositions[i] < to; i++) {
+            parts.add(bitmaps[bitmapPositions[i]]);
+        }
+        if (parts.size() == 1) {
+            return new BitmapBackedSelection(parts.get(0));
+        }
+        return new BitmapBackedSelection(FastAggregation.or(parts.iterator()));
+    }
+
+    /**
+     * Returns the index in bitmapPositions of the first key with a bitmap at or after the given position
+     */
+    private int firstBitmapAtLeast(int position) {
+        int i = Arrays.binarySearch(bitmapPositions, position);
+        return i >= 0 ? i : -i - 1;
+    }
+}
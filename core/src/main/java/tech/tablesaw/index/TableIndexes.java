@@ -0,0 +1,240 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import tech.tablesaw.api.CategoryColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+
+/**
+ * The indexes held by a table on its columns, so they can be built once and used by every later filter on those
+ * columns.
+ * <p>
+ * Each index remembers the column it was built from, and that column's size and modification count. An index is
+ * only returned for the same column object at the same size and count, so an index on a column that has been
+ * removed, replaced, appended to, or had its values set, sorted or cleared is never used. Values changed directly in
+ * a column's backing array are not detected: the index must be created again after such changes.
+ * <p>
+ * Composite indexes, on several columns together, are kept in the same way, and are discarded when any of their
+ * columns is removed.
+ * <p>
+ * Indexes may be looked up from several threads at once, and while other indexes are being created.
+ */
+public class TableIndexes {
+
+    // the indexes, by the id of the column they were built from
+    private final Map<String, Entry> indexes = new ConcurrentHashMap<>();
+
+    // the composite indexes, by the ids of their columns in order
+    private final Map<List<String>, CompositeIndex> composites = new ConcurrentHashMap<>();
+
+    /**
+     * Builds an index on the given column, replacing any index it already has
+     *
+     * @throws IllegalArgumentException if columns of the given column's type cannot be indexed
+     */
+    public void create(Column column) {
+        indexes.put(column.id(), new Entry(column, build(column)));
+    }
+
+    private static Object build(Column column) {
+        switch (column.type()) {
+            case INTEGER:
+                return new IntIndex((IntColumn) column);
+            case LONG_INT:
+                return new LongIndex((LongColumn) column);
+            case FLOAT:
+                return new FloatIndex((FloatColumn) column);
+            case DOUBLE:
+                return new DoubleIndex((DoubleColumn) column);
+            case CATEGORY:
+                return new CategoryIndex((CategoryColumn) column);
+            case LOCAL_DATE:
+                return new DateIndex((DateColumn) column);
+            case LOCAL_DATE_TIME:
+                return new DateTimeIndex((DateTimeColumn) column);
+            case LOCAL_TIME:
+                return new TimeIndex((TimeColumn) column);
+            default:
+                throw new IllegalArgumentException("Columns of type " + column.type() + " cannot be indexed");
+        }
+    }
+
+    /**
+     * Builds a compact, sorted index on the given numeric or temporal column, replacing any index it already has.
+     * See {@link IntSortedIndex}
+     *
+     * @throws IllegalArgumentException if the given column is not numeric or temporal
+     */
+    public void createSorted(Column column) {
+        indexes.put(column.id(), new Entry(column, buildSorted(column)));
+    }
+
+    private static Object buildSorted(Column column) {
+        switch (column.type()) {
+            case INTEGER:
+                return new IntSortedIndex((IntColumn) column);
+            case LONG_INT:
+                return new LongSortedIndex((LongColumn) column);
+            case FLOAT:
+                return new FloatSortedIndex((FloatColumn) column);
+            case DOUBLE:
+                return new DoubleSortedIndex((DoubleColumn) column);
+            case LOCAL_DATE:
+                return DateIndex.sorted((DateColumn) column);
+            case LOCAL_DATE_TIME:
+                return DateTimeIndex.sorted((DateTimeColumn) column);
+            case LOCAL_TIME:
+                return TimeIndex.sorted((TimeColumn) column);
+            default:
+                throw new IllegalArgumentException("Columns of type " + column.type()
+                        + " cannot have a sorted index");
+        }
+    }
+
+    /**
+     * Returns the index on the given column if there is one of the given type that is up to date, or null otherwise.
+     * An index that is out of date is removed
+     */
+    public <T> T get(Column column, Class<T> indexType) {
+        Entry entry = indexes.get(column.id());
+        if (entry == null) {
+            return null;
+        }
+        if (entry.column != column || entry.size != column.size() || entry.modCount != column.modCount()) {
+            indexes.remove(column.id(), entry);
+            return null;
+        }
+        return indexType.isInstance(entry.index) ? indexType.cast(entry.index) : null;
+    }
+
+    /**
+     * Builds a composite index on the given columns, replacing any composite index on the same columns in the same
+     * order. See {@link CompositeIndex}
+     *
+     * @throws IllegalArgumentException if the columns cannot be indexed together
+     */
+    public void createComposite(List<Column> columns) {
+        composites.put(ids(columns), new CompositeIndex(columns));
+    }
+
+    /**
+     * Returns the composite index on the given columns, in the given order, if there is one that is up to date, or
+     * null otherwise. An index that is out of date is removed
+     */
+    public CompositeIndex getComposite(List<Column> columns) {
+        List<String> ids = ids(columns);
+        CompositeIndex index = composites.get(ids);
+        if (index == null) {
+            return null;
+        }
+        if (!index.isCurrent() || !sameColumns(index.columns(), columns)) {
+            composites.remove(ids, index);
+            return null;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the composite indexes that are up to date. Those that are out of date are removed
+     */
+    public List<CompositeIndex> composites() {
+        List<CompositeIndex> current = new ArrayList<>();
+        for (Map.Entry<List<String>, CompositeIndex> entry : composites.entrySet()) {
+            if (entry.getValue().isCurrent()) {
+                current.add(entry.getValue());
+            } else {
+                composites.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        return current;
+    }
+
+    private static List<String> ids(List<Column> columns) {
+        List<String> ids = new ArrayList<>(columns.size());
+        for (Column column : columns) {
+            ids.add(column.id());
+        }
+        return ids;
+    }
+
+    private static boolean sameColumns(List<Column> columns1, List<Column> columns2) {
+        for (int i = 0; i < columns1.size(); i++) {
+            if (columns1.get(i) != columns2.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes the index on the given column, and the composite indexes it is part of, if there are any
+     */
+    public void drop(Column column) {
+        indexes.remove(column.id());
+        composites.values().removeIf(index -> index.columns().stream().anyMatch(indexed -> indexed == column));
+    }
+
+    /**
+     * Removes the indexes on any columns other than those given, and the composite indexes on any such columns
+     */
+    public void retain(Collection<Column> columns) {
+        indexes.values().removeIf(entry -> columns.stream().noneMatch(column -> column == entry.column));
+        composites.values().removeIf(index -> index.columns().stream()
+                .anyMatch(indexed -> columns.stream().noneMatch(column -> column == indexed)));
+    }
+
+    /**
+     * Removes all the indexes
+     */
+    public void clear() {
+        indexes.clear();
+        composites.clear();
+    }
+
+    /**
+     * Returns true if there are no indexes
+     */
+    public boolean isEmpty() {
+        return indexes.isEmpty() && composites.isEmpty();
+    }
+
+    private static final class Entry {
+
+        private final Column column;
+        private final int size;
+        private final int modCount;
+        private final Object index;
+
+        private Entry(Column column, Object index) {
+            this.column = column;
+            this.size = column.size();
+            this.modCount = column.modCount();
+            this.index = index;
+        }
+    }
+}
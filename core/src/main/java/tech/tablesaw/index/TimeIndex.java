@@ -25,10 +25,21 @@ import tech.tablesaw.util.Selection;
  */
 public class TimeIndex {
 
-    private final IntIndex index;
+    private final IntRangeIndex index;
 
     public TimeIndex(TimeColumn column) {
-        index = new IntIndex(column);
+        this(new IntIndex(column));
+    }
+
+    private TimeIndex(IntRangeIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * Returns a compact index on the given column, for columns with many distinct values. See {@link IntSortedIndex}
+     */
+    public static TimeIndex sorted(TimeColumn column) {
+        return new TimeIndex(new IntSortedIndex(column));
     }
 
     /**
@@ -55,4 +66,11 @@ public class TimeIndex {
     public Selection lessThan(LocalTime value) {
         return index.lessThan(PackedLocalTime.pack(value));
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the rows holding times from low to high, inclusive
+     */
+    public Selection between(LocalTime low, LocalTime high) {
+        return index.between(PackedLocalTime.pack(low), PackedLocalTime.pack(high));
+    }
+}
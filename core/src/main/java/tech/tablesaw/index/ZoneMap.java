@@ -0,0 +1,339 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.ParallelScan;
+import tech.tablesaw.util.Selection;
+
+/**
+ * The smallest and largest key in each block of {@link #BLOCK_SIZE} rows of a numeric or temporal column. A scan for
+ * a range of keys skips the blocks whose keys all lie outside the range and selects whole the blocks whose keys all
+ * lie inside it, so it only tests the rows of blocks that straddle the range's bounds. Columns whose values rise
+ * roughly in row order, such as the times of events appended as they happen, have few such blocks.
+ * <p>
+ * The keys are the values of integer columns and the packed values of date, time and date-time columns. The keys of
+ * floating point columns are their bits, rearranged so they sort as the values do, with both zeros as +0.0 and NaN
+ * above every other value. Blocks are aligned with the chunks of a {@link ParallelScan}.
+ * <p>
+ * Columns build their zone map when it is first asked for, and discard it when their values are changed in place.
+ * Rows appended since it was built only cause the last blocks to be rebuilt. A zone map is not modified after it is
+ * built, so it may be used from several threads at once
+ */
+public final class ZoneMap {
+
+    // the rows in a block
+    public static final int BLOCK_SIZE = ParallelScan.CHUNK_SIZE;
+
+    /**
+     * Makes a test of whether the key in a given row is from low to high, inclusive, for bounds within the keys the
+     * column's type can hold, which reads the values the zone map was built from in place
+     */
+    @FunctionalInterface
+    private interface RangeTest {
+        IntPredicate between(long low, long high);
+    }
+
+    // the number of rows covered
+    private final int size;
+
+    // the smallest and largest key in each block
+    private final long[] mins;
+    private final long[] maxs;
+
+    // the smallest and largest key of a value that a range may select, which excludes NaN from floating point ranges
+    private final long lowestKey;
+    private final long highestKey;
+
+    private final RangeTest rangeTest;
+
+    private ZoneMap(int size, long[] mins, long[] maxs, long lowestKey, long highestKey, RangeTest rangeTest) {
+        this.size = size;
+        this.mins = mins;
+        this.maxs = maxs;
+        this.lowestKey = lowestKey;
+        this.highestKey = highestKey;
+        this.rangeTest = rangeTest;
+    }
+
+    /**
+     * Returns the zone map of the first size keys given, reusing the complete blocks of the given zone map, if it is
+     * not null, which must be of an earlier state of the same column with no more rows
+     */
+    private static ZoneMap build(int size, ZoneMap previous, IntToLongFunction keys,
+                                 long lowestKey, long highestKey, RangeTest rangeTest) {
+        int blockCount = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        long[] mins = new long[blockCount];
+        long[] maxs = new long[blockCount];
+        int reused = 0;
+        if (previous != null && previous.size <= size) {
+            reused = previous.size / BLOCK_SIZE;
+            System.arraycopy(previous.mins, 0, mins, 0, reused);
+            System.arraycopy(previous.maxs, 0, maxs, 0, reused);
+        }
+        for (int block = reused; block < blockCount; block++) {
+            int from = block * BLOCK_SIZE;
+            int to = Math.min(size, from + BLOCK_SIZE);
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (int row = from; row < to; row++) {
+                long key = keys.applyAsLong(row);
+                min = Math.min(min, key);
+                max = Math.max(max, key);
+            }
+            mins[block] = min;
+            maxs[block] = max;
+        }
+        return new ZoneMap(size, mins, maxs, lowestKey, highestKey, rangeTest);
+    }
+
+    /**
+     * Returns the zone map of the first size values of the given array, which it reads in place to test rows, so it is
+     * only valid while the array holds the column's values
+     *
+     * @param previous an earlier zone map of the same column, with no more rows and the same values in them, whose
+     *                 complete blocks are reused, or null
+     */
+    public static ZoneMap of(short[] values, int size, ZoneMap previous) {
+        return build(size, previous, row -> values[row], Short.MIN_VALUE, Short.MAX_VALUE,
+                (low, high) -> row -> values[row] >= low && values[row] <= high);
+    }
+
+    /**
+     * As {@link #of(short[], int, ZoneMap)}
+     */
+    public static ZoneMap of(int[] values, int size, ZoneMap previous) {
+        return build(size, previous, row -> values[row], Integer.MIN_VALUE, Integer.MAX_VALUE, (low, high) -> {
+            // rows are compared as ints
+            int intLow = (int) low;
+            int intHigh = (int) high;
+            return row -> values[row] >= intLow && values[row] <= intHigh;
+        });
+    }
+
+    /**
+     * As {@link #of(short[], int, ZoneMap)}
+     */
+    public static ZoneMap of(long[] values, int size, ZoneMap previous) {
+        return build(size, previous, row -> values[row], Long.MIN_VALUE, Long.MAX_VALUE,
+                (low, high) -> row -> values[row] >= low && values[row] <= high);
+    }
+
+    /**
+     * As {@link #of(short[], int, ZoneMap)}
+     */
+    public static ZoneMap of(float[] values, int size, ZoneMap previous) {
+        return build(size, previous, row -> key(values[row]),
+                key(Double.NEGATIVE_INFINITY), key(Double.POSITIVE_INFINITY), (low, high) -> {
+                    // rows are compared as values, rather than converted to keys
+                    double lowValue = value(low);
+                    double highValue = value(high);
+                    return row -> values[row] >= lowValue && values[row] <= highValue;
+                });
+    }
+
+    /**
+     * As {@link #of(short[], int, ZoneMap)}
+     */
+    public static ZoneMap of(double[] values, int size, ZoneMap previous) {
+        return build(size, previous, row -> key(values[row]),
+                key(Double.NEGATIVE_INFINITY), key(Double.POSITIVE_INFINITY), (low, high) -> {
+                    double lowValue = value(low);
+                    double highValue = value(high);
+                    return row -> values[row] >= lowValue && values[row] <= highValue;
+                });
+    }
+
+    /**
+     * Returns the zone map of the given numeric or temporal column, or null if the column is of another type
+     */
+    private static ZoneMap of(Column column) {
+        switch (column.type()) {
+            case SHORT_INT:
+                return ((ShortColumn) column).zoneMap();
+            case INTEGER:
+                return ((IntColumn) column).zoneMap();
+            case LOCAL_DATE:
+                return ((DateColumn) column).zoneMap();
+            case LOCAL_TIME:
+                return ((TimeColumn) column).zoneMap();
+            case LONG_INT:
+                return ((LongColumn) column).zoneMap();
+            case LOCAL_DATE_TIME:
+                return ((DateTimeColumn) column).zoneMap();
+            case FLOAT:
+                return ((FloatColumn) column).zoneMap();
+            case DOUBLE:
+                return ((DoubleColumn) column).zoneMap();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the key of a floating point value: its bits, with those of negative values flipped and moved up by one
+     * so that the keys sort as the values do, without gaps. Both zeros have the key of +0.0, and every NaN has a key
+     * above that of infinity
+     */
+    public static long key(double value) {
+        if (Double.isNaN(value)) {
+            return Long.MAX_VALUE;
+        }
+        long bits = Double.doubleToRawLongBits(value + 0.0);
+        return bits >= 0 ? bits : (bits ^ Long.MAX_VALUE) + 1;
+    }
+
+    /**
+     * Returns the value whose key is the nearest to the given key among those of the values from negative to positive
+     * infinity, so that the values with keys from low to high are those from value(low) to value(high)
+     */
+    static double value(long key) {
+        long clamped = Math.max(key(Double.NEGATIVE_INFINITY), Math.min(key(Double.POSITIVE_INFINITY), key));
+        return Double.longBitsToDouble(clamped >= 0 ? clamped : (clamped - 1) ^ Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of rows this zone map covers
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of blocks
+     */
+    public int blockCount() {
+        return mins.length;
+    }
+
+    /**
+     * Returns the smallest key in the given block
+     */
+    public long min(int block) {
+        return mins[block];
+    }
+
+    /**
+     * Returns the largest key in the given block
+     */
+    public long max(int block) {
+        return maxs[block];
+    }
+
+    /**
+     * Returns whether none, some or all of the rows of the given block may have keys from low to high, inclusive
+     */
+    public ParallelScan.Coverage coverage(int block, long low, long high) {
+        if (maxs[block] < low || mins[block] > high) {
+            return ParallelScan.Coverage.NONE;
+        }
+        if (mins[block] >= low && maxs[block] <= high) {
+            return ParallelScan.Coverage.ALL;
+        }
+        return ParallelScan.Coverage.SOME;
+    }
+
+    /**
+     * Returns the rows whose keys are from low to high, inclusive. The given scanner, which must select exactly those
+     * rows, is only called on the blocks that hold keys both inside and outside the range
+     */
+    public Selection select(long low, long high, ParallelScan.ChunkScanner scanner) {
+        return ParallelScan.select(size, scanner, (from, to) -> coverage(from / BLOCK_SIZE, low, high));
+    }
+
+    /**
+     * Returns the rows whose keys are from low to high, inclusive, testing only the rows of the blocks that hold keys
+     * both inside and outside the range
+     */
+    public Selection select(long low, long high) {
+        long keyLow = Math.max(low, lowestKey);
+        long keyHigh = Math.min(high, highestKey);
+        if (keyLow > keyHigh) {
+            return new BitmapBackedSelection();
+        }
+        IntPredicate test = rangeTest.between(keyLow, keyHigh);
+        return select(keyLow, keyHigh, (from, to, rows) -> {
+            int count = 0;
+            for (int row = from; row < to; row++) {
+                if (test.test(row)) {
+                    rows[count++] = row;
+                }
+            }
+            return count;
+        });
+    }
+
+    /**
+     * Returns the rows of the given numeric or temporal column whose keys are from low to high, inclusive, using the
+     * column's zone map. Returns null if the column is of another type, or has no more than one block, so a zone map
+     * would not save any work
+     */
+    public static Selection select(Column column, long low, long high) {
+        if (column.size() <= BLOCK_SIZE) {
+            return null;
+        }
+        ZoneMap zones = of(column);
+        return zones == null ? null : zones.select(low, high);
+    }
+
+    /**
+     * Returns whether none, some or all of the rows of each chunk of a {@link ParallelScan} of the given numeric or
+     * temporal column may have keys from low to high, inclusive, found from the column's zone map. Returns null if the
+     * column is of another type, or has no more than one block
+     */
+    public static ParallelScan.ChunkTest chunkTest(Column column, long low, long high) {
+        if (column.size() <= BLOCK_SIZE) {
+            return null;
+        }
+        ZoneMap zones = of(column);
+        if (zones == null) {
+            return null;
+        }
+        // bounds clamped so that blocks holding NaN are never selected whole
+        long keyLow = Math.max(low, zones.lowestKey);
+        long keyHigh = Math.min(high, zones.highestKey);
+        return (from, to) -> zones.coverage(from / BLOCK_SIZE, keyLow, keyHigh);
+    }
+
+    /**
+     * Returns a test of whether the key in a given row of the given numeric or temporal column is from low to high,
+     * inclusive, which reads the column's values in place, or null if the column is of another type. The test is only
+     * valid until rows are added to the column
+     */
+    public static IntPredicate rowTest(Column column, long low, long high) {
+        ZoneMap zones = of(column);
+        if (zones == null) {
+            return null;
+        }
+        long keyLow = Math.max(low, zones.lowestKey);
+        long keyHigh = Math.min(high, zones.highestKey);
+        if (keyLow > keyHigh) {
+            return row -> false;
+        }
+        return zones.rangeTest.between(keyLow, keyHigh);
+    }
+}
@@ -1,127 +1,341 @@
 package tech.tablesaw.join;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-
-import com.google.common.collect.Streams;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongUnaryOperator;
 
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import tech.tablesaw.api.CategoryColumn;
-import tech.tablesaw.api.DateColumn;
 import tech.tablesaw.api.DateTimeColumn;
-import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.LongColumn;
 import tech.tablesaw.api.Table;
-import tech.tablesaw.api.TimeColumn;
 import tech.tablesaw.columns.Column;
-import tech.tablesaw.index.CategoryIndex;
-import tech.tablesaw.index.DateIndex;
-import tech.tablesaw.index.DateTimeIndex;
-import tech.tablesaw.index.IntIndex;
-import tech.tablesaw.index.LongIndex;
-import tech.tablesaw.index.TimeIndex;
+import tech.tablesaw.columns.packeddata.PackedLocalDateTime;
+import tech.tablesaw.index.CompositeIndex;
+import tech.tablesaw.table.HashGrouping;
+import tech.tablesaw.table.Rows;
+import tech.tablesaw.util.DictionaryMap;
 
 public class DataFrameJoiner {
 
   private final Table table;
-  private final Column column;
+  private final List<Column> columns;
   
   public DataFrameJoiner(Table table, String column) {
     this.table = table;
-    this.column = table.column(column);
+    this.columns = table.columns(column);
   }
 
+  /**
+   * Joins the given table on several columns together
+   */
+  public DataFrameJoiner(Table table, String... columns) {
+    this.table = table;
+    this.columns = table.columns(columns);
+  }
+
+  /**
+   * Returns the inner join of this table with table2, matching the join column of this table to the column of
+   * table2 named col2Name. To join many tables to the same table2, use a {@link PreparedJoin} instead, so its
+   * index is only built once
+   */
   public Table inner(Table table2, String col2Name) {
-    Table result = emptyTableFromColumns(table, table2, col2Name);
-    if (column instanceof DateColumn) {
-      DateIndex index = new DateIndex(table2.dateColumn(col2Name));
-      DateColumn col1 = (DateColumn) column;
-      for (int i = 0; i < col1.size(); i++) {
-        LocalDate value = col1.get(i);
-        Table table1Rows = table.selectRow(i);
-        Table table2Rows = table2.selectWhere(index.get(value));
-        table2Rows.removeColumns(col2Name);
-        crossProduct(result, table1Rows, table2Rows);
-      }
-    } else if (column instanceof DateTimeColumn) {
-      DateTimeIndex index = new DateTimeIndex(table2.dateTimeColumn(col2Name));
-      DateTimeColumn col1 = (DateTimeColumn) column;
-      for (int i = 0; i < col1.size(); i++) {
-        LocalDateTime value = col1.get(i);
-        Table table1Rows = table.selectRow(i);
-        Table table2Rows = table2.selectWhere(index.get(value));
-        table2Rows.removeColumns(col2Name);
-        crossProduct(result, table1Rows, table2Rows);
-      }
-    } else if (column instanceof TimeColumn) {
-      TimeIndex index = new TimeIndex(table2.timeColumn(col2Name));
-      TimeColumn col1 = (TimeColumn) column;
-      for (int i = 0; i < col1.size(); i++) {
-        LocalTime value = col1.get(i);
-        Table table1Rows = table.selectRow(i);
-        Table table2Rows = table2.selectWhere(index.get(value));
-        table2Rows.removeColumns(col2Name);
-        crossProduct(result, table1Rows, table2Rows);
+    if (columns.size() != 1) {
+      return inner(table2, new String[] {col2Name});
+    }
+    return new PreparedJoin(table2, col2Name).probe(table, columns.get(0).name());
+  }
+
+  /**
+   * Returns the inner join of this table with table2, matching the join columns of this table, in order, to the
+   * columns of table2 with the given names. The rows of table2 are looked up in its composite index on those
+   * columns if it has one (see {@link Table#createIndex(String...)}), and otherwise in one built for this join.
+   * <p>
+   * The result contains the columns of this table, followed by those of table2 other than its join columns. The rows
+   * follow the order of this table; a row matching several rows of table2 is repeated once for each of them.
+   *
+   * @throws IllegalArgumentException if the number or types of the columns differ, or they cannot be indexed
+   */
+  public Table inner(Table table2, String... col2Names) {
+    if (col2Names.length != columns.size()) {
+      throw new IllegalArgumentException("Cannot join " + columns.size() + " columns to " + col2Names.length);
+    }
+    List<Column> columns2 = table2.columns(col2Names);
+    CompositeIndex index = table2.compositeIndex(col2Names);
+    if (index == null) {
+      index = new CompositeIndex(columns2);
+    }
+    IntArrayList leftRows = new IntArrayList();
+    IntArrayList rightRows = new IntArrayList();
+    index.join(columns, leftRows, rightRows);
+
+    int[] left = leftRows.toIntArray();
+    int[] right = rightRows.toIntArray();
+    Table result = Table.create(table.name());
+    for (Column c : table.columns()) {
+      result.addColumn(Rows.gather(c, left));
+    }
+    for (Column c : table2.columns()) {
+      if (columns2.stream().noneMatch(joined -> joined == c)) {
+        result.addColumn(Rows.gather(c, right));
       }
-    } else if (column instanceof CategoryColumn) {
-      CategoryIndex index = new CategoryIndex(table2.categoryColumn(col2Name));
-      CategoryColumn col1 = (CategoryColumn) column;
-      for (int i = 0; i < col1.size(); i++) {
-        String value = col1.get(i);
-        Table table1Rows = table.selectRow(i);
-        Table table2Rows = table2.selectWhere(index.get(value));
-        table2Rows.removeColumns(col2Name);
-        crossProduct(result, table1Rows, table2Rows);
+    }
+    return result;
+  }
+
+  /**
+   * Joins each row of this table to the row of {@code table2} with the latest time at or before its own time,
+   * optionally requiring the rows to also match on the given columns. This is the "as-of" join used to line up,
+   * for example, each trade with the most recent quote for the same symbol.
+   * <p>
+   * Every row of this table appears exactly once in the result; when no row of table2 qualifies, the columns
+   * from table2 hold missing values. The time columns must both be DateTimeColumns or both be LongColumns.
+   * The byColumns must have the same types in both tables. They and, if it has the same name as leftTime, the
+   * rightTime column are not repeated in the result.
+   *
+   * @param table2     the table to look up the preceding rows in, for example a table of quotes
+   * @param leftTime   the name of the time column in this table
+   * @param rightTime  the name of the time column in table2
+   * @param byColumns  the names of columns present in both tables that must also be equal for rows to match
+   */
+  public Table asOf(Table table2, String leftTime, String rightTime, String... byColumns) {
+    return asOf(table2, leftTime, rightTime, null, 0, byColumns);
+  }
+
+  /**
+   * As {@link #asOf(Table, String, String, String...)}, but a row of table2 only matches if its time is no more
+   * than {@code tolerance} before the time in this table. Both time columns must be DateTimeColumns. The times are
+   * compared in epoch milliseconds, so any part of the tolerance finer than a millisecond is ignored.
+   */
+  public Table asOf(Table table2, String leftTime, String rightTime, Duration tolerance, String... byColumns) {
+    if (!(table.column(leftTime) instanceof DateTimeColumn)) {
+      throw new IllegalArgumentException(
+          "A Duration tolerance requires a DateTimeColumn. Column " + leftTime + " is of type "
+              + table.column(leftTime).type());
+    }
+    return asOf(table2, leftTime, rightTime, PackedLocalDateTime::toEpochMilli, tolerance.toMillis(), byColumns);
+  }
+
+  /**
+   * As {@link #asOf(Table, String, String, String...)}, but a row of table2 only matches if its time is no more
+   * than {@code tolerance} before the time in this table. Both time columns must be LongColumns.
+   */
+  public Table asOf(Table table2, String leftTime, String rightTime, long tolerance, String... byColumns) {
+    if (!(table.column(leftTime) instanceof LongColumn)) {
+      throw new IllegalArgumentException(
+          "A numeric tolerance requires a LongColumn. Column " + leftTime + " is of type "
+              + table.column(leftTime).type());
+    }
+    return asOf(table2, leftTime, rightTime, t -> t, tolerance, byColumns);
+  }
+
+  /**
+   * @param measure   maps a time in either table to a point on a linear scale, such as epoch milliseconds, or is null
+   *                  for no tolerance
+   * @param tolerance the largest difference on that scale between the time in this table and that of its match
+   */
+  private Table asOf(Table table2, String leftTime, String rightTime, LongUnaryOperator measure, long tolerance,
+                     String... byColumns) {
+    Column leftTimeColumn = table.column(leftTime);
+    Column rightTimeColumn = table2.column(rightTime);
+    if (leftTimeColumn.type() != rightTimeColumn.type()) {
+      throw new IllegalArgumentException("Cannot join column " + leftTime + " of type " + leftTimeColumn.type()
+          + " to column " + rightTime + " of type " + rightTimeColumn.type());
+    }
+    long[] leftKeys = timeKeys(leftTimeColumn);
+    long[] rightKeys = timeKeys(rightTimeColumn);
+    List<Column> leftBy = table.columns(byColumns);
+    List<Column> rightBy = table2.columns(byColumns);
+
+    int[] leftGroups = new int[table.rowCount()];
+    int[] rightGroups = new int[table2.rowCount()];
+    int groupCount = numberGroups(leftBy, leftGroups, rightBy, rightGroups);
+    TimeRun[] runs = timeRuns(groupCount, rightGroups, rightKeys);
+
+    int[] matches = new int[table.rowCount()];
+    for (int i = 0; i < matches.length; i++) {
+      matches[i] = -1;
+      long time = leftKeys[i];
+      if (time == LongColumn.MISSING_VALUE || leftGroups[i] < 0) {
+        continue;
       }
-    } else if (column instanceof LongColumn) {
-      LongIndex index = new LongIndex(table2.longColumn(col2Name));
-      LongColumn col1 = (LongColumn) column;
-      for (int i = 0; i < col1.size(); i++) {
-        long value = col1.get(i);
-        Table table1Rows = table.selectRow(i);
-        Table table2Rows = table2.selectWhere(index.get(value));
-        table2Rows.removeColumns(col2Name);
-        crossProduct(result, table1Rows, table2Rows);
+      TimeRun run = runs[leftGroups[i]];
+      if (run == null) {
+        continue;
       }
-    } else if (column instanceof IntColumn) {
-      IntIndex index = new IntIndex(table2.intColumn(col2Name));
-      IntColumn col1 = (IntColumn) column;
-      for (int i = 0; i < col1.size(); i++) {
-        int value = col1.get(i);
-        Table table1Rows = table.selectRow(i);
-        Table table2Rows = table2.selectWhere(index.get(value));
-        table2Rows.removeColumns(col2Name);
-        crossProduct(result, table1Rows, table2Rows);
+      int position = lastAtOrBefore(run.keys, time);
+      if (position < 0 || (measure != null
+          && measure.applyAsLong(time) - measure.applyAsLong(run.keys[position]) > tolerance)) {
+        continue;
       }
-    } else {
-      throw new IllegalArgumentException(
-          "Joining is supported on int, long, category, and date-like columns. Column "
-              + column.name() + " is of type " + column.type());
+      matches[i] = run.rows[position];
     }
 
+    Table result = table.fullCopy();
+    for (Column column : table2.columns()) {
+      if (rightBy.contains(column) || (column == rightTimeColumn && rightTime.equalsIgnoreCase(leftTime))) {
+        continue;
+      }
+      result.addColumn(Rows.gather(column, matches));
+    }
     return result;
   }
 
-  private Table emptyTableFromColumns(Table table1, Table table2, String col2Name) {
-    Column[] cols = Streams.concat(
-            table1.columns().stream(),
-            table2.columns().stream().filter(c -> !c.name().equals(col2Name))
-       ).map(col -> col.columnMetadata().createColumn()).toArray(size -> new Column[size]);
-    return Table.create(table1.name(), cols);
+  /**
+   * The rows of one group in the right-hand table of an as-of join, with their times, in time order
+   */
+  private static class TimeRun {
+    private final int[] rows;
+    private final long[] keys;
+
+    private TimeRun(int[] rows, long[] keys) {
+      this.rows = rows;
+      this.keys = keys;
+    }
+  }
+
+  /**
+   * Numbers the distinct combinations of values in the byColumns of the right-hand table, writing the number of each
+   * of its rows to rightGroups, and the number of each row of the left-hand table to leftGroups, or -1 where its
+   * combination is not in the right-hand table. Rows are matched on the primitive keys behind the columns (see
+   * {@link HashGrouping#keyFunction(Column)}), never on strings. Returns the number of groups
+   */
+  private static int numberGroups(List<Column> leftBy, int[] leftGroups, List<Column> rightBy, int[] rightGroups) {
+    int groupCount = 1;
+    for (int c = 0; c < rightBy.size(); c++) {
+      Column leftColumn = leftBy.get(c);
+      Column rightColumn = rightBy.get(c);
+      if (leftColumn.type() != rightColumn.type()) {
+        throw new IllegalArgumentException("Cannot join column " + leftColumn.name() + " of type "
+            + leftColumn.type() + " to column " + rightColumn.name() + " of type " + rightColumn.type());
+      }
+      IntToLongFunction rightKeys = HashGrouping.keyFunction(rightColumn);
+      IntToLongFunction leftKeys = leftColumn instanceof CategoryColumn
+          ? translatedCodes((CategoryColumn) leftColumn, (CategoryColumn) rightColumn)
+          : HashGrouping.keyFunction(leftColumn);
+
+      // each column refines the groups found so far: every pair of an earlier group and a value of this column,
+      // numbered densely, becomes a group of its own
+      Long2IntOpenHashMap values = new Long2IntOpenHashMap();
+      values.defaultReturnValue(-1);
+      Long2IntOpenHashMap refined = new Long2IntOpenHashMap();
+      refined.defaultReturnValue(-1);
+      for (int row = 0; row < rightGroups.length; row++) {
+        long key = rightKeys.applyAsLong(row);
+        int value = values.get(key);
+        if (value < 0) {
+          value = values.size();
+          values.put(key, value);
+        }
+        long pair = ((long) rightGroups[row] << 32) | value;
+        int group = refined.get(pair);
+        if (group < 0) {
+          group = refined.size();
+          refined.put(pair, group);
+        }
+        rightGroups[row] = group;
+      }
+      for (int row = 0; row < leftGroups.length; row++) {
+        if (leftGroups[row] >= 0) {
+          int value = values.get(leftKeys.applyAsLong(row));
+          leftGroups[row] = value < 0 ? -1 : refined.get(((long) leftGroups[row] << 32) | value);
+        }
+      }
+      groupCount = refined.size();
+    }
+    return groupCount;
+  }
+
+  /**
+   * Returns a function giving, for each row of the left column, the code of its string in the dictionary of the
+   * right column, or -1 if the right column does not hold it. The strings are looked up once per distinct value
+   */
+  private static IntToLongFunction translatedCodes(CategoryColumn left, CategoryColumn right) {
+    DictionaryMap dictionary = right.dictionaryMap();
+    Int2IntOpenHashMap translation = new Int2IntOpenHashMap(left.dictionaryMap().size());
+    for (Int2ObjectMap.Entry<String> entry : left.dictionaryMap().keyToValueMap().int2ObjectEntrySet()) {
+      translation.put(entry.getIntKey(), dictionary.get(entry.getValue()));
+    }
+    int[] codes = left.data().elements();
+    return row -> translation.get(codes[row]);
   }
 
-  private void crossProduct(Table destination, Table table1, Table table2) {
-    for (int c = 0; c < table1.columnCount() + table2.columnCount(); c++) {
-      for (int r1 = 0; r1 < table1.rowCount(); r1++) {
-        for (int r2 = 0; r2 < table2.rowCount(); r2++) {
-          if (c < table1.columnCount()) {
-            destination.column(c).appendCell(table1.get(r1, c));
-          } else {
-            destination.column(c).appendCell(table2.get(r2, c - table1.columnCount()));
-          }
+  /**
+   * Splits the rows of the right-hand table by group number, and orders each group by time. Rows whose time is
+   * missing are left out, and a group with no other rows has no run
+   */
+  private static TimeRun[] timeRuns(int groupCount, int[] groups, long[] keys) {
+    IntArrayList[] groupRows = new IntArrayList[groupCount];
+    for (int row = 0; row < groups.length; row++) {
+      if (keys[row] != LongColumn.MISSING_VALUE) {
+        if (groupRows[groups[row]] == null) {
+          groupRows[groups[row]] = new IntArrayList();
         }
+        groupRows[groups[row]].add(row);
       }
     }
+    TimeRun[] runs = new TimeRun[groupCount];
+    for (int group = 0; group < groupCount; group++) {
+      if (groupRows[group] == null) {
+        continue;
+      }
+      int[] rows = groupRows[group].toIntArray();
+      if (!isSorted(rows, keys)) {
+        // ties are broken on the row number, so the last of several rows with the same time wins the match
+        IntArrays.quickSort(rows, (r1, r2) -> {
+          int result = Long.compare(keys[r1], keys[r2]);
+          return result != 0 ? result : Integer.compare(r1, r2);
+        });
+      }
+      long[] runKeys = new long[rows.length];
+      for (int i = 0; i < rows.length; i++) {
+        runKeys[i] = keys[rows[i]];
+      }
+      runs[group] = new TimeRun(rows, runKeys);
+    }
+    return runs;
+  }
+
+  private static boolean isSorted(int[] rows, long[] keys) {
+    for (int i = 1; i < rows.length; i++) {
+      if (keys[rows[i - 1]] > keys[rows[i]]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the position of the last key that is less than or equal to the given value, or -1 if there is none
+   */
+  private static int lastAtOrBefore(long[] keys, long value) {
+    int low = 0;
+    int high = keys.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (keys[mid] <= value) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low - 1;
+  }
+
+  private static long[] timeKeys(Column column) {
+    if (column instanceof DateTimeColumn) {
+      return ((DateTimeColumn) column).data().toLongArray();
+    } else if (column instanceof LongColumn) {
+      return ((LongColumn) column).data().toLongArray();
+    }
+    throw new IllegalArgumentException(
+        "As-of joins are supported on long and date-time columns. Column "
+            + column.name() + " is of type " + column.type());
   }
 
 }
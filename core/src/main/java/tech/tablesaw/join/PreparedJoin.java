@@ -0,0 +1,253 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.join;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import tech.tablesaw.api.CategoryColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.table.Rows;
+import tech.tablesaw.util.DictionaryMap;
+
+/**
+ * An inner join against a fixed table whose hash index is built once, and can then be probed with any number of
+ * other tables. This is useful when many small batches of data are joined to the same (dimension) table.
+ * <p>
+ * The index holds, for every distinct key in the join column, the rows containing that key, stored as two flat
+ * int arrays. It keeps a reference to the indexed table, and is only valid as long as its join column is unchanged:
+ * probing after that column has been replaced, resized, or had its values set, sorted or cleared throws an
+ * IllegalStateException.
+ * <p>
+ * A PreparedJoin is not modified after construction, so it may be probed from several threads at once.
+ */
+public class PreparedJoin {
+
+  private final Table table;
+  private final Column column;
+  private final int rowCount;
+  private final int modCount;
+
+  // Exactly one of these maps is used, depending on the type of the join column. Each maps a key to a group number.
+  // Category columns are indexed on their dictionary codes
+  private final Int2IntOpenHashMap intGroups;
+  private final Long2IntOpenHashMap longGroups;
+
+  // the rows of group g are groupRows[groupStarts[g]] through groupRows[groupStarts[g + 1] - 1], in ascending order
+  private final int[] groupStarts;
+  private final int[] groupRows;
+
+  /**
+   * Builds the index for joining to the given column of the given table
+   */
+  public PreparedJoin(Table table, String columnName) {
+    this.table = table;
+    this.column = table.column(columnName);
+    this.rowCount = column.size();
+    this.modCount = column.modCount();
+
+    int[] groups = new int[rowCount];
+    int groupCount;
+    if (isIntBacked(column)) {
+      intGroups = new Int2IntOpenHashMap();
+      intGroups.defaultReturnValue(-1);
+      longGroups = null;
+      IntArrayList keys = intKeys(column);
+      for (int row = 0; row < rowCount; row++) {
+        int key = keys.getInt(row);
+        int group = intGroups.get(key);
+        if (group < 0) {
+          group = intGroups.size();
+          intGroups.put(key, group);
+        }
+        groups[row] = group;
+      }
+      groupCount = intGroups.size();
+    } else if (isLongBacked(column)) {
+      intGroups = null;
+      longGroups = new Long2IntOpenHashMap();
+      longGroups.defaultReturnValue(-1);
+      LongArrayList keys = longKeys(column);
+      for (int row = 0; row < rowCount; row++) {
+        long key = keys.getLong(row);
+        int group = longGroups.get(key);
+        if (group < 0) {
+          group = longGroups.size();
+          longGroups.put(key, group);
+        }
+        groups[row] = group;
+      }
+      groupCount = longGroups.size();
+    } else {
+      throw new IllegalArgumentException(
+          "Joining is supported on int, long, category, and date-like columns. Column "
+              + column.name() + " is of type " + column.type());
+    }
+
+    // counting sort of the rows by group number, which keeps the rows of each group in ascending order
+    groupStarts = new int[groupCount + 1];
+    for (int group : groups) {
+      groupStarts[group + 1]++;
+    }
+    for (int g = 0; g < groupCount; g++) {
+      groupStarts[g + 1] += groupStarts[g];
+    }
+    int[] next = new int[groupCount];
+    System.arraycopy(groupStarts, 0, next, 0, groupCount);
+    groupRows = new int[rowCount];
+    for (int row = 0; row < rowCount; row++) {
+      groupRows[next[groups[row]]++] = row;
+    }
+  }
+
+  /**
+   * Returns the table this join was prepared on
+   */
+  public Table table() {
+    return table;
+  }
+
+  /**
+   * Returns the inner join of the given table with the prepared table, joining on the column in the given table with
+   * the same name as the prepared join column
+   */
+  public Table probe(Table table1) {
+    return probe(table1, column.name());
+  }
+
+  /**
+   * Returns the inner join of the given table with the prepared table, joining on the given column.
+   * <p>
+   * The result contains the columns of table1, followed by those of the prepared table other than its join column.
+   * The rows follow the order of table1; a row of table1 matching several rows of the prepared table is repeated
+   * once for each of them.
+   */
+  public Table probe(Table table1, String col1Name) {
+    if (table.column(column.name()) != column || column.size() != rowCount || column.modCount() != modCount) {
+      throw new IllegalStateException(
+          "Table " + table.name() + " has been modified since the join on " + column.name() + " was prepared");
+    }
+    Column col1 = table1.column(col1Name);
+    if (col1.type() != column.type()) {
+      throw new IllegalArgumentException("Cannot join column " + col1.name() + " of type " + col1.type()
+          + " to column " + column.name() + " of type " + column.type());
+    }
+
+    int[] groups = groups(col1);
+    IntArrayList leftRows = new IntArrayList(groups.length);
+    IntArrayList rightRows = new IntArrayList(groups.length);
+    for (int row = 0; row < groups.length; row++) {
+      int group = groups[row];
+      if (group >= 0) {
+        for (int i = groupStarts[group]; i < groupStarts[group + 1]; i++) {
+          leftRows.add(row);
+          rightRows.add(groupRows[i]);
+        }
+      }
+    }
+
+    int[] left = leftRows.toIntArray();
+    int[] right = rightRows.toIntArray();
+    Table result = Table.create(table1.name());
+    for (Column c : table1.columns()) {
+      result.addColumn(Rows.gather(c, left));
+    }
+    for (Column c : table.columns()) {
+      if (c != column) {
+        result.addColumn(Rows.gather(c, right));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the group number of the key in each row of a probe column, or -1 where the key is not in the index
+   */
+  private int[] groups(Column probeColumn) {
+    int[] groups = new int[probeColumn.size()];
+    if (probeColumn instanceof CategoryColumn) {
+      // the strings are looked up once per distinct value, after which rows are matched on their codes alone
+      CategoryColumn categories = (CategoryColumn) probeColumn;
+      Int2IntOpenHashMap codeGroups = codeGroups(categories.dictionaryMap());
+      IntArrayList codes = categories.data();
+      for (int row = 0; row < groups.length; row++) {
+        groups[row] = codeGroups.get(codes.getInt(row));
+      }
+    } else if (intGroups != null) {
+      IntArrayList keys = intKeys(probeColumn);
+      for (int row = 0; row < groups.length; row++) {
+        groups[row] = intGroups.get(keys.getInt(row));
+      }
+    } else if (longGroups != null) {
+      LongArrayList keys = longKeys(probeColumn);
+      for (int row = 0; row < groups.length; row++) {
+        groups[row] = longGroups.get(keys.getLong(row));
+      }
+    }
+    return groups;
+  }
+
+  /**
+   * Returns a map from the codes in the given dictionary of a probe column to the group numbers of the rows in the
+   * prepared column with the same strings
+   */
+  private Int2IntOpenHashMap codeGroups(DictionaryMap probeDictionary) {
+    DictionaryMap dictionary = ((CategoryColumn) column).dictionaryMap();
+    Int2IntOpenHashMap codeGroups = new Int2IntOpenHashMap(probeDictionary.size());
+    codeGroups.defaultReturnValue(-1);
+    for (Int2ObjectMap.Entry<String> entry : probeDictionary.keyToValueMap().int2ObjectEntrySet()) {
+      int code = dictionary.get(entry.getValue());
+      if (code >= 0) {
+        codeGroups.put(entry.getIntKey(), intGroups.get(code));
+      }
+    }
+    return codeGroups;
+  }
+
+  private static boolean isIntBacked(Column column) {
+    return column instanceof IntColumn || column instanceof DateColumn || column instanceof TimeColumn
+        || column instanceof CategoryColumn;
+  }
+
+  private static boolean isLongBacked(Column column) {
+    return column instanceof LongColumn || column instanceof DateTimeColumn;
+  }
+
+  private static IntArrayList intKeys(Column column) {
+    if (column instanceof IntColumn) {
+      return ((IntColumn) column).data();
+    } else if (column instanceof DateColumn) {
+      return ((DateColumn) column).data();
+    } else if (column instanceof CategoryColumn) {
+      return ((CategoryColumn) column).data();
+    }
+    return ((TimeColumn) column).data();
+  }
+
+  private static LongArrayList longKeys(Column column) {
+    if (column instanceof LongColumn) {
+      return ((LongColumn) column).data();
+    }
+    return ((DateTimeColumn) column).data();
+  }
+}
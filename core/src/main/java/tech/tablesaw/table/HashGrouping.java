@@ -0,0 +1,361 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.table;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntToLongFunction;
+import java.util.function.Supplier;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.CategoryColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.util.ParallelChunks;
+
+/**
+ * Numbers the distinct combinations of values in some columns of a table, without sorting it. Each row is given the
+ * number of its group, and the groups are numbered in the order in which their first rows appear.
+ * <p>
+ * Rows are keyed on the primitive values behind each column (dictionary codes for categories, packed values for
+ * dates and times), never on strings. When the keys of all the columns fit in 64 bits together they are packed into
+ * a single long; otherwise each row is hashed, and rows with the same hash are compared column by column.
+ * <p>
+ * Given a parallelism greater than one, large tables are split into contiguous chunks of rows that are grouped
+ * concurrently, each into its own hash table. The chunks' groups are then merged in row order, so the numbering is
+ * the same as when grouping serially.
+ */
+public class HashGrouping {
+
+    private final int rowCount;
+
+    // the group number of each row
+    private final int[] groups;
+
+    // the first row of each group, by group number
+    private final IntArrayList firstRows;
+
+    // built on first use: the rows of group g are groupRows[groupStarts[g]] through groupRows[groupStarts[g + 1] - 1],
+    // in ascending order
+    private int[] groupStarts;
+    private int[] groupRows;
+
+    /**
+     * Groups the rows of the given table on the values in the named columns
+     */
+    public HashGrouping(Table table, String... columnNames) {
+        this(table.rowCount(), table.columns(columnNames));
+    }
+
+    /**
+     * Groups the first rowCount rows of the given columns on their values
+     */
+    public HashGrouping(int rowCount, List<Column> columns) {
+        this(rowCount, columns, 1);
+    }
+
+    /**
+     * Groups the first rowCount rows of the given columns on their values, using up to the given number of threads
+     */
+    public HashGrouping(int rowCount, List<Column> columns, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, but was " + parallelism);
+        }
+        this.rowCount = rowCount;
+        this.groups = new int[rowCount];
+        IntToLongFunction[] keys = new IntToLongFunction[columns.size()];
+        int[] widths = new int[columns.size()];
+        int totalWidth = 0;
+        for (int c = 0; c < keys.length; c++) {
+            Column column = columns.get(c);
+            keys[c] = keyFunction(column);
+            widths[c] = column.byteSize() * Byte.SIZE;
+            totalWidth += widths[c];
+        }
+        Supplier<KeyTable> keyTables = totalWidth <= Long.SIZE
+                ? () -> new PackedKeyTable(keys, widths)
+                : () -> new HashedKeyTable(keys);
+
+        int[] bounds = ParallelChunks.bounds(rowCount, parallelism);
+        int chunkCount = bounds.length - 1;
+        if (chunkCount == 1) {
+            KeyTable keyTable = keyTables.get();
+            for (int row = 0; row < rowCount; row++) {
+                groups[row] = keyTable.add(row);
+            }
+            firstRows = keyTable.firstRows;
+            return;
+        }
+
+        // group each chunk on its own, numbering its groups locally
+        KeyTable[] chunkTables = new KeyTable[chunkCount];
+        ParallelChunks.run(chunkCount, chunk -> {
+            KeyTable keyTable = keyTables.get();
+            for (int row = bounds[chunk]; row < bounds[chunk + 1]; row++) {
+                groups[row] = keyTable.add(row);
+            }
+            chunkTables[chunk] = keyTable;
+        });
+
+        // merge the chunks' groups in row order, by adding the first row of each local group to a global table
+        KeyTable merged = keyTables.get();
+        int[][] globalGroups = new int[chunkCount][];
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            IntArrayList localFirstRows = chunkTables[chunk].firstRows;
+            globalGroups[chunk] = new int[localFirstRows.size()];
+            for (int local = 0; local < localFirstRows.size(); local++) {
+                globalGroups[chunk][local] = merged.add(localFirstRows.getInt(local));
+            }
+            chunkTables[chunk] = null;
+        }
+        firstRows = merged.firstRows;
+
+        ParallelChunks.run(chunkCount, chunk -> {
+            int[] global = globalGroups[chunk];
+            for (int row = bounds[chunk]; row < bounds[chunk + 1]; row++) {
+                groups[row] = global[groups[row]];
+            }
+        });
+    }
+
+    /**
+     * Returns the number of groups
+     */
+    public int size() {
+        return firstRows.size();
+    }
+
+    /**
+     * Returns the group number of the given row
+     */
+    public int group(int row) {
+        return groups[row];
+    }
+
+    /**
+     * Returns the group number of every row. The array is not copied, and must not be modified
+     */
+    public int[] groups() {
+        return groups;
+    }
+
+    /**
+     * Returns the first row of every group, by group number. The rows are in ascending order
+     */
+    public int[] firstRows() {
+        return firstRows.toIntArray();
+    }
+
+    /**
+     * Returns the rows in the given group, in ascending order
+     */
+    public int[] rows(int group) {
+        if (groupStarts == null) {
+            indexRows();
+        }
+        return Arrays.copyOfRange(groupRows, groupStarts[group], groupStarts[group + 1]);
+    }
+
+    /**
+     * Fills the group row lists with a counting sort of the rows by group number, which keeps the rows of each group
+     * in ascending order
+     */
+    private void indexRows() {
+        int groupCount = size();
+        int[] starts = new int[groupCount + 1];
+        for (int group : groups) {
+            starts[group + 1]++;
+        }
+        for (int g = 0; g < groupCount; g++) {
+            starts[g + 1] += starts[g];
+        }
+        int[] next = Arrays.copyOf(starts, groupCount);
+        int[] rows = new int[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            rows[next[groups[row]]++] = row;
+        }
+        groupRows = rows;
+        groupStarts = starts;
+    }
+
+    /**
+     * A hash table from the keys of rows to group numbers, which are assigned in the order rows are added
+     */
+    private abstract static class KeyTable {
+
+        // the first row added for each group, by group number
+        final IntArrayList firstRows = new IntArrayList();
+
+        /**
+         * Returns the group number of the given row, starting a new group if no row with the same key has been added
+         */
+        abstract int add(int row);
+    }
+
+    /**
+     * A key table for keys that fit in a long, which are packed together and looked up in a primitive map
+     */
+    private static class PackedKeyTable extends KeyTable {
+
+        private final IntToLongFunction[] keys;
+        private final int[] widths;
+        private final Long2IntOpenHashMap groupsByKey = new Long2IntOpenHashMap();
+
+        PackedKeyTable(IntToLongFunction[] keys, int[] widths) {
+            this.keys = keys;
+            this.widths = widths;
+            groupsByKey.defaultReturnValue(-1);
+        }
+
+        @Override
+        int add(int row) {
+            long key = 0;
+            for (int c = 0; c < keys.length; c++) {
+                long value = keys[c].applyAsLong(row);
+                key = widths[c] == Long.SIZE ? value : (key << widths[c]) | (value & ((1L << widths[c]) - 1));
+            }
+            int group = groupsByKey.get(key);
+            if (group < 0) {
+                group = firstRows.size();
+                groupsByKey.put(key, group);
+                firstRows.add(row);
+            }
+            return group;
+        }
+    }
+
+    /**
+     * A key table for wider keys, which hashes rows into an open addressing table of group numbers, and compares rows
+     * with equal hashes column by column
+     */
+    private static class HashedKeyTable extends KeyTable {
+
+        private final IntToLongFunction[] keys;
+        private final IntArrayList hashes = new IntArrayList();
+
+        // group numbers, with -1 for empty slots
+        private int[] slots = new int[16];
+
+        HashedKeyTable(IntToLongFunction[] keys) {
+            this.keys = keys;
+            Arrays.fill(slots, -1);
+        }
+
+        @Override
+        int add(int row) {
+            int hash = hash(row);
+            int mask = slots.length - 1;
+            int slot = hash & mask;
+            while (slots[slot] >= 0) {
+                int candidate = slots[slot];
+                if (hashes.getInt(candidate) == hash && equal(firstRows.getInt(candidate), row)) {
+                    return candidate;
+                }
+                slot = (slot + 1) & mask;
+            }
+            int group = firstRows.size();
+            firstRows.add(row);
+            hashes.add(hash);
+            slots[slot] = group;
+            if (firstRows.size() * 2 > slots.length) {
+                rehash(slots.length * 2);
+            }
+            return group;
+        }
+
+        private void rehash(int capacity) {
+            slots = new int[capacity];
+            Arrays.fill(slots, -1);
+            int mask = capacity - 1;
+            for (int group = 0; group < hashes.size(); group++) {
+                int slot = hashes.getInt(group) & mask;
+                while (slots[slot] >= 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = group;
+            }
+        }
+
+        private int hash(int row) {
+            long hash = 0;
+            for (IntToLongFunction key : keys) {
+                hash = hash * 31 + key.applyAsLong(row);
+            }
+            return (int) HashCommon.mix(hash);
+        }
+
+        private boolean equal(int row1, int row2) {
+            for (IntToLongFunction key : keys) {
+                if (key.applyAsLong(row1) != key.applyAsLong(row2)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Returns a function giving the primitive value behind each cell of the given column, such that two cells have
+     * the same value exactly when they hold equal data. Floating point zeros are normalized, so that 0.0 and -0.0
+     * group together
+     */
+    public static IntToLongFunction keyFunction(Column column) {
+        switch (column.type()) {
+            case BOOLEAN:
+                byte[] bytes = ((BooleanColumn) column).data().elements();
+                return row -> bytes[row];
+            case SHORT_INT:
+                short[] shorts = ((ShortColumn) column).data().elements();
+                return row -> shorts[row];
+            case INTEGER:
+                int[] ints = ((IntColumn) column).data().elements();
+                return row -> ints[row];
+            case CATEGORY:
+                int[] codes = ((CategoryColumn) column).data().elements();
+                return row -> codes[row];
+            case LOCAL_DATE:
+                int[] dates = ((DateColumn) column).data().elements();
+                return row -> dates[row];
+            case LOCAL_TIME:
+                int[] times = ((TimeColumn) column).data().elements();
+                return row -> times[row];
+            case LONG_INT:
+                long[] longs = ((LongColumn) column).data().elements();
+                return row -> longs[row];
+            case LOCAL_DATE_TIME:
+                long[] dateTimes = ((DateTimeColumn) column).data().elements();
+                return row -> dateTimes[row];
+            case FLOAT:
+                float[] floats = ((FloatColumn) column).data().elements();
+                return row -> Float.floatToIntBits(floats[row] + 0.0f);
+            case DOUBLE:
+                double[] doubles = ((DoubleColumn) column).data().elements();
+                return row -> Double.doubleToLongBits(doubles[row] + 0.0);
+            default:
+                throw new IllegalStateException("Unhandled column type in case statement");
+        }
+    }
+}
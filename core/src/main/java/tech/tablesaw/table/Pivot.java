@@ -0,0 +1,143 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.table;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import tech.tablesaw.aggregate.Accumulator;
+import tech.tablesaw.aggregate.Accumulators;
+import tech.tablesaw.aggregate.AggregateFunction;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.util.ParallelChunks;
+
+/**
+ * Builds pivot tables: tables with a row for each distinct combination of values in some row key columns, and a
+ * column for each distinct value of a column key (and each aggregate function), holding the aggregates of a value
+ * column over the rows with those keys.
+ * <p>
+ * The row keys and the column key are each grouped by hashing, and every row's value is passed to the accumulator for
+ * its cell of a dense matrix in a single pass over the value column. Rows of the result appear in the order in which
+ * their keys first appear in the table, and columns are in the order of the column key's values. Cells with no rows
+ * are missing.
+ */
+public final class Pivot {
+
+    private Pivot() {
+    }
+
+    /**
+     * Returns a pivot table of the given table, computed serially
+     */
+    public static Table pivot(Table table, List<String> rowKeys, String columnKey, String valueColumn,
+                              AggregateFunction... functions) {
+        return pivot(table, 1, rowKeys, columnKey, valueColumn, functions);
+    }
+
+    /**
+     * Returns a pivot table of the given table, grouping and aggregating on up to {@code parallelism} threads. Each
+     * thread works on a contiguous range of rows with its own partial aggregates, which are merged in row order
+     *
+     * @param rowKeys     the names of the columns whose distinct combinations of values make the rows of the result
+     * @param columnKey   the name of the column whose distinct values make the columns of the result
+     * @param valueColumn the name of the column to aggregate
+     * @param functions   the aggregates to compute for each cell. With more than one, the result has a column for each
+     *                    function within each value of the column key
+     * @throws IllegalArgumentException if no functions are given, or the result would have too many cells
+     */
+    public static Table pivot(Table table, int parallelism, List<String> rowKeys, String columnKey,
+                              String valueColumn, AggregateFunction... functions) {
+        if (functions.length == 0) {
+            throw new IllegalArgumentException("A pivot requires at least one aggregate function");
+        }
+        int rowCount = table.rowCount();
+        HashGrouping rowGroups = new HashGrouping(rowCount, table.columns(rowKeys.toArray(new String[0])),
+                parallelism);
+        Column pivotColumn = table.column(columnKey);
+        HashGrouping columnGroups = new HashGrouping(rowCount, Arrays.asList(pivotColumn), parallelism);
+
+        int columnCount = columnGroups.size();
+        long cellCount = (long) rowGroups.size() * columnCount;
+        if (cellCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("A pivot of " + rowGroups.size() + " rows by " + columnCount
+                    + " columns has too many cells");
+        }
+        int[] cells = new int[rowCount];
+        int[] rowGroupOfRow = rowGroups.groups();
+        int[] columnGroupOfRow = columnGroups.groups();
+        for (int row = 0; row < rowCount; row++) {
+            cells[row] = rowGroupOfRow[row] * columnCount + columnGroupOfRow[row];
+        }
+
+        // each chunk holds an accumulator per cell, so limit the chunks to keep that no larger than the data
+        int chunkLimit = (int) Math.max(1, rowCount / Math.max(1, cellCount));
+        int[] bounds = ParallelChunks.bounds(rowCount, Math.min(parallelism, chunkLimit));
+        int chunkCount = bounds.length - 1;
+        List<AggregateFunction> functionList = Arrays.asList(functions);
+        IntToDoubleFunction values = Accumulators.values(table.column(valueColumn));
+        Accumulator[][][] partials = new Accumulator[chunkCount][][];
+        ParallelChunks.run(chunkCount, chunk -> {
+            partials[chunk] = new Accumulator[functions.length][(int) cellCount];
+            Accumulators.accept(partials[chunk], functionList, cells, values, bounds[chunk], bounds[chunk + 1]);
+        });
+        Accumulator[][] accumulators = partials[0];
+        for (int chunk = 1; chunk < chunkCount; chunk++) {
+            Accumulators.merge(accumulators, partials[chunk]);
+        }
+
+        Table result = rowKeys(table, rowKeys, rowGroups);
+        result.setName(table.name() + " pivot");
+        // the first row of each column group, in the order of the column key's values
+        int[] columnOrder = columnGroups.firstRows();
+        IntArrays.quickSort(columnOrder, pivotColumn.rowComparator());
+        for (int firstRow : columnOrder) {
+            int columnGroup = columnGroups.group(firstRow);
+            String label = pivotColumn.getString(firstRow);
+            if (label == null) {
+                label = "";
+            }
+            for (int f = 0; f < functions.length; f++) {
+                String name = functions.length == 1
+                        ? label
+                        : String.format("%s [%s]", functions[f].functionName(), label);
+                DoubleColumn resultColumn = new DoubleColumn(name, rowGroups.size());
+                for (int rowGroup = 0; rowGroup < rowGroups.size(); rowGroup++) {
+                    Accumulator accumulator = accumulators[f][rowGroup * columnCount + columnGroup];
+                    resultColumn.append(accumulator == null ? DoubleColumn.MISSING_VALUE : accumulator.result());
+                }
+                result.addColumn(resultColumn);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a table holding the first row of each group in the row key columns
+     */
+    private static Table rowKeys(Table table, List<String> rowKeys, HashGrouping rowGroups) {
+        Table keys = Table.create(table.name());
+        for (String name : rowKeys) {
+            keys.addColumn(table.column(name));
+        }
+        Table result = keys.emptyCopy(rowGroups.size());
+        Rows.copyRowsToTable(IntArrayList.wrap(rowGroups.firstRows()), keys, result);
+        return result;
+    }
+}
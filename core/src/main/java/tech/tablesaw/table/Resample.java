@@ -0,0 +1,287 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.table;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntToDoubleFunction;
+
+import com.google.common.collect.ImmutableMap;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+
+import tech.tablesaw.aggregate.Accumulator;
+import tech.tablesaw.aggregate.Accumulators;
+import tech.tablesaw.aggregate.AggregateFunction;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.packeddata.PackedLocalDate;
+
+/**
+ * Splits the rows of a table into bins of equal length on a DateTimeColumn or DateColumn, for aggregation: for
+ * example, the first, max, min and last prices in each hour (OHLC), or the sum and count of sales in each month.
+ * <p>
+ * Bins of a Duration are aligned to the epoch (midnight, January 1, 1970). Bins of a Period are whole days, weeks,
+ * months or years: months and years start on the first day of a month, multiples of a week start on a Monday, and
+ * other numbers of days are aligned to the epoch. Every bin from the first time to the last is in the result, in
+ * order, including those with no rows.
+ * <p>
+ * Each row's bin is computed arithmetically from the packed value of its time, and each value column is aggregated
+ * in a single pass. The rows need not be sorted: when they are not in time order, the values are passed to the
+ * aggregate functions in time order, rows with equal times keeping their order in the table, so that order-dependent
+ * functions such as first and last give the open and close of each bin.
+ */
+public class Resample {
+
+    // the first Monday after the epoch, as an epoch day
+    private static final long FIRST_MONDAY = 4;
+
+    private final Table table;
+    private final Column timeColumn;
+    private final int[] bins;
+    private final int binCount;
+
+    // the rows in time order, or null if the table is already in time order
+    private final int[] timeOrder;
+    private final Column binStarts;
+
+    /**
+     * Splits the rows of the given table into bins of the given duration on the named column
+     *
+     * @throws IllegalArgumentException if the duration is shorter than a millisecond, the column is not a
+     *                                  DateTimeColumn or DateColumn or has missing values, or a DateColumn is split by
+     *                                  part of a day
+     */
+    public Resample(Table table, String timeColumnName, Duration duration) {
+        // times are held to the millisecond, so shorter bins cannot be told apart
+        if (duration.isNegative() || duration.toMillis() < 1) {
+            throw new IllegalArgumentException("Bins must last at least a millisecond, but were " + duration);
+        }
+        this.table = table;
+        this.timeColumn = table.column(timeColumnName);
+        long binMillis = duration.toMillis();
+        if (timeColumn instanceof DateColumn && binMillis % TimeKeys.MILLIS_PER_DAY != 0) {
+            throw new IllegalArgumentException("Column " + timeColumnName
+                    + " holds dates, which cannot be split into bins of " + duration);
+        }
+        long[] millis = TimeKeys.epochMillis(timeColumn);
+        long[] keys = new long[millis.length];
+        for (int row = 0; row < millis.length; row++) {
+            keys[row] = Math.floorDiv(millis[row], binMillis);
+        }
+        long firstKey = firstKey(keys);
+        this.binCount = binCount(keys, firstKey);
+        this.bins = toBins(keys, firstKey);
+        this.timeOrder = timeOrder(millis);
+        if (timeColumn instanceof DateColumn) {
+            DateColumn starts = new DateColumn(timeColumn.name(), binCount);
+            for (int bin = 0; bin < binCount; bin++) {
+                starts.append(LocalDate.ofEpochDay((firstKey + bin) * binMillis / TimeKeys.MILLIS_PER_DAY));
+            }
+            this.binStarts = starts;
+        } else {
+            DateTimeColumn starts = new DateTimeColumn(timeColumn.name(), binCount);
+            for (int bin = 0; bin < binCount; bin++) {
+                long start = (firstKey + bin) * binMillis;
+                starts.append(LocalDateTime.ofEpochSecond(Math.floorDiv(start, 1000L),
+                        (int) Math.floorMod(start, 1000L) * 1_000_000, ZoneOffset.UTC));
+            }
+            this.binStarts = starts;
+        }
+    }
+
+    /**
+     * Splits the rows of the given table into bins of the given period on the named column. The period must be a
+     * positive number of days (or weeks), or of months (or years), but not both
+     *
+     * @throws IllegalArgumentException if the period is not as described, or the column is not a DateTimeColumn or
+     *                                  DateColumn or has missing values
+     */
+    public Resample(Table table, String timeColumnName, Period period) {
+        long months = period.toTotalMonths();
+        int days = period.getDays();
+        if (months < 0 || days < 0 || (months == 0) == (days == 0)) {
+            throw new IllegalArgumentException("Bins must be a positive number of days or of months, but were "
+                    + period);
+        }
+        this.table = table;
+        this.timeColumn = table.column(timeColumnName);
+        int[] dates = TimeKeys.packedDates(timeColumn);
+        long[] keys = new long[dates.length];
+        long origin = days % 7 == 0 ? FIRST_MONDAY : 0;
+        for (int row = 0; row < dates.length; row++) {
+            int date = dates[row];
+            if (months > 0) {
+                long month = PackedLocalDate.getYear(date) * 12L + PackedLocalDate.getMonthValue(date) - 1;
+                keys[row] = Math.floorDiv(month, months);
+            } else {
+                keys[row] = Math.floorDiv(PackedLocalDate.toEpochDay(date) - origin, days);
+            }
+        }
+        long firstKey = firstKey(keys);
+        this.binCount = binCount(keys, firstKey);
+        this.bins = toBins(keys, firstKey);
+        this.timeOrder = timeOrder(TimeKeys.epochMillis(timeColumn));
+        LocalDate[] starts = new LocalDate[binCount];
+        for (int bin = 0; bin < binCount; bin++) {
+            long key = firstKey + bin;
+            if (months > 0) {
+                long month = key * months;
+                starts[bin] = LocalDate.of((int) Math.floorDiv(month, 12L), (int) Math.floorMod(month, 12L) + 1, 1);
+            } else {
+                starts[bin] = LocalDate.ofEpochDay(key * days + origin);
+            }
+        }
+        if (timeColumn instanceof DateColumn) {
+            this.binStarts = new DateColumn(timeColumn.name(), Arrays.asList(starts));
+        } else {
+            DateTimeColumn dateTimes = new DateTimeColumn(timeColumn.name(), binCount);
+            for (LocalDate start : starts) {
+                dateTimes.append(LocalDateTime.of(start, LocalTime.MIDNIGHT));
+            }
+            this.binStarts = dateTimes;
+        }
+    }
+
+    /**
+     * Returns the smallest of the given keys, or 0 if there are none
+     */
+    private static long firstKey(long[] keys) {
+        if (keys.length == 0) {
+            return 0;
+        }
+        long first = keys[0];
+        for (long key : keys) {
+            first = Math.min(first, key);
+        }
+        return first;
+    }
+
+    private static int binCount(long[] keys, long firstKey) {
+        if (keys.length == 0) {
+            return 0;
+        }
+        long last = firstKey;
+        for (long key : keys) {
+            last = Math.max(last, key);
+        }
+        long count = last - firstKey + 1;
+        if (count > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("The times span too many bins: " + count);
+        }
+        return (int) count;
+    }
+
+    private static int[] toBins(long[] keys, long firstKey) {
+        int[] bins = new int[keys.length];
+        for (int row = 0; row < keys.length; row++) {
+            bins[row] = (int) (keys[row] - firstKey);
+        }
+        return bins;
+    }
+
+    /**
+     * Returns the rows ordered by the given times, with equal times in row order, or null if they are in that order
+     * already
+     */
+    private static int[] timeOrder(long[] millis) {
+        int row = 1;
+        while (row < millis.length && millis[row - 1] <= millis[row]) {
+            row++;
+        }
+        if (row >= millis.length) {
+            return null;
+        }
+        int[] order = new int[millis.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        // a stable sort, so rows with the same time stay in row order
+        IntArrays.mergeSort(order, (row1, row2) -> Long.compare(millis[row1], millis[row2]));
+        return order;
+    }
+
+    /**
+     * Returns the number of bins from the first time to the last
+     */
+    public int size() {
+        return binCount;
+    }
+
+    /**
+     * Returns the bin of each row, counting from 0 for the bin of the earliest time
+     */
+    public int[] bins() {
+        return bins;
+    }
+
+    /**
+     * Applies the given aggregations to the given columns, computing all the aggregates of each column in a single
+     * pass over it. The result has a column holding the start of each bin, named for the time column, followed by a
+     * column for each column and function. The aggregates of bins with no rows are those of no values: for example,
+     * a count of 0 and a mean that is missing. Each bin's values are aggregated in time order
+     */
+    public Table aggregate(Map<String, List<AggregateFunction>> functions) {
+        Table result = Table.create(table.name() + " resampled");
+        result.addColumn(binStarts.copy());
+        int[] orderedBins = bins;
+        if (timeOrder != null) {
+            orderedBins = new int[bins.length];
+            for (int i = 0; i < orderedBins.length; i++) {
+                orderedBins[i] = bins[timeOrder[i]];
+            }
+        }
+        for (Map.Entry<String, List<AggregateFunction>> entry : functions.entrySet()) {
+            String columnName = entry.getKey();
+            List<AggregateFunction> columnFunctions = entry.getValue();
+            Accumulator[][] accumulators = new Accumulator[columnFunctions.size()][binCount];
+            IntToDoubleFunction values = Accumulators.values(table.column(columnName));
+            if (timeOrder != null) {
+                IntToDoubleFunction rowValues = values;
+                values = i -> rowValues.applyAsDouble(timeOrder[i]);
+            }
+            Accumulators.accept(accumulators, columnFunctions, orderedBins, values, 0, orderedBins.length);
+            for (int f = 0; f < accumulators.length; f++) {
+                AggregateFunction function = columnFunctions.get(f);
+                String name = String.format("%s [%s]", function.functionName(), columnName);
+                DoubleColumn resultColumn = new DoubleColumn(name, binCount);
+                for (Accumulator accumulator : accumulators[f]) {
+                    resultColumn.append(accumulator == null
+                            ? function.accumulator().result()
+                            : accumulator.result());
+                }
+                result.addColumn(resultColumn);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Applies the given aggregations to the given column in a single pass. See {@link #aggregate(Map)}
+     */
+    public Table aggregate(String columnName, AggregateFunction... functions) {
+        return aggregate(ImmutableMap.of(columnName, Arrays.asList(functions)));
+    }
+}
@@ -1,29 +1,91 @@
 package tech.tablesaw.table;
 
+import java.time.Duration;
+import java.util.Arrays;
+
 import org.apache.commons.lang3.StringUtils;
 
+import tech.tablesaw.aggregate.Accumulator;
+import tech.tablesaw.aggregate.Accumulators;
 import tech.tablesaw.aggregate.AggregateFunction;
 import tech.tablesaw.aggregate.AggregateFunctions;
 import tech.tablesaw.api.DoubleColumn;
-import tech.tablesaw.api.FloatColumn;
-import tech.tablesaw.api.IntColumn;
-import tech.tablesaw.api.LongColumn;
-import tech.tablesaw.api.ShortColumn;
 import tech.tablesaw.columns.Column;
-import tech.tablesaw.util.BitmapBackedSelection;
-import tech.tablesaw.util.Selection;
 
 /**
  * Does a calculation on a rolling basis (e.g. mean for last 20 days)
+ * <p>
+ * The value for each row is computed over the window that ends with it. A window is either a number of rows, in
+ * which case the first window - 1 rows have no full window and are missing, or a duration, in which case the window
+ * holds the rows whose times are within that duration before the row's time (and not on its start). Missing values
+ * within a window are skipped. Sums, means, variances and standard
+ * deviations are updated as each row enters and leaves the window, minimums and maximums are kept in a monotonic
+ * deque, and medians and other percentiles are read from the window's values kept in order. Sums, means, variances,
+ * minimums and maximums take time linear in the size of the column, whatever the size of the window; percentiles take
+ * n log n time for large windows. Other functions are recomputed for each window
  */
 public class RollingColumn {
 
+  // windows up to this size keep their values in a sorted array, rather than counting them in a tree
+  private static final int SORTED_WINDOW_LIMIT = 2048;
+
   private final Column column;
+  // the number of rows in each window, for windows of a fixed number of rows
   private final int window;
+  // the first row of each row's window, for windows of a duration
+  private final int[] starts;
+  // the largest number of rows in any window
+  private final int longestWindow;
+  private final String windowName;
 
   public RollingColumn(Column column, int window) {
+    if (window < 1) {
+      throw new IllegalArgumentException("A rolling window must have at least one row, but was " + window);
+    }
     this.column = column;
     this.window = window;
+    this.starts = null;
+    this.longestWindow = Math.max(1, Math.min(window, column.size()));
+    this.windowName = String.valueOf(window);
+  }
+
+  /**
+   * Creates a rolling calculation over windows of the given duration, ending at the time in each row of the given
+   * DateTimeColumn or DateColumn. The times must be in ascending order. The windows are found in a single sweep over
+   * the times, with a pointer to the start of the window following the pointer to its end
+   *
+   * @throws IllegalArgumentException if the duration is shorter than a millisecond, the precision of the times, or
+   *                                  the times are missing or out of order
+   */
+  public RollingColumn(Column column, Column timeColumn, Duration window) {
+    if (window.isNegative() || window.toMillis() < 1) {
+      throw new IllegalArgumentException("A rolling window must last at least a millisecond, but was " + window);
+    }
+    if (timeColumn.size() != column.size()) {
+      throw new IllegalArgumentException("Column " + timeColumn.name() + " has " + timeColumn.size()
+          + " rows, but column " + column.name() + " has " + column.size());
+    }
+    long[] times = TimeKeys.epochMillis(timeColumn);
+    long windowMillis = window.toMillis();
+    int[] starts = new int[times.length];
+    int start = 0;
+    int longest = 1;
+    for (int row = 0; row < times.length; row++) {
+      if (row > 0 && times[row] < times[row - 1]) {
+        throw new IllegalArgumentException("Column " + timeColumn.name() + " is not in ascending order at row "
+            + row);
+      }
+      while (times[start] <= times[row] - windowMillis) {
+        start++;
+      }
+      starts[row] = start;
+      longest = Math.max(longest, row - start + 1);
+    }
+    this.column = column;
+    this.window = 0;
+    this.starts = starts;
+    this.longestWindow = longest;
+    this.windowName = window.toString();
   }
 
   public DoubleColumn mean() {
@@ -34,44 +96,507 @@ public class RollingColumn {
     return calc(AggregateFunctions.sum);
   }
 
-  private String generateNewColumnName(AggregateFunction function) {
+  public DoubleColumn sum() {
+    return calc(AggregateFunctions.sum);
+  }
+
+  public DoubleColumn variance() {
+    return calc(AggregateFunctions.variance);
+  }
+
+  public DoubleColumn stdDev() {
+    return calc(AggregateFunctions.stdDev);
+  }
+
+  public DoubleColumn min() {
+    return calc(AggregateFunctions.min);
+  }
+
+  public DoubleColumn max() {
+    return calc(AggregateFunctions.max);
+  }
+
+  public DoubleColumn median() {
+    return calc(AggregateFunctions.median);
+  }
+
+  /**
+   * Returns the given percentile (greater than 0, and no more than 100) of each window, estimated as by
+   * {@link AggregateFunctions#percentile(double[], double)}
+   */
+  public DoubleColumn percentile(double percentile) {
+    if (percentile <= 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be greater than 0 and no more than 100, but was "
+          + percentile);
+    }
+    checkNumeric("percentile");
+    return new DoubleColumn(generateNewColumnName(percentile + " Percentile"), rollingPercentile(percentile));
+  }
+
+  private String generateNewColumnName(String functionName) {
     boolean useSpaces = column.name().matches("\\s+");
     String separator = useSpaces ? " " : "";
     String newColumnName = new StringBuilder(column.name())
-        .append(separator).append(useSpaces ? function.functionName() : StringUtils.capitalize(function.functionName()))
-        .append(separator).append(window)
+        .append(separator).append(useSpaces ? functionName : StringUtils.capitalize(functionName))
+        .append(separator).append(windowName)
         .toString();
     return newColumnName;
   }
 
   public DoubleColumn calc(AggregateFunction function) {
-    // TODO: the subset operation copies the array. creating a view would likely be more efficient
-    DoubleColumn result = new DoubleColumn(generateNewColumnName(function), column.size());
-    for (int i = 0; i < window - 1; i++) {
-      result.append(DoubleColumn.MISSING_VALUE);
-    }
-    for (int origColIndex = 0; origColIndex < column.size() - window + 1; origColIndex++) {
-      Selection selection = new BitmapBackedSelection();
-      selection.addRange(origColIndex, origColIndex + window);
-      Column windowedColumn = column.subset(selection);
-      double calc;
-      if (windowedColumn instanceof DoubleColumn) {
-        calc = function.agg((DoubleColumn) windowedColumn);
-      } else if (windowedColumn instanceof FloatColumn) {
-        calc = function.agg((FloatColumn) windowedColumn);
-      } else if (windowedColumn instanceof IntColumn) {
-        calc = function.agg((IntColumn) windowedColumn);
-      } else if (windowedColumn instanceof LongColumn) {
-        calc = function.agg((LongColumn) windowedColumn);
-      } else if (windowedColumn instanceof ShortColumn) {
-        calc = function.agg((ShortColumn) windowedColumn);
+    checkNumeric(function.functionName());
+    return new DoubleColumn(generateNewColumnName(function.functionName()), rollingValues(function));
+  }
+
+  private void checkNumeric(String functionName) {
+    switch (column.type()) {
+      case DOUBLE:
+      case FLOAT:
+      case INTEGER:
+      case LONG_INT:
+      case SHORT_INT:
+        break;
+      default:
+        throw new IllegalArgumentException("Cannot calculate " + functionName
+            + " on column of type " + column.type());
+    }
+  }
+
+  private double[] rollingValues(AggregateFunction function) {
+    if (function == AggregateFunctions.sum
+        || function == AggregateFunctions.mean
+        || function == AggregateFunctions.variance
+        || function == AggregateFunctions.stdDev) {
+      return rollingMoments(function);
+    }
+    if (function == AggregateFunctions.min) {
+      return rollingExtreme(false);
+    }
+    if (function == AggregateFunctions.max) {
+      return rollingExtreme(true);
+    }
+    if (function == AggregateFunctions.median) {
+      return rollingPercentile(50.0);
+    }
+    if (function == AggregateFunctions.quartile1) {
+      return rollingPercentile(25.0);
+    }
+    if (function == AggregateFunctions.quartile3) {
+      return rollingPercentile(75.0);
+    }
+    if (function == AggregateFunctions.percentile90) {
+      return rollingPercentile(90.0);
+    }
+    if (function == AggregateFunctions.percentile95) {
+      return rollingPercentile(95.0);
+    }
+    if (function == AggregateFunctions.percentile99) {
+      return rollingPercentile(99.0);
+    }
+    return rollingAccumulator(function);
+  }
+
+  /**
+   * Returns the values of the column as doubles, with missing values as NaN. The data of a DoubleColumn is used as
+   * it is, without copying
+   */
+  private double[] values() {
+    if (column instanceof DoubleColumn) {
+      return ((DoubleColumn) column).data().elements();
+    }
+    return column.asDoubleArray();
+  }
+
+  /**
+   * Returns the first row of the window that ends with the given row, or a negative number if the row has no full
+   * window
+   */
+  private int start(int row) {
+    return starts == null ? row - window + 1 : starts[row];
+  }
+
+  /**
+   * Returns an array for the results, with every value missing until it is computed
+   */
+  private double[] emptyResult() {
+    double[] result = new double[column.size()];
+    Arrays.fill(result, DoubleColumn.MISSING_VALUE);
+    return result;
+  }
+
+  /**
+   * Computes the function for each window by feeding its rows to a reused accumulator
+   */
+  private double[] rollingAccumulator(AggregateFunction function) {
+    double[] result = emptyResult();
+    Accumulator accumulator = function.accumulator();
+    for (int row = 0; row < result.length; row++) {
+      int start = start(row);
+      if (start >= 0) {
+        accumulator.reset();
+        Accumulators.accept(accumulator, column, start, row + 1);
+        result[row] = accumulator.result();
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Computes a sum, mean, variance or standard deviation for each window, adding each value as it enters the window
+   * and removing it as it leaves. The sums are compensated for rounding error (Neumaier's variant of Kahan
+   * summation). The variance comes from sums of the values' differences from a shift near their mean, which is reset,
+   * and the sums recomputed, whenever as many values have entered and left as the window holds; that costs at most
+   * one more pass over the column in all, and keeps rounding errors from building up over long columns. Infinite
+   * values are counted rather than summed, so that a window is finite again once they have left it
+   */
+  private double[] rollingMoments(AggregateFunction function) {
+    double[] values = values();
+    double[] result = emptyResult();
+    boolean needsVariance = function == AggregateFunctions.variance || function == AggregateFunctions.stdDev;
+    int count = 0;
+    int positiveInfinities = 0;
+    int negativeInfinities = 0;
+    CompensatedSum sum = new CompensatedSum();
+    double shift = 0.0;
+    CompensatedSum shiftedSum = new CompensatedSum();
+    CompensatedSum shiftedSquares = new CompensatedSum();
+    int from = 0;
+    int updates = 0;
+    for (int row = 0; row < result.length; row++) {
+      double value = values[row];
+      if (!Double.isNaN(value)) {
+        count++;
+        if (value == Double.POSITIVE_INFINITY) {
+          positiveInfinities++;
+        } else if (value == Double.NEGATIVE_INFINITY) {
+          negativeInfinities++;
+        } else {
+          sum.add(value);
+          shiftedSum.add(value - shift);
+          shiftedSquares.add((value - shift) * (value - shift));
+        }
+      }
+      int start = start(row);
+      for (; from < start; from++) {
+        double leaving = values[from];
+        if (!Double.isNaN(leaving)) {
+          count--;
+          if (leaving == Double.POSITIVE_INFINITY) {
+            positiveInfinities--;
+          } else if (leaving == Double.NEGATIVE_INFINITY) {
+            negativeInfinities--;
+          } else {
+            sum.add(-leaving);
+            shiftedSum.add(-(leaving - shift));
+            shiftedSquares.add(-(leaving - shift) * (leaving - shift));
+          }
+        }
+        updates++;
+      }
+      updates++;
+      int finiteCount = count - positiveInfinities - negativeInfinities;
+      if (needsVariance && updates > row - from && finiteCount > 0) {
+        shift += shiftedSum.value() / finiteCount;
+        shiftedSum = new CompensatedSum();
+        shiftedSquares = new CompensatedSum();
+        for (int i = from; i <= row; i++) {
+          if (Double.isFinite(values[i])) {
+            shiftedSum.add(values[i] - shift);
+            shiftedSquares.add((values[i] - shift) * (values[i] - shift));
+          }
+        }
+        updates = 0;
+      }
+      if (start >= 0) {
+        double total = sum.value();
+        if (positiveInfinities > 0) {
+          total = negativeInfinities > 0 ? Double.NaN : Double.POSITIVE_INFINITY;
+        } else if (negativeInfinities > 0) {
+          total = Double.NEGATIVE_INFINITY;
+        }
+        if (function == AggregateFunctions.sum) {
+          result[row] = total;
+        } else if (function == AggregateFunctions.mean) {
+          result[row] = count == 0 ? Double.NaN : total / count;
+        } else {
+          // the variance of a window holding an infinite value is left missing
+          double variance = Double.NaN;
+          if (finiteCount == 1 && count == 1) {
+            variance = 0.0;
+          } else if (finiteCount > 1 && finiteCount == count) {
+            double s1 = shiftedSum.value();
+            variance = Math.max(0.0, (shiftedSquares.value() - s1 * s1 / count) / (count - 1));
+          }
+          result[row] = function == AggregateFunctions.stdDev ? Math.sqrt(variance) : variance;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * A running sum with Neumaier's compensation for rounding error
+   */
+  private static final class CompensatedSum {
+
+    private double sum;
+    private double compensation;
+
+    void add(double value) {
+      double total = sum + value;
+      if (Math.abs(sum) >= Math.abs(value)) {
+        compensation += (sum - total) + value;
       } else {
-        throw new IllegalArgumentException("Cannot calculate " + function.functionName()
-            + " on column of type " + windowedColumn.type());
+        compensation += (value - total) + sum;
+      }
+      sum = total;
+    }
+
+    double value() {
+      return sum + compensation;
+    }
+  }
+
+  /**
+   * Computes the largest (or smallest) value in each window, from a deque of the rows in the window whose values are
+   * larger (or smaller) than those of every later row in it. The deque is a ring buffer holding at most one window
+   */
+  private double[] rollingExtreme(boolean max) {
+    double[] values = values();
+    double[] result = emptyResult();
+    int[] deque = new int[longestWindow];
+    int head = 0;
+    int size = 0;
+    for (int row = 0; row < result.length; row++) {
+      int start = start(row);
+      while (size > 0 && deque[head] < start) {
+        head = (head + 1) % deque.length;
+        size--;
+      }
+      double value = values[row];
+      if (!Double.isNaN(value)) {
+        while (size > 0) {
+          double last = values[deque[(head + size - 1) % deque.length]];
+          if (max ? last > value : last < value) {
+            break;
+          }
+          size--;
+        }
+        deque[(head + size) % deque.length] = row;
+        size++;
+      }
+      if (start >= 0) {
+        result[row] = size == 0 ? Double.NaN : values[deque[head]];
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Computes the given percentile of each window from an ordered collection of the window's values, updated as each
+   * value enters and leaves the window
+   */
+  private double[] rollingPercentile(double percentile) {
+    double[] values = values();
+    double[] result = emptyResult();
+    OrderedValues ordered = longestWindow <= SORTED_WINDOW_LIMIT
+        ? new SortedWindow(longestWindow)
+        : new RankedWindow(distinctSortedValues(values, result.length));
+    int from = 0;
+    for (int row = 0; row < result.length; row++) {
+      int start = start(row);
+      for (; from < start; from++) {
+        if (!Double.isNaN(values[from])) {
+          ordered.remove(values[from] + 0.0);
+        }
+      }
+      if (!Double.isNaN(values[row])) {
+        ordered.add(values[row] + 0.0);
+      }
+      if (start >= 0) {
+        result[row] = percentile(ordered, percentile);
       }
-      result.append(calc);
     }
     return result;
   }
 
+  private static double[] distinctSortedValues(double[] values, int size) {
+    double[] sorted = new double[size];
+    int count = 0;
+    for (int row = 0; row < size; row++) {
+      if (!Double.isNaN(values[row])) {
+        // normalize -0.0 so that it ranks with 0.0
+        sorted[count++] = values[row] + 0.0;
+      }
+    }
+    Arrays.sort(sorted, 0, count);
+    int distinct = 0;
+    for (int i = 0; i < count; i++) {
+      if (distinct == 0 || sorted[i] != sorted[distinct - 1]) {
+        sorted[distinct++] = sorted[i];
+      }
+    }
+    return Arrays.copyOf(sorted, distinct);
+  }
+
+  /**
+   * Returns the percentile of the given values, estimated as by Apache Commons Math's default (legacy) method, which
+   * {@link AggregateFunctions#percentile(double[], double)} uses
+   */
+  private static double percentile(OrderedValues values, double percentile) {
+    int n = values.size();
+    if (n == 0) {
+      return Double.NaN;
+    }
+    if (n == 1) {
+      return values.get(1);
+    }
+    double position = percentile * (n + 1) / 100;
+    if (position < 1) {
+      return values.get(1);
+    }
+    if (position >= n) {
+      return values.get(n);
+    }
+    int floor = (int) position;
+    double lower = values.get(floor);
+    double upper = values.get(floor + 1);
+    return lower + (position - floor) * (upper - lower);
+  }
+
+  /**
+   * The values in a window, from which the k-th smallest can be found
+   */
+  private interface OrderedValues {
+
+    void add(double value);
+
+    void remove(double value);
+
+    int size();
+
+    /**
+     * Returns the k-th smallest value, for k from 1 through size()
+     */
+    double get(int k);
+  }
+
+  /**
+   * The values in a window kept in a sorted array. Adding or removing a value shifts part of the array, which for
+   * small windows is cheaper than the scattered memory accesses of a tree
+   */
+  private static final class SortedWindow implements OrderedValues {
+
+    private final double[] sorted;
+    private int size;
+
+    SortedWindow(int window) {
+      sorted = new double[window];
+    }
+
+    @Override
+    public void add(double value) {
+      int index = Arrays.binarySearch(sorted, 0, size, value);
+      if (index < 0) {
+        index = -index - 1;
+      }
+      System.arraycopy(sorted, index, sorted, index + 1, size - index);
+      sorted[index] = value;
+      size++;
+    }
+
+    @Override
+    public void remove(double value) {
+      int index = Arrays.binarySearch(sorted, 0, size, value);
+      System.arraycopy(sorted, index + 1, sorted, index, size - index - 1);
+      size--;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public double get(int k) {
+      return sorted[k - 1];
+    }
+  }
+
+  /**
+   * The values in a window counted by their rank among the distinct values of the whole column, in a Fenwick tree, so
+   * that adding or removing a value and finding the k-th smallest take log time, whatever the size of the window
+   */
+  private static final class RankedWindow implements OrderedValues {
+
+    private final double[] distinct;
+    private final RankCounts counts;
+
+    RankedWindow(double[] distinct) {
+      this.distinct = distinct;
+      this.counts = new RankCounts(distinct.length);
+    }
+
+    @Override
+    public void add(double value) {
+      counts.add(Arrays.binarySearch(distinct, value), 1);
+    }
+
+    @Override
+    public void remove(double value) {
+      counts.add(Arrays.binarySearch(distinct, value), -1);
+    }
+
+    @Override
+    public int size() {
+      return counts.total();
+    }
+
+    @Override
+    public double get(int k) {
+      return distinct[counts.rankOf(k)];
+    }
+  }
+
+  /**
+   * A Fenwick (binary indexed) tree of counts by rank, giving the rank of the k-th smallest counted value
+   */
+  private static final class RankCounts {
+
+    private final int[] tree;
+    private final int highestBit;
+    private int total;
+
+    RankCounts(int ranks) {
+      tree = new int[ranks + 1];
+      highestBit = ranks == 0 ? 0 : Integer.highestOneBit(ranks);
+    }
+
+    void add(int rank, int delta) {
+      total += delta;
+      for (int i = rank + 1; i < tree.length; i += i & -i) {
+        tree[i] += delta;
+      }
+    }
+
+    int total() {
+      return total;
+    }
+
+    /**
+     * Returns the rank of the k-th smallest value counted, for k from 1 through total()
+     */
+    int rankOf(int k) {
+      int position = 0;
+      int remaining = k;
+      for (int bit = highestBit; bit > 0; bit >>= 1) {
+        int next = position + bit;
+        if (next < tree.length && tree[next] < remaining) {
+          position = next;
+          remaining -= tree[next];
+        }
+      }
+      return position;
+    }
+  }
 }
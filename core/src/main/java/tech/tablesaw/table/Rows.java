@@ -14,7 +14,12 @@
 
 package tech.tablesaw.table;
 
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.CategoryColumn;
 import tech.tablesaw.api.ColumnType;
@@ -27,9 +32,12 @@ import tech.tablesaw.api.LongColumn;
 import tech.tablesaw.api.ShortColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.util.ParallelChunks;
 import tech.tablesaw.util.Selection;
 
 import javax.annotation.concurrent.Immutable;
+import java.util.function.IntConsumer;
 
 /**
  * A static utility class for row operations
@@ -41,49 +49,98 @@ public class Rows {
     private Rows() {
     }
 
+    /**
+     * Appends the given rows of oldTable to newTable, which must have the same column types in the same order.
+     * <p>
+     * Each column is copied with a single gather from the backing array of the old column into the (grown once)
+     * backing array of the new one. For large copies, the columns are copied in parallel.
+     */
     public static void copyRowsToTable(IntArrayList rows, Table oldTable, Table newTable) {
+        int[] rowArray = rows.elements();
+        int count = rows.size();
+        int rowCount = oldTable.rowCount();
+        for (int i = 0; i < count; i++) {
+            if (rowArray[i] < 0 || rowArray[i] >= rowCount) {
+                throw new IndexOutOfBoundsException("Row " + rowArray[i] + " is not in table " + oldTable.name());
+            }
+        }
+        IntConsumer copy = columnIndex -> copyColumn(rowArray, count, oldTable.column(columnIndex),
+                newTable.column(columnIndex));
+        int columnCount = oldTable.columnCount();
+        // copies of fewer cells than a chunk's worth are too small to be worth splitting
+        if (columnCount > 1 && (long) count * columnCount >= ParallelChunks.MIN_CHUNK_SIZE) {
+            ParallelChunks.run(columnCount, copy);
+        } else {
+            for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+                copy.accept(columnIndex);
+            }
+        }
+    }
 
-        for (int columnIndex = 0; columnIndex < oldTable.columnCount(); columnIndex++) {
-            ColumnType columnType = oldTable.column(columnIndex).type();
-            switch (columnType) {
-                case FLOAT:
-                    copy(rows, (FloatColumn) oldTable.column(columnIndex), (FloatColumn) newTable.column(columnIndex));
-                    break;
-                case INTEGER:
-                    copy(rows, (IntColumn) oldTable.column(columnIndex), (IntColumn) newTable.column(columnIndex));
-                    break;
-                case SHORT_INT:
-                    copy(rows, (ShortColumn) oldTable.column(columnIndex), (ShortColumn) newTable.column(columnIndex));
-                    break;
-                case LONG_INT:
-                    copy(rows, (LongColumn) oldTable.column(columnIndex), (LongColumn) newTable.column(columnIndex));
-                    break;
-                case CATEGORY:
-                    copy(rows, (CategoryColumn) oldTable.column(columnIndex), (CategoryColumn) newTable.column
-                            (columnIndex));
-                    break;
-                case BOOLEAN:
-                    copy(rows, (BooleanColumn) oldTable.column(columnIndex), (BooleanColumn) newTable.column
-                            (columnIndex));
-                    break;
-                case DOUBLE:
-                    copy(rows, (DoubleColumn) oldTable.column(columnIndex), (DoubleColumn) newTable.column
-                            (columnIndex));
-                    break;
-                case LOCAL_DATE:
-                    copy(rows, (DateColumn) oldTable.column(columnIndex), (DateColumn) newTable.column(columnIndex));
-                    break;
-                case LOCAL_DATE_TIME:
-                    copy(rows, (DateTimeColumn) oldTable.column(columnIndex), (DateTimeColumn) newTable.column
-                            (columnIndex));
-                    break;
-                case LOCAL_TIME:
-                    copy(rows, (TimeColumn) oldTable.column(columnIndex), (TimeColumn) newTable.column(columnIndex));
-                    break;
-                default:
-                    throw new IllegalStateException("Unhandled column type in case statement");
+    /**
+     * Returns a new column holding the values of the given column at the given rows, in order, with a row of -1
+     * holding a missing value. Like {@link #copyRowsToTable(IntArrayList, Table, Table)}, it gathers straight from the
+     * column's backing array, and translates the codes of a category column once per distinct code
+     *
+     * @throws IndexOutOfBoundsException if a row is not -1 and not in the column
+     */
+    public static Column gather(Column column, int[] rows) {
+        int size = column.size();
+        for (int row : rows) {
+            if (row < -1 || row >= size) {
+                throw new IndexOutOfBoundsException("Row " + row + " is not in column " + column.name());
             }
         }
+        Column result = column.emptyCopy(rows.length);
+        copyColumn(rows, rows.length, column, result);
+        return result;
+    }
+
+    /**
+     * Gathers the given rows of oldColumn into the end of newColumn, which is of the same type. A negative row
+     * appends a missing value
+     */
+    private static void copyColumn(int[] rows, int count, Column oldColumn, Column newColumn) {
+        ColumnType columnType = oldColumn.type();
+        switch (columnType) {
+            case FLOAT:
+                copy(rows, count, (FloatColumn) oldColumn, (FloatColumn) newColumn);
+                break;
+            case INTEGER:
+                copy(rows, count, ((IntColumn) oldColumn).data(), ((IntColumn) newColumn).data(),
+                        IntColumn.MISSING_VALUE);
+                break;
+            case SHORT_INT:
+                copy(rows, count, (ShortColumn) oldColumn, (ShortColumn) newColumn);
+                break;
+            case LONG_INT:
+                copy(rows, count, ((LongColumn) oldColumn).data(), ((LongColumn) newColumn).data(),
+                        LongColumn.MISSING_VALUE);
+                break;
+            case CATEGORY:
+                ((CategoryColumn) newColumn).appendRows((CategoryColumn) oldColumn, rows, count);
+                break;
+            case BOOLEAN:
+                copy(rows, count, (BooleanColumn) oldColumn, (BooleanColumn) newColumn);
+                break;
+            case DOUBLE:
+                copy(rows, count, (DoubleColumn) oldColumn, (DoubleColumn) newColumn);
+                break;
+            case LOCAL_DATE:
+                copy(rows, count, ((DateColumn) oldColumn).data(), ((DateColumn) newColumn).data(),
+                        DateColumn.MISSING_VALUE);
+                break;
+            case LOCAL_DATE_TIME:
+                copy(rows, count, ((DateTimeColumn) oldColumn).data(), ((DateTimeColumn) newColumn).data(),
+                        DateTimeColumn.MISSING_VALUE);
+                break;
+            case LOCAL_TIME:
+                copy(rows, count, ((TimeColumn) oldColumn).data(), ((TimeColumn) newColumn).data(),
+                        TimeColumn.MISSING_VALUE);
+                break;
+            default:
+                throw new IllegalStateException("Unhandled column type in case statement");
+        }
     }
 
     public static void appendRowToTable(int row, Table oldTable, Table newTable) {
@@ -157,9 +214,7 @@ public class Rows {
     }
 
     public static void copyRowsToTable(Selection rows, Table oldTable, Table newTable) {
-        int[] r = rows.toArray();
-        IntArrayList rowArray = new IntArrayList(r);
-        copyRowsToTable(rowArray, oldTable, newTable);
+        copyRowsToTable(IntArrayList.wrap(rows.toArray()), oldTable, newTable);
     }
 
     public static void head(int rowCount, Table oldTable, Table newTable) {
@@ -180,15 +235,27 @@ public class Rows {
         copyRowsToTable(rows, oldTable, newTable);
     }
 
-    private static void copy(IntArrayList rows, FloatColumn oldColumn, FloatColumn newColumn) {
-        for (int index : rows) {
-            newColumn.append(oldColumn.get(index));
+    private static void copy(int[] rows, int count, FloatColumn oldColumn, FloatColumn newColumn) {
+        FloatArrayList destination = newColumn.data();
+        int start = destination.size();
+        destination.size(start + count);
+        float[] from = oldColumn.data().elements();
+        float[] to = destination.elements();
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            to[start + i] = row < 0 ? FloatColumn.MISSING_VALUE : from[row];
         }
     }
 
-    private static void copy(IntArrayList rows, DoubleColumn oldColumn, DoubleColumn newColumn) {
-        for (int index : rows) {
-            newColumn.append(oldColumn.get(index));
+    private static void copy(int[] rows, int count, DoubleColumn oldColumn, DoubleColumn newColumn) {
+        DoubleArrayList destination = newColumn.data();
+        int start = destination.size();
+        destination.size(start + count);
+        double[] from = oldColumn.data().elements();
+        double[] to = destination.elements();
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            to[start + i] = row < 0 ? DoubleColumn.MISSING_VALUE : from[row];
         }
     }
 
@@ -200,19 +267,21 @@ public class Rows {
         return original.get(row) == tempTable.get(tempTable.size() - 1);
     }
 
-    private static void copy(IntArrayList rows, CategoryColumn oldColumn, CategoryColumn newColumn) {
-        newColumn.initializeWith(oldColumn.getValues(rows), oldColumn.dictionaryMap());
-    }
-
     private static boolean compare(int row, CategoryColumn tempTable, CategoryColumn original) {
         String t = tempTable.get(tempTable.size() - 1);
         String o = original.get(row);
         return o.equals(t);
     }
 
-    private static void copy(IntArrayList rows, BooleanColumn oldColumn, BooleanColumn newColumn) {
-        for (int index : rows) {
-            newColumn.append(oldColumn.get(index));
+    private static void copy(int[] rows, int count, BooleanColumn oldColumn, BooleanColumn newColumn) {
+        ByteArrayList destination = newColumn.data();
+        int start = destination.size();
+        destination.size(start + count);
+        byte[] from = oldColumn.data().elements();
+        byte[] to = destination.elements();
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            to[start + i] = row < 0 ? BooleanColumn.MISSING_VALUE : from[row];
         }
     }
 
@@ -220,9 +289,18 @@ public class Rows {
         return original.get(row) == tempTable.get(tempTable.size() - 1);
     }
 
-    private static void copy(IntArrayList rows, IntColumn oldColumn, IntColumn newColumn) {
-        for (int index : rows) {
-            newColumn.append(oldColumn.get(index));
+    /**
+     * Gathers the given rows of an int-backed column (int, date, time) into the end of another, with the given missing
+     * value for negative rows
+     */
+    private static void copy(int[] rows, int count, IntArrayList source, IntArrayList destination, int missing) {
+        int start = destination.size();
+        destination.size(start + count);
+        int[] from = source.elements();
+        int[] to = destination.elements();
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            to[start + i] = row < 0 ? missing : from[row];
         }
     }
 
@@ -230,9 +308,15 @@ public class Rows {
         return original.get(row) == tempTable.get(tempTable.size() - 1);
     }
 
-    private static void copy(IntArrayList rows, ShortColumn oldColumn, ShortColumn newColumn) {
-        for (int index : rows) {
-            newColumn.append(oldColumn.get(index));
+    private static void copy(int[] rows, int count, ShortColumn oldColumn, ShortColumn newColumn) {
+        ShortArrayList destination = newColumn.data();
+        int start = destination.size();
+        destination.size(start + count);
+        short[] from = oldColumn.data().elements();
+        short[] to = destination.elements();
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            to[start + i] = row < 0 ? ShortColumn.MISSING_VALUE : from[row];
         }
     }
 
@@ -242,9 +326,18 @@ public class Rows {
         return o == t;
     }
 
-    private static void copy(IntArrayList rows, LongColumn oldColumn, LongColumn newColumn) {
-        for (int index : rows) {
-            newColumn.append(oldColumn.get(index));
+    /**
+     * Gathers the given rows of a long-backed column (long, date-time) into the end of another, with the given
+     * missing value for negative rows
+     */
+    private static void copy(int[] rows, int count, LongArrayList source, LongArrayList destination, long missing) {
+        int start = destination.size();
+        destination.size(start + count);
+        long[] from = source.elements();
+        long[] to = destination.elements();
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            to[start + i] = row < 0 ? missing : from[row];
         }
     }
 
@@ -252,32 +345,14 @@ public class Rows {
         return original.get(row) == tempTable.get(tempTable.size() - 1);
     }
 
-    private static void copy(IntArrayList rows, DateTimeColumn oldColumn, DateTimeColumn newColumn) {
-        for (int index : rows) {
-            newColumn.appendInternal(oldColumn.getLongInternal(index));
-        }
-    }
-
     private static boolean compare(int row, DateTimeColumn tempTable, DateTimeColumn original) {
         return original.getLongInternal(row) == tempTable.getLongInternal(tempTable.size() - 1);
     }
 
-    private static void copy(IntArrayList rows, DateColumn oldColumn, DateColumn newColumn) {
-        for (int index : rows) {
-            newColumn.appendInternal(oldColumn.getIntInternal(index));
-        }
-    }
-
     private static boolean compare(int row, DateColumn tempTable, DateColumn original) {
         return original.getIntInternal(row) == tempTable.getIntInternal(tempTable.size() - 1);
     }
 
-    private static void copy(IntArrayList rows, TimeColumn oldColumn, TimeColumn newColumn) {
-        for (int index : rows) {
-            newColumn.appendInternal(oldColumn.getIntInternal(index));
-        }
-    }
-
     private static boolean compare(int row, TimeColumn tempTable, TimeColumn original) {
         return original.getIntInternal(row) == tempTable.getIntInternal(tempTable.size() - 1);
     }
@@ -16,6 +16,8 @@ package tech.tablesaw.table;
 
 import com.google.common.base.Preconditions;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
 import tech.tablesaw.aggregate.AggregateFunction;
 import tech.tablesaw.api.CategoryColumn;
 import tech.tablesaw.api.FloatColumn;
@@ -40,20 +42,34 @@ public class TableGroup implements Iterable<SubTable> {
     private String[] splitColumnNames;
 
     public TableGroup(Table original, String... splitColumnNames) {
-        this.original = original.sortOn(splitColumnNames);
+        this(original, true, splitColumnNames);
+    }
+
+    public TableGroup(Table original, Column... columns) {
+        this(original, true, columnNames(columns));
+    }
+
+    private TableGroup(Table original, boolean sort, String... splitColumnNames) {
+        this.original = sort ? original.sortOn(splitColumnNames) : original;
         this.subTables = splitOn(splitColumnNames);
         Preconditions.checkState(!subTables.isEmpty());
         this.splitColumnNames = splitColumnNames;
     }
 
-    public TableGroup(Table original, Column... columns) {
-        splitColumnNames = new String[columns.length];
+    /**
+     * Returns a TableGroup formed without sorting the original table. The rows are grouped by hashing the values in
+     * the given columns, and the sub-tables are ordered by the first appearance of their rows in the original
+     */
+    public static TableGroup createHashed(Table original, String... splitColumnNames) {
+        return new TableGroup(original, false, splitColumnNames);
+    }
+
+    private static String[] columnNames(Column... columns) {
+        String[] names = new String[columns.length];
         for (int i = 0; i < columns.length; i++) {
-            splitColumnNames[i] = columns[i].name();
+            names[i] = columns[i].name();
         }
-        this.original = original.sortOn(splitColumnNames);
-        this.subTables = splitOn(splitColumnNames);
-        Preconditions.checkState(!subTables.isEmpty());
+        return names;
     }
 
     /**
@@ -69,45 +85,25 @@ public class TableGroup implements Iterable<SubTable> {
             columnIndices[i] = original.columnIndex(columnNames[i]);
         }
 
-        Table empty = original.emptyCopy();
-
-        SubTable newView = new SubTable(empty);
-        String lastKey = "";
-        newView.setName(lastKey);
-
-        for (int row = 0; row < original.rowCount(); row++) {
-
-            String newKey = "";
+        HashGrouping grouping = new HashGrouping(original, columnNames);
+        int[] firstRows = grouping.firstRows();
+        for (int group = 0; group < grouping.size(); group++) {
+            String key = "";
             List<String> values = new ArrayList<>();
-
             for (int col = 0; col < columnCount; col++) {
                 if (col > 0)
-                    newKey = newKey + SPLIT_STRING;
+                    key = key + SPLIT_STRING;
 
-                String groupKey = original.get(row, columnIndices[col]);
-                newKey = newKey + groupKey;
+                String groupKey = original.get(firstRows[group], columnIndices[col]);
+                key = key + groupKey;
                 values.add(groupKey);
             }
 
-            if (!newKey.equals(lastKey)) {
-                if (!newView.isEmpty()) {
-                    tables.add(newView);
-                }
-
-                newView = new SubTable(empty);
-                newView.setName(newKey);
-                newView.setValues(values);
-                lastKey = newKey;
-            }
-            newView.addRow(row, original);
-        }
-
-        if (!tables.contains(newView) && !newView.isEmpty()) {
-            if (columnCount == 1) {
-                tables.add(newView);
-            } else {
-                tables.add(newView);
-            }
+            SubTable newView = new SubTable(original);
+            newView.setName(key);
+            newView.setValues(values);
+            Rows.copyRowsToTable(IntArrayList.wrap(grouping.rows(group)), original, newView);
+            tables.add(newView);
         }
         return tables;
     }
@@ -16,6 +16,7 @@ package tech.tablesaw.table;
 
 import it.unimi.dsi.fastutil.ints.IntIterable;
 import it.unimi.dsi.fastutil.ints.IntIterator;
+import tech.tablesaw.aggregate.Accumulators;
 import tech.tablesaw.aggregate.AggregateFunction;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.CategoryColumn;
@@ -217,8 +218,7 @@ public class TemporaryView extends Relation implements IntIterable {
      * @throws IllegalArgumentException if numericColumnName doesn't name a numeric column in this table
      */
     public double reduce(String numericColumnName, AggregateFunction function) {
-        Column column = column(numericColumnName);
-        return function.agg(column.subset(rowMap).asDoubleArray());
+        return Accumulators.reduce(function, column(numericColumnName), rowMap);
     }
 
     public BooleanColumn booleanColumn(int columnIndex) {
@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.table;
+
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.packeddata.PackedLocalDate;
+import tech.tablesaw.columns.packeddata.PackedLocalDateTime;
+
+/**
+ * Reads the packed values of a DateTimeColumn or DateColumn as points on a time line, for time-based windows and bins
+ */
+final class TimeKeys {
+
+    static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private TimeKeys() {
+    }
+
+    /**
+     * Returns the milliseconds from the epoch to each value in the given column, with dates taken as their midnight
+     *
+     * @throws IllegalArgumentException if the column is not a DateTimeColumn or DateColumn, or has missing values
+     */
+    static long[] epochMillis(Column timeColumn) {
+        long[] millis = new long[timeColumn.size()];
+        if (timeColumn instanceof DateTimeColumn) {
+            long[] packed = ((DateTimeColumn) timeColumn).data().elements();
+            for (int row = 0; row < millis.length; row++) {
+                checkNotMissing(timeColumn, packed[row] == DateTimeColumn.MISSING_VALUE);
+                millis[row] = PackedLocalDateTime.toEpochMilli(packed[row]);
+            }
+        } else if (timeColumn instanceof DateColumn) {
+            int[] packed = ((DateColumn) timeColumn).data().elements();
+            for (int row = 0; row < millis.length; row++) {
+                checkNotMissing(timeColumn, packed[row] == DateColumn.MISSING_VALUE);
+                millis[row] = PackedLocalDate.toEpochDay(packed[row]) * MILLIS_PER_DAY;
+            }
+        } else {
+            throw new IllegalArgumentException("Column " + timeColumn.name() + " of type " + timeColumn.type()
+                    + " does not hold dates or date-times");
+        }
+        return millis;
+    }
+
+    /**
+     * Returns the packed date of each value in the given column
+     *
+     * @throws IllegalArgumentException if the column is not a DateTimeColumn or DateColumn, or has missing values
+     */
+    static int[] packedDates(Column timeColumn) {
+        int[] dates = new int[timeColumn.size()];
+        if (timeColumn instanceof DateTimeColumn) {
+            long[] packed = ((DateTimeColumn) timeColumn).data().elements();
+            for (int row = 0; row < dates.length; row++) {
+                checkNotMissing(timeColumn, packed[row] == DateTimeColumn.MISSING_VALUE);
+                dates[row] = PackedLocalDateTime.date(packed[row]);
+            }
+        } else if (timeColumn instanceof DateColumn) {
+            int[] packed = ((DateColumn) timeColumn).data().elements();
+            for (int row = 0; row < dates.length; row++) {
+                checkNotMissing(timeColumn, packed[row] == DateColumn.MISSING_VALUE);
+                dates[row] = packed[row];
+            }
+        } else {
+            throw new IllegalArgumentException("Column " + timeColumn.name() + " of type " + timeColumn.type()
+                    + " does not hold dates or date-times");
+        }
+        return dates;
+    }
+
+    private static void checkNotMissing(Column timeColumn, boolean missing) {
+        if (missing) {
+            throw new IllegalArgumentException("Column " + timeColumn.name() + " has missing values");
+        }
+    }
+}
@@ -16,18 +16,23 @@ package tech.tablesaw.table;
 
 import static tech.tablesaw.aggregate.AggregateFunctions.*;
 
-import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntToDoubleFunction;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableMap;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.roaringbitmap.RoaringBitmap;
+
+import tech.tablesaw.aggregate.Accumulator;
+import tech.tablesaw.aggregate.Accumulators;
 import tech.tablesaw.aggregate.AggregateFunction;
 import tech.tablesaw.aggregate.NumericSummaryTable;
 import tech.tablesaw.api.CategoryColumn;
@@ -35,7 +40,7 @@ import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.util.BitmapBackedSelection;
-import tech.tablesaw.util.Selection;
+import tech.tablesaw.util.ParallelChunks;
 
 /**
  * A group of tables formed by performing splitting operations on an original table
@@ -50,15 +55,26 @@ public class ViewGroup implements Iterable<TemporaryView> {
 
     private final List<TemporaryView> subTables = new ArrayList<>();
 
+    // the group number of each row of sortedOriginal
+    private HashGrouping grouping;
+
+    // the number of threads used to group the rows and compute aggregates
+    private final int parallelism;
+
     // the name(s) of the column(s) we're splitting the table on
     private final String[] splitColumnNames;
 
     public ViewGroup(Table original, Column... columns) {
+        this(original, true, 1, columns);
+    }
+
+    private ViewGroup(Table original, boolean sort, int parallelism, Column... columns) {
+        this.parallelism = parallelism;
         splitColumnNames = new String[columns.length];
         for (int i = 0; i < columns.length; i++) {
             splitColumnNames[i] = columns[i].name();
         }
-        this.sortedOriginal = original.sortOn(splitColumnNames);
+        this.sortedOriginal = sort ? original.sortOn(splitColumnNames) : original;
         splitOn(splitColumnNames);
     }
 
@@ -67,68 +83,52 @@ public class ViewGroup implements Iterable<TemporaryView> {
         return new ViewGroup(original, columns.toArray(new Column[columns.size()]));
     }
 
+    /**
+     * Returns a ViewGroup over the original table itself, rather than a sorted copy. The rows are grouped by hashing
+     * the values in the given columns, and the groups are ordered by their first appearance in the table
+     */
+    public static ViewGroup createHashed(Table original, String... columnsNames) {
+        List<Column> columns = original.columns(columnsNames);
+        return new ViewGroup(original, false, 1, columns.toArray(new Column[columns.size()]));
+    }
+
+    /**
+     * Returns a ViewGroup like {@link #createHashed(Table, String...)}, which uses up to the given number of threads
+     * to group the rows and to compute aggregates with {@link #aggregate(Map)}. Each thread works on a contiguous
+     * range of rows, keeping its own hash table and partial aggregates, which are merged in row order at the end
+     */
+    public static ViewGroup createHashed(Table original, int parallelism, String... columnsNames) {
+        List<Column> columns = original.columns(columnsNames);
+        return new ViewGroup(original, false, parallelism, columns.toArray(new Column[columns.size()]));
+    }
+
     /**
      * Splits the sortedOriginal table into sub-tables, grouping on the columns whose names are given in
      * splitColumnNames
      */
     private void splitOn(String... columnNames) {
-
-        List<Column> columns = sortedOriginal.columns(columnNames);
-        int byteSize = getByteSize(columns);
-
-        byte[] currentKey = null;
-        String currentStringKey = null;
-        TemporaryView view;
-
-        Selection selection = new BitmapBackedSelection();
-
-        for (int row = 0; row < sortedOriginal.rowCount(); row++) {
-
-            ByteBuffer byteBuffer = ByteBuffer.allocate(byteSize);
-            String newStringKey = "";
-
-            for (int col = 0; col < columnNames.length; col++) {
-                if (col > 0) {
-                    newStringKey = newStringKey + SPLIT_STRING;
-                }
-
-                Column c = sortedOriginal.column(columnNames[col]);
-                String groupKey = sortedOriginal.get(row, sortedOriginal.columnIndex(c));
-                newStringKey = newStringKey + groupKey;
-                byteBuffer.put(c.asBytes(row));
-            }
-            byte[] newKey = byteBuffer.array();
-            if (row == 0) {
-                currentKey = newKey;
-                currentStringKey = newStringKey;
-            }
-            if (!Arrays.equals(newKey, currentKey)) {
-                currentKey = newKey;
-                view = new TemporaryView(sortedOriginal, selection);
-                view.setName(currentStringKey);
-                currentStringKey = newStringKey;
-                addViewToSubTables(view);
-                selection = new BitmapBackedSelection();
-                selection.add(row);
-            } else {
-                selection.add(row);
-            }
-        }
-        if (!selection.isEmpty()) {
-            view = new TemporaryView(sortedOriginal, selection);
-            view.setName(currentStringKey);
+        grouping = new HashGrouping(sortedOriginal.rowCount(), sortedOriginal.columns(columnNames), parallelism);
+        int[] firstRows = grouping.firstRows();
+        for (int group = 0; group < grouping.size(); group++) {
+            TemporaryView view = new TemporaryView(sortedOriginal,
+                    new BitmapBackedSelection(RoaringBitmap.bitmapOf(grouping.rows(group))));
+            view.setName(groupName(firstRows[group], columnNames));
             addViewToSubTables(view);
         }
     }
 
-    private int getByteSize(List<Column> columns) {
-        int byteSize = 0;
-        {
-            for (Column c : columns) {
-                byteSize += c.byteSize();
+    /**
+     * Returns the name of the group holding the given row, made from the row's values in the named columns
+     */
+    private String groupName(int row, String... columnNames) {
+        StringBuilder name = new StringBuilder();
+        for (int col = 0; col < columnNames.length; col++) {
+            if (col > 0) {
+                name.append(SPLIT_STRING);
             }
+            name.append(sortedOriginal.column(columnNames[col]).getString(row));
         }
-        return byteSize;
+        return name.toString();
     }
 
     private void addViewToSubTables(TemporaryView view) {
@@ -143,6 +143,10 @@ public class ViewGroup implements Iterable<TemporaryView> {
         return subTables.get(i);
     }
 
+    /**
+     * Returns the table the views are drawn from: a copy of the original sorted on the grouping columns, or for a
+     * hashed group, the original table itself
+     */
     @VisibleForTesting
     public Table getSortedOriginal() {
         return sortedOriginal;
@@ -330,6 +334,69 @@ public class ViewGroup implements Iterable<TemporaryView> {
       return splitGroupingColumn(groupTable);
     }
 
+    /**
+     * Applies the given aggregations to the given columns, computing all of them in a single pass over each column.
+     * The result has one row per group, holding the group's values in the grouping columns (with their original
+     * types), followed by a column for each aggregation named as in {@link #agg(Map)}.
+     *
+     * @param functions map from column name to the aggregations to apply on that column
+     */
+    public Table aggregate(Map<String, List<AggregateFunction>> functions) {
+        Table result = groupKeys();
+        result.setName(sortedOriginal.name() + " summary");
+        int groupCount = grouping.size();
+        int rowCount = sortedOriginal.rowCount();
+        // each chunk holds an accumulator per group, so limit the chunks to keep that no larger than the data
+        int chunkLimit = Math.max(1, rowCount / Math.max(1, groupCount));
+        int[] bounds = ParallelChunks.bounds(rowCount, Math.min(parallelism, chunkLimit));
+        int chunkCount = bounds.length - 1;
+        for (Map.Entry<String, List<AggregateFunction>> entry : functions.entrySet()) {
+            String columnName = entry.getKey();
+            List<AggregateFunction> columnFunctions = entry.getValue();
+            IntToDoubleFunction values = Accumulators.values(sortedOriginal.column(columnName));
+            Accumulator[][][] partials = new Accumulator[chunkCount][][];
+            ParallelChunks.run(chunkCount, chunk -> {
+                partials[chunk] = new Accumulator[columnFunctions.size()][groupCount];
+                Accumulators.accept(partials[chunk], columnFunctions, grouping.groups(), values,
+                        bounds[chunk], bounds[chunk + 1]);
+            });
+            Accumulator[][] accumulators = partials[0];
+            for (int chunk = 1; chunk < chunkCount; chunk++) {
+                Accumulators.merge(accumulators, partials[chunk]);
+            }
+
+            for (int f = 0; f < accumulators.length; f++) {
+                String colName = aggregateColumnName(columnName, columnFunctions.get(f).functionName());
+                DoubleColumn resultColumn = new DoubleColumn(colName, groupCount);
+                for (Accumulator accumulator : accumulators[f]) {
+                    resultColumn.append(accumulator.result());
+                }
+                result.addColumn(resultColumn);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Applies the given aggregations to the given column in a single pass. See {@link #aggregate(Map)}
+     */
+    public Table aggregate(String columnName, AggregateFunction... functions) {
+        return aggregate(ImmutableMap.of(columnName, Arrays.asList(functions)));
+    }
+
+    /**
+     * Returns a table holding the first row of each group in the grouping columns
+     */
+    private Table groupKeys() {
+        Table keys = Table.create(sortedOriginal.name());
+        for (Column column : sortedOriginal.columns(splitColumnNames)) {
+            keys.addColumn(column);
+        }
+        Table result = keys.emptyCopy(grouping.size());
+        Rows.copyRowsToTable(IntArrayList.wrap(grouping.firstRows()), keys, result);
+        return result;
+    }
+
     /**
      * Returns an iterator over elements of type {@code T}.
      *
@@ -0,0 +1,271 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.table;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.sorting.Sort;
+import tech.tablesaw.util.IntComparatorChain;
+import tech.tablesaw.util.ReversingIntComparator;
+
+/**
+ * Computes SQL-style window functions over a table: the rows are split into partitions on the values of some
+ * columns, and ordered within each partition by a sort key. Each function returns a new column with a value for
+ * every row of the table, in the table's own row order, so it can be added to the table as it is.
+ * <p>
+ * The partitions are found by hashing, and the rows are ordered once, by a counting sort on their partitions
+ * followed by a stable sort within each partition. Every function is then computed in a single pass over that
+ * order, without copying the partitions into tables of their own. Rows that are equal on the sort key are peers:
+ * they share a rank, and are otherwise in the order in which they appear in the table.
+ */
+public class Window {
+
+    private final Table table;
+
+    // the rows of the table, by partition, and in sort order within each partition
+    private final int[] order;
+
+    // partition p holds order[partitionStarts[p]] through order[partitionStarts[p + 1] - 1]
+    private final int[] partitionStarts;
+
+    private final IntComparator comparator;
+
+    /**
+     * Orders the rows of the given table by the given sort key, within each partition on the named columns. With no
+     * partition columns, the whole table is a single partition
+     */
+    public Window(Table table, Sort orderBy, List<String> partitionColumns) {
+        if (orderBy.isEmpty()) {
+            throw new IllegalArgumentException("A window must be ordered by at least one column");
+        }
+        this.table = table;
+        this.comparator = comparator(table, orderBy);
+        int rowCount = table.rowCount();
+        if (partitionColumns.isEmpty()) {
+            this.order = table.rows();
+            this.partitionStarts = new int[] {0, rowCount};
+        } else {
+            HashGrouping grouping = new HashGrouping(table, partitionColumns.toArray(new String[0]));
+            int[] groups = grouping.groups();
+            int[] starts = new int[grouping.size() + 1];
+            for (int group : groups) {
+                starts[group + 1]++;
+            }
+            for (int group = 0; group < grouping.size(); group++) {
+                starts[group + 1] += starts[group];
+            }
+            int[] next = Arrays.copyOf(starts, grouping.size());
+            int[] rows = new int[rowCount];
+            for (int row = 0; row < rowCount; row++) {
+                rows[next[groups[row]]++] = row;
+            }
+            this.order = rows;
+            this.partitionStarts = starts;
+        }
+        for (int p = 0; p < partitionCount(); p++) {
+            IntArrays.mergeSort(order, partitionStarts[p], partitionStarts[p + 1], comparator);
+        }
+    }
+
+    private static IntComparator comparator(Table table, Sort orderBy) {
+        IntComparatorChain chain = new IntComparatorChain();
+        for (Map.Entry<String, Sort.Order> entry : orderBy) {
+            IntComparator columnComparator = table.column(entry.getKey()).rowComparator();
+            chain.addComparator(entry.getValue() == Sort.Order.DESCEND
+                    ? ReversingIntComparator.reverse(columnComparator)
+                    : columnComparator);
+        }
+        return chain;
+    }
+
+    /**
+     * Returns the number of partitions
+     */
+    public int partitionCount() {
+        return partitionStarts.length - 1;
+    }
+
+    /**
+     * Returns the position of each row within its partition, counting from 1
+     */
+    public IntColumn rowNumber() {
+        int[] numbers = new int[order.length];
+        for (int p = 0; p < partitionCount(); p++) {
+            for (int i = partitionStarts[p]; i < partitionStarts[p + 1]; i++) {
+                numbers[order[i]] = i - partitionStarts[p] + 1;
+            }
+        }
+        return new IntColumn("Row Number", numbers);
+    }
+
+    /**
+     * Returns the rank of each row within its partition: one more than the number of rows before it that are not its
+     * peers, so ties share a rank and leave a gap after it
+     */
+    public IntColumn rank() {
+        return new IntColumn("Rank", ranks(false));
+    }
+
+    /**
+     * Returns the dense rank of each row within its partition: one more than the number of distinct sort keys before
+     * it, so ties share a rank and leave no gap after it
+     */
+    public IntColumn denseRank() {
+        return new IntColumn("Dense Rank", ranks(true));
+    }
+
+    /**
+     * Returns the relative rank of each row within its partition, (rank - 1) / (rows in partition - 1), from 0 to 1.
+     * The only row of a partition has a percent rank of 0
+     */
+    public DoubleColumn percentRank() {
+        int[] ranks = ranks(false);
+        double[] percents = new double[order.length];
+        for (int p = 0; p < partitionCount(); p++) {
+            int size = partitionStarts[p + 1] - partitionStarts[p];
+            for (int i = partitionStarts[p]; i < partitionStarts[p + 1]; i++) {
+                int row = order[i];
+                percents[row] = size == 1 ? 0.0 : (ranks[row] - 1) / (double) (size - 1);
+            }
+        }
+        return new DoubleColumn("Percent Rank", percents);
+    }
+
+    private int[] ranks(boolean dense) {
+        int[] ranks = new int[order.length];
+        for (int p = 0; p < partitionCount(); p++) {
+            int start = partitionStarts[p];
+            int rank = 0;
+            for (int i = start; i < partitionStarts[p + 1]; i++) {
+                if (i == start || comparator.compare(order[i - 1], order[i]) != 0) {
+                    rank = dense ? rank + 1 : i - start + 1;
+                }
+                ranks[order[i]] = rank;
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * Returns a column of the same type as the named column, holding for each row the value from the row the given
+     * number of positions before it in its partition, or a missing value if there is no such row
+     */
+    public Column lag(String columnName, int offset) {
+        checkOffset(offset);
+        return shift(columnName, -offset, "Lag " + offset);
+    }
+
+    /**
+     * Returns a column of the same type as the named column, holding for each row the value from the row the given
+     * number of positions after it in its partition, or a missing value if there is no such row
+     */
+    public Column lead(String columnName, int offset) {
+        checkOffset(offset);
+        return shift(columnName, offset, "Lead " + offset);
+    }
+
+    private static void checkOffset(int offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("The offset must not be negative, but was " + offset);
+        }
+    }
+
+    private Column shift(String columnName, int offset, String functionName) {
+        Column column = table.column(columnName);
+        // -1 where there is no row to take, which Rows.gather fills with a missing value
+        int[] sources = new int[order.length];
+        for (int p = 0; p < partitionCount(); p++) {
+            int start = partitionStarts[p];
+            int end = partitionStarts[p + 1];
+            for (int i = start; i < end; i++) {
+                long source = (long) i + offset;
+                sources[order[i]] = source >= start && source < end ? order[(int) source] : -1;
+            }
+        }
+        return Rows.gather(column, sources).setName(String.format("%s [%s]", functionName, columnName));
+    }
+
+    /**
+     * Returns the sum of the named numeric column over each row and the rows before it in its partition. Missing
+     * values are skipped; a row with no values up to it has a missing sum
+     */
+    public DoubleColumn cumSum(String columnName) {
+        double[] values = numericValues(columnName, "Cum Sum");
+        double[] sums = new double[order.length];
+        for (int p = 0; p < partitionCount(); p++) {
+            double sum = 0.0;
+            double compensation = 0.0;
+            boolean any = false;
+            for (int i = partitionStarts[p]; i < partitionStarts[p + 1]; i++) {
+                int row = order[i];
+                double value = values[row];
+                if (!Double.isNaN(value)) {
+                    // Kahan summation, so long partitions do not accumulate rounding error
+                    double y = value - compensation;
+                    double t = sum + y;
+                    compensation = (t - sum) - y;
+                    sum = t;
+                    any = true;
+                }
+                sums[row] = any ? sum : DoubleColumn.MISSING_VALUE;
+            }
+        }
+        return new DoubleColumn(String.format("Cum Sum [%s]", columnName), sums);
+    }
+
+    /**
+     * Returns the largest value of the named numeric column over each row and the rows before it in its partition.
+     * Missing values are skipped; a row with no values up to it has a missing maximum
+     */
+    public DoubleColumn cumMax(String columnName) {
+        double[] values = numericValues(columnName, "Cum Max");
+        double[] maxima = new double[order.length];
+        for (int p = 0; p < partitionCount(); p++) {
+            double max = DoubleColumn.MISSING_VALUE;
+            for (int i = partitionStarts[p]; i < partitionStarts[p + 1]; i++) {
+                int row = order[i];
+                double value = values[row];
+                if (!Double.isNaN(value) && (Double.isNaN(max) || value > max)) {
+                    max = value;
+                }
+                maxima[row] = max;
+            }
+        }
+        return new DoubleColumn(String.format("Cum Max [%s]", columnName), maxima);
+    }
+
+    private double[] numericValues(String columnName, String functionName) {
+        Column column = table.column(columnName);
+        switch (column.type()) {
+            case DOUBLE:
+            case FLOAT:
+            case INTEGER:
+            case LONG_INT:
+            case SHORT_INT:
+                return column.asDoubleArray();
+            default:
+                throw new IllegalArgumentException("Cannot calculate " + functionName
+                        + " on column of type " + column.type());
+        }
+    }
+}
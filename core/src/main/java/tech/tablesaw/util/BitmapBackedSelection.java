@@ -14,8 +14,13 @@
 
 package tech.tablesaw.util;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntIterator;
+import org.roaringbitmap.FastAggregation;
 import org.roaringbitmap.RoaringBitmap;
 
 public class BitmapBackedSelection implements Selection {
@@ -30,6 +35,34 @@ public class BitmapBackedSelection implements Selection {
         this.bitmap = new RoaringBitmap();
     }
 
+    /**
+     * Returns a selection of the first {@code count} of the given rows, which must be in ascending order
+     */
+    public static BitmapBackedSelection fromSortedRows(int[] rows, int count) {
+        int[] selected = count == rows.length ? rows : Arrays.copyOf(rows, count);
+        return new BitmapBackedSelection(RoaringBitmap.bitmapOf(selected));
+    }
+
+    /**
+     * Returns the union of the given selections, computed in a single lazy aggregation over all of them, without
+     * copying or modifying any of them
+     */
+    public static BitmapBackedSelection union(Collection<? extends Selection> selections) {
+        Iterator<RoaringBitmap> bitmaps = selections.stream().map(BitmapBackedSelection::bitmap).iterator();
+        return new BitmapBackedSelection(FastAggregation.or(bitmaps));
+    }
+
+    /**
+     * Returns the bitmap behind the given selection, without copying it when it is a BitmapBackedSelection. The
+     * bitmap must only be read
+     */
+    private static RoaringBitmap bitmap(Selection selection) {
+        if (selection instanceof BitmapBackedSelection) {
+            return ((BitmapBackedSelection) selection).bitmap;
+        }
+        return selection.toBitmap();
+    }
+
     public void add(int i) {
         bitmap.add(i);
     }
@@ -59,7 +92,7 @@ public class BitmapBackedSelection implements Selection {
      */
     @Override
     public void and(Selection otherSelection) {
-        bitmap.and(otherSelection.toBitmap());
+        bitmap.and(bitmap(otherSelection));
     }
 
     /**
@@ -67,7 +100,7 @@ public class BitmapBackedSelection implements Selection {
      */
     @Override
     public void or(Selection otherSelection) {
-        bitmap.or(otherSelection.toBitmap());
+        bitmap.or(bitmap(otherSelection));
     }
 
     /**
@@ -75,7 +108,7 @@ public class BitmapBackedSelection implements Selection {
      */
     @Override
     public void andNot(Selection otherSelection) {
-        bitmap.andNot(otherSelection.toBitmap());
+        bitmap.andNot(bitmap(otherSelection));
     }
 
     @Override
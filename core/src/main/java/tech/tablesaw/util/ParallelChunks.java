@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+
+/**
+ * Splits a range of rows into contiguous chunks, as many as a given parallelism, and processes the chunks on the
+ * common ForkJoinPool. The library's parallel work, grouping, pivoting, scanning and copying rows, all goes through
+ * this class, and none of it is split into pieces smaller than {@link #MIN_CHUNK_SIZE} rows
+ */
+public final class ParallelChunks {
+
+    // chunks smaller than this cost more to schedule than they save
+    public static final int MIN_CHUNK_SIZE = 1 << 16;
+
+    private ParallelChunks() {
+    }
+
+    /**
+     * Returns the boundaries of the chunks to split rowCount rows into for the given parallelism: chunk c covers rows
+     * bounds[c] (inclusive) through bounds[c + 1] (exclusive). There is a single chunk when the parallelism is 1 or
+     * there are too few rows to be worth splitting
+     */
+    public static int[] bounds(int rowCount, int parallelism) {
+        int chunkCount = Math.max(1, Math.min(parallelism, rowCount / MIN_CHUNK_SIZE));
+        int[] bounds = new int[chunkCount + 1];
+        for (int c = 0; c <= chunkCount; c++) {
+            bounds[c] = (int) ((long) rowCount * c / chunkCount);
+        }
+        return bounds;
+    }
+
+    /**
+     * Runs the given task once for each chunk number from 0 to chunkCount - 1, returning when all have completed. The
+     * first chunk is run on the calling thread and the others on the common ForkJoinPool, so at most its parallelism
+     * plus one run at once; the number of chunks chosen by {@link #bounds(int, int)} limits them further.
+     * <p>
+     * If a chunk fails, the chunks not yet started are skipped, and those running are waited for, before its
+     * exception, or error, is rethrown as it is, so that no chunk is still running when the caller sees it
+     */
+    public static void run(int chunkCount, IntConsumer task) {
+        if (chunkCount == 1) {
+            task.accept(0);
+            return;
+        }
+        List<ForkJoinTask<?>> forked = new ArrayList<>(chunkCount - 1);
+        AtomicBoolean settled = new AtomicBoolean();
+        try {
+            for (int c = 1; c < chunkCount; c++) {
+                int chunk = c;
+                forked.add(ForkJoinPool.commonPool().submit(() -> {
+                    if (!settled.get()) {
+                        task.accept(chunk);
+                    }
+                }));
+            }
+            task.accept(0);
+            for (ForkJoinTask<?> future : forked) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing rows in parallel", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            // chunks not yet started now do nothing, and those running are waited for; cancelling them instead would
+            // let the join return while they still run
+            settled.set(true);
+            for (ForkJoinTask<?> future : forked) {
+                future.quietlyJoin();
+            }
+        }
+    }
+}
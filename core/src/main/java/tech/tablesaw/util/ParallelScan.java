@@ -0,0 +1,172 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * Scans a range of rows for those that satisfy a predicate, splitting large ranges into chunks that are scanned in
+ * parallel.
+ * <p>
+ * Each chunk is a RoaringBitmap container's worth of rows (65,536), so the bitmaps built for the chunks hold
+ * disjoint containers, and combining them with OR just gathers the containers into one bitmap. A chunk's matching
+ * rows are buffered in an array and added to its bitmap in bulk; when most rows match, the bitmap is built from the
+ * rows that do not, and flipped. The chunks are scanned in parallel by {@link ParallelChunks}, unless there are fewer
+ * rows than {@link #PARALLEL_THRESHOLD}, or the scan is sequential. Scanners used in a parallel scan are called from
+ * several threads at once, so they must not depend on mutable state: they are built by the library from its own
+ * predicates, and a predicate given by a caller is scanned sequentially unless the caller asks otherwise.
+ * <p>
+ * A scan may be given a {@link ChunkTest}, such as one answered by a {@link tech.tablesaw.index.ZoneMap}, that tells
+ * from what is known about a chunk whether none, all or only some of its rows may satisfy the predicate. Only the
+ * chunks where some may are scanned: the others are skipped, or selected whole as a single range
+ */
+public final class ParallelScan {
+
+    // the rows in a RoaringBitmap container, which is also the smallest chunk worth scanning on a thread of its own
+    public static final int CHUNK_SIZE = ParallelChunks.MIN_CHUNK_SIZE;
+
+    // scans of fewer rows than this are done on the calling thread, as they are too short to be worth splitting
+    public static final int PARALLEL_THRESHOLD = 4 * CHUNK_SIZE;
+
+    /**
+     * Finds the rows in a range that satisfy some predicate
+     */
+    @FunctionalInterface
+    public interface ChunkScanner {
+
+        /**
+         * Writes to the start of the given array each row from {@code from} (inclusive) to {@code to} (exclusive)
+         * that satisfies the predicate, in ascending order, and returns the number written. The array has room for
+         * every row in the range
+         */
+        int scan(int from, int to, int[] rows);
+    }
+
+    /**
+     * How many of the rows in a chunk may satisfy a predicate
+     */
+    public enum Coverage {
+        NONE, SOME, ALL
+    }
+
+    /**
+     * Tells how many of the rows in a chunk may satisfy some predicate, without testing the rows
+     */
+    @FunctionalInterface
+    public interface ChunkTest {
+
+        /**
+         * Returns the coverage of the rows from {@code from} (inclusive) to {@code to} (exclusive), which are a whole
+         * chunk, or the end of the last one
+         */
+        Coverage coverage(int from, int to);
+    }
+
+    private ParallelScan() {
+    }
+
+    /**
+     * Returns the rows from 0 to rowCount - 1 selected by the given scanner, which must be safe to call from several
+     * threads at once
+     */
+    public static Selection select(int rowCount, ChunkScanner scanner) {
+        return select(rowCount, scanner, (from, to) -> Coverage.SOME);
+    }
+
+    /**
+     * Returns the rows from 0 to rowCount - 1 selected by the given scanner, which must be safe to call from several
+     * threads at once, and is only called on the chunks in which the given test finds that some rows may be selected.
+     * The chunks in which it finds that all are selected are added whole
+     */
+    public static Selection select(int rowCount, ChunkScanner scanner, ChunkTest test) {
+        return select(rowCount, scanner, test, rowCount >= PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Returns the rows from 0 to rowCount - 1 selected by the given scanner, scanning the chunks one after another on
+     * the calling thread, so that the scanner may depend on mutable state
+     */
+    public static Selection selectSequentially(int rowCount, ChunkScanner scanner) {
+        return select(rowCount, scanner, (from, to) -> Coverage.SOME, false);
+    }
+
+    private static Selection select(int rowCount, ChunkScanner scanner, ChunkTest test, boolean parallel) {
+        int chunkCount = (rowCount + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (chunkCount <= 1) {
+            return new BitmapBackedSelection(chunkBitmap(0, rowCount, scanner, test));
+        }
+        RoaringBitmap[] bitmaps = new RoaringBitmap[chunkCount];
+        IntConsumer scan = chunk -> {
+            int from = chunk * CHUNK_SIZE;
+            bitmaps[chunk] = chunkBitmap(from, Math.min(rowCount, from + CHUNK_SIZE), scanner, test);
+        };
+        if (parallel) {
+            ParallelChunks.run(chunkCount, scan);
+        } else {
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                scan.accept(chunk);
+            }
+        }
+        return new BitmapBackedSelection(FastAggregation.or(bitmaps));
+    }
+
+    /**
+     * Returns a bitmap of the rows selected in the chunk from {@code from} (inclusive) to {@code to} (exclusive)
+     */
+    private static RoaringBitmap chunkBitmap(int from, int to, ChunkScanner scanner, ChunkTest test) {
+        switch (test.coverage(from, to)) {
+            case NONE:
+                return new RoaringBitmap();
+            case ALL:
+                RoaringBitmap all = new RoaringBitmap();
+                all.add((long) from, (long) to);
+                return all;
+            default:
+                int[] rows = new int[to - from];
+                return chunkBitmap(from, to, rows, scanner.scan(from, to, rows));
+        }
+    }
+
+    /**
+     * Returns a bitmap of the first count of the given rows, all of which are in the range from {@code from}
+     * (inclusive) to {@code to} (exclusive)
+     */
+    private static RoaringBitmap chunkBitmap(int from, int to, int[] rows, int count) {
+        int length = to - from;
+        if (count <= length - length / 4) {
+            return RoaringBitmap.bitmapOf(count == rows.length ? rows : Arrays.copyOf(rows, count));
+        }
+        // most rows match, so add those that do not and flip the range
+        int[] gaps = new int[length - count];
+        int gapCount = 0;
+        int next = from;
+        for (int i = 0; i < count; i++) {
+            for (int row = next; row < rows[i]; row++) {
+                gaps[gapCount++] = row;
+            }
+            next = rows[i] + 1;
+        }
+        for (int row = next; row < to; row++) {
+            gaps[gapCount++] = row;
+        }
+        RoaringBitmap bitmap = RoaringBitmap.bitmapOf(gaps);
+        bitmap.flip((long) from, (long) to);
+        return bitmap;
+    }
+}
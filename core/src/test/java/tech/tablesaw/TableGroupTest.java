@@ -53,6 +53,22 @@ public class TableGroupTest {
         assertEquals(6, tables.size());
     }
 
+    @Test
+    public void testHashedSubTables() {
+        TableGroup tableGroup = TableGroup.createHashed(table, "who");
+        List<SubTable> tables = tableGroup.getSubTables();
+        assertEquals(6, tables.size());
+        assertEquals(table.categoryColumn("who").get(0), tables.get(0).name());
+
+        int count = 0;
+        for (SubTable subTable : tables) {
+            assertEquals(1, subTable.categoryColumn("who").countUnique());
+            assertEquals(subTable.name(), subTable.categoryColumn("who").get(0));
+            count += subTable.rowCount();
+        }
+        assertEquals(table.rowCount(), count);
+    }
+
     @Test
     public void testWith2GroupingCols() {
         CategoryColumn month = table.dateColumn(0).month();
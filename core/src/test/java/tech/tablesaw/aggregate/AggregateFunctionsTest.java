@@ -19,6 +19,8 @@ import org.junit.Test;
 
 import tech.tablesaw.aggregate.AggregateFunctions;
 import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.io.csv.CsvReadOptions;
@@ -69,4 +71,48 @@ public class AggregateFunctionsTest {
         assertEquals(6, result.rowCount());
         assertEquals("65.671875", result.get(0, 1));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testAccumulatorsMatchArrayAggregation() {
+        double[] data = {3.5, Double.NaN, -2.0, 8.25, 0.0, 11.0, Double.NaN, 4.75, -6.5, 1.0};
+        AggregateFunction[] functions = {
+                AggregateFunctions.first, AggregateFunctions.last, AggregateFunctions.count, AggregateFunctions.n,
+                AggregateFunctions.mean, AggregateFunctions.sum, AggregateFunctions.median,
+                AggregateFunctions.range, AggregateFunctions.min, AggregateFunctions.max, AggregateFunctions.product,
+                AggregateFunctions.populationVariance, AggregateFunctions.quadraticMean,
+                AggregateFunctions.sumOfSquares, AggregateFunctions.variance, AggregateFunctions.stdDev,
+                AggregateFunctions.kurtosis, AggregateFunctions.skewness
+        };
+        for (AggregateFunction function : functions) {
+            Accumulator whole = function.accumulator();
+            Accumulator left = function.accumulator();
+            Accumulator right = function.accumulator();
+            for (int i = 0; i < data.length; i++) {
+                whole.accept(data[i]);
+                (i < 4 ? left : right).accept(data[i]);
+            }
+            left.merge(right);
+            double expected = function.agg(data);
+            assertEquals(function.functionName(), expected, whole.result(), 1e-9);
+            assertEquals(function.functionName(), expected, left.result(), 1e-9);
+
+            whole.reset();
+            assertEquals(function.functionName(), function.agg(new double[0]), whole.result(), 0.0);
+        }
+    }
+
+    @Test
+    public void testColumnAggregationSkipsMissingValues() {
+        IntColumn ints = new IntColumn("i");
+        ints.append(4);
+        ints.append(IntColumn.MISSING_VALUE);
+        ints.append(8);
+        assertEquals(6.0, AggregateFunctions.mean.agg(ints), 0.0);
+        assertEquals(12.0, AggregateFunctions.sum.agg(ints), 0.0);
+        assertEquals(3.0, AggregateFunctions.count.agg(ints), 0.0);
+
+        DoubleColumn doubles = new DoubleColumn("d", new double[]{1.0, Double.NaN, 3.0, 5.0});
+        assertEquals(2.0, Accumulators.reduce(AggregateFunctions.variance, doubles, 1, 4), 0.0);
+        assertEquals(5.0, Accumulators.reduce(AggregateFunctions.max, doubles), 0.0);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.aggregate;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.CategoryColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Table;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CrossTabTest {
+
+    private Table table;
+
+    @Before
+    public void setUp() {
+        CategoryColumn who = new CategoryColumn("who",
+                new String[] {"gallup", "fox", "gallup", "zogby", "fox", "gallup"});
+        IntColumn year = new IntColumn("year", new int[] {2002, 2001, 2001, 2002, 2010, 2002});
+        BooleanColumn early = new BooleanColumn("early", new boolean[] {false, true, true, false, false, false});
+        table = Table.create("polls", who, year, early);
+    }
+
+    @Test
+    public void testCountsOnCategoryAndIntColumns() {
+        Table counts = CrossTab.xTabCount(table, table.column("who"), table.column("year"));
+        assertEquals(5, counts.columnCount());
+        assertEquals("2001", counts.column(1).name());
+        assertEquals("2002", counts.column(2).name());
+        assertEquals("2010", counts.column(3).name());
+        assertEquals("total", counts.column(4).name());
+        assertEquals(4, counts.rowCount());
+        assertEquals("fox", counts.column(0).getString(0));
+        assertEquals("gallup", counts.column(0).getString(1));
+        assertEquals("zogby", counts.column(0).getString(2));
+        assertEquals("Total", counts.column(0).getString(3));
+
+        // gallup: 2001 once, 2002 twice
+        assertEquals(1, counts.intColumn(1).get(1));
+        assertEquals(2, counts.intColumn(2).get(1));
+        assertEquals(0, counts.intColumn(3).get(1));
+        assertEquals(3, counts.intColumn(4).get(1));
+        assertEquals(3, counts.intColumn(2).get(3));
+        assertEquals(6, counts.intColumn(4).get(3));
+    }
+
+    @Test
+    public void testCountsOnBooleanColumn() {
+        Table counts = CrossTab.xTabCount(table, table.column("early"), table.column("who"));
+        assertEquals("false", counts.column(0).getString(0));
+        assertEquals("true", counts.column(0).getString(1));
+        // rows: false, true, Total; columns: fox, gallup, zogby, total
+        assertEquals(1, counts.intColumn("fox").get(0));
+        assertEquals(1, counts.intColumn("fox").get(1));
+        assertEquals(2, counts.intColumn("gallup").get(0));
+        assertEquals(4, counts.intColumn("total").get(0));
+    }
+
+    @Test
+    public void testCountsOnSparseWideIntColumns() {
+        int rows = 100_000;
+        IntColumn a = new IntColumn("a", rows);
+        IntColumn b = new IntColumn("b", rows);
+        for (int row = 0; row < rows; row++) {
+            a.append(row % 2 == 0 ? 0 : rows - 1);
+            b.append(row % 4 == 0 ? rows - 1 : 0);
+        }
+        Table counts = CrossTab.xTabCount(Table.create("wide", a, b), a, b);
+        assertEquals(3, counts.rowCount());
+        assertEquals(4, counts.columnCount());
+        assertEquals("0", counts.column(0).getString(0));
+        assertEquals(rows / 4, counts.intColumn("99999").get(0));
+        assertEquals(rows / 2, counts.intColumn("0").get(1));
+        assertEquals(rows, counts.intColumn("total").get(2));
+    }
+
+    @Test
+    public void testPercents() {
+        Table counts = CrossTab.xTabCount(table, table.column("who"), table.column("year"));
+
+        Table rowPercents = CrossTab.rowPercents(counts);
+        assertEquals(counts.columnCount(), rowPercents.columnCount());
+        assertEquals("gallup", rowPercents.column(0).getString(1));
+        assertEquals(2f / 3, rowPercents.floatColumn("2002").get(1), 0.0001);
+        assertEquals(1f, rowPercents.floatColumn("total").get(1), 0.0001);
+
+        Table columnPercents = CrossTab.columnPercents(counts);
+        assertEquals(0.5f, columnPercents.floatColumn("2001").get(0), 0.0001);
+        assertEquals(1f, columnPercents.floatColumn("2001").get(3), 0.0001);
+
+        Table tablePercents = CrossTab.tablePercents(counts);
+        assertEquals(2f / 6, tablePercents.floatColumn("2002").get(1), 0.0001);
+        assertEquals(1f, tablePercents.floatColumn("total").get(3), 0.0001);
+    }
+
+    @Test
+    public void testRowPercentsOfEmptyRowIsMissing() {
+        Table counts = CrossTab.xTabCount(table, table.column("who"), table.column("year"));
+        counts.intColumn("total").set(0, 0);
+        assertTrue(Float.isNaN(CrossTab.rowPercents(counts).floatColumn("2001").get(0)));
+    }
+}
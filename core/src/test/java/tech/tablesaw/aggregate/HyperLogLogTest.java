@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.aggregate;
+
+import org.junit.Test;
+
+import tech.tablesaw.api.IntColumn;
+
+import static org.junit.Assert.assertEquals;
+
+public class HyperLogLogTest {
+
+    @Test
+    public void testSmallCardinalityIsNearlyExact() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 1000; i++) {
+            sketch.accept(i % 100);
+        }
+        sketch.accept(Double.NaN);
+        assertEquals(100, sketch.cardinality(), 1);
+    }
+
+    @Test
+    public void testLargeCardinality() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 1_000_000; i++) {
+            sketch.add(i);
+        }
+        assertEquals(1_000_000, sketch.cardinality(), 30_000);
+    }
+
+    @Test
+    public void testMergeIsUnion() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 60_000; i++) {
+            first.add(i);
+            second.add(i + 40_000);
+        }
+        first.merge(second);
+        assertEquals(100_000, first.cardinality(), 3_000);
+    }
+
+    @Test
+    public void testRoundTripThroughBytes() {
+        HyperLogLog sketch = new HyperLogLog(10);
+        for (int i = 0; i < 5000; i++) {
+            sketch.add("value " + i);
+        }
+        HyperLogLog copy = HyperLogLog.fromBytes(sketch.toBytes());
+        assertEquals(10, copy.precision());
+        assertEquals(sketch.cardinality(), copy.cardinality());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMergeRequiresSamePrecision() {
+        new HyperLogLog(10).merge(new HyperLogLog(12));
+    }
+
+    @Test
+    public void testApproxCountDistinctOnColumn() {
+        IntColumn column = new IntColumn("ids");
+        for (int i = 0; i < 50_000; i++) {
+            column.append(i % 20_000);
+        }
+        column.append(IntColumn.MISSING_VALUE);
+        assertEquals(20_000, AggregateFunctions.approxCountDistinct.agg(column), 600);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.aggregate;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import tech.tablesaw.api.DoubleColumn;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class QuantileSketchTest {
+
+    // values 0 through n - 1 in random order, so each percentile p is p * n / 100
+    private static double[] shuffled(int n, long seed) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        Random random = new Random(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            double swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+
+    @Test
+    public void testSmallInputIsExact() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 1; i <= 99; i++) {
+            sketch.accept(i);
+        }
+        sketch.accept(Double.NaN);
+        assertEquals(99, sketch.count());
+        assertEquals(50, sketch.percentile(50), 0.0);
+        assertEquals(1, sketch.percentile(0), 0.0);
+        assertEquals(99, sketch.percentile(100), 0.0);
+    }
+
+    @Test
+    public void testPercentilesOfLargeInput() {
+        int n = 1_000_000;
+        QuantileSketch sketch = new QuantileSketch();
+        for (double value : shuffled(n, 1)) {
+            sketch.accept(value);
+        }
+        assertEquals(n, sketch.count());
+        for (double p : new double[] {1, 25, 50, 90, 99}) {
+            assertEquals(p * n / 100, sketch.percentile(p), 0.02 * n);
+        }
+    }
+
+    @Test
+    public void testMergeCoversBothInputs() {
+        int n = 200_000;
+        double[] values = shuffled(n, 2);
+        QuantileSketch first = new QuantileSketch();
+        QuantileSketch second = new QuantileSketch();
+        for (int i = 0; i < n; i++) {
+            (i % 3 == 0 ? first : second).accept(values[i]);
+        }
+        first.merge(second);
+        assertEquals(n, first.count());
+        assertEquals(n / 2, first.percentile(50), 0.02 * n);
+        assertEquals(0.95 * n, first.percentile(95), 0.02 * n);
+    }
+
+    @Test
+    public void testRoundTripThroughBytes() {
+        QuantileSketch sketch = new QuantileSketch(64);
+        for (double value : shuffled(50_000, 3)) {
+            sketch.accept(value);
+        }
+        QuantileSketch copy = QuantileSketch.fromBytes(sketch.toBytes());
+        assertEquals(64, copy.k());
+        assertEquals(sketch.count(), copy.count());
+        assertEquals(sketch.percentile(50), copy.percentile(50), 0.0);
+        assertEquals(sketch.percentile(99), copy.percentile(99), 0.0);
+    }
+
+    @Test
+    public void testEmptySketch() {
+        assertTrue(Double.isNaN(new QuantileSketch().result()));
+    }
+
+    @Test
+    public void testApproxPercentileOnColumn() {
+        DoubleColumn column = new DoubleColumn("values", shuffled(100_000, 4));
+        assertEquals(90_000, AggregateFunctions.approxPercentile(90).agg(column), 2_000);
+        assertEquals(50_000, AggregateFunctions.approxMedian.agg(column), 2_000);
+    }
+}
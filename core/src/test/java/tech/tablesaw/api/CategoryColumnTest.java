@@ -143,4 +143,89 @@ public class CategoryColumnTest {
         List<String> states = categoryColumn.asList();
         assertEquals(51, states.size()); //includes Wash. DC
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGather() {
+        CategoryColumn gathered = column.gather(new int[] {3, -1, 1, 3});
+        assertEquals(4, gathered.size());
+        assertEquals("Value 4", gathered.get(0));
+        assertEquals(CategoryColumn.MISSING_VALUE, gathered.get(1));
+        assertEquals("Value 2", gathered.get(2));
+        assertEquals("Value 4", gathered.get(3));
+        assertEquals(3, gathered.countUnique());
+
+        gathered.append("Value 5");
+        assertEquals("Value 5", gathered.get(4));
+        assertEquals("Value 4", gathered.get(3));
+    }
+
+    @Test
+    public void testAppendRowsFromLargeDictionary() {
+        CategoryColumn ids = new CategoryColumn("ids");
+        for (int i = 0; i < 10_000; i++) {
+            ids.append("id " + i);
+        }
+        CategoryColumn few = ids.emptyCopy();
+        few.appendRows(ids, new int[] {9_999, 5, 9_999}, 3);
+        few.appendRows(ids, new int[] {42}, 1);
+        assertEquals("id 9999", few.get(0));
+        assertEquals("id 5", few.get(1));
+        assertEquals("id 9999", few.get(2));
+        assertEquals("id 42", few.get(3));
+        assertEquals(3, few.countUnique());
+        few.append("id 10000");
+        assertEquals(4, few.countUnique());
+        assertEquals("id 42", few.get(3));
+    }
+
+    @Test
+    public void testAppendRowsFromDictionaryFilledDirectly() {
+        // as a column read from storage is filled
+        CategoryColumn stored = new CategoryColumn("stored");
+        stored.dictionaryMap().put(0, "a");
+        stored.dictionaryMap().put(1, "b");
+        stored.data().add(1);
+        stored.data().add(0);
+        CategoryColumn copy = stored.gather(new int[] {0, 1, 0});
+        copy.append("c");
+        assertEquals("b", copy.get(0));
+        assertEquals("a", copy.get(1));
+        assertEquals("b", copy.get(2));
+        assertEquals("c", copy.get(3));
+        assertEquals(3, copy.countUnique());
+    }
+
+    @Test
+    public void testPredicatesAreTestedOncePerDistinctValue() {
+        CategoryColumn categoryColumn = new CategoryColumn("repeated");
+        for (int i = 0; i < 1000; i++) {
+            categoryColumn.append(i % 2 == 0 ? "apple" : "banana");
+        }
+        int[] tests = new int[1];
+        Selection selection = categoryColumn.select(value -> {
+            tests[0]++;
+            return value.endsWith("na");
+        });
+        assertEquals(2, tests[0]);
+        assertEquals(500, selection.size());
+        assertEquals(1, selection.get(0));
+
+        assertEquals(500, categoryColumn.matchesRegex("a.*e").size());
+        assertEquals(1000, categoryColumn.stringContains("an").size() + categoryColumn.isShorterThan(6).size());
+        assertEquals(500, categoryColumn.equalToIgnoringCase("APPLE").size());
+    }
+
+    @Test
+    public void testIsInAndIsNotIn() {
+        CategoryColumn categoryColumn = new CategoryColumn("US States");
+        categoryColumn.addAll(TestDataUtil.usStates());
+
+        assertEquals(2, categoryColumn.isIn("Texas", "Alaska", "Yugoslavia").size());
+        Selection selection = categoryColumn.isNotIn("Texas", "Alaska", "Yugoslavia");
+        assertEquals(49, selection.size());
+        CategoryColumn result = (CategoryColumn) categoryColumn.subset(selection);
+        assertFalse(result.contains("Texas"));
+        assertFalse(result.contains("Alaska"));
+        assertEquals(51, categoryColumn.isNotIn("Yugoslavia").size());
+    }
+}
@@ -72,6 +72,88 @@ public class TableTest {
         assertEquals(1, doubles.size());
     }
 
+    @Test
+    public void testSortOnCopiesAllColumnTypes() throws Exception {
+        int rows = 40_000;
+        IntColumn ints = new IntColumn("i", rows);
+        LongColumn longs = new LongColumn("l", rows);
+        ShortColumn shorts = new ShortColumn("s", rows);
+        DoubleColumn doubles = new DoubleColumn("d", rows);
+        BooleanColumn booleans = new BooleanColumn("b", rows);
+        CategoryColumn categories = new CategoryColumn("c", rows);
+        for (int i = 0; i < rows; i++) {
+            int value = rows - i;
+            ints.append(value);
+            longs.append(value * 10L);
+            shorts.append((short) (value % 100));
+            doubles.append(value / 2.0);
+            booleans.append(value % 2 == 0);
+            categories.append("v" + (value % 7));
+        }
+        Table t = Table.create("t", ints, longs, shorts, doubles, booleans, categories);
+        Table sorted = t.sortOn("i");
+        assertEquals(rows, sorted.rowCount());
+        for (int i = 0; i < rows; i++) {
+            int value = i + 1;
+            assertEquals(value, sorted.intColumn("i").get(i));
+            assertEquals(value * 10L, sorted.longColumn("l").get(i));
+            assertEquals(value % 100, sorted.shortColumn("s").get(i));
+            assertEquals(value / 2.0, sorted.doubleColumn("d").get(i), 0.0);
+            assertEquals(value % 2 == 0, sorted.booleanColumn("b").get(i));
+            assertEquals("v" + (value % 7), sorted.categoryColumn("c").get(i));
+        }
+        assertEquals(7, sorted.categoryColumn("c").countUnique());
+
+        Table firstRows = t.first(3);
+        assertEquals(3, firstRows.categoryColumn("c").countUnique());
+        firstRows.categoryColumn("c").append("new");
+        assertEquals("new", firstRows.categoryColumn("c").get(3));
+        assertEquals("v" + (rows % 7), firstRows.categoryColumn("c").get(0));
+    }
+
+    @Test
+    public void testUniqueRecords() throws Exception {
+        IntColumn ints = new IntColumn("i");
+        CategoryColumn categories = new CategoryColumn("c");
+        int[] values = {3, 1, 3, 2, 1, 3};
+        String[] strings = {"a", "b", "a", "a", "b", "c"};
+        for (int i = 0; i < values.length; i++) {
+            ints.append(values[i]);
+            categories.append(strings[i]);
+        }
+        Table unique = Table.create("t", ints, categories).uniqueRecords();
+        assertEquals(4, unique.rowCount());
+        assertArrayEquals(new int[]{3, 1, 2, 3}, unique.intColumn("i").data().toIntArray());
+        assertEquals("a", unique.categoryColumn("c").get(0));
+        assertEquals("b", unique.categoryColumn("c").get(1));
+        assertEquals("a", unique.categoryColumn("c").get(2));
+        assertEquals("c", unique.categoryColumn("c").get(3));
+    }
+
+    @Test
+    public void testDistinctOnWideKeys() throws Exception {
+        LongColumn longs = new LongColumn("l");
+        DoubleColumn doubles = new DoubleColumn("d");
+        IntColumn ints = new IntColumn("i");
+        for (int i = 0; i < 1000; i++) {
+            longs.append(i % 10);
+            doubles.append(i % 4 == 0 ? -0.0 : (i % 4) / 2.0);
+            ints.append(i);
+        }
+        Table t = Table.create("t", longs, doubles, ints);
+
+        Table distinct = t.distinct("l", "d");
+        assertEquals(20, distinct.rowCount());
+        assertEquals(3, distinct.columnCount());
+        for (int row = 0; row < distinct.rowCount(); row++) {
+            assertEquals(row, distinct.intColumn("i").get(row));
+        }
+
+        Table distinctLongs = t.distinct("l");
+        assertEquals(10, distinctLongs.rowCount());
+        assertEquals(9, distinctLongs.intColumn("i").get(9));
+    }
+
     @Test
     public void testColumnCount() throws Exception {
         assertEquals(0, Table.create("t").columnCount());
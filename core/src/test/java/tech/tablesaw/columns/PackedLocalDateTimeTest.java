@@ -124,4 +124,20 @@ public class PackedLocalDateTimeTest {
         long now2 = ofEpochMilli(millis, ZoneId.of("UTC"));
         assertEquals(now, now2);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testToEpochMilliWithoutOffset() {
+        LocalDateTime[] dateTimes = {
+                LocalDateTime.of(1970, 1, 1, 0, 0),
+                LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_000_000),
+                LocalDateTime.of(2016, 2, 29, 13, 45, 7, 123_000_000),
+                LocalDateTime.of(1900, 3, 1, 6, 30)
+        };
+        for (LocalDateTime dateTime : dateTimes) {
+            long packed = pack(dateTime);
+            assertEquals(dateTime.toInstant(ZoneOffset.UTC).toEpochMilli(), toEpochMilli(packed));
+            assertEquals(dateTime.toInstant(ZoneOffset.ofHours(5)).toEpochMilli(),
+                    toEpochMilli(packed, ZoneOffset.ofHours(5)));
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.filters;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import tech.tablesaw.api.CategoryColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.ColumnReference;
+import tech.tablesaw.filtering.ColumnFilter;
+import tech.tablesaw.filtering.Filter;
+import tech.tablesaw.util.BitmapBackedSelection;
+import tech.tablesaw.util.ParallelScan;
+import tech.tablesaw.util.Selection;
+
+import static org.junit.Assert.assertEquals;
+import static tech.tablesaw.api.QueryHelper.*;
+
+public class CompositeFilterTest {
+
+    private static final int ROWS = 50_000;
+
+    private Table table;
+
+    @Before
+    public void setUp() {
+        IntColumn id = new IntColumn("id", ROWS);
+        DoubleColumn price = new DoubleColumn("price", ROWS);
+        DoubleColumn cost = new DoubleColumn("cost", ROWS);
+        CategoryColumn state = new CategoryColumn("state", ROWS);
+        String[] states = {"AL", "CA", "NY", "TX", "WA"};
+        for (int row = 0; row < ROWS; row++) {
+            id.append(row);
+            price.append(row % 1000);
+            cost.append((row * 7) % 1000);
+            state.appendCell(states[row % states.length]);
+        }
+        table = Table.create("sales", id, price, cost, state);
+    }
+
+    /**
+     * Returns the rows that pass the given filter, tested one row at a time on single-row candidate sets
+     */
+    private Selection rowByRow(Filter filter) {
+        Selection expected = new BitmapBackedSelection();
+        for (int row = 0; row < ROWS; row += 97) {
+            Selection candidate = new BitmapBackedSelection();
+            candidate.add(row);
+            if (filter.apply(table, candidate).contains(row)) {
+                expected.add(row);
+            }
+        }
+        return expected;
+    }
+
+    private Selection sampledRows() {
+        Selection rows = new BitmapBackedSelection();
+        for (int row = 0; row < ROWS; row += 97) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Test
+    public void testAllOfMatchesIntersection() {
+        Filter cheap = column("price").isLessThan(100.0);
+        Filter unselective = column("state").isNotEqualTo("TX");
+        Filter twoColumns = column("cost").isGreaterThan(column("price"));
+        Filter filter = allOf(unselective, twoColumns, cheap);
+
+        Selection expected = cheap.apply(table);
+        expected.and(unselective.apply(table));
+        expected.and(twoColumns.apply(table));
+        assertEquals(expected, filter.apply(table));
+
+        Selection sampled = sampledRows();
+        sampled.and(expected);
+        assertEquals(sampled, filter.apply(table, sampledRows()));
+        assertEquals(sampled, rowByRow(filter));
+    }
+
+    @Test
+    public void testAnyOfMatchesUnion() {
+        Filter rare = column("id").isEqualTo(12_345);
+        Filter common = column("state").isIn("CA", "NY");
+        Filter negated = not(column("price").isGreaterThanOrEqualTo(10.0));
+        Filter filter = anyOf(rare, common, negated);
+
+        Selection expected = rare.apply(table);
+        expected.or(common.apply(table));
+        expected.or(negated.apply(table));
+        assertEquals(expected, filter.apply(table));
+
+        Selection sampled = sampledRows();
+        sampled.and(expected);
+        assertEquals(sampled, filter.apply(table, sampledRows()));
+        assertEquals(sampled, rowByRow(filter));
+    }
+
+    @Test
+    public void testNestedFilters() {
+        Filter filter = allOf(anyOf(column("state").isEqualTo("WA"), column("price").isLessThan(5.0)),
+                not(column("id").isLessThan(25_000)));
+        Selection result = filter.apply(table);
+        Table selected = table.selectWhere(result);
+        for (int row = 0; row < selected.rowCount(); row++) {
+            int id = selected.intColumn("id").get(row);
+            double price = selected.doubleColumn("price").get(row);
+            assertEquals(true, id >= 25_000 && ("WA".equals(selected.categoryColumn("state").get(row)) || price < 5));
+        }
+        assertEquals(5_000 + 125 - 25, result.size());
+        assertEquals(rowByRow(filter), sampledRowsOf(result));
+    }
+
+    @Test
+    public void testFusedFilters() {
+        Filter idRange = column("id").isBetweenIncluding(10_000, 40_000);
+        Filter cheap = column("price").isLessThan(300.0);
+        Filter costly = column("cost").isGreaterThanOrEqualTo(900.0);
+        Filter early = column("id").isLessThan(2_000);
+        Filter filter = anyOf(allOf(idRange, either(cheap, costly)), early);
+
+        Selection expected = cheap.apply(table);
+        expected.or(costly.apply(table));
+        expected.and(idRange.apply(table));
+        expected.or(early.apply(table));
+        assertEquals(expected, filter.apply(table));
+        assertEquals(sampledRowsOf(expected), filter.apply(table, sampledRows()));
+        assertEquals(sampledRowsOf(expected), rowByRow(filter));
+    }
+
+    @Test
+    public void testFusedFiltersSkipChunks() {
+        int rows = 4 * ParallelScan.CHUNK_SIZE + 100;
+        IntColumn id = new IntColumn("id", rows);
+        DoubleColumn price = new DoubleColumn("price", rows);
+        for (int row = 0; row < rows; row++) {
+            id.append(row);
+            price.append(row % 1000);
+        }
+        Table large = Table.create("large", id, price);
+        int from = ParallelScan.CHUNK_SIZE - 5;
+        int to = 3 * ParallelScan.CHUNK_SIZE + 5;
+        Filter range = both(column("id").isGreaterThanOrEqualTo(from), column("id").isLessThan(to));
+        assertEquals(to - from, large.selectWhere(range).rowCount());
+
+        Filter cheap = both(range, column("price").isLessThan(10.0));
+        Selection expected = column("price").isLessThan(10.0).apply(large);
+        expected.and(range.apply(large));
+        assertEquals(expected, cheap.apply(large));
+    }
+
+    @Test
+    public void testFilterOverridingApply() {
+        // written against the original contract, which only asked column filters to implement apply(Table)
+        Filter evenIds = new ColumnFilter(new ColumnReference("id")) {
+            @Override
+            public Selection apply(Table relation) {
+                return relation.intColumn("id").select(id -> id % 2 == 0);
+            }
+        };
+        Filter filter = allOf(column("price").isLessThan(100.0), evenIds);
+        Selection expected = column("price").isLessThan(100.0).apply(table);
+        expected.and(evenIds.apply(table));
+        assertEquals(ROWS / 20, expected.size());
+        assertEquals(expected, filter.apply(table));
+        assertEquals(sampledRowsOf(expected), rowByRow(filter));
+    }
+
+    private Selection sampledRowsOf(Selection selection) {
+        Selection sampled = sampledRows();
+        sampled.and(selection);
+        return sampled;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import org.junit.Test;
+
+import tech.tablesaw.api.CategoryColumn;
+
+import static org.junit.Assert.assertEquals;
+
+public class CategoryIndexTest {
+
+    @Test
+    public void testGet() {
+        CategoryColumn column = new CategoryColumn("colors", 100_000);
+        for (int row = 0; row < 100_000; row++) {
+            column.append(row % 10 == 0 ? "red" : row % 10 == 1 ? "green" : "blue");
+        }
+        CategoryIndex index = new CategoryIndex(column);
+        assertEquals(column.isEqualTo("red"), index.get("red"));
+        assertEquals(column.isEqualTo("blue"), index.get("blue"));
+        assertEquals(0, index.get("purple").size());
+    }
+}
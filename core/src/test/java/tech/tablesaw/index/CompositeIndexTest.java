@@ -0,0 +1,180 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import tech.tablesaw.api.CategoryColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.filtering.Filter;
+import tech.tablesaw.util.Selection;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static tech.tablesaw.api.QueryHelper.allOf;
+import static tech.tablesaw.api.QueryHelper.column;
+
+public class CompositeIndexTest {
+
+    private static final int ROWS = 1000;
+    private static final LocalDate START = LocalDate.of(2017, 1, 1);
+
+    private Table table;
+
+    @Before
+    public void setUp() {
+        CategoryColumn tenants = new CategoryColumn("tenant", ROWS);
+        DateColumn days = new DateColumn("day", ROWS);
+        IntColumn amounts = new IntColumn("amount", ROWS);
+        for (int row = 0; row < ROWS; row++) {
+            tenants.append("t" + (row * 7 % 5));
+            days.append(START.plusDays(row * 13 % 30));
+            amounts.append(row % 11);
+        }
+        table = Table.create("events", tenants, days, amounts);
+    }
+
+    @Test
+    public void testLookupsMatchScans() {
+        CompositeIndex index = new CompositeIndex(table.columns("tenant", "day", "amount"));
+        CategoryColumn tenants = table.categoryColumn("tenant");
+        DateColumn days = table.dateColumn("day");
+        IntColumn amounts = table.intColumn("amount");
+
+        assertRows(tenants.isEqualTo("t2"), index.get("t2"));
+
+        Selection tenantDay = tenants.isEqualTo("t3");
+        tenantDay.and(days.isEqualTo(START.plusDays(4)));
+        assertRows(tenantDay, index.get("t3", START.plusDays(4)));
+
+        Selection exact = tenants.isEqualTo("t3");
+        exact.and(days.isEqualTo(START.plusDays(4)));
+        exact.and(amounts.isEqualTo(5));
+        assertRows(exact, index.get("t3", START.plusDays(4), 5));
+
+        Selection range = tenants.isEqualTo("t1");
+        range.and(days.isOnOrAfter(START.plusDays(10)));
+        range.and(days.isOnOrBefore(START.plusDays(20)));
+        assertRows(range, index.between(Collections.singletonList("t1"), START.plusDays(10), START.plusDays(20)));
+
+        assertEquals(0, index.get("no such tenant").size());
+    }
+
+    @Test
+    public void testCompositeIndexAnswersConjunctions() {
+        Filter[] filters = {
+                allOf(column("tenant").isEqualTo("t4"), column("day").isEqualTo(START.plusDays(3))),
+                allOf(column("day").isBetweenIncluding(START.plusDays(5), START.plusDays(9)),
+                        column("tenant").isEqualTo("t0")),
+                allOf(column("tenant").isEqualTo("t2"), column("amount").isGreaterThan(6)),
+                allOf(column("tenant").isEqualTo("t2"), column("day").isEqualTo(START.plusDays(7)),
+                        column("amount").isLessThan(4)),
+                allOf(column("amount").isEqualTo(3), column("day").isAfter(START.plusDays(25)))
+        };
+        int[] expected = new int[filters.length];
+        for (int i = 0; i < filters.length; i++) {
+            expected[i] = table.selectWhere(filters[i]).rowCount();
+        }
+        table.createIndex("tenant", "day");
+        assertNotNull(table.compositeIndex("tenant", "day"));
+        assertNull(table.compositeIndex("day", "tenant"));
+        for (int i = 0; i < filters.length; i++) {
+            assertEquals(expected[i], table.selectWhere(filters[i]).rowCount());
+        }
+    }
+
+    @Test
+    public void testIndexIsDroppedWithItsColumns() {
+        table.createIndex("tenant", "day");
+        table.intColumn("amount").append(1);
+        table.categoryColumn("tenant").append("t1");
+        table.dateColumn("day").append(START);
+        assertNull(table.compositeIndex("tenant", "day"));
+
+        table.createIndex("tenant", "day");
+        table.dateColumn("day").set(0, START.plusDays(100));
+        assertNull(table.compositeIndex("tenant", "day"));
+
+        table.createIndex("tenant", "day");
+        table.removeColumns("day");
+        assertEquals(0, table.compositeIndexes().size());
+    }
+
+    @Test
+    public void testMultiColumnInnerJoin() {
+        CategoryColumn tenants = new CategoryColumn("tenant");
+        DateColumn days = new DateColumn("day");
+        IntColumn targets = new IntColumn("target");
+        for (int i = 0; i < 30; i++) {
+            // dictionary codes differ from those of the events table, and some tenants are unknown to it
+            tenants.append("t" + (4 - i % 7));
+            days.append(START.plusDays(i));
+            targets.append(i);
+        }
+        Table goals = Table.create("goals", tenants, days, targets);
+
+        Table joined = table.join("tenant", "day").inner(goals, "tenant", "day");
+        int expected = 0;
+        for (int row = 0; row < table.rowCount(); row++) {
+            for (int goal = 0; goal < goals.rowCount(); goal++) {
+                if (table.get(row, 0).equals(goals.get(goal, 0)) && table.get(row, 1).equals(goals.get(goal, 1))) {
+                    expected++;
+                }
+            }
+        }
+        assertEquals(expected, joined.rowCount());
+        assertEquals(4, joined.columnCount());
+        for (int row = 0; row < joined.rowCount(); row++) {
+            int target = joined.intColumn("target").get(row);
+            assertEquals(goals.get(target, 0), joined.get(row, 0));
+            assertEquals(goals.get(target, 1), joined.get(row, 1));
+        }
+
+        goals.createIndex("tenant", "day");
+        assertEquals(expected, table.join("tenant", "day").inner(goals, "tenant", "day").rowCount());
+    }
+
+    @Test
+    public void testJoinPairsAreInProbeOrder() {
+        IntColumn keys = new IntColumn("key", new int[] {3, 1, 3, 2, 3});
+        CompositeIndex index = new CompositeIndex(Collections.singletonList(keys));
+        IntColumn probe = new IntColumn("key", new int[] {3, 3, 4, 1});
+        IntArrayList probeRows = new IntArrayList();
+        IntArrayList indexRows = new IntArrayList();
+        index.join(Collections.singletonList(probe), probeRows, indexRows);
+        assertArrayEquals(new int[] {0, 0, 0, 1, 1, 1, 3}, probeRows.toIntArray());
+        assertArrayEquals(new int[] {0, 2, 4, 0, 2, 4, 1}, indexRows.toIntArray());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFloatColumnsCannotBeIndexed() {
+        new CompositeIndex(Arrays.asList(table.column("tenant"), new FloatColumn("f", ROWS)));
+    }
+
+    private static void assertRows(Selection expected, Selection actual) {
+        assertArrayEquals(expected.toArray(), actual.toArray());
+    }
+}
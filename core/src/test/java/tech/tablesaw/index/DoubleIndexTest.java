@@ -21,6 +21,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.DoubleColumnUtils;
 import tech.tablesaw.util.Selection;
@@ -83,4 +84,19 @@ public class DoubleIndexTest {
         Selection fromIdx = index.greaterThan(30.330425);
         assertEquals(fromCol, fromIdx);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testBothZerosAreOneKey() {
+        DoubleColumn column = new DoubleColumn("values", new double[] {-0.0, 0.0, 1.0, -1.0});
+        DoubleIndex zeros = new DoubleIndex(column);
+        for (double zero : new double[] {0.0, -0.0}) {
+            assertEquals(column.select(DoubleColumnUtils.isEqualTo, zero), zeros.get(zero));
+            assertEquals(column.select(DoubleColumnUtils.isLessThan, zero), zeros.lessThan(zero));
+            assertEquals(column.select(DoubleColumnUtils.isLessThanOrEqualTo, zero), zeros.atMost(zero));
+            assertEquals(column.select(DoubleColumnUtils.isGreaterThan, zero), zeros.greaterThan(zero));
+            assertEquals(column.select(DoubleColumnUtils.isGreaterThanOrEqualTo, zero), zeros.atLeast(zero));
+            assertEquals(2, zeros.between(zero, zero).size());
+        }
+        assertEquals(1, zeros.lessThan(0.0).size());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import org.junit.Test;
+
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class DoubleSortedIndexTest {
+
+    @Test
+    public void testRanges() {
+        DoubleColumn column = new DoubleColumn("values", new double[] {2.5, Double.NaN, -1.0, 2.5, 0.0, Double.NaN, 7.25});
+        DoubleSortedIndex index = new DoubleSortedIndex(column);
+        assertArrayEquals(new int[] {0, 3}, index.get(2.5).toArray());
+        assertArrayEquals(new int[] {1, 5}, index.get(Double.NaN).toArray());
+        assertArrayEquals(new int[] {0, 3, 4, 6}, index.atLeast(0.0).toArray());
+        assertArrayEquals(new int[] {6}, index.greaterThan(2.5).toArray());
+        assertArrayEquals(new int[] {2, 4}, index.lessThan(2.5).toArray());
+        assertArrayEquals(new int[] {0, 2, 3, 4, 6}, index.atMost(100.0).toArray());
+        assertArrayEquals(new int[] {0, 3, 4}, index.between(0.0, 2.5).toArray());
+        assertEquals(0, index.atLeast(Double.NaN).size());
+    }
+
+    @Test
+    public void testBothZerosAreOneKey() {
+        DoubleColumn column = new DoubleColumn("values", new double[] {0.0, -0.0, 1.0, -1.0, -0.0});
+        DoubleSortedIndex index = new DoubleSortedIndex(column);
+        for (double zero : new double[] {0.0, -0.0}) {
+            assertArrayEquals(new int[] {0, 1, 4}, index.get(zero).toArray());
+            assertArrayEquals(new int[] {3}, index.lessThan(zero).toArray());
+            assertArrayEquals(new int[] {0, 1, 3, 4}, index.atMost(zero).toArray());
+            assertArrayEquals(new int[] {2}, index.greaterThan(zero).toArray());
+            assertArrayEquals(new int[] {0, 1, 2, 4}, index.atLeast(zero).toArray());
+        }
+    }
+
+    @Test
+    public void testBothFloatZerosAreOneKey() {
+        FloatColumn column = new FloatColumn("values", new float[] {-0.0f, 0.0f, 1.0f, -1.0f});
+        FloatSortedIndex index = new FloatSortedIndex(column);
+        assertArrayEquals(new int[] {0, 1}, index.get(0.0f).toArray());
+        assertArrayEquals(new int[] {3}, index.lessThan(0.0f).toArray());
+        assertArrayEquals(new int[] {0, 1, 2}, index.atLeast(-0.0f).toArray());
+    }
+}
@@ -17,6 +17,7 @@ package tech.tablesaw.index;
 import org.junit.Before;
 import org.junit.Test;
 
+import tech.tablesaw.api.FloatColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.FloatColumnUtils;
 import tech.tablesaw.index.FloatIndex;
@@ -72,4 +73,34 @@ public class FloatIndexTest {
         Selection fromIdx = index.greaterThan(30.330425f);
         assertEquals(fromCol, fromIdx);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testMissingValuesAreInNoRange() {
+        FloatColumn column = new FloatColumn("values", 4);
+        column.append(1.0f);
+        column.append(Float.NaN);
+        column.append(3.0f);
+        column.append(Float.NaN);
+        FloatIndex withMissing = new FloatIndex(column);
+        assertEquals(2, withMissing.atLeast(0.0f).size());
+        assertEquals(1, withMissing.greaterThan(1.0f).size());
+        assertEquals(2, withMissing.between(1.0f, 3.0f).size());
+        assertEquals(2, withMissing.get(Float.NaN).size());
+        assertEquals(0, withMissing.lessThan(Float.NaN).size());
+    }
+
+    @Test
+    public void testBothZerosAreOneKey() {
+        FloatColumn column = new FloatColumn("values", new float[] {-0.0f, 0.0f, 1.0f, -1.0f});
+        FloatIndex zeros = new FloatIndex(column);
+        for (float zero : new float[] {0.0f, -0.0f}) {
+            assertEquals(column.select(FloatColumnUtils.isEqualTo, zero), zeros.get(zero));
+            assertEquals(column.select(FloatColumnUtils.isLessThan, zero), zeros.lessThan(zero));
+            assertEquals(column.select(FloatColumnUtils.isLessThanOrEqualTo, zero), zeros.atMost(zero));
+            assertEquals(column.select(FloatColumnUtils.isGreaterThan, zero), zeros.greaterThan(zero));
+            assertEquals(column.select(FloatColumnUtils.isGreaterThanOrEqualTo, zero), zeros.atLeast(zero));
+            assertEquals(2, zeros.between(zero, zero).size());
+        }
+        assertEquals(1, zeros.lessThan(0.0f).size());
+    }
+}
@@ -15,6 +15,7 @@
 package tech.tablesaw.index;
 
 import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.DateColumnUtils;
 import tech.tablesaw.columns.IntColumnUtils;
@@ -106,4 +107,34 @@ public class IntIndexTest {
         Selection fromIdx = index.greaterThan(71);
         assertEquals(fromCol, fromIdx);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testBetween() {
+        Selection fromCol = table.intColumn("approval").select(value -> value >= 60 && value <= 71);
+        Selection fromIdx = index.between(60, 71);
+        assertEquals(fromCol, fromIdx);
+        assertEquals(0, index.between(71, 60).size());
+    }
+
+    @Test
+    public void testSelectionsAreIndependent() {
+        Selection first = index.get(71);
+        first.add(table.rowCount());
+        assertEquals(table.intColumn("approval").isEqualTo(71), index.get(71));
+    }
+
+    @Test
+    public void testRangeOverFrequentAndRareValues() {
+        // 0 and 5 are held by enough rows to get bitmaps, the other values are rare
+        IntColumn column = new IntColumn("values", 10_000);
+        for (int row = 0; row < 10_000; row++) {
+            column.append(row % 2 == 0 ? 0 : row % 3 == 0 ? 5 : row % 1000);
+        }
+        IntIndex mixed = new IntIndex(column);
+        assertEquals(column.select(value -> value >= 0 && value <= 7), mixed.between(0, 7));
+        assertEquals(column.isGreaterThan(3), mixed.greaterThan(3));
+        assertEquals(column.isLessThan(500), mixed.lessThan(500));
+        assertEquals(column.isEqualTo(5), mixed.get(5));
+        assertEquals(column.isEqualTo(7), mixed.get(7));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.IntColumn;
+
+import static org.junit.Assert.assertEquals;
+
+public class IntSortedIndexTest {
+
+    private IntColumn column;
+    private IntSortedIndex index;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(0);
+        column = new IntColumn("values", 10_000);
+        for (int row = 0; row < 10_000; row++) {
+            column.append(random.nextInt(2_000) - 1_000);
+        }
+        index = new IntSortedIndex(column);
+    }
+
+    @Test
+    public void testMatchesPostingListIndex() {
+        IntIndex postings = new IntIndex(column);
+        for (int value : new int[] {-1_001, -1_000, -3, 0, 17, 999, 1_000}) {
+            assertEquals(postings.get(value), index.get(value));
+            assertEquals(postings.atLeast(value), index.atLeast(value));
+            assertEquals(postings.greaterThan(value), index.greaterThan(value));
+            assertEquals(postings.atMost(value), index.atMost(value));
+            assertEquals(postings.lessThan(value), index.lessThan(value));
+        }
+        assertEquals(postings.between(-50, 50), index.between(-50, 50));
+        assertEquals(0, index.between(50, -50).size());
+    }
+
+    @Test
+    public void testSortedDateTimeIndex() {
+        DateTimeColumn times = new DateTimeColumn("times", 1_000);
+        LocalDateTime start = LocalDateTime.of(2017, 6, 1, 9, 30);
+        for (int row = 0; row < 1_000; row++) {
+            times.append(start.plusSeconds((row * 7919) % 1_000));
+        }
+        DateTimeIndex sorted = DateTimeIndex.sorted(times);
+        assertEquals(times.isAfter(start.plusSeconds(900)), sorted.greaterThan(start.plusSeconds(900)));
+        assertEquals(times.isBefore(start.plusSeconds(10)), sorted.lessThan(start.plusSeconds(10)));
+        assertEquals(11, sorted.between(start.plusSeconds(100), start.plusSeconds(110)).size());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import java.time.LocalDate;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.CategoryColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.filtering.Filter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static tech.tablesaw.api.QueryHelper.allOf;
+import static tech.tablesaw.api.QueryHelper.column;
+
+public class TableIndexesTest {
+
+    private static final int ROWS = 1000;
+
+    private Table table;
+
+    @Before
+    public void setUp() {
+        IntColumn ids = new IntColumn("id", ROWS);
+        CategoryColumn colors = new CategoryColumn("color", ROWS);
+        DateColumn dates = new DateColumn("date", ROWS);
+        for (int row = 0; row < ROWS; row++) {
+            ids.append(row % 100);
+            colors.append(row % 3 == 0 ? "red" : row % 3 == 1 ? "green" : "blue");
+            dates.append(LocalDate.of(2017, 1, 1).plusDays(row % 365));
+        }
+        table = Table.create("t", ids, colors, dates);
+    }
+
+    @Test
+    public void testIndexedFiltersMatchScans() {
+        Filter[] filters = {
+                column("id").isEqualTo(42),
+                column("id").isGreaterThan(90),
+                column("id").isLessThanOrEqualTo(3),
+                column("id").isBetweenIncluding(10, 12),
+                column("id").isBetweenExcluding(10, 12),
+                column("id").isIn(1, 2, 500),
+                column("color").isEqualTo("green"),
+                column("color").isIn("red", "purple"),
+                column("date").isBetweenIncluding(LocalDate.of(2017, 2, 1), LocalDate.of(2017, 2, 28)),
+                column("date").isAfter(LocalDate.of(2017, 12, 1)),
+                allOf(column("id").isEqualTo(7), column("color").isEqualTo("green"))
+        };
+        int[] expected = new int[filters.length];
+        for (int i = 0; i < filters.length; i++) {
+            expected[i] = table.selectWhere(filters[i]).rowCount();
+        }
+        table.createIndex("id");
+        table.createIndex("color");
+        table.createIndex("date");
+        assertNotNull(table.index("id", IntIndex.class));
+        for (int i = 0; i < filters.length; i++) {
+            assertEquals(expected[i], table.selectWhere(filters[i]).rowCount());
+        }
+        assertEquals(10, table.selectWhere(column("id").isEqualTo(42)).rowCount());
+    }
+
+    @Test
+    public void testStaleIndexIsNotUsed() {
+        table.createIndex("id");
+        assertNull(table.index("id", LongIndex.class));
+
+        table.intColumn("id").append(42);
+        table.categoryColumn("color").append("red");
+        table.dateColumn("date").append(LocalDate.of(2017, 1, 1));
+        assertNull(table.index("id", IntIndex.class));
+        assertEquals(11, table.selectWhere(column("id").isEqualTo(42)).rowCount());
+
+        table.createIndex("id");
+        assertEquals(11, table.selectWhere(column("id").isEqualTo(42)).rowCount());
+
+        IntColumn replacement = new IntColumn("id", table.rowCount());
+        for (int row = 0; row < table.rowCount(); row++) {
+            replacement.append(42);
+        }
+        table.replaceColumn("id", replacement);
+        assertNull(table.index("id", IntIndex.class));
+        assertEquals(table.rowCount(), table.selectWhere(column("id").isEqualTo(42)).rowCount());
+    }
+
+    @Test
+    public void testIndexIsNotUsedAfterValuesChangeInPlace() {
+        table.createIndex("id");
+        table.intColumn("id").set(3, 100);
+        assertNull(table.index("id", IntIndex.class));
+        assertEquals(9, table.selectWhere(column("id").isEqualTo(3)).rowCount());
+        assertEquals(1, table.selectWhere(column("id").isEqualTo(100)).rowCount());
+
+        table.createSortedIndex("id");
+        table.intColumn("id").sortDescending();
+        assertNull(table.index("id", IntRangeIndex.class));
+        assertEquals(1, table.selectWhere(column("id").isGreaterThan(99)).rowCount());
+
+        table.createIndex("color");
+        table.categoryColumn("color").set(0, "purple");
+        assertNull(table.index("color", CategoryIndex.class));
+        assertEquals(1, table.selectWhere(column("color").isEqualTo("purple")).rowCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnindexableColumn() {
+        table.addColumn(new BooleanColumn("flag", table.rowCount()));
+        table.createIndex("flag");
+    }
+
+    @Test
+    public void testSortedIndexIsUsedByFilters() {
+        Filter filter = column("id").isBetweenIncluding(10, 12);
+        int expected = table.selectWhere(filter).rowCount();
+        table.createSortedIndex("id");
+        assertNotNull(table.index("id", IntRangeIndex.class));
+        assertNull(table.index("id", IntIndex.class));
+        assertEquals(expected, table.selectWhere(filter).rowCount());
+        assertEquals(10, table.selectWhere(column("id").isEqualTo(42)).rowCount());
+    }
+
+    @Test
+    public void testFloatingPointIndexesAreUsedByFilters() {
+        DoubleColumn prices = new DoubleColumn("price", new double[] {-0.0, 0.0, 1.5, Double.NaN, 2.5});
+        FloatColumn weights = new FloatColumn("weight", new float[] {3.0f, Float.NaN, -1.0f, 3.0f, 0.5f});
+        Table products = Table.create("products", prices, weights);
+        products.createIndex("price");
+        products.createSortedIndex("weight");
+        assertNotNull(products.index("price", DoubleRangeIndex.class));
+        assertNotNull(products.index("weight", FloatRangeIndex.class));
+
+        // changed behind the index's back, so that its answers differ from those of a scan
+        prices.data().elements()[4] = 0.0;
+        assertEquals(2, products.selectWhere(column("price").isEqualTo(0.0)).rowCount());
+        assertEquals(3, products.selectWhere(column("price").isLessThan(2.0)).rowCount());
+        assertEquals(2, products.selectWhere(column("weight").isEqualTo(3.0f)).rowCount());
+        assertEquals(2, products.selectWhere(column("weight").isLessThanOrEqualTo(0.5f)).rowCount());
+        // NaN equals no value, so it is found by a scan
+        assertEquals(0, products.selectWhere(column("price").isEqualTo(Double.NaN)).rowCount());
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import java.time.LocalDate;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+
+import org.junit.Test;
+
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.filtering.Filter;
+import tech.tablesaw.util.ParallelScan;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static tech.tablesaw.api.QueryHelper.column;
+
+public class ZoneMapTest {
+
+    private static final int BLOCK = ZoneMap.BLOCK_SIZE;
+    private static final int ROWS = 5 * BLOCK + 1000;
+
+    @Test
+    public void testBlocksAreSkippedOrSelectedWhole() {
+        int[] values = new int[ROWS];
+        for (int row = 0; row < ROWS; row++) {
+            values[row] = row;
+        }
+        ZoneMap zones = ZoneMap.of(values, ROWS, null);
+        assertEquals(6, zones.blockCount());
+        assertEquals(BLOCK, zones.min(1));
+        assertEquals(ROWS - 1, zones.max(5));
+
+        long low = BLOCK + 10;
+        long high = 3 * BLOCK + 10;
+        assertEquals(ParallelScan.Coverage.NONE, zones.coverage(0, low, high));
+        assertEquals(ParallelScan.Coverage.SOME, zones.coverage(1, low, high));
+        assertEquals(ParallelScan.Coverage.ALL, zones.coverage(2, low, high));
+        assertEquals(ParallelScan.Coverage.SOME, zones.coverage(3, low, high));
+        assertEquals(ParallelScan.Coverage.NONE, zones.coverage(4, low, high));
+    }
+
+    @Test
+    public void testZonedFiltersMatchScans() {
+        IntColumn ints = new IntColumn("i", ROWS);
+        DateColumn dates = new DateColumn("d", ROWS);
+        LocalDate start = LocalDate.of(2017, 1, 1);
+        for (int row = 0; row < ROWS; row++) {
+            // rising in row order, with some noise, as for events appended over time
+            ints.append(row / 10 + (row * 7919) % 13);
+            dates.append(start.plusDays(row / 1000));
+        }
+        ints.set(100, IntColumn.MISSING_VALUE);
+        Table table = Table.create("t", ints, dates);
+
+        assertCount(table, column("i").isGreaterThan(20000), ints, v -> v > 20000);
+        assertCount(table, column("i").isLessThanOrEqualTo(7000), ints, v -> v <= 7000);
+        assertCount(table, column("i").isLessThan(7000), ints, v -> v < 7000);
+        assertCount(table, column("i").isEqualTo(15000), ints, v -> v == 15000);
+        assertCount(table, column("i").isBetweenIncluding(9000, 26000), ints, v -> v >= 9000 && v <= 26000);
+        assertCount(table, column("i").isBetweenExcluding(9000, 26000), ints, v -> v > 9000 && v < 26000);
+
+        int expected = 0;
+        for (int row = 0; row < ROWS; row++) {
+            if (dates.getIntInternal(row) > dates.getIntInternal(70000)) {
+                expected++;
+            }
+        }
+        assertEquals(expected, table.selectWhere(column("d").isAfter(dates.get(70000))).rowCount());
+    }
+
+    @Test
+    public void testZonedDoubleFiltersMatchScans() {
+        DoubleColumn doubles = new DoubleColumn("x", ROWS);
+        for (int row = 0; row < ROWS; row++) {
+            doubles.append(row % 1000 == 0 ? DoubleColumn.MISSING_VALUE : row - 100_000.5);
+        }
+        doubles.set(1, -0.0);
+        doubles.set(2, 0.0);
+        doubles.set(3, Double.POSITIVE_INFINITY);
+        doubles.set(4, Double.NEGATIVE_INFINITY);
+        Table table = Table.create("t", doubles);
+
+        assertCount(table, column("x").isGreaterThan(1.5), doubles, v -> v > 1.5);
+        assertCount(table, column("x").isGreaterThan(0.0), doubles, v -> v > 0.0);
+        assertCount(table, column("x").isLessThan(0.0), doubles, v -> v < 0.0);
+        assertCount(table, column("x").isGreaterThanOrEqualTo(-0.0), doubles, v -> v >= -0.0);
+        assertCount(table, column("x").isLessThanOrEqualTo(-40_000.5), doubles, v -> v <= -40_000.5);
+        assertCount(table, column("x").isEqualTo(0.0), doubles, v -> v == 0.0);
+        assertCount(table, column("x").isGreaterThan(Double.POSITIVE_INFINITY), doubles, v -> false);
+        assertCount(table, column("x").isLessThan(Double.NEGATIVE_INFINITY), doubles, v -> false);
+        assertCount(table, column("x").isGreaterThan(Double.NaN), doubles, v -> false);
+    }
+
+    @Test
+    public void testFloatingPointKeysHaveNoGapAtZero() {
+        assertEquals(0, ZoneMap.key(0.0));
+        assertEquals(0, ZoneMap.key(-0.0));
+        assertEquals(1, ZoneMap.key(Double.MIN_VALUE));
+        assertEquals(-1, ZoneMap.key(-Double.MIN_VALUE));
+        assertEquals(-Double.MIN_VALUE, ZoneMap.value(-1), 0.0);
+        assertEquals(Double.MIN_VALUE, ZoneMap.value(1), 0.0);
+        assertEquals(Double.NEGATIVE_INFINITY, ZoneMap.value(Long.MIN_VALUE), 0.0);
+
+        DoubleColumn doubles = new DoubleColumn("x", ROWS);
+        double[] values = {-Double.MIN_VALUE, -0.0, 0.0, Double.MIN_VALUE, -1.0, 1.0};
+        for (int row = 0; row < ROWS; row++) {
+            doubles.append(values[row % values.length]);
+        }
+        Table table = Table.create("t", doubles);
+
+        assertCount(table, column("x").isGreaterThan(-Double.MIN_VALUE), doubles, v -> v > -Double.MIN_VALUE);
+        assertCount(table, column("x").isGreaterThanOrEqualTo(-Double.MIN_VALUE), doubles,
+                v -> v >= -Double.MIN_VALUE);
+        assertCount(table, column("x").isLessThan(0.0), doubles, v -> v < 0.0);
+        assertCount(table, column("x").isLessThanOrEqualTo(-0.0), doubles, v -> v <= -0.0);
+        assertCount(table, column("x").isLessThan(Double.MIN_VALUE), doubles, v -> v < Double.MIN_VALUE);
+        assertCount(table, column("x").isGreaterThan(0.0), doubles, v -> v > 0.0);
+        assertCount(table, column("x").isEqualTo(-0.0), doubles, v -> v == 0.0);
+    }
+
+    @Test
+    public void testZoneMapIsRebuiltAfterChanges() {
+        IntColumn ints = new IntColumn("i", ROWS);
+        for (int row = 0; row < ROWS; row++) {
+            ints.append(row);
+        }
+        ZoneMap zones = ints.zoneMap();
+        assertSame(zones, ints.zoneMap());
+
+        ints.set(0, ROWS * 2);
+        ZoneMap changed = ints.zoneMap();
+        assertNotSame(zones, changed);
+        assertEquals(ROWS * 2, changed.max(0));
+
+        ints.sortDescending();
+        assertEquals(ROWS - BLOCK + 1, ints.zoneMap().min(0));
+
+        ints.append(-5);
+        ZoneMap appended = ints.zoneMap();
+        assertEquals(ROWS + 1, appended.size());
+        assertEquals(-5, appended.min(5));
+        assertEquals(ROWS * 2, appended.max(0));
+
+        Table table = Table.create("t", ints);
+        assertEquals(1, table.selectWhere(column("i").isGreaterThan(ROWS)).rowCount());
+        assertEquals(1, table.selectWhere(column("i").isLessThan(0)).rowCount());
+    }
+
+    private static void assertCount(Table table, Filter filter, IntColumn column, IntPredicate test) {
+        int expected = 0;
+        for (int row = 0; row < column.size(); row++) {
+            if (test.test(column.get(row))) {
+                expected++;
+            }
+        }
+        assertEquals(expected, table.selectWhere(filter).rowCount());
+    }
+
+    private static void assertCount(Table table, Filter filter, DoubleColumn column, DoublePredicate test) {
+        int expected = 0;
+        for (int row = 0; row < column.size(); row++) {
+            if (test.test(column.get(row))) {
+                expected++;
+            }
+        }
+        assertEquals(expected, table.selectWhere(filter).rowCount());
+    }
+}
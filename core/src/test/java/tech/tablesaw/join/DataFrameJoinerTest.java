@@ -2,8 +2,16 @@ package tech.tablesaw.join;
 
 import static org.junit.Assert.assertEquals;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 import org.junit.Test;
 
+import tech.tablesaw.api.CategoryColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
 import tech.tablesaw.api.Table;
 
 public class DataFrameJoinerTest {
@@ -64,4 +72,87 @@ public class DataFrameJoinerTest {
     assertEquals(4, joined.rowCount());
   }
 
+  @Test
+  public void asOfJoin() {
+    Table joined = trades().join("Time").asOf(quotes(), "Time", "Time", "Symbol");
+    assertEquals(3, joined.columnCount());
+    assertEquals(4, joined.rowCount());
+    assertEquals(10.0, joined.doubleColumn("Bid").get(0), 0.0);
+    assertEquals(20.5, joined.doubleColumn("Bid").get(1), 0.0);
+    assertEquals(10.5, joined.doubleColumn("Bid").get(2), 0.0);
+    assertEquals(Double.NaN, joined.doubleColumn("Bid").get(3), 0.0);
+  }
+
+  @Test
+  public void asOfJoin_withoutByColumns() {
+    Table quotes = quotes();
+    quotes.column("Symbol").setName("Quote Symbol");
+    Table joined = trades().join("Time").asOf(quotes, "Time", "Time");
+    assertEquals(4, joined.columnCount());
+    assertEquals(20.0, joined.doubleColumn("Bid").get(0), 0.0);
+    assertEquals("MSFT", joined.categoryColumn("Quote Symbol").get(0));
+  }
+
+  @Test
+  public void asOfJoin_withTolerance() {
+    Table joined = trades().join("Time").asOf(quotes(), "Time", "Time", Duration.ofMinutes(5), "Symbol");
+    assertEquals(10.0, joined.doubleColumn("Bid").get(0), 0.0);
+    assertEquals(Double.NaN, joined.doubleColumn("Bid").get(1), 0.0);
+    assertEquals(10.5, joined.doubleColumn("Bid").get(2), 0.0);
+  }
+
+  @Test
+  public void asOfJoin_longKeys() {
+    Table left = Table.create("left", new LongColumn("T", new long[] {5, 15, 25, 1}));
+    Table right = Table.create("right",
+        new LongColumn("T", new long[] {20, 0, 10}),
+        new DoubleColumn("Value", new double[] {2.0, 0.0, 1.0}));
+    Table joined = left.join("T").asOf(right, "T", "T", 6);
+    assertEquals(0.0, joined.doubleColumn("Value").get(0), 0.0);
+    assertEquals(1.0, joined.doubleColumn("Value").get(1), 0.0);
+    assertEquals(2.0, joined.doubleColumn("Value").get(2), 0.0);
+    assertEquals(0.0, joined.doubleColumn("Value").get(3), 0.0);
+  }
+
+  @Test
+  public void asOfJoin_severalByColumnsWithDifferentDictionaries() {
+    // the symbols are coded in a different order in each table, and IBM is only in the left one
+    Table left = Table.create("left",
+        new LongColumn("T", new long[] {10, 10, 10, 10}),
+        new CategoryColumn("Symbol", new String[] {"IBM", "MSFT", "AAPL", "MSFT"}),
+        new IntColumn("Venue", new int[] {1, 1, 2, 2}));
+    Table right = Table.create("right",
+        new LongColumn("T", new long[] {5, 6, 7, 8}),
+        new CategoryColumn("Symbol", new String[] {"AAPL", "MSFT", "AAPL", "MSFT"}),
+        new IntColumn("Venue", new int[] {1, 1, 2, 2}),
+        new DoubleColumn("Value", new double[] {1.0, 2.0, 3.0, 4.0}));
+    Table joined = left.join("T").asOf(right, "T", "T", "Symbol", "Venue");
+    assertEquals(4, joined.columnCount());
+    assertEquals(Double.NaN, joined.doubleColumn("Value").get(0), 0.0);
+    assertEquals(2.0, joined.doubleColumn("Value").get(1), 0.0);
+    assertEquals(3.0, joined.doubleColumn("Value").get(2), 0.0);
+    assertEquals(4.0, joined.doubleColumn("Value").get(3), 0.0);
+  }
+
+  private static Table trades() {
+    DateTimeColumn time = new DateTimeColumn("Time");
+    time.append(LocalDateTime.of(2017, 12, 1, 10, 0));
+    time.append(LocalDateTime.of(2017, 12, 1, 10, 30));
+    time.append(LocalDateTime.of(2017, 12, 1, 11, 0));
+    time.append(LocalDateTime.of(2017, 12, 1, 9, 0));
+    CategoryColumn symbol = new CategoryColumn("Symbol", new String[] {"AAPL", "MSFT", "AAPL", "AAPL"});
+    return Table.create("Trades", time, symbol);
+  }
+
+  private static Table quotes() {
+    DateTimeColumn time = new DateTimeColumn("Time");
+    time.append(LocalDateTime.of(2017, 12, 1, 10, 58));
+    time.append(LocalDateTime.of(2017, 12, 1, 9, 58));
+    time.append(LocalDateTime.of(2017, 12, 1, 10, 0));
+    time.append(LocalDateTime.of(2017, 12, 1, 10, 1));
+    time.append(LocalDateTime.of(2017, 12, 1, 10, 20));
+    CategoryColumn symbol = new CategoryColumn("Symbol", new String[] {"AAPL", "AAPL", "MSFT", "AAPL", "MSFT"});
+    DoubleColumn bid = new DoubleColumn("Bid", new double[] {10.5, 10.0, 20.0, 10.2, 20.5});
+    return Table.create("Quotes", time, symbol, bid);
+  }
 }
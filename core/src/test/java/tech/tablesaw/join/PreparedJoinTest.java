@@ -0,0 +1,89 @@
+package tech.tablesaw.join;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import tech.tablesaw.api.CategoryColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Table;
+
+public class PreparedJoinTest {
+
+  private static Table feed() {
+    return Table.create("Animal Feed",
+        new CategoryColumn("Animal", new String[] {"Pig", "Horse", "Goat", "Pig"}),
+        new CategoryColumn("Feed", new String[] {"Mush", "Hay", "Anything", "Slops"}));
+  }
+
+  @Test
+  public void probeRepeatedly() {
+    PreparedJoin join = feed().prepareJoin("Animal");
+
+    Table batch1 = Table.create("Batch 1",
+        new CategoryColumn("Animal", new String[] {"Goat", "Cow", "Pig"}));
+    Table joined = join.probe(batch1);
+    assertEquals(2, joined.columnCount());
+    assertEquals(3, joined.rowCount());
+    assertEquals("Goat", joined.categoryColumn("Animal").get(0));
+    assertEquals("Anything", joined.categoryColumn("Feed").get(0));
+    assertEquals("Mush", joined.categoryColumn("Feed").get(1));
+    assertEquals("Slops", joined.categoryColumn("Feed").get(2));
+
+    Table batch2 = Table.create("Batch 2",
+        new CategoryColumn("Beast", new String[] {"Horse"}));
+    joined = join.probe(batch2, "Beast");
+    assertEquals(1, joined.rowCount());
+    assertEquals("Hay", joined.categoryColumn("Feed").get(0));
+  }
+
+  @Test
+  public void probeKeepsCategoryValues() {
+    Table batch = Table.create("Batch",
+        new CategoryColumn("Animal", new String[] {"Horse", "Horse", "Cow"}),
+        new CategoryColumn("Name", new String[] {"David", "", "Daisy"}));
+    Table joined = feed().prepareJoin("Animal").probe(batch);
+    assertEquals(2, joined.rowCount());
+    assertEquals(1, joined.categoryColumn("Animal").countUnique());
+    assertEquals("", joined.categoryColumn("Name").get(1));
+    assertEquals(2, joined.categoryColumn("Name").countUnique());
+    assertEquals(1, joined.categoryColumn("Feed").countUnique());
+  }
+
+  @Test
+  public void probeOnIntKeys() {
+    Table dimension = Table.create("Dimension",
+        new IntColumn("Id", new int[] {3, 1, 2}),
+        new IntColumn("Value", new int[] {30, 10, 20}));
+    PreparedJoin join = dimension.prepareJoin("Id");
+    Table facts = Table.create("Facts", new IntColumn("Id", new int[] {2, 2, 4, 1}));
+    Table joined = join.probe(facts);
+    assertEquals(3, joined.rowCount());
+    assertEquals(20, joined.intColumn("Value").get(0));
+    assertEquals(20, joined.intColumn("Value").get(1));
+    assertEquals(10, joined.intColumn("Value").get(2));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void probeAfterModification() {
+    Table dimension = feed();
+    PreparedJoin join = dimension.prepareJoin("Animal");
+    dimension.categoryColumn("Animal").append("Cow");
+    dimension.categoryColumn("Feed").append("Grass");
+    join.probe(feed());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void probeAfterValuesChangeInPlace() {
+    Table dimension = feed();
+    PreparedJoin join = dimension.prepareJoin("Animal");
+    dimension.categoryColumn("Animal").set(0, "Cow");
+    join.probe(feed());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void probeWithMismatchedTypes() {
+    PreparedJoin join = feed().prepareJoin("Animal");
+    join.probe(Table.create("Ids", new IntColumn("Animal", new int[] {1})));
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.table;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.google.common.collect.ImmutableMap;
+
+import tech.tablesaw.aggregate.AggregateFunction;
+import tech.tablesaw.aggregate.AggregateFunctions;
+import tech.tablesaw.api.CategoryColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.testutil.NanoBench;
+
+/**
+ * Compares grouping a table on two columns and computing three aggregates using the sort-based ViewGroup, against
+ * the hash-based ViewGroup, run serially and with increasing parallelism.
+ * <p>
+ * Run with a large heap, e.g. -Xmx8g, and optionally the number of rows as the first argument
+ */
+public class GroupByBenchmark {
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        Random random = new Random(0);
+        IntColumn store = new IntColumn("store", rows);
+        CategoryColumn product = new CategoryColumn("product", rows);
+        DoubleColumn sales = new DoubleColumn("sales", rows);
+        for (int i = 0; i < rows; i++) {
+            store.append(random.nextInt(500));
+            product.append("product " + random.nextInt(200));
+            sales.append(random.nextDouble() * 100);
+        }
+        Table table = Table.create("sales", store, product, sales);
+        List<AggregateFunction> functions =
+                Arrays.asList(AggregateFunctions.sum, AggregateFunctions.mean, AggregateFunctions.max);
+        Map<String, List<AggregateFunction>> aggregates = ImmutableMap.of("sales", functions);
+
+        NanoBench nanoBench = NanoBench.create().warmUps(2).measurements(5).cpuOnly();
+        nanoBench.measure("sort-based groupBy, one agg() call per function", () -> {
+            ViewGroup group = table.groupBy("store", "product");
+            for (AggregateFunction function : functions) {
+                group.agg("sales", function);
+            }
+        });
+        nanoBench.measure("hash groupBy, single-pass aggregate", () ->
+                ViewGroup.createHashed(table, "store", "product").aggregate(aggregates));
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int parallelism = 2; parallelism <= processors; parallelism *= 2) {
+            int threads = parallelism;
+            nanoBench.measure("hash groupBy, single-pass aggregate, parallelism " + threads, () ->
+                    ViewGroup.createHashed(table, threads, "store", "product").aggregate(aggregates));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.table;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import tech.tablesaw.aggregate.AggregateFunctions;
+import tech.tablesaw.api.CategoryColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Table;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PivotTest {
+
+    private Table table;
+
+    @Before
+    public void setUp() {
+        CategoryColumn store = new CategoryColumn("store", new String[] {"b", "a", "b", "a", "b", "c"});
+        CategoryColumn region = new CategoryColumn("region", new String[] {"x", "y", "x", "y", "x", "x"});
+        IntColumn day = new IntColumn("day", new int[] {3, 1, 1, 3, 3, 2});
+        DoubleColumn sales = new DoubleColumn("sales", new double[] {1, 2, 3, 4, 5, 6});
+        table = Table.create("sales", store, region, day, sales);
+    }
+
+    @Test
+    public void testPivot() {
+        Table pivot = table.pivot("store", "day", "sales", AggregateFunctions.sum);
+        assertEquals(4, pivot.columnCount());
+        assertEquals("store", pivot.column(0).name());
+        assertEquals("1", pivot.column(1).name());
+        assertEquals("2", pivot.column(2).name());
+        assertEquals("3", pivot.column(3).name());
+        assertEquals(3, pivot.rowCount());
+
+        // rows in order of first appearance: b, a, c
+        assertEquals("b", pivot.column(0).getString(0));
+        assertEquals(3, pivot.doubleColumn("1").get(0), 0.0);
+        assertEquals(6, pivot.doubleColumn("3").get(0), 0.0);
+        assertTrue(Double.isNaN(pivot.doubleColumn("2").get(0)));
+        assertEquals("a", pivot.column(0).getString(1));
+        assertEquals(2, pivot.doubleColumn("1").get(1), 0.0);
+        assertEquals(4, pivot.doubleColumn("3").get(1), 0.0);
+        assertEquals(6, pivot.doubleColumn("2").get(2), 0.0);
+    }
+
+    @Test
+    public void testPivotWithSeveralKeysAndFunctions() {
+        Table pivot = table.pivot(Arrays.asList("store", "region"), "day", "sales",
+                AggregateFunctions.count, AggregateFunctions.mean);
+        assertEquals(2 + 3 * 2, pivot.columnCount());
+        assertEquals("region", pivot.column(1).name());
+        assertEquals("Count [1]", pivot.column(2).name());
+        assertEquals("Mean [1]", pivot.column(3).name());
+        assertEquals(2, pivot.doubleColumn("Count [3]").get(0), 0.0);
+        assertEquals(3, pivot.doubleColumn("Mean [3]").get(0), 0.0);
+    }
+
+    @Test
+    public void testParallelPivotMatchesSerial() {
+        int rows = 300_000;
+        Random random = new Random(0);
+        IntColumn key = new IntColumn("key", rows);
+        IntColumn day = new IntColumn("day", rows);
+        DoubleColumn value = new DoubleColumn("value", rows);
+        for (int i = 0; i < rows; i++) {
+            key.append(random.nextInt(20));
+            day.append(random.nextInt(30));
+            value.append(random.nextInt(1000));
+        }
+        Table big = Table.create("big", key, day, value);
+        Table serial = big.pivot("key", "day", "value", AggregateFunctions.sum);
+        Table parallel = Pivot.pivot(big, 4, Arrays.asList("key"), "day", "value", AggregateFunctions.sum);
+        assertEquals(serial.columnCount(), parallel.columnCount());
+        for (int c = 1; c < serial.columnCount(); c++) {
+            assertEquals(serial.column(c).name(), parallel.column(c).name());
+            for (int r = 0; r < serial.rowCount(); r++) {
+                assertEquals(serial.doubleColumn(c).get(r), parallel.doubleColumn(c).get(r), 0.0);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPivotRequiresFunction() {
+        table.pivot("store", "day", "sales");
+    }
+}
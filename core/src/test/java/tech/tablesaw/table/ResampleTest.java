@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.table;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import tech.tablesaw.aggregate.AggregateFunctions;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.Table;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ResampleTest {
+
+    @Test
+    public void testOpenHighLowClose() {
+        LocalDateTime nine = LocalDateTime.of(2017, 3, 1, 9, 0);
+        DateTimeColumn times = new DateTimeColumn("time", Arrays.asList(
+                nine.plusMinutes(5), nine.plusMinutes(20), nine.plusMinutes(50),
+                // no trades from 10:00 to 11:00, and the last row is out of order
+                nine.plusMinutes(150), nine.plusMinutes(125)));
+        DoubleColumn price = new DoubleColumn("price", new double[] {10, 12, 11, 9, 8});
+        Table trades = Table.create("trades", times, price);
+
+        Table bars = trades.resample("time", Duration.ofHours(1)).aggregate("price",
+                AggregateFunctions.first, AggregateFunctions.max, AggregateFunctions.min, AggregateFunctions.last,
+                AggregateFunctions.count);
+        assertEquals(3, bars.rowCount());
+        assertEquals("time", bars.column(0).name());
+        assertEquals(nine, bars.dateTimeColumn(0).get(0));
+        assertEquals(nine.plusHours(1), bars.dateTimeColumn(0).get(1));
+        assertEquals(nine.plusHours(2), bars.dateTimeColumn(0).get(2));
+
+        assertEquals(10, bars.doubleColumn("First [price]").get(0), 0.0);
+        assertEquals(12, bars.doubleColumn("Max [price]").get(0), 0.0);
+        assertEquals(10, bars.doubleColumn("Min [price]").get(0), 0.0);
+        assertEquals(11, bars.doubleColumn("Last [price]").get(0), 0.0);
+        assertEquals(3, bars.doubleColumn("Count [price]").get(0), 0.0);
+
+        assertEquals(0, bars.doubleColumn("Count [price]").get(1), 0.0);
+        assertTrue(Double.isNaN(bars.doubleColumn("Max [price]").get(1)));
+
+        // first and last are in time order, though the rows are not
+        assertEquals(8, bars.doubleColumn("First [price]").get(2), 0.0);
+        assertEquals(8, bars.doubleColumn("Min [price]").get(2), 0.0);
+        assertEquals(9, bars.doubleColumn("Last [price]").get(2), 0.0);
+    }
+
+    @Test
+    public void testMonthlyAndWeeklyPeriods() {
+        DateColumn dates = new DateColumn("date", Arrays.asList(
+                LocalDate.of(2017, 1, 31), LocalDate.of(2017, 2, 1), LocalDate.of(2017, 2, 28),
+                LocalDate.of(2017, 4, 2)));
+        DoubleColumn sales = new DoubleColumn("sales", new double[] {1, 2, 3, 4});
+        Table table = Table.create("sales", dates, sales);
+
+        Table monthly = table.resample("date", Period.ofMonths(1)).aggregate("sales", AggregateFunctions.sum);
+        assertEquals(4, monthly.rowCount());
+        assertEquals(LocalDate.of(2017, 1, 1), monthly.dateColumn(0).get(0));
+        assertEquals(LocalDate.of(2017, 3, 1), monthly.dateColumn(0).get(2));
+        assertEquals(5, monthly.doubleColumn(1).get(1), 0.0);
+        assertEquals(0, monthly.doubleColumn(1).get(2), 0.0);
+
+        Table quarterly = table.resample("date", Period.ofMonths(3)).aggregate("sales", AggregateFunctions.sum);
+        assertEquals(2, quarterly.rowCount());
+        assertEquals(LocalDate.of(2017, 4, 1), quarterly.dateColumn(0).get(1));
+        assertEquals(6, quarterly.doubleColumn(1).get(0), 0.0);
+
+        // weeks start on Monday: January 30, February 27 and March 27, 2017 were Mondays
+        Table weekly = table.resample("date", Period.ofWeeks(1)).aggregate("sales", AggregateFunctions.sum);
+        assertEquals(LocalDate.of(2017, 1, 30), weekly.dateColumn(0).get(0));
+        assertEquals(3, weekly.doubleColumn(1).get(0), 0.0);
+        assertEquals(LocalDate.of(2017, 2, 27), weekly.dateColumn(0).get(4));
+        assertEquals(LocalDate.of(2017, 3, 27), weekly.dateColumn(0).get(weekly.rowCount() - 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMixedPeriodIsRejected() {
+        DateColumn dates = new DateColumn("date", Arrays.asList(LocalDate.of(2017, 1, 31)));
+        Table.create("t", dates).resample("date", Period.of(0, 1, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDurationShorterThanAMillisecondIsRejected() {
+        DateTimeColumn times = new DateTimeColumn("time", Arrays.asList(LocalDateTime.of(2017, 3, 1, 9, 0)));
+        Table.create("t", times).resample("time", Duration.ofNanos(500_000));
+    }
+}
@@ -4,9 +4,18 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static tech.tablesaw.api.DoubleColumn.MISSING_VALUE;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
 import org.junit.Test;
 
+import tech.tablesaw.aggregate.AggregateFunction;
+import tech.tablesaw.aggregate.AggregateFunctions;
+import tech.tablesaw.api.DateTimeColumn;
 import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
 
 public class RollingColumnTest {
 
@@ -19,4 +28,100 @@ public class RollingColumnTest {
     assertEquals("dataMean5", result.name());
   }
 
+
+  @Test
+  public void testIncrementalWindowsMatchRecomputedWindows() {
+    Random random = new Random(0);
+    IntColumn column = new IntColumn("data", 3000);
+    for (int i = 0; i < 3000; i++) {
+      // few distinct values, so windows have ties, and some missing values
+      column.append(random.nextInt(10) == 0 ? IntColumn.MISSING_VALUE : random.nextInt(50) - 25);
+    }
+    double[] values = column.asDoubleArray();
+    AggregateFunction[] functions = {
+        AggregateFunctions.sum, AggregateFunctions.mean, AggregateFunctions.variance, AggregateFunctions.stdDev,
+        AggregateFunctions.min, AggregateFunctions.max, AggregateFunctions.median, AggregateFunctions.quartile1,
+        AggregateFunctions.percentile90
+    };
+    for (int window : new int[] {1, 2, 7, 30, 2500}) {
+      for (AggregateFunction function : functions) {
+        double[] result = column.rolling(window).calc(function).asDoubleArray();
+        assertEquals(values.length, result.length);
+        for (int row = 0; row < window - 1; row++) {
+          assertEquals(MISSING_VALUE, result[row], 0.0);
+        }
+        for (int row = window - 1; row < values.length; row++) {
+          double expected = function.agg(Arrays.copyOfRange(values, row - window + 1, row + 1));
+          assertEquals(function.functionName() + " of window " + window + " ending at " + row,
+              expected, result[row], 0.000001);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testRollingExtremesAndPercentile() {
+    DoubleColumn column = new DoubleColumn("data", new double[] { 5, 1, MISSING_VALUE, 4, 9, 2 });
+    assertArrayEquals(new double[] { MISSING_VALUE, MISSING_VALUE, 1, 1, 4, 2 },
+        column.rolling(3).min().asDoubleArray(), 0.0);
+    assertArrayEquals(new double[] { MISSING_VALUE, MISSING_VALUE, 5, 4, 9, 9 },
+        column.rolling(3).max().asDoubleArray(), 0.0);
+    assertArrayEquals(new double[] { MISSING_VALUE, 3, 1, 4, 6.5, 5.5 },
+        column.rolling(2).percentile(50).asDoubleArray(), 0.0);
+  }
+
+  @Test
+  public void testInfiniteValuesLeaveTheWindow() {
+    double inf = Double.POSITIVE_INFINITY;
+    DoubleColumn column = new DoubleColumn("data", new double[] { 1, inf, 2, -inf, 3, 4, 5 });
+    assertArrayEquals(new double[] { MISSING_VALUE, MISSING_VALUE, inf, Double.NaN, -inf, -inf, 12 },
+        column.rolling(3).sum().asDoubleArray(), 0.0);
+    assertArrayEquals(new double[] { MISSING_VALUE, MISSING_VALUE, inf, Double.NaN, -inf, -inf, 4 },
+        column.rolling(3).mean().asDoubleArray(), 0.0);
+    assertArrayEquals(new double[] { MISSING_VALUE, MISSING_VALUE, Double.NaN, Double.NaN, Double.NaN, Double.NaN, 1 },
+        column.rolling(3).calc(AggregateFunctions.variance).asDoubleArray(), 0.0);
+  }
+
+  @Test
+  public void testWindowLongerThanColumn() {
+    DoubleColumn result = new DoubleColumn("data", new double[] { 1, 2 }).rolling(5).sum();
+    assertEquals(2, result.size());
+    assertEquals(MISSING_VALUE, result.get(1), 0.0);
+  }
+
+  @Test
+  public void testRollingOverDuration() {
+    LocalDateTime start = LocalDateTime.of(2017, 3, 1, 9, 0);
+    DateTimeColumn times = new DateTimeColumn("time", Arrays.asList(
+        start, start.plusMinutes(1), start.plusMinutes(2), start.plusMinutes(10), start.plusMinutes(11),
+        start.plusMinutes(11)));
+    DoubleColumn column = new DoubleColumn("price", new double[] { 1, 2, 3, 4, MISSING_VALUE, 6 });
+    Duration fiveMinutes = Duration.ofMinutes(5);
+
+    // each window holds the rows in the five minutes up to and including the row's time
+    assertArrayEquals(new double[] { 1, 3, 6, 4, 4, 10 },
+        column.rolling(times, fiveMinutes).sum().asDoubleArray(), 0.0);
+    assertArrayEquals(new double[] { 1, 2, 3, 4, 4, 6 },
+        column.rolling(times, fiveMinutes).max().asDoubleArray(), 0.0);
+    assertArrayEquals(new double[] { 1, 1.5, 2, 4, 4, 5 },
+        column.rolling(times, fiveMinutes).median().asDoubleArray(), 0.0);
+    assertEquals("priceSumPT5M", column.rolling(times, fiveMinutes).sum().name());
+
+    // a window ends just after the time a duration before its row
+    assertArrayEquals(new double[] { 1, 3, 5, 4, 4, 10 },
+        column.rolling(times, Duration.ofMinutes(2)).sum().asDoubleArray(), 0.0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRollingOverDurationShorterThanAMillisecondIsRejected() {
+    DateTimeColumn times = new DateTimeColumn("time", Arrays.asList(LocalDateTime.of(2017, 3, 1, 9, 0)));
+    new DoubleColumn("data", new double[] { 1 }).rolling(times, Duration.ofNanos(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRollingOverDurationRequiresSortedTimes() {
+    LocalDateTime start = LocalDateTime.of(2017, 3, 1, 9, 0);
+    DateTimeColumn times = new DateTimeColumn("time", Arrays.asList(start, start.minusMinutes(1)));
+    new DoubleColumn("price", new double[] { 1, 2 }).rolling(times, Duration.ofMinutes(5));
+  }
 }
@@ -18,15 +18,25 @@ import org.apache.commons.math3.stat.StatUtils;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.google.common.collect.ImmutableMap;
+
 import tech.tablesaw.aggregate.AggregateFunction;
+import tech.tablesaw.aggregate.AggregateFunctions;
 import tech.tablesaw.api.CategoryColumn;
 import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.io.csv.CsvReadOptions;
 import tech.tablesaw.table.TemporaryView;
 import tech.tablesaw.table.ViewGroup;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 
 import static org.junit.Assert.*;
 
@@ -84,6 +94,30 @@ public class ViewGroupTest {
         assertEquals(table.rowCount(), count);
     }
 
+    @Test
+    public void testHashedViewGroup() {
+        ViewGroup sorted = ViewGroup.create(table, "who", "approval");
+        ViewGroup hashed = ViewGroup.createHashed(table, "who", "approval");
+        assertSame(table, hashed.getSortedOriginal());
+        assertEquals(sorted.size(), hashed.size());
+
+        String firstName = table.categoryColumn("who").get(0) + "~~~" + table.intColumn("approval").get(0);
+        assertEquals(firstName, hashed.get(0).name());
+        int count = 0;
+        for (TemporaryView view : hashed) {
+            int matches = 0;
+            for (int row = 0; row < table.rowCount(); row++) {
+                String key = table.categoryColumn("who").get(row) + "~~~" + table.intColumn("approval").get(row);
+                if (key.equals(view.name())) {
+                    matches++;
+                }
+            }
+            assertEquals(matches, view.rowCount());
+            count += view.rowCount();
+        }
+        assertEquals(table.rowCount(), count);
+    }
+
     @Test
     public void testWith2GroupingCols() {
         CategoryColumn month = table.dateColumn(0).month();
@@ -99,6 +133,87 @@ public class ViewGroupTest {
         assertEquals(65, tables.size());
     }
 
+    @Test
+    public void testAggregate() {
+        IntColumn half = table.intColumn("approval").copy();
+        half.setName("half");
+        table.addColumn(half);
+        ViewGroup group = ViewGroup.create(table, "who");
+        Map<String, List<AggregateFunction>> functions = new LinkedHashMap<>();
+        functions.put("approval", Arrays.asList(AggregateFunctions.mean, AggregateFunctions.max, exaggerate));
+        functions.put("half", Collections.singletonList(AggregateFunctions.count));
+        Table result = group.aggregate(functions);
+
+        assertEquals(5, result.columnCount());
+        assertEquals(ColumnType.CATEGORY, result.column("who").type());
+        assertEquals(6, result.rowCount());
+        Table means = group.agg("approval", AggregateFunctions.mean);
+        for (int row = 0; row < result.rowCount(); row++) {
+            assertEquals(means.get(row, 0), result.get(row, 0));
+            assertEquals(means.doubleColumn(1).get(row), result.doubleColumn("Mean [approval]").get(row), 1e-9);
+            TemporaryView view = group.get(row);
+            assertEquals(view.reduce("approval", AggregateFunctions.max) + 1000,
+                    result.doubleColumn("exaggeration [approval]").get(row), 0.0);
+            assertEquals(view.rowCount(), result.doubleColumn("Count [half]").get(row), 0.0);
+        }
+    }
+
+    @Test
+    public void testAggregateOnHashedGroupKeepsKeyTypes() {
+        CategoryColumn month = table.dateColumn(0).month();
+        month.setName("month");
+        table.addColumn(month);
+        ViewGroup group = ViewGroup.createHashed(table, "month", "approval");
+        Table result = group.aggregate("approval", AggregateFunctions.count, AggregateFunctions.sum);
+
+        assertEquals(group.size(), result.rowCount());
+        assertEquals(ColumnType.INTEGER, result.column("approval").type());
+        assertEquals(table.categoryColumn("month").get(0), result.categoryColumn("month").get(0));
+        assertEquals(table.intColumn("approval").get(0), result.intColumn("approval").get(0));
+        assertEquals(table.rowCount(), result.doubleColumn("Count [approval]").sum(), 0.0);
+        for (int row = 0; row < result.rowCount(); row++) {
+            assertEquals(result.intColumn("approval").get(row) * result.doubleColumn("Count [approval]").get(row),
+                    result.doubleColumn("Sum [approval]").get(row), 0.0);
+        }
+    }
+
+    @Test
+    public void testParallelAggregateMatchesSerial() {
+        int rows = 300_000;
+        Random random = new Random(42);
+        IntColumn store = new IntColumn("store", rows);
+        CategoryColumn product = new CategoryColumn("product", rows);
+        DoubleColumn sales = new DoubleColumn("sales", rows);
+        for (int i = 0; i < rows; i++) {
+            store.append(random.nextInt(50));
+            product.append("p" + random.nextInt(20));
+            sales.append(random.nextInt(1000) / 4.0);
+        }
+        Table t = Table.create("t", store, product, sales);
+        Map<String, List<AggregateFunction>> functions = ImmutableMap.of("sales", Arrays.asList(
+                AggregateFunctions.count, AggregateFunctions.sum, AggregateFunctions.mean, AggregateFunctions.min,
+                AggregateFunctions.first, AggregateFunctions.last, AggregateFunctions.variance));
+
+        ViewGroup serial = ViewGroup.createHashed(t, "store", "product");
+        ViewGroup parallel = ViewGroup.createHashed(t, 4, "store", "product");
+        assertEquals(1000, parallel.size());
+        for (int group = 0; group < serial.size(); group++) {
+            assertEquals(serial.get(group).name(), parallel.get(group).name());
+            assertEquals(serial.get(group).rowCount(), parallel.get(group).rowCount());
+        }
+
+        Table expected = serial.aggregate(functions);
+        Table actual = parallel.aggregate(functions);
+        assertEquals(expected.columnNames(), actual.columnNames());
+        for (int row = 0; row < expected.rowCount(); row++) {
+            assertEquals(expected.get(row, 0), actual.get(row, 0));
+            assertEquals(expected.get(row, 1), actual.get(row, 1));
+            for (int col = 2; col < expected.columnCount(); col++) {
+                assertEquals(expected.doubleColumn(col).get(row), actual.doubleColumn(col).get(row), 1e-6);
+            }
+        }
+    }
+
     @Test
     public void testCountByGroup() {
         Table groups = table.count("approval").by("who");
@@ -0,0 +1,103 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.table;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.CategoryColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.sorting.Sort;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class WindowTest {
+
+    private Table table;
+
+    @Before
+    public void setUp() {
+        CategoryColumn store = new CategoryColumn("store");
+        for (String name : new String[] {"a", "b", "a", "a", "b", "a"}) {
+            store.appendCell(name);
+        }
+        IntColumn day = new IntColumn("day", new int[] {3, 1, 1, 2, 2, 2});
+        DoubleColumn sales = new DoubleColumn("sales", new double[] {5, 7, 1, 2, Double.NaN, 4});
+        table = Table.create("sales", store, day, sales);
+    }
+
+    @Test
+    public void testRanks() {
+        Window window = table.window(Sort.on("day", Sort.Order.ASCEND), "store");
+        assertEquals(2, window.partitionCount());
+        // store a: rows 2 (day 1), 3 and 5 (day 2, peers in table order), 0 (day 3)
+        assertArrayEquals(new int[] {4, 1, 1, 2, 2, 3}, window.rowNumber().data().toIntArray());
+        assertArrayEquals(new int[] {4, 1, 1, 2, 2, 2}, window.rank().data().toIntArray());
+        assertArrayEquals(new int[] {3, 1, 1, 2, 2, 2}, window.denseRank().data().toIntArray());
+        assertArrayEquals(new double[] {1.0, 0.0, 0.0, 1 / 3.0, 1.0, 1 / 3.0},
+                window.percentRank().asDoubleArray(), 1e-12);
+    }
+
+    @Test
+    public void testLagAndLead() {
+        Window window = table.window(Sort.on("day", Sort.Order.ASCEND), "store");
+        Column lag = window.lag("sales", 1);
+        assertEquals("Lag 1 [sales]", lag.name());
+        assertArrayEquals(new double[] {4, Double.NaN, Double.NaN, 1, 7, 2}, lag.asDoubleArray(), 0.0);
+        assertArrayEquals(new double[] {Double.NaN, Double.NaN, 4, 5, Double.NaN, Double.NaN},
+                window.lead("sales", 2).asDoubleArray(), 0.0);
+
+        Column stores = window.lead("store", 1);
+        assertTrue(stores instanceof CategoryColumn);
+        assertEquals("a", stores.getString(2));
+        assertEquals("", stores.getString(0));
+        assertNull(window.lag("day", 1).getString(2));
+        assertEquals("1", window.lag("day", 1).getString(3));
+    }
+
+    @Test
+    public void testLagOfBooleansIsMissingWithoutAPreviousRow() {
+        table.addColumn(new BooleanColumn("open", new boolean[] {true, true, false, true, false, true}));
+        Window window = table.window(Sort.on("day", Sort.Order.ASCEND), "store");
+        Column lag = window.lag("open", 1);
+        // rows 2 and 1 come first in their partitions
+        assertEquals(2, lag.countMissing());
+        assertEquals("false", lag.getString(3));
+        assertEquals("true", lag.getString(0));
+    }
+
+    @Test
+    public void testCumulativeFunctions() {
+        Window window = table.window(Sort.on("day", Sort.Order.DESCEND));
+        // days descending over the whole table: rows 0, 3, 4, 5, 1, 2
+        assertArrayEquals(new double[] {5, 18, 19, 7, 7, 11}, window.cumSum("sales").asDoubleArray(), 0.0);
+        assertArrayEquals(new double[] {5, 7, 7, 5, 5, 5}, window.cumMax("sales").asDoubleArray(), 0.0);
+
+        Window byStore = table.window(Sort.on("day", Sort.Order.ASCEND), "store");
+        assertArrayEquals(new double[] {12, 7, 1, 3, 7, 7}, byStore.cumSum("sales").asDoubleArray(), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCumulativeFunctionsNeedNumbers() {
+        table.window(Sort.on("day", Sort.Order.ASCEND)).cumSum("store");
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BitmapBackedSelectionTest {
+
+    @Test
+    public void testFromSortedRows() {
+        int[] rows = {1, 4, 70_000, 9, 9};
+        Selection selection = BitmapBackedSelection.fromSortedRows(rows, 3);
+        assertArrayEquals(new int[] {1, 4, 70_000}, selection.toArray());
+    }
+
+    @Test
+    public void testUnion() {
+        Selection first = BitmapBackedSelection.fromSortedRows(new int[] {1, 2, 3}, 3);
+        Selection second = BitmapBackedSelection.fromSortedRows(new int[] {3, 100_000}, 2);
+        Selection union = BitmapBackedSelection.union(Arrays.asList(first, second));
+        assertArrayEquals(new int[] {1, 2, 3, 100_000}, union.toArray());
+
+        // the union shares no state with the selections it was built from
+        union.add(7);
+        assertEquals(3, first.size());
+        assertEquals(2, second.size());
+
+        assertTrue(BitmapBackedSelection.union(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void testSetOperationsLeaveOtherSelectionUnchanged() {
+        Selection other = BitmapBackedSelection.fromSortedRows(new int[] {2, 3}, 2);
+
+        Selection selection = BitmapBackedSelection.fromSortedRows(new int[] {1, 2}, 2);
+        selection.and(other);
+        assertArrayEquals(new int[] {2}, selection.toArray());
+
+        selection = BitmapBackedSelection.fromSortedRows(new int[] {1, 2}, 2);
+        selection.or(other);
+        assertArrayEquals(new int[] {1, 2, 3}, selection.toArray());
+
+        selection = BitmapBackedSelection.fromSortedRows(new int[] {1, 2}, 2);
+        selection.andNot(other);
+        assertArrayEquals(new int[] {1}, selection.toArray());
+
+        assertArrayEquals(new int[] {2, 3}, other.toArray());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class ParallelChunksTest {
+
+    @Test
+    public void testNoChunkRunsOnceTheCallerSeesAFailure() throws InterruptedException {
+        int chunkCount = 16;
+        AtomicInteger running = new AtomicInteger();
+        try {
+            ParallelChunks.run(chunkCount, chunk -> {
+                if (chunk == 0) {
+                    throw new IllegalArgumentException("chunk 0");
+                }
+                running.incrementAndGet();
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            });
+            fail("The failure of chunk 0 was not rethrown");
+        } catch (IllegalArgumentException e) {
+            assertEquals("chunk 0", e.getMessage());
+        }
+        assertEquals(0, running.get());
+    }
+
+    @Test(expected = AssertionError.class)
+    public void testErrorsAreRethrownAsTheyAre() {
+        ParallelChunks.run(4, chunk -> {
+            if (chunk == 3) {
+                throw new AssertionError("chunk 3");
+            }
+        });
+    }
+}
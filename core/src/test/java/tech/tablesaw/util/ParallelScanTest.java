@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.util;
+
+import org.junit.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import tech.tablesaw.api.CategoryColumn;
+import tech.tablesaw.api.IntColumn;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelScanTest {
+
+    private static final int ROWS = 5 * ParallelScan.CHUNK_SIZE + 123;
+
+    @Test
+    public void testParallelScanMatchesSerialScan() {
+        // selections built from the matching rows, from the rows that do not match, and of every row
+        for (int every : new int[] {3, 10, 1}) {
+            Selection selection = ParallelScan.select(ROWS, (from, to, rows) -> {
+                int count = 0;
+                for (int row = from; row < to; row++) {
+                    if (row % every != 1) {
+                        rows[count++] = row;
+                    }
+                }
+                return count;
+            });
+            RoaringBitmap expected = new RoaringBitmap();
+            for (int row = 0; row < ROWS; row++) {
+                if (row % every != 1) {
+                    expected.add(row);
+                }
+            }
+            assertEquals(new BitmapBackedSelection(expected), selection);
+        }
+    }
+
+    @Test
+    public void testColumnSelectionsOverManyChunks() {
+        IntColumn numbers = new IntColumn("numbers", ROWS);
+        CategoryColumn parity = new CategoryColumn("parity", ROWS);
+        RoaringBitmap small = new RoaringBitmap();
+        RoaringBitmap odd = new RoaringBitmap();
+        for (int row = 0; row < ROWS; row++) {
+            numbers.append(row % 1000);
+            parity.append(row % 2 == 0 ? "even" : "odd");
+            if (row % 1000 < 10) {
+                small.add(row);
+            }
+            if (row % 2 == 1) {
+                odd.add(row);
+            }
+        }
+        assertEquals(new BitmapBackedSelection(small), numbers.isLessThan(10));
+        assertEquals(new BitmapBackedSelection(odd), parity.isEqualTo("odd"));
+        assertEquals(new BitmapBackedSelection(odd), parity.startsWith("o"));
+        assertEquals(ROWS - small.getCardinality(), numbers.isGreaterThanOrEqualTo(10).size());
+    }
+
+    @Test
+    public void testSelectTestsValuesInOrderOnTheCallingThread() {
+        IntColumn numbers = new IntColumn("numbers", ROWS);
+        RoaringBitmap even = new RoaringBitmap();
+        for (int row = 0; row < ROWS; row++) {
+            numbers.append(7);
+            if (row % 2 == 0) {
+                even.add(row);
+            }
+        }
+        // a predicate that counts the values it has seen is only correct if they are tested one at a time, in order
+        Thread caller = Thread.currentThread();
+        int[] seen = {0};
+        Selection selection = numbers.select(value -> Thread.currentThread() == caller && seen[0]++ % 2 == 0);
+        assertEquals(ROWS, seen[0]);
+        assertEquals(new BitmapBackedSelection(even), selection);
+    }
+}